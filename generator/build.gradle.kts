@@ -30,6 +30,7 @@ tasks.withType(JavaCompile::class) {
 
 dependencies {
     val tinyLogVersion: String by project
+    implementation("org.spongepowered:spongeapi:$apiVersion")
     implementation("com.squareup:javapoet:1.13.0")
     implementation("com.github.javaparser:javaparser-core:3.22.1")
     implementation("org.tinylog:tinylog-api:$tinyLogVersion")
@@ -49,7 +50,25 @@ license {
 }
 
 val apiBase = rootProject.file("SpongeAPI/src/main/java/")
+val commonBase = rootProject.file("src/main/java/")
 val temporaryLicenseHeader = project.buildDir.resolve("api-gen-license-header.txt")
+val temporaryCommonLicenseHeader = project.buildDir.resolve("common-gen-license-header.txt")
+
+// Write a template-expanded license header to the temporary file
+fun writeLicenseHeader(name: String, destination: File) {
+    license.header.get().asReader().buffered().use { reader ->
+        val template = groovy.text.GStringTemplateEngine().createTemplate(reader)
+
+        val propertyMap = (license as ExtensionAware).extra.properties.toMutableMap()
+        propertyMap["name"] = name
+        val out = template.make(propertyMap)
+
+        destination.bufferedWriter(Charsets.UTF_8).use { writer ->
+            out.writeTo(writer)
+        }
+    }
+}
+
 tasks.register("generateApiData", JavaExec::class) {
     group = "sponge"
     description = "Generate API Catalog classes"
@@ -60,17 +79,20 @@ tasks.register("generateApiData", JavaExec::class) {
     args(apiBase.canonicalPath, temporaryLicenseHeader.canonicalPath)
 
     doFirst {
-        // Write a template-expanded license header to the temporary file
-        license.header.get().asReader().buffered().use { reader ->
-            val template = groovy.text.GStringTemplateEngine().createTemplate(reader)
+        writeLicenseHeader("SpongeAPI", temporaryLicenseHeader)
+    }
+}
 
-            val propertyMap = (license as ExtensionAware).extra.properties.toMutableMap()
-            propertyMap["name"] = "SpongeAPI"
-            val out = template.make(propertyMap)
+tasks.register("generateShouldFire", JavaExec::class) {
+    group = "sponge"
+    description = "Generate the ShouldFire flags for every SpongeAPI event"
+    javaLauncher.set(project.javaToolchains.launcherFor(java.toolchain))
 
-            temporaryLicenseHeader.bufferedWriter(Charsets.UTF_8).use { writer ->
-                out.writeTo(writer)
-            }
-        }
+    classpath(sourceSets.main.map { it.output }, sourceSets.main.map { it.runtimeClasspath })
+    mainClass.set("org.spongepowered.vanilla.generator.ShouldFireGenerator")
+    args(commonBase.canonicalPath, temporaryCommonLicenseHeader.canonicalPath)
+
+    doFirst {
+        writeLicenseHeader("Sponge", temporaryCommonLicenseHeader)
     }
 }
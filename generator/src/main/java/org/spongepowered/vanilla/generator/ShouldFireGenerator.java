@@ -0,0 +1,235 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.generator;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.tinylog.Logger;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the {@code ShouldFire} class of the implementation, containing a
+ * flag for every event which can be created through {@link SpongeEventFactory},
+ * including all of their super-events.
+ *
+ * <p>Every field is annotated with the event it was generated for, the
+ * implementation's {@code ListenerChecker} reads the event from there instead
+ * of resolving the field name again. Generation fails if different events
+ * share a name, as no single event could be picked for their flag.</p>
+ */
+public final class ShouldFireGenerator {
+
+    static final String PACKAGE = "org.spongepowered.common.event";
+    static final String CLASS_NAME = "ShouldFire";
+    static final String FLAG_ANNOTATION = "Flag";
+
+    private static final String EVENT_PACKAGE = "org.spongepowered.api.event";
+
+    private ShouldFireGenerator() {
+    }
+
+    /**
+     * The entry point.
+     *
+     * @param args arguments, expected to be {@code <output directory> <license header>}
+     */
+    public static void main(final String[] args) {
+        if (args.length != 2) {
+            Logger.error("Invalid arguments. Usage: shouldFireGenerator <outputDir> <licenseHeader>");
+            System.exit(1);
+        }
+        final var outputDir = Path.of(args[0]);
+        final String licenseHeader;
+        try (var reader = Files.newBufferedReader(Path.of(args[1]), StandardCharsets.UTF_8)) {
+            licenseHeader = reader.lines().map(line -> (" * " + line).stripTrailing()).collect(Collectors.joining("\n", "\n", "\n "));
+        } catch (final IOException ex) {
+            Logger.error("Failed to read license header file!", ex);
+            System.exit(1);
+            return;
+        }
+
+        final Map<String, Class<?>> events;
+        try {
+            events = ShouldFireGenerator.collectEvents();
+        } catch (final IllegalStateException ex) {
+            Logger.error(ex.getMessage());
+            System.exit(1);
+            return;
+        }
+        Logger.info("Generating {} ShouldFire flags", events.size());
+        try {
+            ShouldFireGenerator.write(outputDir, licenseHeader, ShouldFireGenerator.generate(events));
+        } catch (final IOException ex) {
+            Logger.error(ex, "Failed to write ShouldFire");
+            System.exit(1);
+        }
+        Logger.info("Successfully generated ShouldFire!");
+    }
+
+    /**
+     * Converts the name of an event class into the name of its flag, for
+     * example {@code SpawnEntityEvent.Custom} becomes {@code SPAWN_ENTITY_EVENT_CUSTOM}.
+     *
+     * @param clazz The event class
+     * @return The field name
+     */
+    static String fieldName(final Class<?> clazz) {
+        final String name = clazz.getName().substring(clazz.getName().lastIndexOf('.') + 1).replace("$", "");
+        final StringBuilder builder = new StringBuilder(name.length() + 8);
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (i > 0 && Character.isUpperCase(c)) {
+                builder.append('_');
+            }
+            builder.append(Character.toUpperCase(c));
+        }
+        return builder.toString();
+    }
+
+    private static Map<String, Class<?>> collectEvents() {
+        final Set<Class<?>> seen = new HashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        for (final Method method : SpongeEventFactory.class.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) && Event.class.isAssignableFrom(method.getReturnType())) {
+                queue.add(method.getReturnType());
+            }
+        }
+
+        final Map<String, Class<?>> events = new TreeMap<>();
+        final Map<String, Set<String>> ambiguous = new TreeMap<>();
+        while (!queue.isEmpty()) {
+            final Class<?> type = queue.poll();
+            if (!seen.add(type)) {
+                continue;
+            }
+            for (final Class<?> superType : type.getInterfaces()) {
+                queue.add(superType);
+            }
+            if (type == Event.class || !Event.class.isAssignableFrom(type) || !type.getName().startsWith(ShouldFireGenerator.EVENT_PACKAGE)) {
+                continue;
+            }
+            final String name = ShouldFireGenerator.fieldName(type);
+            final Class<?> existing = events.putIfAbsent(name, type);
+            if (existing != null && existing != type) {
+                final Set<String> types = ambiguous.computeIfAbsent(name, k -> new TreeSet<>());
+                types.add(existing.getName());
+                types.add(type.getName());
+            }
+        }
+        // A flag for different events with the same name can't be matched to a single event
+        if (!ambiguous.isEmpty()) {
+            throw new IllegalStateException(ambiguous.entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue())
+                .collect(Collectors.joining(", ", "ShouldFire flags would be shared by different events: ", "")));
+        }
+        return events;
+    }
+
+    private static TypeSpec generate(final Map<String, Class<?>> events) {
+        final ClassName flag = ClassName.get(ShouldFireGenerator.PACKAGE, ShouldFireGenerator.CLASS_NAME, ShouldFireGenerator.FLAG_ANNOTATION);
+        final TypeSpec flagAnnotation = TypeSpec.annotationBuilder(flag)
+            .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+            .addJavadoc("The event a flag was generated for.\n")
+            .addAnnotation(AnnotationSpec.builder(Retention.class).addMember("value", "$T.$L", RetentionPolicy.class, RetentionPolicy.RUNTIME.name()).build())
+            .addAnnotation(AnnotationSpec.builder(Target.class).addMember("value", "$T.$L", ElementType.class, ElementType.FIELD.name()).build())
+            .addMethod(MethodSpec.methodBuilder("value")
+                .addModifiers(javax.lang.model.element.Modifier.PUBLIC, javax.lang.model.element.Modifier.ABSTRACT)
+                .returns(ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Event.class)))
+                .build())
+            .build();
+        final TypeSpec.Builder clazz = TypeSpec.classBuilder(ShouldFireGenerator.CLASS_NAME)
+            .addModifiers(javax.lang.model.element.Modifier.PUBLIC, javax.lang.model.element.Modifier.FINAL)
+            .addJavadoc("Flags for whether any listener could receive an event, updated by the event manager.\n\n"
+                + "<p>Format is event class name with underscores, for example {@code SpawnEntityEvent.Custom} becomes\n"
+                + "{@code SPAWN_ENTITY_EVENT_CUSTOM} and {@code DropItemEvent} becomes {@code DROP_ITEM_EVENT}.</p>\n\n"
+                + "<p>Each boolean includes all super-events. For example, if no listeners are registered for\n"
+                + "{@code SpawnEntityEvent}, but one is registered for {@code SpawnEntityEvent.Custom}, both\n"
+                + "{@code SPAWN_ENTITY_EVENT} and {@code SPAWN_ENTITY_EVENT_CUSTOM} will be true.</p>\n\n"
+                + "<p>You must always check a flag that either corresponds directly to the event you're firing,\n"
+                + "or to a supertype of the event. For example, when firing {@code DropItemEvent.Dispense}, you\n"
+                + "can check {@code DROP_ITEM_EVENT_DISPENSE} or {@code SPAWN_ENTITY_EVENT}, but not\n"
+                + "{@code SPAWN_ENTITY_EVENT_CUSTOM}.</p>\n\n"
+                + "<p>This class is generated by the {@code generateShouldFire} task of the generator project,\n"
+                + "do not edit it manually.</p>\n")
+            .addMethod(MethodSpec.constructorBuilder().addModifiers(javax.lang.model.element.Modifier.PRIVATE).build())
+            .addType(flagAnnotation);
+        for (final Map.Entry<String, Class<?>> event : events.entrySet()) {
+            clazz.addField(FieldSpec.builder(TypeName.BOOLEAN, event.getKey(),
+                    javax.lang.model.element.Modifier.PUBLIC, javax.lang.model.element.Modifier.STATIC)
+                .addAnnotation(AnnotationSpec.builder(flag).addMember("value", "$T.class", event.getValue()).build())
+                .initializer("false")
+                .build());
+        }
+        return clazz.build();
+    }
+
+    private static void write(final Path outputDir, final String licenseHeader, final TypeSpec spec) throws IOException {
+        final var file = JavaFile.builder(ShouldFireGenerator.PACKAGE, spec)
+            .skipJavaLangImports(true)
+            .indent(Context.INDENT)
+            .build();
+
+        Path destinationDir = outputDir;
+        for (final String el : ShouldFireGenerator.PACKAGE.split("\\.")) {
+            destinationDir = destinationDir.resolve(el);
+        }
+        Files.createDirectories(destinationDir);
+
+        try (final var writer = Files.newBufferedWriter(destinationDir.resolve(spec.name + ".java"), StandardCharsets.UTF_8)) {
+            writer.write("/*");
+            writer.write(licenseHeader);
+            writer.write("*/");
+            file.writeTo(writer);
+        }
+    }
+
+}
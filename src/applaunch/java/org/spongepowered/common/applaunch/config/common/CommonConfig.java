@@ -100,6 +100,10 @@ public final class CommonConfig implements Config {
     @Setting
     public final WorldCategory world = new WorldCategory();
 
+    @Setting
+    @Comment("Configuration options related to the schedulers running plugin tasks")
+    public final SchedulerCategory scheduler = new SchedulerCategory();
+
     public static ConfigurationTransformation transformation() {
         return ConfigurationTransformation.versionedBuilder()
             .makeVersion(1, builder -> {
@@ -103,6 +103,27 @@ public final class PhaseTrackerCategory {
                                                             + "The default value should almost always work properly -  it's unlikely you'll ever have to change it.")
     public int maxBlockProcessingDepth = 1000;
 
+    @Setting("entity-tick-fast-path")
+    @Comment("If 'true', entities without a creator or notifier tick without entering\n"
+             + "a phase of their own while no plugin listens to the events that phase\n"
+             + "would produce, such as block changes, entity spawns, drops or movement.\n"
+             + "Changes made by such entities are then captured by the world tick, and\n"
+             + "events without a listener check see the world as their cause.")
+    public boolean entityTickFastPath = false;
+
+    @Setting("profile-phase-states")
+    @Comment("If 'true', the phase tracker counts how often every phase state is entered,\n"
+             + "how long it takes, how many transactions it captures and how many events\n"
+             + "are thrown while it is active. The results are shown by '/sponge tracker'\n"
+             + "and included in timings reports. Profiling can also be toggled at runtime\n"
+             + "with '/sponge tracker on' and '/sponge tracker off'.")
+    public boolean profilePhaseStates = false;
+
+    @Setting("profile-window-ticks")
+    @Comment("The number of ticks the phase state counters are aggregated over before\n"
+             + "they are reported as the last window.")
+    public int profileWindowTicks = 100;
+
     @Setting("report-null-source-blocks-on-neighbor-notifications")
     @Comment("If true, when a mod attempts to perform a neighbor notification\n"
              + "on a block, some mods do not know to perform a 'null' check\n"
@@ -0,0 +1,100 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ConfigSerializable
+public final class SchedulerCategory {
+
+    @Setting("tick-budget")
+    @Comment("The time in milliseconds the server scheduler may spend on running plugin tasks\n"
+             + "each tick. Tasks which are due once the budget is used up are deferred to the next\n"
+             + "tick, where the plugins owning them take turns. Work handed over through scheduler\n"
+             + "executors may use up to half of the budget, the rest is carried over as well.\n"
+             + "Set to 0 to run every due task right away.")
+    public double tickBudget = 0;
+
+    @Setting("must-run-plugins")
+    @Comment("The ids of plugins whose tasks are never deferred because of the tick budget.")
+    public List<String> mustRunPlugins = new ArrayList<>();
+
+    @Setting
+    @Comment("Configuration options for the threads running the tasks of the async scheduler.\n"
+             + "Changes only take effect after a restart.")
+    public final AsyncSubCategory async = new AsyncSubCategory();
+
+    @ConfigSerializable
+    public static final class AsyncSubCategory {
+
+        @Setting("pool-type")
+        @Comment("The kind of thread pool running async tasks.\n"
+                 + "CACHED creates a new thread whenever all threads are busy and ignores the other options.\n"
+                 + "FIXED uses 'pool-size' threads and queues up to 'queue-size' waiting tasks.\n"
+                 + "WORK_STEALING uses a fork-join pool with a parallelism of 'pool-size'.")
+        public PoolType poolType = PoolType.CACHED;
+
+        @Setting("pool-size")
+        @Comment("The number of threads of the FIXED and WORK_STEALING pools. 0 uses the number of processors.")
+        public int poolSize = 0;
+
+        @Setting("queue-size")
+        @Comment("The maximum number of tasks waiting for a thread of the FIXED pool. 0 does not limit the queue.")
+        public int queueSize = 0;
+
+        @Setting("rejection-policy")
+        @Comment("What to do with a task once the queue of the FIXED pool is full.\n"
+                 + "CALLER_RUNS runs the task on the scheduler thread, delaying all other tasks.\n"
+                 + "DISCARD drops the task and logs a warning, a task that would not repeat is cancelled.")
+        public RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+        @Setting("plugin-concurrency")
+        @Comment("The maximum number of async tasks of a single plugin running at the same time,\n"
+                 + "further tasks wait for one of them to finish. 0 does not limit plugins.")
+        public int pluginConcurrency = 0;
+
+        @Setting("plugin-concurrency-overrides")
+        @Comment("Overrides 'plugin-concurrency' for the plugins with the given ids.")
+        public Map<String, Integer> pluginConcurrencyOverrides = new HashMap<>();
+    }
+
+    public enum PoolType {
+        CACHED,
+        FIXED,
+        WORK_STEALING
+    }
+
+    public enum RejectionPolicy {
+        CALLER_RUNS,
+        DISCARD
+    }
+}
@@ -47,6 +47,7 @@
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.event.tracking.PhaseStateProfiler;
 import co.aikar.timings.util.JSONUtil;
 import co.aikar.timings.util.JSONUtil.JsonObjectBuilder;
 import org.spongepowered.common.launch.Launch;
@@ -206,6 +207,16 @@ static void reportTimings() {
             ).build();
         }));
 
+        // Phase tracker counters, if they were collected
+
+        if (PhaseStateProfiler.isEnabled()) {
+            builder.add("phasestates", JSONUtil.mapArrayToObject(PhaseStateProfiler.snapshot(), (counters) -> {
+                final PhaseStateProfiler.Window total = counters.total();
+                return JSONUtil.singleObjectPair(counters.state.toString(),
+                        JSONUtil.arrayOf(total.entered(), total.nanos(), total.transactions(), total.events()));
+            }));
+        }
+
         // Information on the users Config
 
         builder.add("config", JSONUtil.objectBuilder()
@@ -0,0 +1,445 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.RedStoneWireBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.bridge.world.level.block.RedStoneWireBlockBridge;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A replacement for the way {@link RedStoneWireBlock} propagates power
+ * changes, based on theosib's "Eigen" redstone.
+ *
+ * <p>Vanilla recalculates a wire, and if it changed, notifies every block
+ * within two blocks of it. Each of those notifications reaches neighboring
+ * wires, which recalculate and notify in turn, depth first. Turning off a
+ * line of wire therefore recalculates and resets the same wires over and over
+ * while the power counts down one level at a time.</p>
+ *
+ * <p>Here, the wires affected by a change are collected into a network
+ * first. Their final power levels are computed without touching the world,
+ * highest power first, so each wire is written at most once. Only then are
+ * the blocks around the changed wires notified, once each, skipping the wires
+ * that are already known to be up to date.</p>
+ *
+ * <p>The algorithm only sees the world through {@link Wires}, the level
+ * backed implementation is created per update.</p>
+ */
+public final class RedstoneWireTurbo {
+
+    private static final int MAX_POWER = 15;
+
+    /**
+     * The order in which {@code Level#updateNeighborsAt} notifies neighbors.
+     */
+    private static final Direction[] UPDATE_ORDER = {
+        Direction.WEST, Direction.EAST, Direction.DOWN, Direction.UP, Direction.NORTH, Direction.SOUTH
+    };
+
+    private final RedStoneWireBlock wire;
+    private final boolean vanillaDecrement;
+
+    public RedstoneWireTurbo(final RedStoneWireBlock wire, final boolean vanillaDecrement) {
+        this.wire = wire;
+        this.vanillaDecrement = vanillaDecrement;
+    }
+
+    /**
+     * Replaces {@code RedStoneWireBlock#updatePowerStrength}.
+     *
+     * @param level The level
+     * @param pos The position of the wire, which may already have been removed
+     * @param state The state of the wire
+     */
+    public void updateSurroundingRedstone(final Level level, final BlockPos pos, final BlockState state) {
+        RedstoneWireTurbo.update(new LevelWires(level, this.wire), this.vanillaDecrement, pos, state.getValue(RedStoneWireBlock.POWER));
+    }
+
+    /**
+     * Recomputes the wire at the given position and every wire that depends
+     * on it.
+     *
+     * @param wires The world the wires are in
+     * @param vanillaDecrement Whether power counts down one level at a time
+     * @param pos The position of the wire, which may already have been removed
+     * @param oldPower The power of the wire before the change
+     */
+    static void update(final Wires wires, final boolean vanillaDecrement, final BlockPos pos, final int oldPower) {
+        // Networks are created per call, as notifying a block may lead straight
+        // back into another wire update
+        final Network network = new Network(wires);
+        final Node root = network.root(pos, oldPower);
+        final int target = RedstoneWireTurbo.targetPower(network, root);
+        if (target == root.oldPower) {
+            return;
+        }
+        if (!root.isWire) {
+            // The wire was removed, anything that drew its power from it has to be recomputed
+            root.power = 0;
+            if (root.oldPower > 0) {
+                RedstoneWireTurbo.invalidate(network, root);
+            }
+        } else if (vanillaDecrement) {
+            RedstoneWireTurbo.relaxLocally(network, root);
+        } else if (target > root.oldPower) {
+            root.power = target;
+            network.enqueue(root);
+        } else {
+            RedstoneWireTurbo.invalidate(network, root);
+        }
+        if (!vanillaDecrement || !root.isWire) {
+            RedstoneWireTurbo.propagate(network);
+        }
+        RedstoneWireTurbo.applyChanges(network, root);
+    }
+
+    private static int targetPower(final Network network, final Node node) {
+        final int blockSignal = RedstoneWireTurbo.blockSignal(network, node);
+        if (blockSignal >= RedstoneWireTurbo.MAX_POWER) {
+            return blockSignal;
+        }
+        int wireSignal = 0;
+        for (final Node neighbor : RedstoneWireTurbo.neighbors(network, node)) {
+            wireSignal = Math.max(wireSignal, neighbor.power);
+        }
+        return Math.max(blockSignal, wireSignal - 1);
+    }
+
+    private static int blockSignal(final Network network, final Node node) {
+        if (node.blockSignal < 0) {
+            node.blockSignal = network.wires.blockSignal(node.pos);
+        }
+        return node.blockSignal;
+    }
+
+    /**
+     * Finds the wires a wire exchanges power with, mirroring the checks of
+     * {@code RedStoneWireBlock#calculateTargetStrength}. The relation is
+     * symmetric, which the invalidation below relies on.
+     */
+    private static List<Node> neighbors(final Network network, final Node node) {
+        if (node.neighbors != null) {
+            return node.neighbors;
+        }
+        final Wires wires = network.wires;
+        final List<Node> neighbors = new ArrayList<>(4);
+        final boolean aboveIsConductor = wires.isConductor(node.pos.above());
+        for (final Direction direction : Direction.Plane.HORIZONTAL) {
+            final BlockPos side = node.pos.relative(direction);
+            final int sidePower = wires.wirePower(side);
+            if (sidePower != Wires.NO_WIRE) {
+                neighbors.add(network.node(side, sidePower));
+            }
+            final boolean sideIsConductor = sidePower == Wires.NO_WIRE && wires.isConductor(side);
+            final BlockPos diagonal;
+            if (sideIsConductor && !aboveIsConductor) {
+                diagonal = side.above();
+            } else if (!sideIsConductor) {
+                diagonal = side.below();
+            } else {
+                continue;
+            }
+            final int diagonalPower = wires.wirePower(diagonal);
+            if (diagonalPower != Wires.NO_WIRE) {
+                neighbors.add(network.node(diagonal, diagonalPower));
+            }
+        }
+        node.neighbors = neighbors;
+        return neighbors;
+    }
+
+    /**
+     * Drops every wire that may have been powered through the given node to
+     * the power it receives from other blocks, and queues the wires around
+     * them, whose power is still valid, to propagate back into the gap.
+     */
+    private static void invalidate(final Network network, final Node root) {
+        final ArrayDeque<Node> queue = new ArrayDeque<>();
+        final List<Node> invalidated = new ArrayList<>();
+        root.invalidated = true;
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            final Node node = queue.poll();
+            invalidated.add(node);
+            for (final Node neighbor : RedstoneWireTurbo.neighbors(network, node)) {
+                if (neighbor.invalidated || neighbor.oldPower != node.oldPower - 1) {
+                    continue;
+                }
+                if (RedstoneWireTurbo.blockSignal(network, neighbor) >= neighbor.oldPower) {
+                    continue;
+                }
+                neighbor.invalidated = true;
+                queue.add(neighbor);
+            }
+        }
+        for (final Node node : invalidated) {
+            if (node.isWire) {
+                node.power = RedstoneWireTurbo.blockSignal(network, node);
+                network.enqueue(node);
+            }
+        }
+        for (final Node node : invalidated) {
+            for (final Node neighbor : RedstoneWireTurbo.neighbors(network, node)) {
+                if (!neighbor.invalidated) {
+                    network.enqueue(neighbor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Spreads power from the queued wires, strongest first. A wire is final
+     * once its power level is reached, so no wire is raised more than once
+     * per level.
+     */
+    private static void propagate(final Network network) {
+        for (int power = RedstoneWireTurbo.MAX_POWER; power > 1; power--) {
+            final List<Node> bucket = network.buckets[power];
+            for (int i = 0; i < bucket.size(); i++) {
+                final Node node = bucket.get(i);
+                if (node.power != power) {
+                    continue;
+                }
+                for (final Node neighbor : RedstoneWireTurbo.neighbors(network, node)) {
+                    if (neighbor.power < power - 1) {
+                        neighbor.power = power - 1;
+                        network.enqueue(neighbor);
+                    }
+                }
+            }
+            bucket.clear();
+        }
+    }
+
+    /**
+     * The vanilla-decrement mode: every wire is recomputed from its neighbors'
+     * current power until nothing changes, which lets power count down one
+     * level at a time the way vanilla does.
+     */
+    private static void relaxLocally(final Network network, final Node root) {
+        final ArrayDeque<Node> queue = new ArrayDeque<>();
+        root.queued = true;
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            final Node node = queue.poll();
+            node.queued = false;
+            final int target = RedstoneWireTurbo.targetPower(network, node);
+            if (target == node.power) {
+                continue;
+            }
+            node.power = target;
+            for (final Node neighbor : RedstoneWireTurbo.neighbors(network, node)) {
+                if (!neighbor.queued) {
+                    neighbor.queued = true;
+                    queue.add(neighbor);
+                }
+            }
+        }
+    }
+
+    private static void applyChanges(final Network network, final Node root) {
+        final Wires wires = network.wires;
+        final List<Node> changed = new ArrayList<>();
+        for (final Node node : network.nodes.values()) {
+            if (node == root || (node.isWire && node.power != node.oldPower)) {
+                changed.add(node);
+            }
+        }
+        for (final Node node : changed) {
+            if (!node.isWire) {
+                continue;
+            }
+            wires.setPower(node.pos, node.oldPower, node.power);
+        }
+        // Collect everything vanilla would have notified, once, in vanilla's order
+        final Object2ObjectLinkedOpenHashMap<BlockPos, BlockPos> notifications = new Object2ObjectLinkedOpenHashMap<>();
+        for (final Node node : changed) {
+            RedstoneWireTurbo.addNotifications(network, notifications, node.pos);
+            for (final Direction direction : Direction.values()) {
+                RedstoneWireTurbo.addNotifications(network, notifications, node.pos.relative(direction));
+            }
+        }
+        notifications.forEach(wires::neighborChanged);
+    }
+
+    private static void addNotifications(final Network network, final Object2ObjectLinkedOpenHashMap<BlockPos, BlockPos> notifications,
+        final BlockPos source
+    ) {
+        for (final Direction direction : RedstoneWireTurbo.UPDATE_ORDER) {
+            final BlockPos target = source.relative(direction);
+            final @Nullable Node node = network.nodes.get(target);
+            if (node != null && node.isWire) {
+                // Already computed, notifying it would only recompute the same power
+                continue;
+            }
+            notifications.putIfAbsent(target, source);
+        }
+    }
+
+    /**
+     * The view of the world the algorithm works on.
+     */
+    interface Wires {
+
+        int NO_WIRE = -1;
+
+        /**
+         * Gets the power of the wire at the given position.
+         *
+         * @param pos The position
+         * @return The power, or {@link #NO_WIRE} if there is no wire
+         */
+        int wirePower(BlockPos pos);
+
+        boolean isConductor(BlockPos pos);
+
+        /**
+         * Gets the strongest signal the wire at the given position receives
+         * from anything but other redstone wire.
+         *
+         * @param pos The position of the wire
+         * @return The signal, between 0 and 15
+         */
+        int blockSignal(BlockPos pos);
+
+        /**
+         * Writes the new power of a wire, unless the wire no longer has the
+         * power it was computed from.
+         *
+         * @param pos The position of the wire
+         * @param oldPower The power the wire was read with
+         * @param power The new power
+         */
+        void setPower(BlockPos pos, int oldPower, int power);
+
+        void neighborChanged(BlockPos target, BlockPos source);
+    }
+
+    private static final class LevelWires implements Wires {
+
+        private final Level level;
+        private final RedStoneWireBlock wire;
+
+        LevelWires(final Level level, final RedStoneWireBlock wire) {
+            this.level = level;
+            this.wire = wire;
+        }
+
+        @Override
+        public int wirePower(final BlockPos pos) {
+            final BlockState state = this.level.getBlockState(pos);
+            return state.is(this.wire) ? state.getValue(RedStoneWireBlock.POWER) : Wires.NO_WIRE;
+        }
+
+        @Override
+        public boolean isConductor(final BlockPos pos) {
+            return this.level.getBlockState(pos).isRedstoneConductor(this.level, pos);
+        }
+
+        @Override
+        public int blockSignal(final BlockPos pos) {
+            return ((RedStoneWireBlockBridge) this.wire).bridge$getBlockSignal(this.level, pos);
+        }
+
+        @Override
+        public void setPower(final BlockPos pos, final int oldPower, final int power) {
+            final BlockState state = this.level.getBlockState(pos);
+            // Same guard as vanilla, something may have replaced the wire in the meantime
+            if (state.is(this.wire) && state.getValue(RedStoneWireBlock.POWER) == oldPower) {
+                this.level.setBlock(pos, state.setValue(RedStoneWireBlock.POWER, power), 2);
+            }
+        }
+
+        @Override
+        public void neighborChanged(final BlockPos target, final BlockPos source) {
+            this.level.neighborChanged(target, this.wire, source);
+        }
+    }
+
+    private static final class Network {
+
+        final Wires wires;
+        final Object2ObjectLinkedOpenHashMap<BlockPos, Node> nodes = new Object2ObjectLinkedOpenHashMap<>();
+        @SuppressWarnings("unchecked")
+        final List<Node>[] buckets = new List[RedstoneWireTurbo.MAX_POWER + 1];
+
+        Network(final Wires wires) {
+            this.wires = wires;
+            for (int i = 0; i < this.buckets.length; i++) {
+                this.buckets[i] = new ArrayList<>();
+            }
+        }
+
+        Node root(final BlockPos pos, final int oldPower) {
+            final BlockPos immutable = pos.immutable();
+            final Node root = new Node(immutable, oldPower, this.wires.wirePower(immutable) != Wires.NO_WIRE);
+            this.nodes.put(immutable, root);
+            return root;
+        }
+
+        Node node(final BlockPos pos, final int oldPower) {
+            Node node = this.nodes.get(pos);
+            if (node == null) {
+                node = new Node(pos, oldPower, true);
+                this.nodes.put(pos, node);
+            }
+            return node;
+        }
+
+        void enqueue(final Node node) {
+            if (node.power > 1) {
+                this.buckets[node.power].add(node);
+            }
+        }
+    }
+
+    private static final class Node {
+
+        final BlockPos pos;
+        final boolean isWire;
+        final int oldPower;
+        int power;
+        int blockSignal = -1;
+        boolean invalidated;
+        boolean queued;
+        @Nullable List<Node> neighbors;
+
+        Node(final BlockPos pos, final int oldPower, final boolean isWire) {
+            this.pos = pos;
+            this.isWire = isWire;
+            this.oldPower = oldPower;
+            this.power = this.oldPower;
+        }
+    }
+}
@@ -48,6 +48,7 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.bridge.data.DataCompoundHolder;
 import org.spongepowered.common.bridge.data.DataContainerHolder;
+import org.spongepowered.common.bridge.world.level.block.entity.TrackableBlockEntityBridge;
 import org.spongepowered.common.data.holder.SpongeImmutableDataHolder;
 import org.spongepowered.common.data.persistence.NBTTranslator;
 import org.spongepowered.common.data.provider.nbt.NBTDataType;
@@ -77,7 +78,9 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
     private final BlockState blockState;
     private final ResourceKey worldKey;
     private final Vector3i pos;
-    final @Nullable CompoundTag compound;
+    private @Nullable CompoundTag compound;
+    // Block entity whose data is serialized on first use, see #compound()
+    private @Nullable BlockEntity deferredBlockEntity;
     // Internal use only
     private final BlockPos blockPos;
     private final SpongeBlockChangeFlag changeFlag;
@@ -90,6 +93,10 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
         this.pos = Objects.requireNonNull(builder.coordinates);
         this.blockPos = VecHelper.toBlockPos(this.pos);
         this.compound = builder.compound;
+        this.deferredBlockEntity = builder.deferredBlockEntity;
+        if (this.deferredBlockEntity != null) {
+            ((TrackableBlockEntityBridge) this.deferredBlockEntity).bridge$deferSnapshotCapture(this);
+        }
         this.changeFlag = builder.flag;
         this.world = builder.worldRef;
         builder.worldRef = null;
@@ -159,17 +166,19 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
 //            if (current.getBlock().getClass() == BlockShulkerBox.class) {
 //                world.bridge$removeTileEntity(pos);
 //            }
+            // Capture before the block entity goes away
+            final @Nullable CompoundTag compound = this.compound();
             world.removeBlockEntity(pos);
             world.setBlock(pos, replaced, BlockChangeFlagManager.andNotifyClients(flag).getRawFlag());
-            if (this.compound != null) {
+            if (compound != null) {
                 @Nullable BlockEntity te = world.getBlockEntity(pos);
                 if (te != null) {
-                    te.load((net.minecraft.world.level.block.state.BlockState) this.blockState, this.compound);
+                    te.load((net.minecraft.world.level.block.state.BlockState) this.blockState, compound);
                 } else {
                     // Because, some mods will "unintentionally" only obey some of the rules but not all.
                     // In cases like this, we need to directly just say "fuck it" and deserialize from the compound directly.
                     try {
-                        te = BlockEntity.loadStatic((net.minecraft.world.level.block.state.BlockState) this.blockState, this.compound);
+                        te = BlockEntity.loadStatic((net.minecraft.world.level.block.state.BlockState) this.blockState, compound);
                         if (te != null) {
                             world.getChunk(pos).setBlockEntity(pos, te);
                         }
@@ -183,7 +192,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
                             .add("Here's the provided compound:");
                         printer.add();
                         try {
-                            printer.addWrapped(80, "%s : %s", "This compound", this.compound);
+                            printer.addWrapped(80, "%s : %s", "This compound", compound);
                         } catch (Throwable error) {
                             printer.addWrapped(
                                 80,
@@ -259,8 +268,9 @@ public DataContainer toContainer() {
                 .set(Queries.POSITION_Z, this.pos.z())
                 .container()
                 .set(Constants.Block.BLOCK_STATE, this.blockState);
-        if (this.compound != null) {
-            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateFrom(this.compound));
+        final @Nullable CompoundTag compound = this.compound();
+        if (compound != null) {
+            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateFrom(compound));
         }
         return container;
     }
@@ -277,7 +287,63 @@ public Optional<ServerLevel> getServerWorld() {
     }
 
     public Optional<CompoundTag> getCompound() {
-        return this.compound == null ? Optional.empty() : Optional.of(this.compound.copy());
+        final @Nullable CompoundTag compound = this.compound();
+        return compound == null ? Optional.empty() : Optional.of(compound.copy());
+    }
+
+    /**
+     * Gets the serialized block entity of this snapshot, serializing it now
+     * if that was deferred when the snapshot was created.
+     *
+     * @return The compound, or null if there is no block entity
+     */
+    @Nullable CompoundTag compound() {
+        if (this.deferredBlockEntity != null) {
+            this.captureDeferredData();
+        }
+        return this.compound;
+    }
+
+    /**
+     * Serializes the block entity this snapshot was taken from, if that has
+     * not happened yet. Called before that block entity is mutated.
+     */
+    public void captureDeferredData() {
+        final @Nullable BlockEntity blockEntity = this.deferredBlockEntity;
+        if (blockEntity == null) {
+            return;
+        }
+        this.deferredBlockEntity = null;
+        ((TrackableBlockEntityBridge) blockEntity).bridge$releaseDeferredSnapshot(this);
+        final CompoundTag nbt = new CompoundTag();
+        // Some mods like OpenComputers assert if attempting to save robot while moving
+        try {
+            blockEntity.save(nbt);
+            this.compound = nbt;
+        } catch (final Throwable t) {
+            // ignore
+        }
+    }
+
+    public boolean hasDeferredData() {
+        return this.deferredBlockEntity != null;
+    }
+
+    /**
+     * Stops watching the block entity for mutations once the transaction
+     * holding this snapshot has been processed, and drops the reference to
+     * it so neither the block entity nor its level are kept alive.
+     *
+     * <p>Snapshots which may still be read afterwards, such as the ones
+     * passed to listeners, are captured before. A released snapshot that was
+     * never captured reads as if it had no block entity.</p>
+     */
+    public void releaseDeferredData() {
+        final @Nullable BlockEntity blockEntity = this.deferredBlockEntity;
+        if (blockEntity != null) {
+            this.deferredBlockEntity = null;
+            ((TrackableBlockEntityBridge) blockEntity).bridge$releaseDeferredSnapshot(this);
+        }
     }
 
     public SpongeBlockSnapshotBuilder createBuilder() {
@@ -289,18 +355,20 @@ public SpongeBlockSnapshotBuilder createBuilder() {
         } else {
             builder.world(this.worldKey);
         }
-        if (this.compound != null) {
-            builder.addUnsafeCompound(this.compound);
+        final @Nullable CompoundTag compound = this.compound();
+        if (compound != null) {
+            builder.addUnsafeCompound(compound);
         }
         return builder;
     }
 
     @Override
     public DataContainer data$getDataContainer() {
-        if (this.compound == null) {
+        final @Nullable CompoundTag compound = this.compound();
+        if (compound == null) {
             return DataContainer.createNew();
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.wrap(compound.copy());
     }
 
     @Override
@@ -312,7 +380,8 @@ public SpongeBlockSnapshotBuilder createBuilder() {
 
     @Override
     public CompoundTag data$getCompound() {
-        return this.compound == null ? new CompoundTag() : this.compound.copy();
+        final @Nullable CompoundTag compound = this.compound();
+        return compound == null ? new CompoundTag() : compound.copy();
     }
 
     @Override
@@ -353,7 +422,7 @@ public boolean equals(final Object o) {
                this.changeFlag == that.changeFlag &&
                Objects.equals(this.worldKey, that.worldKey) &&
                Objects.equals(this.pos, that.pos) &&
-               Objects.equals(this.compound, that.compound);
+               Objects.equals(this.compound(), that.compound());
     }
 
     @Override
@@ -363,7 +432,7 @@ public int hashCode() {
                 this.worldKey,
                 this.pos,
                 this.changeFlag,
-                this.compound);
+                this.compound());
     }
 
     @Override
@@ -83,6 +83,7 @@ public static SpongeBlockSnapshotBuilder pooled() {
     Vector3i coordinates;
     @Nullable List<DataManipulator.Immutable> manipulators;
     @Nullable CompoundTag compound;
+    @Nullable BlockEntity deferredBlockEntity;
     SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
     @Nullable WeakReference<ServerLevel> worldRef;
     private final boolean pooled;
@@ -193,7 +194,7 @@ public SpongeBlockSnapshotBuilder from(final SpongeBlockSnapshot snapshot) {
         this.blockState = snapshot.state();
         this.worldKey = snapshot.world();
         this.worldRef = snapshot.world;
-        this.compound = snapshot.compound;
+        this.compound = snapshot.compound();
         this.coordinates = snapshot.position();
         this.flag = snapshot.getChangeFlag();
         return this;
@@ -236,6 +237,7 @@ public SpongeBlockChangeFlag getFlag() {
         this.coordinates = null;
         this.manipulators = null;
         this.compound = null;
+        this.deferredBlockEntity = null;
         this.flag = null;
         return this;
     }
@@ -291,6 +293,7 @@ public SpongeBlockSnapshotBuilder addUnsafeCompound(final CompoundTag compound)
         Objects.requireNonNull(compound);
 
         this.compound = compound.copy();
+        this.deferredBlockEntity = null;
         return this;
     }
 
@@ -301,9 +304,24 @@ public SpongeBlockSnapshotBuilder flag(final BlockChangeFlag flag) {
 
     public SpongeBlockSnapshotBuilder tileEntity(final BlockEntity added) {
         this.compound = null;
+        this.deferredBlockEntity = null;
         final CompoundTag tag = new CompoundTag();
         added.save(tag);
         this.compound = tag;
         return this;
     }
+
+    /**
+     * Defers serializing the block entity until the snapshot's data is
+     * actually used, or the block entity is about to change. Only valid for
+     * snapshots taken by the tracker on the main thread.
+     *
+     * @param blockEntity The block entity to capture
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder deferredTileEntity(final BlockEntity blockEntity) {
+        this.compound = null;
+        this.deferredBlockEntity = Objects.requireNonNull(blockEntity);
+        return this;
+    }
 }
@@ -79,7 +79,7 @@ public BlockEntityType blockEntityType() {
 
     @Override
     public DataContainer blockEntityData() {
-        return NBTTranslator.INSTANCE.translateFrom(this.data);
+        return NBTTranslator.INSTANCE.wrap(this.data.copy());
     }
 
     @Override
@@ -146,7 +146,7 @@ protected ValidationType getValidationType() {
     public org.spongepowered.api.block.entity.BlockEntityArchetype copy() {
         final SpongeBlockEntityArchetypeBuilder builder = new SpongeBlockEntityArchetypeBuilder();
         builder.type = this.type;
-        builder.data = NBTTranslator.INSTANCE.translate(this.data);
+        builder.data = NBTTranslator.INSTANCE.wrap(this.data.copy());
         builder.blockState = this.blockState;
         return builder.build();
     }
@@ -25,6 +25,8 @@
 package org.spongepowered.common.bridge.data;
 
 import com.google.common.collect.Multimap;
+import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.Key;
@@ -34,6 +36,7 @@
 import org.spongepowered.common.data.DataUtil;
 
 import java.util.Optional;
+import java.util.Set;
 
 public interface SpongeDataHolderBridge {
 
@@ -55,7 +58,7 @@ public interface SpongeDataHolderBridge {
         manipulator.set(key, value);
         builder.success(manipulator.getValue(key).get().asImmutable());
 
-        DataUtil.syncDataToTag(this);
+        this.bridge$markDataDirty(key);
 
         return builder.result(DataTransactionResult.Type.SUCCESS).build();
     }
@@ -65,8 +68,8 @@ public interface SpongeDataHolderBridge {
         final Optional<? extends Value<E>> value = manipulator.getValue(key);
         if (value.isPresent()) {
             manipulator.remove(key);
+            this.bridge$markDataDirty(key);
         }
-        DataUtil.syncDataToTag(this);
         return value.map(Value::asImmutable).map(DataTransactionResult::successRemove)
                 .orElseGet(DataTransactionResult::successNoData);
     }
@@ -78,4 +81,30 @@ public interface SpongeDataHolderBridge {
     void bridge$invalidateFailedData();
 
     void bridge$addFailedData(DataQuery nameSpace, DataView keyedData);
+
+    /**
+     * Marks the data of the given key as changed. Holders whose compound is
+     * only read when they are saved defer writing it until the next
+     * {@link DataUtil#syncDataToTag(Object)}, all others write it back
+     * immediately.
+     *
+     * @param key The changed key
+     */
+    void bridge$markDataDirty(Key<?> key);
+
+    /**
+     * Gets the keys changed since the custom data was last written into the
+     * given compound.
+     *
+     * @param compound The compound currently held
+     * @return The changed keys, or null if all custom data has to be rewritten
+     */
+    @Nullable Set<Key<?>> bridge$getDirtyDataKeys(@Nullable CompoundTag compound);
+
+    /**
+     * Marks all custom data as written into the given compound.
+     *
+     * @param compound The compound the data was written to
+     */
+    void bridge$markDataSynced(@Nullable CompoundTag compound);
 }
@@ -28,9 +28,11 @@
 import net.minecraft.server.level.progress.ChunkProgressListener;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.storage.LevelStorageSource;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.registry.RegistryHolder;
 import org.spongepowered.api.world.explosion.Explosion;
+import org.spongepowered.common.world.server.SpongeBulkBlockChange;
 
 import co.aikar.timings.sponge.WorldTimingsHandler;
 import org.spongepowered.math.vector.Vector3d;
@@ -62,4 +64,15 @@ public interface ServerLevelBridge {
     RegistryHolder bridge$registries();
 
     BlockSnapshot bridge$createSnapshot(int x, int y, int z);
+
+    /**
+     * Gets the bulk change that block changes without physics are collected
+     * into instead of being tracked one by one, only set while a volume is
+     * applied to this world.
+     *
+     * @return The open bulk change, if any
+     */
+    @Nullable SpongeBulkBlockChange bridge$getBulkBlockChange();
+
+    void bridge$setBulkBlockChange(@Nullable SpongeBulkBlockChange bulkChange);
 }
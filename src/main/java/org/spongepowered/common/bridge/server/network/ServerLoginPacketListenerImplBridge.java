@@ -27,4 +27,13 @@
 public interface ServerLoginPacketListenerImplBridge {
 
     boolean bridge$fireAuthEvent();
+
+    /**
+     * Fires the auth event through {@link org.spongepowered.common.event.SpongeEventManager#postAsync(
+     * org.spongepowered.api.event.Event, java.util.concurrent.Executor)} and waits for it, calling
+     * the listeners which are not async-safe on the calling thread.
+     *
+     * @return Whether the event was cancelled
+     */
+    boolean bridge$fireAuthEventAndWait();
 }
@@ -24,10 +24,29 @@
  */
 package org.spongepowered.common.bridge.world.level.block.entity;
 
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+
 public interface TrackableBlockEntityBridge {
 
     boolean bridge$isCaptured();
 
     void bridge$setCaptured(boolean captured);
 
+    /**
+     * Registers a snapshot whose copy of this block entity's data has not
+     * been serialized yet. The snapshot is captured right before this block
+     * entity is next mutated, unless it is released first.
+     *
+     * @param snapshot The snapshot deferring its capture
+     */
+    void bridge$deferSnapshotCapture(SpongeBlockSnapshot snapshot);
+
+    void bridge$releaseDeferredSnapshot(SpongeBlockSnapshot snapshot);
+
+    /**
+     * Serializes this block entity into every snapshot still waiting on it.
+     * Called from the hooks that precede a mutation of the block entity.
+     */
+    void bridge$captureDeferredSnapshots();
+
 }
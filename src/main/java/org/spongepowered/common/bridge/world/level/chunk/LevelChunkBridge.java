@@ -28,9 +28,9 @@
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.world.storage.BlockOwnerTable;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import net.minecraft.core.BlockPos;
@@ -40,9 +40,7 @@
 
 public interface LevelChunkBridge {
 
-    Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions();
+    BlockOwnerTable bridge$getBlockOwners();
 
     Optional<User> bridge$getBlockCreator(BlockPos pos);
 
@@ -59,9 +57,7 @@ public interface LevelChunkBridge {
 
     void bridge$addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void bridge$setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void bridge$setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void bridge$setBlockOwners(BlockOwnerTable blockOwners);
 
     void bridge$setNeighbor(Direction direction, LevelChunk neighbor);
 
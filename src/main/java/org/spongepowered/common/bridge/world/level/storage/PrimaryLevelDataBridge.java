@@ -34,6 +34,7 @@
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.dimension.LevelStem;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.world.SerializationBehavior;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
@@ -101,6 +102,8 @@ public interface PrimaryLevelDataBridge {
 
     Optional<UUID> bridge$getUniqueIdForIndex(int ownerIndex);
 
+    Optional<User> bridge$getUserForIndex(int ownerIndex);
+
     void bridge$readSpongeLevelData(Dynamic<Tag> impl$spongeLevelData);
 
     CompoundTag bridge$writeSpongeLevelData();
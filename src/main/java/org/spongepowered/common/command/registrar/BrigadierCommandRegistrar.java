@@ -86,7 +86,7 @@ public BrigadierCommandRegistrar(final CommandManager.Mutable manager) {
     // TODO: Make sure this is valid. For Forge, I suspect we'll have done this in a context of some sort.
     public LiteralCommandNode<CommandSourceStack> register(final LiteralArgumentBuilder<CommandSourceStack> command) {
         // Get the plugin container
-        final PluginContainer container = PhaseTracker.getCauseStackManager().currentCause().first(PluginContainer.class)
+        final PluginContainer container = PhaseTracker.getInstance().firstCause(PluginContainer.class)
                 .orElseThrow(() -> new IllegalStateException("Cannot register command without knowing its origin."));
 
         return this.registerInternal(this,
@@ -58,8 +58,11 @@
 import org.spongepowered.common.bridge.world.level.PlatformLevelBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.event.SpongeEventManager;
+import org.spongepowered.common.event.tracking.PhaseStateProfiler;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.scheduler.AsyncScheduler;
+import org.spongepowered.common.scheduler.ServerScheduler;
 import co.aikar.timings.sponge.SpongeTimingsFactory;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginContributor;
@@ -150,6 +153,9 @@ public Command.Parameterized createSpongeCommand() {
         // /sponge timings
         final Command.Parameterized timingsCommand = this.timingsSubcommand();
 
+        // /sponge tracker
+        final Command.Parameterized trackerCommand = this.trackerSubcommand();
+
         // /sponge tps
         final Command.Parameterized tpsCommand = Command.builder()
                 .permission("sponge.command.tps")
@@ -202,6 +208,7 @@ public Command.Parameterized createSpongeCommand() {
                 .addChild(pluginsCommand, "plugins")
                 .addChild(timingsCommand, "timings")
                 .addChild(tpsCommand, "tps")
+                .addChild(trackerCommand, "tracker")
                 .addChild(versionCommand, "version")
                 .addChild(whichCommand, "which")
                 .addChild(reloadCommand, "reload");
@@ -438,6 +445,76 @@ private Command.Parameterized chunksSubcommand() {
                 .build();
     }
 
+    private Command.@NonNull Parameterized trackerSubcommand() {
+        return Command.builder()
+                .permission("sponge.command.tracker")
+                .shortDescription(Component.text("Shows how much time and work each phase state of the phase tracker takes."))
+                .executor(this::trackerExecutor)
+                .addChild(Command.builder()
+                        .executor(context -> {
+                            PhaseStateProfiler.setEnabled(true);
+                            context.sendMessage(Identity.nil(), Component.text("Enabled phase state profiling & reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "on")
+                .addChild(Command.builder()
+                        .executor(context -> {
+                            PhaseStateProfiler.setEnabled(false);
+                            context.sendMessage(Identity.nil(), Component.text("Disabled phase state profiling"));
+                            return CommandResult.success();
+                        })
+                        .build(), "off")
+                .addChild(Command.builder()
+                        .executor(context -> {
+                            PhaseStateProfiler.reset();
+                            context.sendMessage(Identity.nil(), Component.text("Phase state profiling reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "reset")
+                .build();
+    }
+
+    private @NonNull CommandResult trackerExecutor(final CommandContext context) {
+        if (!PhaseStateProfiler.isEnabled()) {
+            context.sendMessage(Identity.nil(), Component.text("Please enable phase state profiling by typing /sponge tracker on"));
+            return CommandResult.empty();
+        }
+        final long windowNanos = PhaseStateProfiler.lastWindowNanos();
+        if (windowNanos == 0) {
+            context.sendMessage(Identity.nil(), Component.text("No profiling window has completed yet, please try again shortly"));
+            return CommandResult.empty();
+        }
+        final List<Component> states = new ArrayList<>();
+        for (final PhaseStateProfiler.Counters counters : PhaseStateProfiler.snapshot()) {
+            final PhaseStateProfiler.Window window = counters.lastWindow();
+            if (window.entered() == 0) {
+                continue;
+            }
+            final double share = window.nanos() * 100.0D / windowNanos;
+            states.add(Component.text()
+                    .append(Component.text(counters.state.toString(), TextColor.color(0xC9C9C9)))
+                    .append(Component.newline())
+                    .append(SpongeCommand.INDENT_COMPONENT)
+                    .append(Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(window.nanos() * 1.0E-6D) + "ms ",
+                            share >= 10 ? SpongeCommand.RED : share >= 2 ? SpongeCommand.YELLOW : SpongeCommand.GREEN))
+                    .append(Component.text("(" + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(share) + "%), "
+                            + window.entered() + " entered, "
+                            + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(window.nanos() / (double) window.entered() * 1.0E-3D) + "\u00b5s avg, "
+                            + window.transactions() + " transactions, "
+                            + window.events() + " events", NamedTextColor.GRAY))
+                    .build());
+        }
+        SpongeCommon.game().serviceProvider()
+                .paginationService()
+                .builder()
+                .contents(states)
+                .title(Component.text("Phase States (last " + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(windowNanos * 1.0E-9D) + "s)",
+                        NamedTextColor.WHITE))
+                .padding(Component.text("-", NamedTextColor.WHITE))
+                .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
     private @NonNull CommandResult tpsExecutor(final CommandContext context) {
         if (SpongeCommon.game().isServerAvailable()) {
             final List<Component> tps = new ArrayList<>();
@@ -451,6 +528,24 @@ private Command.Parameterized chunksSubcommand() {
 
             tps.add(Component.newline());
             tps.add(this.appendTickTime(SpongeCommon.server().tickTimes, Component.text().content("Overall: ")).build());
+            final ServerScheduler scheduler = SpongeCommon.serverScheduler();
+            final int deferredTasks = scheduler.deferredTaskCount();
+            tps.add(Component.text()
+              .append(Component.text("Scheduler: "))
+              .append(Component.text(deferredTasks, deferredTasks == 0 ? SpongeCommand.GREEN : SpongeCommand.YELLOW))
+              .append(Component.text(" deferred tasks (" + scheduler.deferrals() + " deferrals, "
+                  + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(scheduler.averageDeferrals()) + " avg deferrals, "
+                  + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(scheduler.averageDeferredTaskCount()) + " avg queued)", NamedTextColor.GRAY))
+              .build());
+            final AsyncScheduler asyncScheduler = SpongeCommon.asyncScheduler();
+            final long completedTasks = Math.max(asyncScheduler.completedTasks(), 1);
+            tps.add(Component.text()
+              .append(Component.text("Async scheduler: "))
+              .append(Component.text(asyncScheduler.completedTasks() + " tasks, "
+                  + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(asyncScheduler.taskWaitTime() / completedTasks * 1.0E-6D) + "ms avg wait, "
+                  + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(asyncScheduler.taskRunTime() / completedTasks * 1.0E-6D) + "ms avg run, "
+                  + asyncScheduler.rejectedTasks() + " rejected", NamedTextColor.GRAY))
+              .build());
             SpongeCommon.game().serviceProvider()
               .paginationService()
               .builder()
@@ -25,9 +25,11 @@
 package org.spongepowered.common.data;
 
 import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataManipulator;
+import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataStore;
@@ -42,7 +44,9 @@
 
 import java.lang.reflect.Type;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 
 public class DataUtil {
 
@@ -173,6 +177,86 @@ private static void upgradeV2CustomData(CompoundTag compound, DataContainer allD
     }
 
     public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean serializeSpongeData(final T dataHolder) {
+        final @Nullable CompoundTag current = dataHolder.data$getCompound();
+        final @Nullable Set<Key<?>> dirtyKeys = dataHolder.bridge$getDirtyDataKeys(current);
+        if (dirtyKeys != null) {
+            final @Nullable Set<SpongeDataStore> dirtyDataStores = DataUtil.getDirtyDataStores(dataHolder.getClass(), dirtyKeys);
+            if (dirtyDataStores != null) {
+                return DataUtil.serializeDirtySpongeData(dataHolder, current, dirtyDataStores);
+            }
+        }
+        return DataUtil.serializeAllSpongeData(dataHolder);
+    }
+
+    /**
+     * Collects the custom data stores of the changed keys.
+     *
+     * @return The data stores, or null if a key is stored outside of the custom data root
+     */
+    private static @Nullable Set<SpongeDataStore> getDirtyDataStores(final Type dataHolderType, final Set<Key<?>> dirtyKeys) {
+        final Set<SpongeDataStore> dataStores = new LinkedHashSet<>();
+        for (final Key<?> key : dirtyKeys) {
+            final DataStore dataStore = SpongeDataManager.getDatastoreRegistry().getDataStore(key, dataHolderType);
+            if (dataStore instanceof SpongeDataStore) {
+                dataStores.add((SpongeDataStore) dataStore);
+            } else if (!SpongeDataManager.getDatastoreRegistry().isNoOpDataStore(dataStore)) {
+                return null;
+            }
+        }
+        return dataStores;
+    }
+
+    /**
+     * Rewrites only the entries of the given data stores below the custom
+     * data root, leaving the rest of the compound untouched.
+     */
+    private static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean serializeDirtySpongeData(final T dataHolder,
+            final @Nullable CompoundTag current, final Set<SpongeDataStore> dirtyDataStores) {
+        if (dirtyDataStores.isEmpty()) {
+            dataHolder.bridge$markDataSynced(current);
+            return current != null;
+        }
+        CompoundTag compound = current;
+        if (compound == null) {
+            compound = new CompoundTag();
+            dataHolder.data$setCompound(compound);
+        }
+        final String rootName = Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString(".");
+        final CompoundTag root = compound.getCompound(rootName);
+        final DataManipulator.Mutable manipulator = dataHolder.bridge$getManipulator();
+        for (final SpongeDataStore dataStore : dirtyDataStores) {
+            final ResourceKey key = dataStore.getDataStoreKey();
+            final DataContainer serialized = DataContainer.createNew();
+            dataStore.serialize(manipulator, serialized);
+            final Optional<DataView> data = serialized.getView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.then(DataQuery.of(key.namespace(), key.value())));
+
+            final CompoundTag namespace = root.getCompound(key.namespace());
+            if (data.isPresent()) {
+                namespace.put(key.value(), NBTTranslator.INSTANCE.translate(data.get()));
+            } else {
+                namespace.remove(key.value());
+            }
+            if (namespace.isEmpty()) {
+                root.remove(key.namespace());
+            } else {
+                root.put(key.namespace(), namespace);
+            }
+        }
+        if (root.isEmpty()) {
+            compound.remove(rootName);
+        } else {
+            compound.put(rootName, root);
+        }
+        if (compound.isEmpty()) {
+            dataHolder.data$setCompound(null);
+            dataHolder.bridge$markDataSynced(null);
+            return false;
+        }
+        dataHolder.bridge$markDataSynced(compound);
+        return true;
+    }
+
+    private static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean serializeAllSpongeData(final T dataHolder) {
         CompoundTag compound = dataHolder.data$getCompound();
         if (compound == null) {
             compound = new CompoundTag();
@@ -191,6 +275,7 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean se
         final Type dataHolderType = dataHolder.getClass();
         manipulator.getKeys().stream()
                 .map(key -> SpongeDataManager.getDatastoreRegistry().getDataStore(key, dataHolderType))
+                .distinct() // Data stores serialize all of their keys at once
                 .forEach(dataStore -> dataStore.serialize(manipulator, allData));
 
         // If data is still present after cleanup merge it back into nbt
@@ -199,8 +284,10 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean se
         }
         if (compound.isEmpty()) {
             dataHolder.data$setCompound(null);
+            dataHolder.bridge$markDataSynced(null);
             return false;
         }
+        dataHolder.bridge$markDataSynced(compound);
         return true;
     }
 
@@ -33,6 +33,12 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import it.unimi.dsi.fastutil.bytes.ByteList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import org.apache.commons.lang3.ArrayUtils;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
@@ -48,11 +54,13 @@
 import org.spongepowered.api.registry.RegistryHolder;
 import org.spongepowered.api.registry.RegistryType;
 import org.spongepowered.api.util.Coerce;
+import org.spongepowered.common.data.persistence.NBTDataView;
 import org.spongepowered.common.registry.provider.KeyProvider;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -268,7 +276,7 @@ public DataView set(final DataQuery path, final Object value) {
             checkArgument(!(valueContainer).equals(this), "Cannot insert self-referencing DataSerializable");
             // see above for why this is copied
             this.copyDataView(path, valueContainer);
-        } else if (SpongeDataManager.INSTANCE.findRegistryTypeFor(value.getClass()).isPresent()) {
+        } else if (SpongeDataManager.INSTANCE != null && SpongeDataManager.INSTANCE.findRegistryTypeFor(value.getClass()).isPresent()) {
             final RegistryType<Object> registry = SpongeDataManager.INSTANCE.findRegistryTypeFor(value.getClass()).get();
             final ResourceKey valueKey = Sponge.game().registries().registry(registry).valueKey(value);
             // TODO if we serialize into a DataView - deserialize needs to do it too
@@ -287,6 +295,13 @@ else if (value instanceof ResourceKey) {
             checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
             // see above for why this is copied
             this.copyDataView(path, container);
+        } else if (value instanceof ByteList) {
+            // Packed primitive lists are stored as their native arrays instead of boxing every element
+            this.map.put(key, ((ByteList) value).toByteArray());
+        } else if (value instanceof IntList) {
+            this.map.put(key, ((IntList) value).toIntArray());
+        } else if (value instanceof LongList) {
+            this.map.put(key, ((LongList) value).toLongArray());
         } else if (value instanceof Collection) {
             this.setCollection(key, (Collection) value);
         } else if (value instanceof Map) {
@@ -615,6 +630,27 @@ private Optional<List<?>> getUnsafeList(final DataQuery path) {
             );
     }
 
+    /**
+     * Gets the value at the given path as it is stored, without the copy
+     * {@link #get(DataQuery)} makes of arrays if this view clones its data.
+     *
+     * @param path The path of the value
+     * @return The value, if available
+     */
+    private Optional<Object> getUncloned(final DataQuery path) {
+        final List<String> queryParts = path.parts();
+        if (queryParts.size() == 1) {
+            return Optional.ofNullable(this.map.get(queryParts.get(0)));
+        }
+        if (queryParts.size() > 1) {
+            final Optional<DataView> subView = this.getUnsafeView(queryParts.get(0));
+            if (subView.isPresent() && subView.get() instanceof MemoryDataView) {
+                return ((MemoryDataView) subView.get()).getUncloned(path.popFirst());
+            }
+        }
+        return this.get(path);
+    }
+
     @Override
     public Optional<List<Character>> getCharacterList(final DataQuery path) {
         return this.getUnsafeList(path).map(list ->
@@ -639,6 +675,11 @@ public Optional<List<Boolean>> getBooleanList(final DataQuery path) {
 
     @Override
     public Optional<List<Byte>> getByteList(final DataQuery path) {
+        final Optional<Object> val = this.getUncloned(path);
+        if (val.isPresent() && val.get() instanceof byte[]) {
+            // A read only view, so the stored array is neither copied nor boxed up front
+            return Optional.of(Collections.unmodifiableList(Bytes.asList((byte[]) val.get())));
+        }
         return this.getUnsafeList(path).map(list ->
             list.stream()
                 .map(Coerce::asByte)
@@ -661,6 +702,10 @@ public Optional<List<Short>> getShortList(final DataQuery path) {
 
     @Override
     public Optional<List<Integer>> getIntegerList(final DataQuery path) {
+        final Optional<Object> val = this.getUncloned(path);
+        if (val.isPresent() && val.get() instanceof int[]) {
+            return Optional.of(Collections.unmodifiableList(Ints.asList((int[]) val.get())));
+        }
         return this.getUnsafeList(path).map(list ->
             list.stream()
                 .map(Coerce::asInteger)
@@ -672,6 +717,10 @@ public Optional<List<Integer>> getIntegerList(final DataQuery path) {
 
     @Override
     public Optional<List<Long>> getLongList(final DataQuery path) {
+        final Optional<Object> val = this.getUncloned(path);
+        if (val.isPresent() && val.get() instanceof long[]) {
+            return Optional.of(Collections.unmodifiableList(Longs.asList((long[]) val.get())));
+        }
         return this.getUnsafeList(path).map(list ->
             list.stream()
                 .map(Coerce::asLong)
@@ -853,7 +902,58 @@ public org.spongepowered.api.data.persistence.DataView.SafetyMode safetyMode() {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.map, this.path);
+        int hash = 0;
+        for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
+            hash += entry.getKey().hashCode() ^ MemoryDataView.hashValue(entry.getValue());
+        }
+        return 31 * hash + this.path.hashCode();
+    }
+
+    /**
+     * Hashes the contents of any view the same way {@link #hashCode()} does,
+     * so other views which are equal to a memory view can share its hash.
+     *
+     * @param view The view
+     * @return The hash
+     */
+    public static int hashContents(final DataView view) {
+        int hash = 0;
+        for (final DataQuery key : view.keys(false)) {
+            hash += key.asString('.').hashCode() ^ MemoryDataView.hashValue(view.get(key).get());
+        }
+        return 31 * hash + view.currentPath().hashCode();
+    }
+
+    private static int hashValue(final Object value) {
+        if (value instanceof DataView) {
+            return value instanceof MemoryDataView ? value.hashCode() : MemoryDataView.hashContents((DataView) value);
+        } else if (value instanceof List<?>) {
+            // Hashed by hand so arrays inside lists are hashed by their contents as well
+            int hash = 1;
+            for (final Object element : (List<?>) value) {
+                hash = 31 * hash + (element == null ? 0 : MemoryDataView.hashValue(element));
+            }
+            return hash;
+        } else if (value instanceof Object[]) {
+            return MemoryDataView.hashValue(Arrays.asList((Object[]) value));
+        } else if (value instanceof byte[]) {
+            return Arrays.hashCode((byte[]) value);
+        } else if (value instanceof short[]) {
+            return Arrays.hashCode((short[]) value);
+        } else if (value instanceof int[]) {
+            return Arrays.hashCode((int[]) value);
+        } else if (value instanceof long[]) {
+            return Arrays.hashCode((long[]) value);
+        } else if (value instanceof float[]) {
+            return Arrays.hashCode((float[]) value);
+        } else if (value instanceof double[]) {
+            return Arrays.hashCode((double[]) value);
+        } else if (value instanceof boolean[]) {
+            return Arrays.hashCode((boolean[]) value);
+        } else if (value instanceof char[]) {
+            return Arrays.hashCode((char[]) value);
+        }
+        return value.hashCode();
     }
 
     @Override
@@ -861,6 +961,9 @@ public boolean equals(final @Nullable Object obj) {
         if (this == obj) {
             return true;
         }
+        if (obj instanceof NBTDataView) {
+            return obj.equals(this);
+        }
         if (obj == null || this.getClass() != obj.getClass()) {
             return false;
         }
@@ -40,11 +40,16 @@
 
 import java.lang.reflect.Type;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
 public final class SpongeKey<V extends Value<E>, E> extends AbstractResourceKeyed implements Key<V> {
 
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private final int index = SpongeKey.NEXT_INDEX.getAndIncrement();
+
     private final Type valueType;
     private final Type elementType;
     private final Comparator<? super E> elementComparator;
@@ -104,4 +109,24 @@ public Supplier<E> getDefaultValueSupplier() {
     public EmptyDataProvider<V, E> getEmptyDataProvider() {
         return this.emptyDataProvider;
     }
+
+    /**
+     * Gets the dense index assigned to this key when it was created, used to
+     * look up data providers by array index instead of by hashing.
+     *
+     * @return The index
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Gets the number of keys created so far, which is one more than the
+     * highest {@link #getIndex() index} in use.
+     *
+     * @return The number of keys
+     */
+    public static int getIndexCount() {
+        return SpongeKey.NEXT_INDEX.get();
+    }
 }
@@ -49,6 +49,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -136,6 +137,8 @@ private void valueToNode(final ConfigurationNode node, final @Nullable Object va
             for (final Object child : ((Collection<?>) value)) {
                 this.valueToNode(node.appendListNode(), child);
             }
+        } else if (value instanceof byte[] || value instanceof int[] || value instanceof long[]) {
+            this.arrayToNode(node, value);
         } else if (value == null) {
             node.raw(null);
         } else {
@@ -157,6 +160,35 @@ private void valueToNode(final ConfigurationNode node, final @Nullable Object va
         }
     }
 
+    /**
+     * Writes a primitive array the same way {@link JsonDataFormat} does, so it
+     * is read back as an array instead of a list of boxed numbers.
+     *
+     * @param node destination node
+     * @param array Source array
+     */
+    private void arrayToNode(final ConfigurationNode node, final Object array) {
+        node.raw(null);
+        final ConfigurationNode values = node.node(JsonDataFormat.VALUE);
+        values.raw(ImmutableList.of());
+        if (array instanceof byte[]) {
+            node.node(JsonDataFormat.ARRAYTYPE).raw(JsonDataFormat.BYTE);
+            for (final byte value : (byte[]) array) {
+                values.appendListNode().raw((int) value);
+            }
+        } else if (array instanceof int[]) {
+            node.node(JsonDataFormat.ARRAYTYPE).raw(JsonDataFormat.INT);
+            for (final int value : (int[]) array) {
+                values.appendListNode().raw(value);
+            }
+        } else {
+            node.node(JsonDataFormat.ARRAYTYPE).raw(JsonDataFormat.LONG);
+            for (final long value : (long[]) array) {
+                values.appendListNode().raw(value);
+            }
+        }
+    }
+
     @Override
     public ConfigurationNode translate(final DataView view) throws InvalidDataException {
         final BasicConfigurationNode node = BasicConfigurationNode.root(ConfigurateTranslator.DEFAULT_OPTS);
@@ -190,6 +222,7 @@ static class VisitState extends LinkedList<Object> {
     static class ToDataView implements ConfigurationVisitor.Safe<VisitState, DataView> {
 
         static final ToDataView INSTANCE = new ToDataView();
+        private static final DataQuery ARRAYTYPE = DataQuery.of(JsonDataFormat.ARRAYTYPE);
 
         private ToDataView() {
         }
@@ -251,10 +284,31 @@ public void enterScalarNode(final ConfigurationNode node, final VisitState state
         }
 
         @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
         public void exitMappingNode(final ConfigurationNode node, final VisitState state) {
-            if (!(state.removeFirst() instanceof DataView)) {
+            final Object popped = state.removeFirst();
+            if (!(popped instanceof DataView)) {
                 throw new IllegalStateException("Exited a mapping node but the top value was not a DataView");
             }
+            if (state.start == node) {
+                return;
+            }
+            // Replace views written by #arrayToNode with the array they hold
+            final DataView view = (DataView) popped;
+            final Optional<String> arrayType = view.getString(ToDataView.ARRAYTYPE);
+            if (!arrayType.isPresent()) {
+                return;
+            }
+            final Object array = JsonDataFormat.readArray(arrayType.get(), view);
+            final Object peek = state.getFirst();
+            if (peek instanceof DataView) {
+                final DataQuery key = this.queryFrom(node);
+                ((DataView) peek).remove(key);
+                ((DataView) peek).set(key, array);
+            } else if (peek instanceof List<?>) {
+                final List list = (List) peek;
+                list.set(list.size() - 1, array);
+            }
         }
 
         @Override
@@ -0,0 +1,115 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A pull based reader over serialized data which hands out one event at a
+ * time instead of materializing the whole document as a
+ * {@link org.spongepowered.api.data.persistence.DataContainer}.
+ *
+ * <p>The accessors are only valid for the event which was last returned by
+ * {@link #next()}. Use {@link DataStreams} to turn (parts of) the stream back
+ * into data views.</p>
+ */
+public interface DataStreamReader extends Closeable {
+
+    /**
+     * Advances the reader to the next event.
+     *
+     * @return The event
+     * @throws IOException If the underlying input could not be read
+     */
+    Event next() throws IOException;
+
+    /**
+     * Gets the key of the entry which is read next, valid after
+     * {@link Event#KEY}.
+     *
+     * @return The key
+     */
+    String key();
+
+    /**
+     * Gets the {@link Boolean}, {@link Number} or {@link String} value, valid
+     * after {@link Event#VALUE}.
+     *
+     * @return The value
+     */
+    Object value();
+
+    /**
+     * Gets the type of the array that is being read, valid from
+     * {@link Event#BEGIN_ARRAY} until {@link Event#END_ARRAY}.
+     *
+     * @return The array type
+     */
+    DataStreams.ArrayType arrayType();
+
+    /**
+     * Gets the length of the array that is being read, valid from
+     * {@link Event#BEGIN_ARRAY} until {@link Event#END_ARRAY}.
+     *
+     * @return The length, or {@code -1} if the format doesn't know it upfront
+     */
+    int arrayLength();
+
+    /**
+     * Gets the primitive array holding the elements of the current chunk,
+     * valid after {@link Event#ARRAY_CHUNK}. The array is reused for the
+     * following chunks, only the first {@link #chunkLength()} elements
+     * belong to the current chunk.
+     *
+     * @return The chunk
+     */
+    Object chunk();
+
+    /**
+     * Gets the number of elements in the current chunk, valid after
+     * {@link Event#ARRAY_CHUNK}.
+     *
+     * @return The number of elements
+     */
+    int chunkLength();
+
+    enum Event {
+        BEGIN_VIEW,
+        KEY,
+        VALUE,
+        BEGIN_LIST,
+        END_LIST,
+        BEGIN_ARRAY,
+        ARRAY_CHUNK,
+        END_ARRAY,
+        END_VIEW,
+        /**
+         * The root view was completely read.
+         */
+        END
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A push based writer which serializes data as it is handed over, without
+ * a complete {@link org.spongepowered.api.data.persistence.DataView} tree
+ * having to exist first.
+ *
+ * <p>A document is a single view. Inside of a view each value has to be
+ * preceded by a {@link #key(String)}, inside of a list values are written
+ * directly. Use {@link DataStreams#write} to push an existing data view.</p>
+ */
+public interface DataStreamWriter extends Closeable {
+
+    void beginView() throws IOException;
+
+    void key(String key) throws IOException;
+
+    /**
+     * Writes a {@link Boolean}, {@link Number} or {@link String} value, or
+     * {@code null} if the format has a representation for it.
+     *
+     * @param value The value
+     * @throws IOException If the underlying output could not be written
+     */
+    void value(@Nullable Object value) throws IOException;
+
+    void beginList() throws IOException;
+
+    void endList() throws IOException;
+
+    /**
+     * Begins a primitive array, the elements follow in one or more
+     * {@link #arrayChunk chunks}.
+     *
+     * @param type The array type
+     * @param length The total number of elements, or {@code -1} if not known,
+     *     in which case formats that need the length upfront buffer the array
+     * @throws IOException If the underlying output could not be written
+     */
+    void beginArray(DataStreams.ArrayType type, int length) throws IOException;
+
+    /**
+     * Writes the elements of a primitive array of the current array type.
+     *
+     * @param chunk The primitive array holding the elements
+     * @param offset The index of the first element to write
+     * @param length The number of elements to write
+     * @throws IOException If the underlying output could not be written
+     */
+    void arrayChunk(Object chunk, int offset, int length) throws IOException;
+
+    void endArray() throws IOException;
+
+    void endView() throws IOException;
+
+}
@@ -0,0 +1,335 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataSerializable;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.MemoryDataContainer;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adapters between {@link DataView}s and the streaming
+ * {@link DataStreamReader} and {@link DataStreamWriter}.
+ */
+public final class DataStreams {
+
+    /**
+     * The maximum number of array elements the readers hand out per chunk.
+     */
+    static final int CHUNK_SIZE = 8192;
+
+    /**
+     * Pushes the view and all of its children to the writer.
+     *
+     * @param view The view to write
+     * @param writer The writer
+     * @throws IOException If the writer failed
+     */
+    public static void write(final DataView view, final DataStreamWriter writer) throws IOException {
+        writer.beginView();
+        // Walk the keys instead of values(false), that would copy every nested view into a map
+        for (final DataQuery key : view.keys(false)) {
+            writer.key(key.asString('.'));
+            DataStreams.writeValue(view.get(key).get(), writer);
+        }
+        writer.endView();
+    }
+
+    private static void writeValue(final @Nullable Object value, final DataStreamWriter writer) throws IOException {
+        // Null is left to the writer, JSON has a value for it while NBT rejects it
+        if (value == null || value instanceof Boolean || value instanceof Number || value instanceof String) {
+            writer.value(value);
+        } else if (value instanceof DataView) {
+            DataStreams.write((DataView) value, writer);
+        } else if (value instanceof DataSerializable) {
+            DataStreams.write(((DataSerializable) value).toContainer(), writer);
+        } else if (value instanceof Map) {
+            writer.beginView();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                final Object key = entry.getKey();
+                writer.key(key instanceof DataQuery ? ((DataQuery) key).asString('.') : key.toString());
+                DataStreams.writeValue(entry.getValue(), writer);
+            }
+            writer.endView();
+        } else if (value instanceof Iterable) {
+            writer.beginList();
+            for (final Object element : (Iterable<?>) value) {
+                DataStreams.writeValue(element, writer);
+            }
+            writer.endList();
+        } else if (value instanceof Byte[]) {
+            DataStreams.writeArray(Bytes.toArray(Arrays.asList((Byte[]) value)), writer);
+        } else if (value instanceof Integer[]) {
+            DataStreams.writeArray(Ints.toArray(Arrays.asList((Integer[]) value)), writer);
+        } else if (value instanceof Long[]) {
+            DataStreams.writeArray(Longs.toArray(Arrays.asList((Long[]) value)), writer);
+        } else if (ArrayType.of(value) != null) {
+            DataStreams.writeArray(value, writer);
+        } else {
+            throw new IllegalArgumentException("Unable to write object to a data stream: " + value);
+        }
+    }
+
+    private static void writeArray(final Object array, final DataStreamWriter writer) throws IOException {
+        final int length = Array.getLength(array);
+        writer.beginArray(ArrayType.of(array), length);
+        writer.arrayChunk(array, 0, length);
+        writer.endArray();
+    }
+
+    /**
+     * Reads the next value, which has to be a view, into a new container.
+     *
+     * @param reader The reader
+     * @return The container
+     * @throws IOException If the reader failed
+     */
+    public static DataContainer read(final DataStreamReader reader) throws IOException {
+        final DataStreamReader.Event event = reader.next();
+        if (event != DataStreamReader.Event.BEGIN_VIEW) {
+            throw new InvalidDataException("Expected a view but got " + event);
+        }
+        final DataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        DataStreams.readView(reader, container);
+        return container;
+    }
+
+    /**
+     * Reads the next value, which is either a view, a list, a primitive
+     * array or a single value. This allows consumers to only materialize the
+     * entries they are interested in.
+     *
+     * @param reader The reader
+     * @return The value
+     * @throws IOException If the reader failed
+     */
+    public static Object readValue(final DataStreamReader reader) throws IOException {
+        return DataStreams.readValue(reader, reader.next());
+    }
+
+    private static Object readValue(final DataStreamReader reader, final DataStreamReader.Event event) throws IOException {
+        switch (event) {
+            case BEGIN_VIEW:
+                final DataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+                DataStreams.readView(reader, container);
+                return container;
+            case BEGIN_LIST:
+                return DataStreams.readList(reader);
+            case BEGIN_ARRAY:
+                return DataStreams.readArray(reader);
+            case VALUE:
+                return reader.value();
+            default:
+                throw new InvalidDataException("Expected a value but got " + event);
+        }
+    }
+
+    private static void readView(final DataStreamReader reader, final DataView view) throws IOException {
+        DataStreamReader.Event event;
+        while ((event = reader.next()) != DataStreamReader.Event.END_VIEW) {
+            if (event != DataStreamReader.Event.KEY) {
+                throw new InvalidDataException("Expected a key but got " + event);
+            }
+            final DataQuery key = DataQuery.of(reader.key());
+            final DataStreamReader.Event valueEvent = reader.next();
+            if (valueEvent == DataStreamReader.Event.BEGIN_VIEW) {
+                // Read straight into the child view so it doesn't need to be copied
+                DataStreams.readView(reader, view.createView(key));
+            } else {
+                view.set(key, DataStreams.readValue(reader, valueEvent));
+            }
+        }
+    }
+
+    private static List<Object> readList(final DataStreamReader reader) throws IOException {
+        final List<Object> list = new ArrayList<>();
+        DataStreamReader.Event event;
+        while ((event = reader.next()) != DataStreamReader.Event.END_LIST) {
+            list.add(DataStreams.readValue(reader, event));
+        }
+        return list;
+    }
+
+    private static Object readArray(final DataStreamReader reader) throws IOException {
+        final ArrayType type = reader.arrayType();
+        final int length = reader.arrayLength();
+        Object array = type.newArray(length >= 0 ? length : 16);
+        int size = 0;
+        DataStreamReader.Event event;
+        while ((event = reader.next()) == DataStreamReader.Event.ARRAY_CHUNK) {
+            final int chunkLength = reader.chunkLength();
+            final int capacity = Array.getLength(array);
+            if (size + chunkLength > capacity) {
+                if (length >= 0) {
+                    throw new InvalidDataException("Array holds more than the " + length + " announced elements");
+                }
+                final Object grown = type.newArray(Math.max(size + chunkLength, capacity * 2));
+                System.arraycopy(array, 0, grown, 0, size);
+                array = grown;
+            }
+            System.arraycopy(reader.chunk(), 0, array, size, chunkLength);
+            size += chunkLength;
+        }
+        if (event != DataStreamReader.Event.END_ARRAY) {
+            throw new InvalidDataException("Expected the end of the array but got " + event);
+        }
+        if (size != Array.getLength(array)) {
+            if (length >= 0) {
+                throw new InvalidDataException("Array holds " + size + " instead of the " + length + " announced elements");
+            }
+            final Object trimmed = type.newArray(size);
+            System.arraycopy(array, 0, trimmed, 0, size);
+            array = trimmed;
+        }
+        return array;
+    }
+
+    /**
+     * Copies the next value, including all of its children, from the reader
+     * to the writer without materializing it. Copying a whole document
+     * converts between formats.
+     *
+     * @param reader The reader
+     * @param writer The writer
+     * @throws IOException If the reader or writer failed
+     */
+    public static void copy(final DataStreamReader reader, final DataStreamWriter writer) throws IOException {
+        int depth = 0;
+        do {
+            final DataStreamReader.Event event = reader.next();
+            switch (event) {
+                case BEGIN_VIEW:
+                    writer.beginView();
+                    depth++;
+                    break;
+                case KEY:
+                    writer.key(reader.key());
+                    break;
+                case VALUE:
+                    writer.value(reader.value());
+                    break;
+                case BEGIN_LIST:
+                    writer.beginList();
+                    depth++;
+                    break;
+                case END_LIST:
+                    writer.endList();
+                    depth--;
+                    break;
+                case BEGIN_ARRAY:
+                    writer.beginArray(reader.arrayType(), reader.arrayLength());
+                    depth++;
+                    break;
+                case ARRAY_CHUNK:
+                    writer.arrayChunk(reader.chunk(), 0, reader.chunkLength());
+                    break;
+                case END_ARRAY:
+                    writer.endArray();
+                    depth--;
+                    break;
+                case END_VIEW:
+                    writer.endView();
+                    depth--;
+                    break;
+                default:
+                    throw new InvalidDataException("Unexpected " + event);
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Skips the next value, including all of its children.
+     *
+     * @param reader The reader
+     * @throws IOException If the reader failed
+     */
+    public static void skip(final DataStreamReader reader) throws IOException {
+        int depth = 0;
+        do {
+            final DataStreamReader.Event event = reader.next();
+            switch (event) {
+                case BEGIN_VIEW:
+                case BEGIN_LIST:
+                case BEGIN_ARRAY:
+                    depth++;
+                    break;
+                case END_VIEW:
+                case END_LIST:
+                case END_ARRAY:
+                    depth--;
+                    break;
+                case END:
+                    throw new InvalidDataException("Unexpected " + event);
+                default:
+                    break;
+            }
+        } while (depth > 0);
+    }
+
+    public enum ArrayType {
+        BYTE,
+        INT,
+        LONG;
+
+        public Object newArray(final int length) {
+            switch (this) {
+                case BYTE:
+                    return new byte[length];
+                case INT:
+                    return new int[length];
+                default:
+                    return new long[length];
+            }
+        }
+
+        public static @Nullable ArrayType of(final Object array) {
+            if (array instanceof byte[]) {
+                return ArrayType.BYTE;
+            } else if (array instanceof int[]) {
+                return ArrayType.INT;
+            } else if (array instanceof long[]) {
+                return ArrayType.LONG;
+            }
+            return null;
+        }
+    }
+
+    private DataStreams() {
+    }
+
+}
@@ -30,13 +30,15 @@
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
-import org.checkerframework.checker.nullness.qual.Nullable;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataQuery;
-import org.spongepowered.api.data.persistence.DataSerializable;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataException;
 import org.spongepowered.api.data.persistence.StringDataFormat;
+import org.spongepowered.common.data.MemoryDataContainer;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
@@ -54,10 +56,11 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 
-public final class JsonDataFormat implements StringDataFormat {
+public final class JsonDataFormat implements StringDataFormat, StreamingDataFormat {
 
     public static final String ARRAYTYPE = "_arraytype";
     public static final String VALUE = "value";
@@ -95,41 +98,75 @@ private static DataContainer readFrom(JsonReader reader) throws IOException {
     }
 
     private static DataContainer createContainer(JsonReader reader) throws IOException {
-        DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-        JsonDataFormat.readView(reader, container);
+        DataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        final Object value = JsonDataFormat.readObject(reader, () -> container);
+        if (value != container) {
+            throw new InvalidDataException("Expected an object but got an array of " + value.getClass().getSimpleName());
+        }
         return container;
     }
 
-    private static void readView(JsonReader reader, DataView view) throws IOException {
+    /**
+     * Reads an object, which is either one of the special array types or a
+     * view. The view is only requested once it is clear that the object is
+     * not an array.
+     */
+    private static Object readObject(JsonReader reader, Supplier<DataView> viewSupplier) throws IOException {
         reader.beginObject();
-
-        while (reader.hasNext()) {
-            DataQuery key = of(reader.nextName());
-
-            if (reader.peek() == JsonToken.BEGIN_OBJECT) {
-                // Check this early so we don't need to copy the view
-                final DataView subView = view.createView(key);
-                JsonDataFormat.readView(reader, subView);
-                // handle special array types
-                subView.getString(DataQuery.of(ARRAYTYPE)).ifPresent(type -> {
-                    view.remove(key);
-                    view.set(key, JsonDataFormat.readArray(type, subView));
-                });
-            } else {
-                view.set(key, JsonDataFormat.read(reader));
+        if (!reader.hasNext()) {
+            reader.endObject();
+            return viewSupplier.get();
+        }
+        String name = reader.nextName();
+        if (name.equals(ARRAYTYPE) && reader.peek() == JsonToken.STRING) {
+            // Arrays are written with their type first, read the values straight into a primitive array
+            final String type = reader.nextString();
+            if (reader.hasNext() && reader.nextName().equals(VALUE) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                final Object array = JsonDataFormat.readArray(reader, type);
+                if (!reader.hasNext()) {
+                    reader.endObject();
+                    return array;
+                }
             }
+            throw new InvalidDataException("Malformed " + type + " array, expected only a " + VALUE + " list after " + ARRAYTYPE);
         }
 
+        final DataView view = viewSupplier.get();
+        while (true) {
+            JsonDataFormat.readEntry(reader, view, of(name));
+            if (!reader.hasNext()) {
+                break;
+            }
+            name = reader.nextName();
+        }
         reader.endObject();
+
+        // handle special array types which were not written by us
+        final Optional<String> type = view.getString(DataQuery.of(ARRAYTYPE));
+        if (type.isPresent()) {
+            return JsonDataFormat.readArray(type.get(), view);
+        }
+        return view;
+    }
+
+    private static void readEntry(JsonReader reader, DataView view, DataQuery key) throws IOException {
+        if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+            // Read straight into a new view so it doesn't need to be copied
+            final Object value = JsonDataFormat.readObject(reader, () -> view.createView(key));
+            if (!(value instanceof DataView)) {
+                view.remove(key);
+                view.set(key, value);
+            }
+        } else {
+            view.set(key, JsonDataFormat.read(reader));
+        }
     }
 
     private static @org.checkerframework.checker.nullness.qual.Nullable Object read(JsonReader reader) throws IOException {
         JsonToken token = reader.peek();
         switch (token) {
             case BEGIN_OBJECT:
-                final DataContainer container = JsonDataFormat.createContainer(reader);
-                // handle special array types
-                return container.getString(DataQuery.of(ARRAYTYPE)).map(s -> JsonDataFormat.readArray(s, container)).orElse(container);
+                return JsonDataFormat.readObject(reader, () -> new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED));
             case BEGIN_ARRAY:
                 return JsonDataFormat.readArray(reader);
             case BOOLEAN:
@@ -146,34 +183,76 @@ private static void readView(JsonReader reader, DataView view) throws IOExceptio
         }
     }
 
-    private static Object readArray(String type, DataView container) {
+    private static Object readArray(JsonReader reader, String type) throws IOException {
+        reader.beginArray();
+        final Object array;
+        switch (type) {
+            case INT:
+                final IntArrayList ints = new IntArrayList();
+                while (reader.hasNext()) {
+                    ints.add(reader.nextInt());
+                }
+                array = ints.toIntArray();
+                break;
+            case BYTE:
+                final ByteArrayList bytes = new ByteArrayList();
+                while (reader.hasNext()) {
+                    bytes.add((byte) reader.nextInt());
+                }
+                array = bytes.toByteArray();
+                break;
+            case LONG:
+                final LongArrayList longs = new LongArrayList();
+                while (reader.hasNext()) {
+                    longs.add(reader.nextLong());
+                }
+                array = longs.toLongArray();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown type " + type);
+        }
+        reader.endArray();
+        return array;
+    }
+
+    /**
+     * Converts an array that was read as a view holding its type and a list of
+     * its values into the native array.
+     *
+     * @param type The array type
+     * @param container The view holding the values
+     * @return The array
+     */
+    static Object readArray(String type, DataView container) {
         final Object value = container.get(of(VALUE)).get();
-        final List<Object> list = new ArrayList<>();
+        final List<Number> list = new ArrayList<>();
         if (value instanceof Collection) {
-            list.addAll(((Collection<?>) value));
+            for (Object element : (Collection<?>) value) {
+                list.add((Number) element);
+            }
         } else if (value.getClass().isArray()) {
             for (int i = 0; i < Array.getLength(value); i++) {
-                list.add(Array.get(value, i));
+                list.add((Number) Array.get(value, i));
             }
         }
         switch (type) {
             case INT:
-                return list.stream().mapToInt(n -> (int) n).toArray();
+                return list.stream().mapToInt(Number::intValue).toArray();
             case BYTE:
                 final byte[] bytes = new byte[list.size()];
                 for (int i = 0; i < list.size(); i++) {
-                    bytes[i] = (byte) list.get(i);
+                    bytes[i] = list.get(i).byteValue();
                 }
                 return bytes;
             case LONG:
-                return list.stream().mapToLong(n -> (long) n).toArray();
+                return list.stream().mapToLong(Number::longValue).toArray();
             default:
                 throw new IllegalArgumentException("Unknown type " + type);
 
         }
     }
 
-    private static Number readNumber(JsonReader reader) throws IOException {
+    static Number readNumber(JsonReader reader) throws IOException {
         // Similar to https://github.com/zml2008/configurate/blob/master/configurate-gson/src/main/java/ninja/leaping/configurate/gson/GsonConfigurationLoader.java#L113
         // Not sure what's the best way to detect the type of number
 
@@ -201,10 +280,19 @@ private static List<?> readArray(JsonReader reader) throws IOException {
         return result;
     }
 
+    @Override
+    public DataStreamReader createReader(InputStream input) {
+        return this.createReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+    }
+
+    public DataStreamReader createReader(Reader input) {
+        return new JsonDataStreamReader(new JsonReader(input));
+    }
+
     @Override
     public void writeTo(OutputStream output, DataView data) throws IOException {
-        try (JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)))) {
-            JsonDataFormat.writeView(writer, data);
+        try (DataStreamWriter writer = this.createWriter(output)) {
+            DataStreams.write(data, writer);
         }
     }
 
@@ -217,111 +305,18 @@ public String write(DataView data) throws IOException {
 
     @Override
     public void writeTo(Writer output, DataView data) throws IOException {
-        try (JsonWriter writer = new JsonWriter(output)) {
-            JsonDataFormat.writeView(writer, data);
+        try (DataStreamWriter writer = this.createWriter(output)) {
+            DataStreams.write(data, writer);
         }
     }
 
-    private static void writeView(JsonWriter writer, DataView view) throws IOException {
-        writer.beginObject();
-
-        for (Map.Entry<DataQuery, Object> entry : view.values(false).entrySet()) {
-            writer.name(entry.getKey().asString('.'));
-            JsonDataFormat.write(writer, entry.getValue());
-        }
-
-        writer.endObject();
-    }
-
-    private static void write(JsonWriter writer, @Nullable Object value) throws IOException {
-        if (value == null) {
-            writer.nullValue();
-        } else if (value instanceof Boolean) {
-            writer.value((Boolean) value);
-        } else if (value instanceof Number) {
-            writer.value((Number) value);
-        } else if (value instanceof String) {
-            writer.value((String) value);
-        } else if (value instanceof Iterable) {
-            JsonDataFormat.writeArray(writer, (Iterable<?>) value);
-        } else if (value instanceof Map) {
-            JsonDataFormat.writeMap(writer, (Map<?, ?>) value);
-        } else if (value instanceof DataSerializable) {
-            JsonDataFormat.writeView(writer, ((DataSerializable) value).toContainer());
-        } else if (value instanceof DataView) {
-            JsonDataFormat.writeView(writer, (DataView) value);
-        } else if (value instanceof int[]) {
-            JsonDataFormat.writeArray(writer, (int[]) value);
-        } else if (value instanceof long[]) {
-            JsonDataFormat.writeArray(writer, (long[]) value);
-        } else if (value instanceof byte[]) {
-            JsonDataFormat.writeArray(writer, (byte[]) value);
-        } else {
-            throw new IllegalArgumentException("Unable to translate object to JSON: " + value);
-        }
-    }
-
-    private static void writeArray(JsonWriter writer, byte[] array) throws IOException {
-        writer.beginObject();
-        writer.name(ARRAYTYPE);
-        writer.value(BYTE);
-        writer.name(VALUE);
-        writer.beginArray();
-        for (byte value : array) {
-            writer.value(value);
-        }
-        writer.endArray();
-        writer.endObject();
-    }
-
-    private static void writeArray(JsonWriter writer, int[] array) throws IOException {
-        writer.beginObject();
-        writer.name(ARRAYTYPE);
-        writer.value(INT);
-        writer.name(VALUE);
-        writer.beginArray();
-        for (int value : array) {
-            writer.value(value);
-        }
-        writer.endArray();
-        writer.endObject();
-    }
-
-    private static void writeArray(JsonWriter writer, long[] array) throws IOException {
-        writer.beginObject();
-        writer.name(ARRAYTYPE);
-        writer.value(LONG);
-        writer.name(VALUE);
-        writer.beginArray();
-        for (long value : array) {
-            writer.value(value);
-        }
-        writer.endArray();
-        writer.endObject();
-    }
-
-    private static void writeArray(JsonWriter writer, Iterable<?> iterable) throws IOException {
-        writer.beginArray();
-        for (Object value : iterable) {
-            JsonDataFormat.write(writer, value);
-        }
-        writer.endArray();
+    @Override
+    public DataStreamWriter createWriter(OutputStream output) {
+        return this.createWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
     }
 
-    private static void writeMap(JsonWriter writer, Map<?, ?> map) throws IOException {
-        writer.beginObject();
-
-        for (Map.Entry<?, ?> entry : map.entrySet()) {
-            Object key = entry.getKey();
-            if (key instanceof DataQuery) {
-                key = ((DataQuery) key).asString('.');
-            }
-
-            writer.name(key.toString());
-            JsonDataFormat.write(writer, entry.getValue());
-        }
-
-        writer.endObject();
+    public DataStreamWriter createWriter(Writer output) {
+        return new JsonDataStreamWriter(new JsonWriter(output));
     }
 
 }
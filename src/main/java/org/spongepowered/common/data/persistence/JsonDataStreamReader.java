@@ -0,0 +1,258 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import it.unimi.dsi.fastutil.booleans.BooleanArrayList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+
+import java.io.IOException;
+
+/**
+ * Reads JSON token by token. Objects which start with the
+ * {@link JsonDataFormat#ARRAYTYPE} member, as written by
+ * {@link JsonDataFormat}, are read as primitive arrays.
+ *
+ * <p>Members with a {@code null} value are skipped, like they would be when
+ * read into a view.</p>
+ */
+final class JsonDataStreamReader implements DataStreamReader {
+
+    private final JsonReader reader;
+    // Whether each open scope is an object, otherwise it's a list
+    private final BooleanArrayList scopes = new BooleanArrayList();
+    private boolean started;
+    private boolean valueExpected;
+    private @Nullable Event event;
+
+    // The first name of an object, which had to be read to check for arrays
+    private @Nullable String pendingKey;
+    private @Nullable String key;
+    private @Nullable Object value;
+
+    private DataStreams.@Nullable ArrayType arrayType;
+    private @Nullable Object chunk;
+    private int chunkLength;
+
+    JsonDataStreamReader(final JsonReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Event next() throws IOException {
+        return this.event = this.advance();
+    }
+
+    private Event advance() throws IOException {
+        if (this.arrayType != null) {
+            if (this.reader.hasNext()) {
+                this.readChunk(this.arrayType);
+                return Event.ARRAY_CHUNK;
+            }
+            this.reader.endArray();
+            if (this.reader.hasNext()) {
+                throw new InvalidDataException("Malformed " + this.arrayType + " array, expected only a "
+                        + JsonDataFormat.VALUE + " list after " + JsonDataFormat.ARRAYTYPE);
+            }
+            this.reader.endObject();
+            this.arrayType = null;
+            this.chunk = null;
+            return Event.END_ARRAY;
+        }
+        if (this.valueExpected) {
+            this.valueExpected = false;
+            return this.beginValue();
+        }
+        if (!this.started) {
+            this.started = true;
+            if (this.reader.peek() != JsonToken.BEGIN_OBJECT) {
+                throw new InvalidDataException("Expected an object but got " + this.reader.peek());
+            }
+            return this.beginValue();
+        }
+        if (this.scopes.isEmpty()) {
+            return Event.END;
+        }
+        if (!this.scopes.getBoolean(this.scopes.size() - 1)) {
+            if (!this.reader.hasNext()) {
+                this.reader.endArray();
+                this.scopes.popBoolean();
+                return Event.END_LIST;
+            }
+            return this.beginValue();
+        }
+        while (true) {
+            final String name;
+            if (this.pendingKey != null) {
+                name = this.pendingKey;
+                this.pendingKey = null;
+            } else if (this.reader.hasNext()) {
+                name = this.reader.nextName();
+            } else {
+                this.reader.endObject();
+                this.scopes.popBoolean();
+                return Event.END_VIEW;
+            }
+            if (this.reader.peek() == JsonToken.NULL) {
+                this.reader.nextNull();
+                continue;
+            }
+            this.key = name;
+            this.valueExpected = true;
+            return Event.KEY;
+        }
+    }
+
+    private Event beginValue() throws IOException {
+        final JsonToken token = this.reader.peek();
+        switch (token) {
+            case BEGIN_OBJECT:
+                this.reader.beginObject();
+                if (this.reader.hasNext()) {
+                    final String name = this.reader.nextName();
+                    if (name.equals(JsonDataFormat.ARRAYTYPE) && this.reader.peek() == JsonToken.STRING) {
+                        return this.beginArray(this.reader.nextString());
+                    }
+                    this.pendingKey = name;
+                }
+                this.scopes.add(true);
+                return Event.BEGIN_VIEW;
+            case BEGIN_ARRAY:
+                this.reader.beginArray();
+                this.scopes.add(false);
+                return Event.BEGIN_LIST;
+            case BOOLEAN:
+                this.value = this.reader.nextBoolean();
+                return Event.VALUE;
+            case STRING:
+                this.value = this.reader.nextString();
+                return Event.VALUE;
+            case NUMBER:
+                this.value = JsonDataFormat.readNumber(this.reader);
+                return Event.VALUE;
+            default:
+                throw new InvalidDataException("Unexpected token: " + token);
+        }
+    }
+
+    private Event beginArray(final String type) throws IOException {
+        final DataStreams.ArrayType arrayType;
+        switch (type) {
+            case JsonDataFormat.BYTE:
+                arrayType = DataStreams.ArrayType.BYTE;
+                break;
+            case JsonDataFormat.INT:
+                arrayType = DataStreams.ArrayType.INT;
+                break;
+            case JsonDataFormat.LONG:
+                arrayType = DataStreams.ArrayType.LONG;
+                break;
+            default:
+                throw new InvalidDataException("Unknown type " + type);
+        }
+        if (!this.reader.hasNext() || !this.reader.nextName().equals(JsonDataFormat.VALUE) || this.reader.peek() != JsonToken.BEGIN_ARRAY) {
+            throw new InvalidDataException("Malformed " + type + " array, expected only a "
+                    + JsonDataFormat.VALUE + " list after " + JsonDataFormat.ARRAYTYPE);
+        }
+        this.reader.beginArray();
+        this.arrayType = arrayType;
+        return Event.BEGIN_ARRAY;
+    }
+
+    private void readChunk(final DataStreams.ArrayType type) throws IOException {
+        if (this.chunk == null) {
+            this.chunk = type.newArray(DataStreams.CHUNK_SIZE);
+        }
+        int length = 0;
+        switch (type) {
+            case BYTE:
+                final byte[] bytes = (byte[]) this.chunk;
+                while (length < bytes.length && this.reader.hasNext()) {
+                    bytes[length++] = (byte) this.reader.nextInt();
+                }
+                break;
+            case INT:
+                final int[] ints = (int[]) this.chunk;
+                while (length < ints.length && this.reader.hasNext()) {
+                    ints[length++] = this.reader.nextInt();
+                }
+                break;
+            default:
+                final long[] longs = (long[]) this.chunk;
+                while (length < longs.length && this.reader.hasNext()) {
+                    longs[length++] = this.reader.nextLong();
+                }
+                break;
+        }
+        this.chunkLength = length;
+    }
+
+    @Override
+    public String key() {
+        checkState(this.event == Event.KEY && this.key != null, "Not at a key");
+        return this.key;
+    }
+
+    @Override
+    public Object value() {
+        checkState(this.event == Event.VALUE && this.value != null, "Not at a value");
+        return this.value;
+    }
+
+    @Override
+    public DataStreams.ArrayType arrayType() {
+        checkState(this.arrayType != null, "Not within an array");
+        return this.arrayType;
+    }
+
+    @Override
+    public int arrayLength() {
+        checkState(this.arrayType != null, "Not within an array");
+        // JSON doesn't know the length before all elements are read
+        return -1;
+    }
+
+    @Override
+    public Object chunk() {
+        checkState(this.event == Event.ARRAY_CHUNK && this.chunk != null, "Not at an array chunk");
+        return this.chunk;
+    }
+
+    @Override
+    public int chunkLength() {
+        checkState(this.event == Event.ARRAY_CHUNK, "Not at an array chunk");
+        return this.chunkLength;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.gson.stream.JsonWriter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Writes JSON as it is pushed, primitive arrays are written as objects
+ * holding the {@link JsonDataFormat#ARRAYTYPE} and the list of values.
+ */
+final class JsonDataStreamWriter implements DataStreamWriter {
+
+    private final JsonWriter writer;
+    private DataStreams.@Nullable ArrayType arrayType;
+
+    JsonDataStreamWriter(final JsonWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void beginView() throws IOException {
+        this.writer.beginObject();
+    }
+
+    @Override
+    public void key(final String key) throws IOException {
+        this.writer.name(key);
+    }
+
+    @Override
+    public void value(final @Nullable Object value) throws IOException {
+        if (value == null) {
+            this.writer.nullValue();
+        } else if (value instanceof Boolean) {
+            this.writer.value((Boolean) value);
+        } else if (value instanceof Number) {
+            this.writer.value((Number) value);
+        } else if (value instanceof String) {
+            this.writer.value((String) value);
+        } else {
+            throw new IllegalArgumentException("Unable to translate object to JSON: " + value);
+        }
+    }
+
+    @Override
+    public void beginList() throws IOException {
+        this.writer.beginArray();
+    }
+
+    @Override
+    public void endList() throws IOException {
+        this.writer.endArray();
+    }
+
+    @Override
+    public void beginArray(final DataStreams.ArrayType type, final int length) throws IOException {
+        checkState(this.arrayType == null, "An array is already being written");
+        this.writer.beginObject();
+        this.writer.name(JsonDataFormat.ARRAYTYPE);
+        switch (type) {
+            case BYTE:
+                this.writer.value(JsonDataFormat.BYTE);
+                break;
+            case INT:
+                this.writer.value(JsonDataFormat.INT);
+                break;
+            default:
+                this.writer.value(JsonDataFormat.LONG);
+                break;
+        }
+        this.writer.name(JsonDataFormat.VALUE);
+        this.writer.beginArray();
+        this.arrayType = type;
+    }
+
+    @Override
+    public void arrayChunk(final Object chunk, final int offset, final int length) throws IOException {
+        checkState(this.arrayType != null, "No array is being written");
+        checkArgument(DataStreams.ArrayType.of(chunk) == this.arrayType, "Expected a chunk of type %s", this.arrayType);
+        if (chunk instanceof byte[]) {
+            final byte[] bytes = (byte[]) chunk;
+            for (int i = offset; i < offset + length; i++) {
+                this.writer.value(bytes[i]);
+            }
+        } else if (chunk instanceof int[]) {
+            final int[] ints = (int[]) chunk;
+            for (int i = offset; i < offset + length; i++) {
+                this.writer.value(ints[i]);
+            }
+        } else {
+            final long[] longs = (long[]) chunk;
+            for (int i = offset; i < offset + length; i++) {
+                this.writer.value(longs[i]);
+            }
+        }
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        checkState(this.arrayType != null, "No array is being written");
+        this.writer.endArray();
+        this.writer.endObject();
+        this.arrayType = null;
+    }
+
+    @Override
+    public void endView() throws IOException {
+        this.writer.endObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+}
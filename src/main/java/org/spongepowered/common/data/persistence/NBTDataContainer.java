@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.data.MemoryDataContainer;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The root of a {@link NBTDataView} tree, created through
+ * {@link NBTTranslator#wrap(CompoundTag)}.
+ */
+public final class NBTDataContainer extends NBTDataView implements DataContainer {
+
+    final DataView.SafetyMode safety;
+    @Nullable DataContainer translated;
+
+    NBTDataContainer(final CompoundTag tag) {
+        this(tag, DataView.SafetyMode.ALL_DATA_CLONED);
+    }
+
+    NBTDataContainer(final CompoundTag tag, final DataView.SafetyMode safety) {
+        super(tag);
+        this.safety = Objects.requireNonNull(safety, "Safety mode");
+    }
+
+    DataContainer translate() {
+        if (this.translated == null) {
+            this.translated = (DataContainer) NBTTranslator.INSTANCE.addTo(this.tag, new MemoryDataContainer(this.safety));
+        }
+        return this.translated;
+    }
+
+    @Override
+    public Optional<DataView> parent() {
+        return Optional.empty();
+    }
+
+    @Override
+    public DataContainer container() {
+        return this;
+    }
+
+    @Override
+    public DataContainer set(final DataQuery path, final Object value) {
+        return (DataContainer) super.set(path, value);
+    }
+
+    @Override
+    public DataContainer remove(final DataQuery path) {
+        return (DataContainer) super.remove(path);
+    }
+}
@@ -25,7 +25,6 @@
 package org.spongepowered.common.data.persistence;
 
 import org.spongepowered.api.data.persistence.DataContainer;
-import org.spongepowered.api.data.persistence.DataFormat;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataFormatException;
 
@@ -34,43 +33,32 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.NbtIo;
 
-public final class NBTDataFormat implements DataFormat {
+public final class NBTDataFormat implements StreamingDataFormat {
 
     @Override
-    @SuppressWarnings("resource")
     public DataContainer readFrom(InputStream input) throws InvalidDataFormatException, IOException {
-        DataInputStream dis;
-        if (input instanceof DataInputStream) {
-            dis = (DataInputStream) input;
-        } else {
-            dis = new DataInputStream(input);
-        }
-        try {
-            CompoundTag tag = NbtIo.read(dis);
-            return NBTTranslator.INSTANCE.translateFrom(tag);
-        } finally {
-            dis.close();
+        // Read straight into the container, without an intermediate CompoundTag
+        try (DataStreamReader reader = this.createReader(input)) {
+            return DataStreams.read(reader);
         }
     }
 
     @Override
-    @SuppressWarnings("resource")
     public void writeTo(OutputStream output, DataView data) throws IOException {
-        CompoundTag tag = NBTTranslator.INSTANCE.translate(data);
-        DataOutputStream dos;
-        if (output instanceof DataOutputStream) {
-            dos = (DataOutputStream) output;
-        } else {
-            dos = new DataOutputStream(output);
-        }
-        try {
-            NbtIo.write(tag, dos);
-        } finally {
-            dos.close();
+        try (DataStreamWriter writer = this.createWriter(output)) {
+            DataStreams.write(data, writer);
         }
     }
 
+    @Override
+    public DataStreamReader createReader(InputStream input) {
+        return new NBTDataStreamReader(input instanceof DataInputStream ? (DataInputStream) input : new DataInputStream(input));
+    }
+
+    @Override
+    public DataStreamWriter createWriter(OutputStream output) {
+        return new NBTDataStreamWriter(output instanceof DataOutputStream ? (DataOutputStream) output : new DataOutputStream(output));
+    }
+
 }
@@ -0,0 +1,267 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.util.Constants;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Reads uncompressed NBT tag by tag, as written by
+ * {@link net.minecraft.nbt.NbtIo#write}, producing the same data as
+ * {@link NBTTranslator#translateFrom} would for the read compound.
+ */
+final class NBTDataStreamReader implements DataStreamReader {
+
+    // Same limit as vanilla applies when reading compounds
+    private static final int MAX_DEPTH = 512;
+
+    private final DataInputStream input;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private boolean started;
+    private @Nullable Event event;
+
+    // The type of the tag following the last key
+    private byte pendingType = -1;
+    private boolean pendingBoolean;
+
+    private @Nullable String key;
+    private @Nullable Object value;
+
+    private DataStreams.@Nullable ArrayType arrayType;
+    private int arrayLength;
+    private int arrayRemaining;
+    private @Nullable Object chunk;
+    private int chunkLength;
+
+    NBTDataStreamReader(final DataInputStream input) {
+        this.input = input;
+    }
+
+    @Override
+    public Event next() throws IOException {
+        return this.event = this.advance();
+    }
+
+    private Event advance() throws IOException {
+        if (this.arrayType != null) {
+            if (this.arrayRemaining == 0) {
+                this.arrayType = null;
+                this.chunk = null;
+                return Event.END_ARRAY;
+            }
+            this.readChunk(this.arrayType);
+            return Event.ARRAY_CHUNK;
+        }
+        if (this.pendingType != -1) {
+            final byte type = this.pendingType;
+            this.pendingType = -1;
+            return this.beginValue(type, this.pendingBoolean);
+        }
+        if (!this.started) {
+            this.started = true;
+            final byte type = this.input.readByte();
+            if (type != Constants.NBT.TAG_COMPOUND) {
+                throw new InvalidDataException("Expected a compound as root but got tag type " + type);
+            }
+            this.input.readUTF();
+            return this.beginValue(type, false);
+        }
+        final @Nullable Frame frame = this.frames.peek();
+        if (frame == null) {
+            return Event.END;
+        }
+        if (frame.list) {
+            if (frame.remaining == 0) {
+                this.frames.pop();
+                return Event.END_LIST;
+            }
+            frame.remaining--;
+            return this.beginValue(frame.elementType, false);
+        }
+        final byte type = this.input.readByte();
+        if (type == Constants.NBT.TAG_END) {
+            this.frames.pop();
+            return Event.END_VIEW;
+        }
+        final String name = this.input.readUTF();
+        this.pendingType = type;
+        this.pendingBoolean = type == Constants.NBT.TAG_BYTE && name.contains(NBTTranslator.BOOLEAN_IDENTIFIER);
+        this.key = this.pendingBoolean ? name.replace(NBTTranslator.BOOLEAN_IDENTIFIER, "") : name;
+        return Event.KEY;
+    }
+
+    private Event beginValue(final byte type, final boolean flag) throws IOException {
+        switch (type) {
+            case Constants.NBT.TAG_BYTE:
+                final byte value = this.input.readByte();
+                this.value = flag ? (Object) (value != 0) : (Object) value;
+                return Event.VALUE;
+            case Constants.NBT.TAG_SHORT:
+                this.value = this.input.readShort();
+                return Event.VALUE;
+            case Constants.NBT.TAG_INT:
+                this.value = this.input.readInt();
+                return Event.VALUE;
+            case Constants.NBT.TAG_LONG:
+                this.value = this.input.readLong();
+                return Event.VALUE;
+            case Constants.NBT.TAG_FLOAT:
+                this.value = this.input.readFloat();
+                return Event.VALUE;
+            case Constants.NBT.TAG_DOUBLE:
+                this.value = this.input.readDouble();
+                return Event.VALUE;
+            case Constants.NBT.TAG_STRING:
+                this.value = this.input.readUTF();
+                return Event.VALUE;
+            case Constants.NBT.TAG_BYTE_ARRAY:
+                return this.beginArray(DataStreams.ArrayType.BYTE);
+            case Constants.NBT.TAG_INT_ARRAY:
+                return this.beginArray(DataStreams.ArrayType.INT);
+            case Constants.NBT.TAG_LONG_ARRAY:
+                return this.beginArray(DataStreams.ArrayType.LONG);
+            case Constants.NBT.TAG_LIST:
+                final byte elementType = this.input.readByte();
+                final int size = this.input.readInt();
+                if (size < 0) {
+                    throw new InvalidDataException("Negative list size " + size);
+                }
+                this.push(new Frame(true, elementType, size));
+                return Event.BEGIN_LIST;
+            case Constants.NBT.TAG_COMPOUND:
+                this.push(new Frame(false, Constants.NBT.TAG_END, 0));
+                return Event.BEGIN_VIEW;
+            default:
+                throw new InvalidDataException("Unknown NBT type " + type);
+        }
+    }
+
+    private void push(final Frame frame) {
+        if (this.frames.size() >= NBTDataStreamReader.MAX_DEPTH) {
+            throw new InvalidDataException("Tried to read NBT tag with too high complexity, depth > " + NBTDataStreamReader.MAX_DEPTH);
+        }
+        this.frames.push(frame);
+    }
+
+    private Event beginArray(final DataStreams.ArrayType type) throws IOException {
+        final int length = this.input.readInt();
+        if (length < 0) {
+            throw new InvalidDataException("Negative array length " + length);
+        }
+        this.arrayType = type;
+        this.arrayLength = length;
+        this.arrayRemaining = length;
+        return Event.BEGIN_ARRAY;
+    }
+
+    private void readChunk(final DataStreams.ArrayType type) throws IOException {
+        final int length = Math.min(this.arrayRemaining, DataStreams.CHUNK_SIZE);
+        if (this.chunk == null) {
+            this.chunk = type.newArray(Math.min(this.arrayLength, DataStreams.CHUNK_SIZE));
+        }
+        switch (type) {
+            case BYTE:
+                this.input.readFully((byte[]) this.chunk, 0, length);
+                break;
+            case INT:
+                final int[] ints = (int[]) this.chunk;
+                for (int i = 0; i < length; i++) {
+                    ints[i] = this.input.readInt();
+                }
+                break;
+            default:
+                final long[] longs = (long[]) this.chunk;
+                for (int i = 0; i < length; i++) {
+                    longs[i] = this.input.readLong();
+                }
+                break;
+        }
+        this.arrayRemaining -= length;
+        this.chunkLength = length;
+    }
+
+    @Override
+    public String key() {
+        checkState(this.event == Event.KEY && this.key != null, "Not at a key");
+        return this.key;
+    }
+
+    @Override
+    public Object value() {
+        checkState(this.event == Event.VALUE && this.value != null, "Not at a value");
+        return this.value;
+    }
+
+    @Override
+    public DataStreams.ArrayType arrayType() {
+        checkState(this.arrayType != null, "Not within an array");
+        return this.arrayType;
+    }
+
+    @Override
+    public int arrayLength() {
+        checkState(this.arrayType != null, "Not within an array");
+        return this.arrayLength;
+    }
+
+    @Override
+    public Object chunk() {
+        checkState(this.event == Event.ARRAY_CHUNK && this.chunk != null, "Not at an array chunk");
+        return this.chunk;
+    }
+
+    @Override
+    public int chunkLength() {
+        checkState(this.event == Event.ARRAY_CHUNK, "Not at an array chunk");
+        return this.chunkLength;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.input.close();
+    }
+
+    private static final class Frame {
+
+        final boolean list;
+        final byte elementType;
+        int remaining;
+
+        Frame(final boolean list, final byte elementType, final int remaining) {
+            this.list = list;
+            this.elementType = elementType;
+            this.remaining = remaining;
+        }
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.util.Constants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Writes uncompressed NBT the same way {@link net.minecraft.nbt.NbtIo#write}
+ * would write the translated compound.
+ *
+ * <p>Views are written directly to the output. NBT lists need their element
+ * type and size before the elements, so those are buffered in their encoded
+ * form until the list is ended.</p>
+ */
+final class NBTDataStreamWriter implements DataStreamWriter {
+
+    private final DataOutputStream output;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private @Nullable String pendingKey;
+    private boolean finished;
+
+    private DataStreams.@Nullable ArrayType arrayType;
+    private @Nullable DataOutputStream arrayOutput;
+    private int arrayLength;
+    private int arraySize;
+    // Only used when the array length wasn't known upfront
+    private @Nullable Object arrayBuffer;
+
+    NBTDataStreamWriter(final DataOutputStream output) {
+        this.output = output;
+    }
+
+    private DataOutputStream beginValue(final byte type, final boolean flag) throws IOException {
+        checkState(this.arrayType == null, "An array is being written");
+        final @Nullable Frame frame = this.frames.peek();
+        if (frame == null) {
+            checkState(!this.finished, "The root view was already written");
+            checkArgument(type == Constants.NBT.TAG_COMPOUND, "The root has to be a view");
+            // The root compound has an empty name, like NbtIo writes it
+            this.output.writeByte(type);
+            this.output.writeUTF("");
+            return this.output;
+        }
+        if (frame.buffer != null) {
+            if (frame.size == 0) {
+                frame.elementType = type;
+            } else if (frame.elementType != type) {
+                throw new IllegalArgumentException("NBT lists can't mix tag type " + type + " with " + frame.elementType);
+            }
+            frame.size++;
+            return frame.output;
+        }
+        final @Nullable String key = this.pendingKey;
+        checkState(key != null, "A key is required before each value of a view");
+        frame.output.writeByte(type);
+        frame.output.writeUTF(flag ? key + NBTTranslator.BOOLEAN_IDENTIFIER : key);
+        this.pendingKey = null;
+        return frame.output;
+    }
+
+    @Override
+    public void beginView() throws IOException {
+        this.frames.push(new Frame(this.beginValue(Constants.NBT.TAG_COMPOUND, false), null));
+    }
+
+    @Override
+    public void key(final String key) {
+        final @Nullable Frame frame = this.frames.peek();
+        checkState(frame != null && frame.buffer == null && this.pendingKey == null && this.arrayType == null, "Keys are only allowed within views");
+        this.pendingKey = key;
+    }
+
+    @Override
+    public void value(final @Nullable Object value) throws IOException {
+        if (value instanceof Boolean) {
+            // Booleans are stored as bytes, within views the key is marked so they can be read as booleans
+            this.beginValue(Constants.NBT.TAG_BYTE, true).writeByte((Boolean) value ? 1 : 0);
+        } else if (value instanceof Byte) {
+            this.beginValue(Constants.NBT.TAG_BYTE, false).writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            this.beginValue(Constants.NBT.TAG_SHORT, false).writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            this.beginValue(Constants.NBT.TAG_INT, false).writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            this.beginValue(Constants.NBT.TAG_LONG, false).writeLong((Long) value);
+        } else if (value instanceof Float) {
+            this.beginValue(Constants.NBT.TAG_FLOAT, false).writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            this.beginValue(Constants.NBT.TAG_DOUBLE, false).writeDouble((Double) value);
+        } else if (value instanceof String) {
+            this.beginValue(Constants.NBT.TAG_STRING, false).writeUTF((String) value);
+        } else {
+            throw new IllegalArgumentException("Unable to translate object to NBT: " + value);
+        }
+    }
+
+    @Override
+    public void beginList() throws IOException {
+        final DataOutputStream parent = this.beginValue(Constants.NBT.TAG_LIST, false);
+        this.frames.push(new Frame(parent, new ByteArrayOutputStream()));
+    }
+
+    @Override
+    public void endList() throws IOException {
+        final @Nullable Frame frame = this.frames.peek();
+        checkState(frame != null && frame.buffer != null && this.arrayType == null, "No list is being written");
+        this.frames.pop();
+        frame.parent.writeByte(frame.elementType);
+        frame.parent.writeInt(frame.size);
+        frame.buffer.writeTo(frame.parent);
+    }
+
+    @Override
+    public void beginArray(final DataStreams.ArrayType type, final int length) throws IOException {
+        final DataOutputStream output = this.beginValue(NBTDataStreamWriter.tagType(type), false);
+        if (length >= 0) {
+            output.writeInt(length);
+        } else {
+            this.arrayBuffer = type.newArray(16);
+        }
+        this.arrayType = type;
+        this.arrayOutput = output;
+        this.arrayLength = length;
+        this.arraySize = 0;
+    }
+
+    @Override
+    public void arrayChunk(final Object chunk, final int offset, final int length) throws IOException {
+        final DataStreams.@Nullable ArrayType type = this.arrayType;
+        checkState(type != null && this.arrayOutput != null, "No array is being written");
+        checkArgument(DataStreams.ArrayType.of(chunk) == type, "Expected a chunk of type %s", type);
+        if (this.arrayBuffer != null) {
+            final int capacity = Array.getLength(this.arrayBuffer);
+            if (this.arraySize + length > capacity) {
+                final Object grown = type.newArray(Math.max(this.arraySize + length, capacity * 2));
+                System.arraycopy(this.arrayBuffer, 0, grown, 0, this.arraySize);
+                this.arrayBuffer = grown;
+            }
+            System.arraycopy(chunk, offset, this.arrayBuffer, this.arraySize, length);
+        } else {
+            checkArgument(this.arraySize + length <= this.arrayLength, "The array only has %s elements", this.arrayLength);
+            NBTDataStreamWriter.writeElements(this.arrayOutput, chunk, offset, length);
+        }
+        this.arraySize += length;
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        checkState(this.arrayType != null && this.arrayOutput != null, "No array is being written");
+        if (this.arrayBuffer != null) {
+            this.arrayOutput.writeInt(this.arraySize);
+            NBTDataStreamWriter.writeElements(this.arrayOutput, this.arrayBuffer, 0, this.arraySize);
+            this.arrayBuffer = null;
+        } else {
+            checkState(this.arraySize == this.arrayLength, "Expected %s array elements but got %s", this.arrayLength, this.arraySize);
+        }
+        this.arrayType = null;
+        this.arrayOutput = null;
+    }
+
+    @Override
+    public void endView() throws IOException {
+        final @Nullable Frame frame = this.frames.peek();
+        checkState(frame != null && frame.buffer == null && this.pendingKey == null && this.arrayType == null, "No view is being written");
+        this.frames.pop();
+        frame.output.writeByte(Constants.NBT.TAG_END);
+        if (this.frames.isEmpty()) {
+            this.finished = true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.output.close();
+    }
+
+    private static byte tagType(final DataStreams.ArrayType type) {
+        switch (type) {
+            case BYTE:
+                return Constants.NBT.TAG_BYTE_ARRAY;
+            case INT:
+                return Constants.NBT.TAG_INT_ARRAY;
+            default:
+                return Constants.NBT.TAG_LONG_ARRAY;
+        }
+    }
+
+    private static void writeElements(final DataOutputStream output, final Object array, final int offset, final int length) throws IOException {
+        if (array instanceof byte[]) {
+            output.write((byte[]) array, offset, length);
+        } else if (array instanceof int[]) {
+            final int[] ints = (int[]) array;
+            for (int i = offset; i < offset + length; i++) {
+                output.writeInt(ints[i]);
+            }
+        } else {
+            final long[] longs = (long[]) array;
+            for (int i = offset; i < offset + length; i++) {
+                output.writeLong(longs[i]);
+            }
+        }
+    }
+
+    private static final class Frame {
+
+        final DataOutputStream parent;
+        // The encoded elements of a list, null for views
+        final @Nullable ByteArrayOutputStream buffer;
+        final DataOutputStream output;
+        byte elementType = Constants.NBT.TAG_END;
+        int size;
+
+        Frame(final DataOutputStream parent, final @Nullable ByteArrayOutputStream buffer) {
+            this.parent = parent;
+            this.buffer = buffer;
+            this.output = buffer == null ? parent : new DataOutputStream(buffer);
+        }
+    }
+
+}
@@ -0,0 +1,626 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import net.minecraft.nbt.ByteTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataSerializable;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.value.Value;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.registry.RegistryType;
+import org.spongepowered.api.util.Coerce;
+import org.spongepowered.common.data.MemoryDataView;
+import org.spongepowered.common.util.Constants;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link DataView} over a {@link CompoundTag} that translates values only
+ * when they are read. The tag itself is never modified: the first write
+ * translates the whole tag into a {@link DataContainer} which then backs every
+ * view of the container. Primitive arrays are copied when they are read, so
+ * they can't be used to modify the tag either.
+ *
+ * <p>The wrapped tag must not be modified by its owner while this view is in
+ * use.</p>
+ */
+public class NBTDataView implements DataView {
+
+    final CompoundTag tag;
+    private final NBTDataContainer root;
+    private final DataView parent;
+    private final DataQuery path;
+
+    NBTDataView(final CompoundTag tag) {
+        this.tag = Objects.requireNonNull(tag, "tag");
+        this.root = (NBTDataContainer) this;
+        this.parent = this;
+        this.path = DataQuery.of();
+    }
+
+    private NBTDataView(final NBTDataView parent, final String key, final CompoundTag tag) {
+        this.tag = tag;
+        this.root = parent.root;
+        this.parent = parent;
+        this.path = parent.path.then(key);
+    }
+
+    /**
+     * Gets whether this view is still read straight from its tag.
+     *
+     * @return True if the container was not written to yet
+     */
+    final boolean isUntranslated() {
+        return this.root.translated == null;
+    }
+
+    /**
+     * Gets the translated view backing this view, translating the container
+     * if that did not happen yet.
+     *
+     * @return The translated view
+     */
+    final DataView translated() {
+        final DataContainer translated = this.root.translate();
+        if (this.path.parts().isEmpty()) {
+            return translated;
+        }
+        return translated.getView(this.path).orElseGet(() -> translated.createView(this.path));
+    }
+
+    /**
+     * Gets the contents of this view as a new compound.
+     *
+     * @return The compound
+     */
+    CompoundTag toCompound() {
+        if (this.isUntranslated()) {
+            return this.tag.copy();
+        }
+        return NBTTranslator.INSTANCE.translate(this.translated());
+    }
+
+    private @Nullable Object value(final String key) {
+        final @Nullable Tag value = this.tag.get(key);
+        if (value != null) {
+            return this.fromTag(key, value);
+        }
+        final @Nullable Tag flag = this.tag.get(key + NBTTranslator.BOOLEAN_IDENTIFIER);
+        if (flag instanceof ByteTag) {
+            return ((ByteTag) flag).getAsByte() != 0;
+        }
+        return null;
+    }
+
+    private Object fromTag(final String key, final Tag value) {
+        if (value instanceof CompoundTag) {
+            return new NBTDataView(this, key, (CompoundTag) value);
+        }
+        if (value instanceof ListTag) {
+            final ListTag list = (ListTag) value;
+            final List<Object> objects = new ArrayList<>(list.size());
+            for (final Tag element : list) {
+                // Compounds in lists are copied as separate containers, same as when translating
+                objects.add(element instanceof CompoundTag ? new NBTDataContainer((CompoundTag) element)
+                        : NBTTranslator.fromTagBase(element, list.getElementType()));
+            }
+            return objects;
+        }
+        return NBTTranslator.fromTagBase(value, value.getId());
+    }
+
+    private static String keyName(final String key, final Tag value) {
+        if (value.getId() == Constants.NBT.TAG_BYTE && key.contains(NBTTranslator.BOOLEAN_IDENTIFIER)) {
+            return key.replace(NBTTranslator.BOOLEAN_IDENTIFIER, "");
+        }
+        return key;
+    }
+
+    @Override
+    public DataContainer container() {
+        return this.root;
+    }
+
+    @Override
+    public DataQuery currentPath() {
+        return this.path;
+    }
+
+    @Override
+    public String name() {
+        final List<String> parts = this.path.parts();
+        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
+    }
+
+    @Override
+    public Optional<DataView> parent() {
+        return Optional.of(this.parent);
+    }
+
+    @Override
+    public Set<DataQuery> keys(final boolean deep) {
+        if (!this.isUntranslated()) {
+            return this.translated().keys(deep);
+        }
+        final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        for (final String key : this.tag.getAllKeys()) {
+            final Tag value = this.tag.get(key);
+            final DataQuery query = DataQuery.of(NBTDataView.keyName(key, value));
+            builder.add(query);
+            if (deep && value instanceof CompoundTag) {
+                for (final DataQuery subQuery : new NBTDataView(this, key, (CompoundTag) value).keys(true)) {
+                    builder.add(query.then(subQuery));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Map<DataQuery, Object> values(final boolean deep) {
+        if (!this.isUntranslated()) {
+            return this.translated().values(deep);
+        }
+        final ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
+        for (final DataQuery query : this.keys(deep)) {
+            final Object value = this.get(query).get();
+            if (value instanceof DataView) {
+                builder.put(query, ((DataView) value).values(deep));
+            } else {
+                builder.put(query, value);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean contains(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+        if (!this.isUntranslated()) {
+            return this.translated().contains(path);
+        }
+        final List<String> parts = path.parts();
+        final String key = parts.get(0);
+        if (parts.size() == 1) {
+            return this.tag.contains(key) || this.tag.contains(key + NBTTranslator.BOOLEAN_IDENTIFIER, Constants.NBT.TAG_BYTE);
+        }
+        final @Nullable Tag value = this.tag.get(key);
+        return value instanceof CompoundTag && new NBTDataView(this, key, (CompoundTag) value).contains(path.popFirst());
+    }
+
+    @Override
+    public boolean contains(final DataQuery path, final DataQuery... paths) {
+        Objects.requireNonNull(path, "DataQuery cannot be null!");
+        Objects.requireNonNull(paths, "DataQuery varargs cannot be null!");
+        if (!this.contains(path)) {
+            return false;
+        }
+        for (final DataQuery query : paths) {
+            if (!this.contains(Objects.requireNonNull(query, "No null queries!"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<Object> get(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+        if (!this.isUntranslated()) {
+            return this.translated().get(path);
+        }
+        final List<String> parts = path.parts();
+        if (parts.isEmpty()) {
+            return Optional.of(this);
+        }
+        final String key = parts.get(0);
+        if (parts.size() == 1) {
+            return Optional.ofNullable(this.value(key));
+        }
+        final @Nullable Tag value = this.tag.get(key);
+        if (!(value instanceof CompoundTag)) {
+            return Optional.empty();
+        }
+        return new NBTDataView(this, key, (CompoundTag) value).get(path.popFirst());
+    }
+
+    @Override
+    public DataView set(final DataQuery path, final Object value) {
+        this.translated().set(path, value);
+        return this;
+    }
+
+    @Override
+    public DataView remove(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+        // Only translate if there actually is something to remove
+        if (this.contains(path)) {
+            this.translated().remove(path);
+        }
+        return this;
+    }
+
+    @Override
+    public DataView createView(final DataQuery path) {
+        return this.translated().createView(path);
+    }
+
+    @Override
+    public DataView createView(final DataQuery path, final Map<?, ?> map) {
+        return this.translated().createView(path, map);
+    }
+
+    @Override
+    public Optional<DataView> getView(final DataQuery path) {
+        return this.get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
+    }
+
+    @Override
+    public Optional<? extends Map<?, ?>> getMap(final DataQuery path) {
+        if (!this.isUntranslated()) {
+            return this.translated().getMap(path);
+        }
+        // Compounds are the only mappings nbt holds
+        return this.getView(path).map(view -> (Map<?, ?>) NBTDataView.ensureMappingOf(view));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Object ensureMappingOf(final Object object) {
+        if (object instanceof DataView) {
+            final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+            for (final Map.Entry<DataQuery, Object> entry : ((DataView) object).values(false).entrySet()) {
+                builder.put(entry.getKey().asString('.'), NBTDataView.ensureMappingOf(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Map) {
+            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                builder.put(entry.getKey().toString(), NBTDataView.ensureMappingOf(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Collection) {
+            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            for (final Object entry : (Collection) object) {
+                builder.add(NBTDataView.ensureMappingOf(entry));
+            }
+            return builder.build();
+        }
+        return object;
+    }
+
+    @Override
+    public Optional<Boolean> getBoolean(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asBoolean);
+    }
+
+    @Override
+    public Optional<Byte> getByte(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asByte);
+    }
+
+    @Override
+    public Optional<Short> getShort(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asShort);
+    }
+
+    @Override
+    public Optional<Integer> getInt(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asInteger);
+    }
+
+    @Override
+    public Optional<Long> getLong(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asLong);
+    }
+
+    @Override
+    public Optional<Float> getFloat(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asFloat);
+    }
+
+    @Override
+    public Optional<Double> getDouble(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asDouble);
+    }
+
+    @Override
+    public Optional<String> getString(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asString);
+    }
+
+    @Override
+    public Optional<List<?>> getList(final DataQuery path) {
+        final Optional<Object> val = this.get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof List<?>) {
+                return Optional.<List<?>>of(Lists.newArrayList((List<?>) val.get()));
+            }
+            if (val.get() instanceof Object[]) {
+                return Optional.<List<?>>of(Lists.newArrayList((Object[]) val.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<List<String>> getStringList(final DataQuery path) {
+        return this.getList(path).map(list -> list.stream()
+                .map(Coerce::asString)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<List<Character>> getCharacterList(final DataQuery path) {
+        return this.getList(path).map(list -> list.stream()
+                .map(Coerce::asChar)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<List<Boolean>> getBooleanList(final DataQuery path) {
+        return this.getList(path).map(list -> list.stream()
+                .map(Coerce::asBoolean)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<List<Byte>> getByteList(final DataQuery path) {
+        final Optional<Object> val = this.get(path);
+        if (val.isPresent() && val.get() instanceof byte[]) {
+            return Optional.of(Collections.unmodifiableList(Bytes.asList((byte[]) val.get())));
+        }
+        return this.getList(path).map(list -> list.stream()
+                .map(Coerce::asByte)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<List<Short>> getShortList(final DataQuery path) {
+        return this.getList(path).map(list -> list.stream()
+                .map(Coerce::asShort)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<List<Integer>> getIntegerList(final DataQuery path) {
+        final Optional<Object> val = this.get(path);
+        if (val.isPresent() && val.get() instanceof int[]) {
+            return Optional.of(Collections.unmodifiableList(Ints.asList((int[]) val.get())));
+        }
+        return this.getList(path).map(list -> list.stream()
+                .map(Coerce::asInteger)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<List<Long>> getLongList(final DataQuery path) {
+        final Optional<Object> val = this.get(path);
+        if (val.isPresent() && val.get() instanceof long[]) {
+            return Optional.of(Collections.unmodifiableList(Longs.asList((long[]) val.get())));
+        }
+        return this.getList(path).map(list -> list.stream()
+                .map(Coerce::asLong)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<List<Float>> getFloatList(final DataQuery path) {
+        return this.getList(path).map(list -> list.stream()
+                .map(Coerce::asFloat)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<List<Double>> getDoubleList(final DataQuery path) {
+        return this.getList(path).map(list -> list.stream()
+                .map(Coerce::asDouble)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<List<Map<?, ?>>> getMapList(final DataQuery path) {
+        return this.getList(path).<List<Map<?, ?>>>map(list -> list.stream()
+                .filter(obj -> obj instanceof Map<?, ?>)
+                .map(obj -> (Map<?, ?>) obj)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<List<DataView>> getViewList(final DataQuery path) {
+        return this.getList(path).map(list -> list.stream()
+                .filter(obj -> obj instanceof DataView)
+                .map(obj -> (DataView) obj)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public <T extends DataSerializable> Optional<T> getSerializable(final DataQuery path, final Class<T> clazz) {
+        Objects.requireNonNull(clazz, "clazz");
+        return this.getView(path).flatMap(view -> Sponge.dataManager().builder(clazz).flatMap(builder -> builder.build(view)));
+    }
+
+    @Override
+    public <T extends DataSerializable> Optional<List<T>> getSerializableList(final DataQuery path, final Class<T> clazz) {
+        Objects.requireNonNull(clazz, "clazz");
+        return this.getViewList(path).flatMap(list -> Sponge.dataManager().builder(clazz).map(builder -> list.stream()
+                .map(builder::build)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())));
+    }
+
+    @Override
+    public <T> Optional<T> getRegistryValue(final DataQuery path, final RegistryType<T> registryType, final RegistryHolder holder) {
+        Objects.requireNonNull(registryType, "registry type");
+        return this.getString(path).flatMap(string -> holder.findRegistry(registryType).flatMap(r -> r.findValue(ResourceKey.resolve(string))));
+    }
+
+    @Override
+    public <T> Optional<List<T>> getRegistryValueList(final DataQuery path, final RegistryType<T> registryType, final RegistryHolder holder) {
+        Objects.requireNonNull(registryType, "registry type");
+        return this.getStringList(path).map(list -> list.stream()
+                .<Optional<T>>map(string -> holder.findRegistry(registryType).flatMap(r -> r.findValue(ResourceKey.resolve(string))))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public <E, V extends Value<E>> Optional<Key<V>> getDataKey(final DataQuery path) {
+        return this.translated().getDataKey(path);
+    }
+
+    @Override
+    public Optional<List<Key<? extends Value<?>>>> getDataKeyList(final DataQuery path) {
+        return this.translated().getDataKeyList(path);
+    }
+
+    @Override
+    public <T> Optional<T> getObject(final DataQuery path, final Class<T> objectClass) {
+        return this.getView(path).flatMap(view -> Sponge.dataManager().translator(objectClass)
+                .map(serializer -> serializer.translate(view)));
+    }
+
+    @Override
+    public <T> Optional<List<T>> getObjectList(final DataQuery path, final Class<T> objectClass) {
+        return this.getViewList(path).flatMap(list -> Sponge.dataManager().translator(objectClass)
+                .map(serializer -> list.stream()
+                        .map(serializer::translate)
+                        .collect(Collectors.toList())));
+    }
+
+    @Override
+    public DataContainer copy() {
+        if (this.isUntranslated()) {
+            // Both views only ever read the tag, so it can be shared
+            return new NBTDataContainer(this.tag);
+        }
+        return this.translated().copy();
+    }
+
+    @Override
+    public DataContainer copy(final DataView.SafetyMode safety) {
+        if (this.isUntranslated()) {
+            return new NBTDataContainer(this.tag, safety);
+        }
+        return this.translated().copy(safety);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!this.isUntranslated()) {
+            return this.translated().isEmpty();
+        }
+        return this.tag.isEmpty();
+    }
+
+    @Override
+    public DataView.SafetyMode safetyMode() {
+        return this.root.safety;
+    }
+
+    @Override
+    public int hashCode() {
+        if (!this.isUntranslated()) {
+            return this.translated().hashCode();
+        }
+        // Same hash as the translated view would have, without translating
+        return MemoryDataView.hashContents(this);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DataView)) {
+            return false;
+        }
+        if (obj instanceof NBTDataView) {
+            final NBTDataView other = (NBTDataView) obj;
+            if (this.isUntranslated() && other.isUntranslated()) {
+                return this.tag.equals(other.tag) && this.path.equals(other.path);
+            }
+            return this.translated().equals(other.translated());
+        }
+        return this.translated().equals(obj);
+    }
+
+    @Override
+    public String toString() {
+        final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
+        if (!this.path.toString().isEmpty()) {
+            helper.add("path", this.path);
+        }
+        helper.add("safety", this.root.safety.name());
+        if (this.isUntranslated()) {
+            return helper.add("tag", this.tag).toString();
+        }
+        return helper.add("data", this.translated()).toString();
+    }
+}
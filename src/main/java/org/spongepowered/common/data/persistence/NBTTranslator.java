@@ -36,6 +36,7 @@
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.MemoryDataContainer;
 import org.spongepowered.common.util.Constants;
 
 import java.util.List;
@@ -170,7 +171,7 @@ private static Tag getBaseFromObject(final Object value) {
 
     private static DataContainer getViewFromCompound(CompoundTag compound) {
         checkNotNull(compound);
-        DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        DataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
         NBTTranslator.INSTANCE.addTo(compound, container);
         return container;
     }
@@ -206,7 +207,7 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
                 view.set(of(key), ((DoubleTag) base).getAsDouble());
                 break;
             case Constants.NBT.TAG_BYTE_ARRAY:
-                view.set(of(key), ((ByteArrayTag) base).getAsByteArray());
+                view.set(of(key), ((ByteArrayTag) base).getAsByteArray().clone());
                 break;
             case Constants.NBT.TAG_STRING:
                 view.set(of(key), base.getAsString());
@@ -235,10 +236,10 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
                 }
                 break;
             case Constants.NBT.TAG_INT_ARRAY:
-                view.set(of(key), ((IntArrayTag) base).getAsIntArray());
+                view.set(of(key), ((IntArrayTag) base).getAsIntArray().clone());
                 break;
             case Constants.NBT.TAG_LONG_ARRAY:
-                view.set(of(key), ((LongArrayTag) base).getAsLongArray());
+                view.set(of(key), ((LongArrayTag) base).getAsLongArray().clone());
                 break;
             default:
                 throw new IllegalArgumentException("Unknown NBT type " + type);
@@ -246,7 +247,7 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Object fromTagBase(Tag base, byte type) {
+    static Object fromTagBase(Tag base, byte type) {
         switch (type) {
             case Constants.NBT.TAG_BYTE:
                 return ((ByteTag) base).getAsByte();
@@ -261,7 +262,7 @@ private static Object fromTagBase(Tag base, byte type) {
             case Constants.NBT.TAG_DOUBLE:
                 return ((DoubleTag) base).getAsDouble();
             case Constants.NBT.TAG_BYTE_ARRAY:
-                return ((ByteArrayTag) base).getAsByteArray();
+                return ((ByteArrayTag) base).getAsByteArray().clone();
             case Constants.NBT.TAG_STRING:
                 return base.getAsString();
             case Constants.NBT.TAG_LIST:
@@ -276,9 +277,9 @@ private static Object fromTagBase(Tag base, byte type) {
             case Constants.NBT.TAG_COMPOUND:
                 return NBTTranslator.getViewFromCompound((CompoundTag) base);
             case Constants.NBT.TAG_INT_ARRAY:
-                return ((IntArrayTag) base).getAsIntArray();
+                return ((IntArrayTag) base).getAsIntArray().clone();
             case Constants.NBT.TAG_LONG_ARRAY:
-                return ((LongArrayTag) base).getAsLongArray();
+                return ((LongArrayTag) base).getAsLongArray().clone();
             default :
                 return null;
         }
@@ -297,8 +298,24 @@ public TypeToken<CompoundTag> token() {
         return NBTTranslator.TOKEN;
     }
 
+    /**
+     * Wraps the given compound in a {@link DataContainer} that reads its values
+     * on demand instead of translating the whole compound up front. The
+     * compound is never modified through the container and must not be
+     * modified by its owner while the container is in use.
+     *
+     * @param compound The compound to wrap
+     * @return The wrapping container
+     */
+    public DataContainer wrap(final CompoundTag compound) {
+        return new NBTDataContainer(compound);
+    }
+
     @Override
     public CompoundTag translate(DataView view) throws InvalidDataException {
+        if (view instanceof NBTDataView) {
+            return ((NBTDataView) view).toCompound();
+        }
         return NBTTranslator.containerToCompound(view);
     }
 
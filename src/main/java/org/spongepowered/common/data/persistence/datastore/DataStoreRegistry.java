@@ -65,6 +65,10 @@ public void register(final DataStore dataStore, Iterable<Key<?>> keys) {
         this.dataStoreByTokenCache.clear();
     }
 
+    public boolean isNoOpDataStore(final DataStore dataStore) {
+        return dataStore == this.NO_OP_DATASTORE;
+    }
+
     public Collection<DataStore> getDataStores(Key<?> dataKey) {
         return this.dataStoreByValueKey.get(dataKey);
     }
@@ -26,6 +26,7 @@
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
@@ -41,10 +42,10 @@
 import org.spongepowered.common.data.provider.map.MapInfoDataProviders;
 import org.spongepowered.common.data.provider.nbt.NBTDataProviders;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -52,37 +53,36 @@
 
 public final class DataProviderRegistry {
 
-    private static class LookupKey {
-
-        final Class<?> holderType;
+    /**
+     * The resolved providers of a single data holder type, indexed by
+     * {@link SpongeKey#getIndex()}. Entries are filled in as keys are looked up.
+     */
+    private static final class ProviderTable {
 
-        final Key<?> key;
-        private LookupKey(final Class<?> holderType, final Key<?> key) {
-            this.holderType = holderType;
-            this.key = key;
-        }
+        volatile DataProvider<?, ?>[] providers = new DataProvider<?, ?>[SpongeKey.getIndexCount()];
 
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || this.getClass() != o.getClass()) {
-                return false;
+        synchronized void store(final int index, final DataProvider<?, ?> provider) {
+            DataProvider<?, ?>[] providers = this.providers;
+            if (index >= providers.length) {
+                providers = Arrays.copyOf(providers, Math.max(index + 1, SpongeKey.getIndexCount()));
             }
-            final LookupKey lookupKey = (LookupKey) o;
-            return this.holderType.equals(lookupKey.holderType) &&
-                    this.key.equals(lookupKey.key);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(this.holderType, this.key);
+            providers[index] = provider;
+            this.providers = providers;
         }
+    }
 
+    private static ClassValue<ProviderTable> createProviderTables() {
+        return new ClassValue<ProviderTable>() {
+            @Override
+            protected ProviderTable computeValue(final Class<?> type) {
+                return new ProviderTable();
+            }
+        };
     }
+
     private final Multimap<Key<?>, DataProvider<?,?>> dataProviders = HashMultimap.create();
-    private final Map<LookupKey, DataProvider<?,?>> dataProviderCache = new ConcurrentHashMap<>();
+    // Replaced as a whole whenever a provider is registered
+    private volatile ClassValue<ProviderTable> providerTables = DataProviderRegistry.createProviderTables();
     private final Map<Class<?>, DataProviderLookup> dataProviderLookupCache = new ConcurrentHashMap<>();
 
     private static boolean filterHolderType(final DataProvider<?,?> provider, final Class<?> holderType) {
@@ -95,8 +95,8 @@ private static boolean filterHolderType(final DataProvider<?,?> provider, final
     }
 
     @SuppressWarnings("unchecked")
-    private DataProvider<?,?> loadProvider(final LookupKey key) {
-        return this.buildDelegate((Key<Value<Object>>) key.key, provider -> DataProviderRegistry.filterHolderType(provider, key.holderType));
+    private DataProvider<?,?> loadProvider(final Key<?> key, final Class<?> holderType) {
+        return this.buildDelegate((Key<Value<Object>>) key, provider -> DataProviderRegistry.filterHolderType(provider, holderType));
     }
 
     @SuppressWarnings(value = {"unchecked", "rawtypes"})
@@ -191,7 +191,18 @@ public Collection<DataProvider<?,?>> getAllProviders(final Class<?> dataHolderTy
      */
     @SuppressWarnings({"unchecked"})
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key, final Class<?> dataHolderType) {
-        return (DataProvider<V, E>) this.dataProviderCache.computeIfAbsent(new LookupKey(dataHolderType, key), this::loadProvider);
+        final int index = ((SpongeKey<V, E>) key).getIndex();
+        final ProviderTable table = this.providerTables.get(dataHolderType);
+        final DataProvider<?, ?>[] providers = table.providers;
+        if (index < providers.length) {
+            final @Nullable DataProvider<?, ?> provider = providers[index];
+            if (provider != null) {
+                return (DataProvider<V, E>) provider;
+            }
+        }
+        final DataProvider<?, ?> provider = this.loadProvider(key, dataHolderType);
+        table.store(index, provider);
+        return (DataProvider<V, E>) provider;
     }
 
     /**
@@ -201,7 +212,7 @@ public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key,
      */
     public void register(final DataProvider<?,?> provider) {
         this.dataProviders.put(provider.key(), provider);
-        this.dataProviderCache.clear();
+        this.providerTables = DataProviderRegistry.createProviderTables();
         this.dataProviderLookupCache.clear();
     }
 
@@ -38,6 +38,7 @@
 import org.spongepowered.common.hooks.PlatformHooks;
 import org.spongepowered.math.vector.Vector3d;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Random;
 import java.util.function.Function;
@@ -149,18 +150,36 @@ public static boolean isEntityDead(final net.minecraft.world.entity.Entity entit
     }
 
     public static boolean processEntitySpawnsFromEvent(final SpawnEntityEvent event, final Supplier<Optional<User>> entityCreatorSupplier) {
+        return EntityUtil.processEntitySpawns(event.entities(), entityCreatorSupplier);
+    }
+
+    public static boolean processEntitySpawnsFromEvent(final PhaseContext<?> context, final SpawnEntityEvent destruct) {
+        return EntityUtil.processEntitySpawnsFromEvent(destruct, EntityUtil.ENTITY_CREATOR_FUNCTION.apply(context));
+    }
+
+    /**
+     * Spawns the entities directly, used when no listener could receive the
+     * spawn event which would otherwise have been thrown for them.
+     *
+     * @param entities The entities to spawn
+     * @param context The phase context
+     * @return Whether any entity was spawned
+     */
+    public static boolean processEntitySpawns(final Collection<? extends org.spongepowered.api.entity.Entity> entities,
+        final PhaseContext<?> context) {
+        return EntityUtil.processEntitySpawns(entities, EntityUtil.ENTITY_CREATOR_FUNCTION.apply(context));
+    }
+
+    public static boolean processEntitySpawns(final Collection<? extends org.spongepowered.api.entity.Entity> entities,
+        final Supplier<Optional<User>> entityCreatorSupplier) {
         boolean spawnedAny = false;
-        for (final org.spongepowered.api.entity.Entity entity : event.entities()) {
+        for (final org.spongepowered.api.entity.Entity entity : entities) {
             // Here is where we need to handle the custom items potentially having custom entities
             spawnedAny = EntityUtil.processEntitySpawn(entity, entityCreatorSupplier);
         }
         return spawnedAny;
     }
 
-    public static boolean processEntitySpawnsFromEvent(final PhaseContext<?> context, final SpawnEntityEvent destruct) {
-        return EntityUtil.processEntitySpawnsFromEvent(destruct, EntityUtil.ENTITY_CREATOR_FUNCTION.apply(context));
-    }
-
     @SuppressWarnings("ConstantConditions")
     public static boolean processEntitySpawn(final org.spongepowered.api.entity.Entity entity, final Supplier<Optional<User>> supplier) {
         final Entity minecraftEntity = (Entity) entity;
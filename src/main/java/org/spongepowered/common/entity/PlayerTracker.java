@@ -38,26 +38,4 @@ public enum Type {
             this.compoundKey = compoundKey;
         }
     }
-
-    public int creatorindex;
-    public int notifierIndex;
-
-    public PlayerTracker() {
-        this.creatorindex = -1;
-        this.notifierIndex = -1;
-    }
-
-    public PlayerTracker(int index, Type type) {
-        if (type == Type.CREATOR) {
-            this.creatorindex = index;
-            this.notifierIndex = -1;
-        } else {
-            this.notifierIndex = index;
-            this.creatorindex = -1;
-        }
-    }
-
-    public void setNotifier(int notifierIndex) {
-        this.notifierIndex = notifierIndex;
-    }
 }
@@ -121,7 +121,7 @@ public Optional<Vector3d> getPosition() {
 
     @Override
     public DataContainer entityData() {
-        return NBTTranslator.INSTANCE.translateFrom(this.data);
+        return NBTTranslator.INSTANCE.wrap(this.data.copy());
     }
 
     @Override
@@ -226,7 +226,7 @@ protected ValidationType getValidationType() {
     public EntityArchetype copy() {
         final SpongeEntityArchetypeBuilder builder = new SpongeEntityArchetypeBuilder();
         builder.entityType = this.type;
-        builder.entityData = NBTTranslator.INSTANCE.translate(this.data);
+        builder.entityData = NBTTranslator.INSTANCE.wrap(this.data.copy());
         return builder.build();
     }
 
@@ -247,7 +247,7 @@ public EntityArchetype createArchetype() {
         final EntityArchetype.Builder builder = new SpongeEntityArchetypeBuilder();
         builder.type(this.entityType);
         if (this.compound != null) {
-            builder.entityData(NBTTranslator.INSTANCE.translate(this.compound));
+            builder.entityData(NBTTranslator.INSTANCE.wrap(this.compound.copy()));
         }
         return builder.build();
     }
@@ -257,7 +257,7 @@ public EntityArchetype createArchetype() {
         if (this.compound == null) {
             return DataContainer.createNew();
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.wrap(this.compound.copy());
     }
 
     @Override
@@ -24,105 +24,164 @@
  */
 package org.spongepowered.common.event;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.spongepowered.api.event.Event;
+
+/**
+ * Flags for whether any listener could receive an event, updated by the event manager.
+ *
+ * <p>Format is event class name with underscores, for example {@code SpawnEntityEvent.Custom} becomes
+ * {@code SPAWN_ENTITY_EVENT_CUSTOM} and {@code DropItemEvent} becomes {@code DROP_ITEM_EVENT}.</p>
+ *
+ * <p>Each boolean includes all super-events. For example, if no listeners are registered for
+ * {@code SpawnEntityEvent}, but one is registered for {@code SpawnEntityEvent.Custom}, both
+ * {@code SPAWN_ENTITY_EVENT} and {@code SPAWN_ENTITY_EVENT_CUSTOM} will be true.</p>
+ *
+ * <p>You must always check a flag that either corresponds directly to the event you're firing,
+ * or to a supertype of the event. For example, when firing {@code DropItemEvent.Dispense}, you
+ * can check {@code DROP_ITEM_EVENT_DISPENSE} or {@code SPAWN_ENTITY_EVENT}, but not
+ * {@code SPAWN_ENTITY_EVENT_CUSTOM}.</p>
+ *
+ * <p>This class is generated by the {@code generateShouldFire} task of the generator project,
+ * do not edit it manually.</p>
+ */
 public final class ShouldFire {
+    public static boolean ANIMATE_HAND_EVENT = false;
 
-    // Format is event class name with underscores
-    // For example: SpawnEntityEvent.Spawner becomes SPAWN_ENTITY_EVENT_SPAWNER
-    // DropItemEvent becomes DROP_ITEM_EVENT
-
-    // Each boolean includes all super-events
-    // For example, if no listeners are registed for SpawnEntityEvent,
-    // but one is registered for SpawnEntityEvent.SPAWNER, both
-    // SPAWN_ENTITY_EVENT and SPAWN_ENTITY_EVENT_SPAWNER will be true
-    // However, SPAWN_ENTITY_EVENT_CHUNK_LOAD will be false
-    //
-    // Guidelines for users of ShouldFire:
-    // You must always check a flag that either corresponds directly
-    // to the event you're firing, or to a supertype of the event.
-    // For example, when firing DropItemEvent.Dispense, you can check
-    // ShouldFire.DROP_ITEM_EVENT_DISPENSE or ShouldFire.SPAWN_ENTITY_EVENT
-    // However, you may *not* check ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM,
-    // since SpawnEntityEvent.CUSTOM is not in the hierarchy of DropItemEvent.DISPENSE
+    public static boolean BREEDING_EVENT_BREED = false;
 
-    public static boolean ANIMATE_HAND_EVENT = false;
-    public static boolean INTERACT_ITEM_EVENT_PRIMARY = false;
+    public static boolean BREEDING_EVENT_FIND_MATE = false;
 
-    public static boolean SPAWN_ENTITY_EVENT = false;
-//    public static boolean SPAWN_ENTITY_EVENT_CHUNK_LOAD = false;
-    public static boolean SPAWN_ENTITY_EVENT_CUSTOM = false;
+    public static boolean BREEDING_EVENT_READY_TO_MATE = false;
 
     public static boolean CHANGE_BLOCK_EVENT = false;
+
     public static boolean CHANGE_BLOCK_EVENT_ALL = false;
-    public static boolean CHANGE_BLOCK_EVENT_PRE = false;
+
     public static boolean CHANGE_BLOCK_EVENT_POST = false;
 
+    public static boolean CHANGE_BLOCK_EVENT_PRE = false;
+
+    public static boolean CHANGE_DATA_HOLDER_EVENT_VALUE_CHANGE = false;
+
+    public static boolean CHANGE_INVENTORY_EVENT_PICKUP = false;
+
+    public static boolean CHANGE_INVENTORY_EVENT_PICKUP_PRE = false;
+
+    public static boolean CHUNK_EVENT_GENERATED = false;
+
+    public static boolean CHUNK_EVENT_LOAD = false;
+
+    public static boolean CHUNK_EVENT_SAVE_POST = false;
+
+    public static boolean CHUNK_EVENT_SAVE_PRE = false;
+
+    public static boolean CHUNK_EVENT_UNLOAD = false;
+
     public static boolean CLICK_CONTAINER_EVENT = false;
+
     public static boolean CLICK_CONTAINER_EVENT_DOUBLE = false;
 
+    public static boolean CLICK_CONTAINER_EVENT_DROP_OUTSIDE_CREATIVE = false;
+
+    public static boolean COLLIDE_BLOCK_EVENT_FALL = false;
+
+    public static boolean COLLIDE_BLOCK_EVENT_INSIDE = false;
+
+    public static boolean COLLIDE_BLOCK_EVENT_MOVE = false;
+
+    public static boolean COLLIDE_BLOCK_EVENT_STEP_ON = false;
+
+    public static boolean COLLIDE_ENTITY_EVENT = false;
+
     public static boolean CONSTRUCT_ENTITY_EVENT_PRE = false;
 
+    public static boolean DEFUSE_EXPLOSIVE_EVENT_POST = false;
+
+    public static boolean DEFUSE_EXPLOSIVE_EVENT_PRE = false;
+
     public static boolean DESTRUCT_ENTITY_EVENT = false;
 
     public static boolean DROP_ITEM_EVENT = false;
+
+    public static boolean DROP_ITEM_EVENT_CLOSE = false;
+
+    public static boolean DROP_ITEM_EVENT_CUSTOM = false;
+
     public static boolean DROP_ITEM_EVENT_DESTRUCT = false;
+
     public static boolean DROP_ITEM_EVENT_DISPENSE = false;
 
+    public static boolean ENCHANT_ITEM_EVENT_CALCULATE_ENCHANTMENT = false;
+
+    public static boolean ENCHANT_ITEM_EVENT_CALCULATE_LEVEL_REQUIREMENT = false;
+
+    public static boolean EXPLOSION_EVENT_DETONATE = false;
+
+    public static boolean EXPLOSION_EVENT_PRE = false;
+
     public static boolean GOAL_EVENT_ADD = false;
+
     public static boolean GOAL_EVENT_REMOVE = false;
 
+    public static boolean IGNITE_ENTITY_EVENT = false;
+
+    public static boolean INTERACT_ITEM_EVENT_PRIMARY = false;
+
+    public static boolean KICK_PLAYER_EVENT = false;
+
     public static boolean MOVE_ENTITY_EVENT = false;
 
+    public static boolean NOTIFY_NEIGHBOR_BLOCK_EVENT = false;
+
     public static boolean PLAYER_CHANGE_CLIENT_SETTINGS_EVENT = false;
 
-    public static boolean RIDE_ENTITY_EVENT = false;
-    public static boolean RIDE_ENTITY_EVENT_MOUNT = false;
-    public static boolean RIDE_ENTITY_EVENT_DISMOUNT = false;
+    public static boolean PLAY_SOUND_EVENT_AT_ENTITY = false;
 
-    public static boolean ROTATE_ENTITY_EVENT = false;
+    public static boolean PLAY_SOUND_EVENT_BROADCAST = false;
+
+    public static boolean PLAY_SOUND_EVENT_NOTE_BLOCK = false;
+
+    public static boolean PLAY_SOUND_EVENT_RECORD = false;
 
-    public static boolean PRIME_EXPLOSIVE_EVENT_PRE = false;
     public static boolean PRIME_EXPLOSIVE_EVENT_POST = false;
 
-    public static boolean DEFUSE_EXPLOSIVE_EVENT_PRE = false;
-    public static boolean DEFUSE_EXPLOSIVE_EVENT_POST = false;
+    public static boolean PRIME_EXPLOSIVE_EVENT_PRE = false;
 
-    public static boolean SET_A_I_TARGET_EVENT = false;
+    public static boolean RIDE_ENTITY_EVENT = false;
 
-    public static boolean TRANSFER_INVENTORY_EVENT_PRE = false;
-    public static boolean TRANSFER_INVENTORY_EVENT_POST = false;
+    public static boolean RIDE_ENTITY_EVENT_DISMOUNT = false;
 
-    public static boolean UPDATE_ANVIL_EVENT = false;
+    public static boolean RIDE_ENTITY_EVENT_MOUNT = false;
 
-    public static boolean TICK_BLOCK_EVENT = false;
+    public static boolean ROTATE_ENTITY_EVENT = false;
 
-    public static boolean IGNITE_ENTITY_EVENT = false;
-    public static boolean NOTIFY_NEIGHBOR_BLOCK_EVENT = false;
-    public static boolean EXPLOSION_EVENT_PRE = false;
-    public static boolean EXPLOSION_EVENT_DETONATE = false;
-    public static boolean COLLIDE_ENTITY_EVENT = false;
+    public static boolean SET_A_I_TARGET_EVENT = false;
 
-    public static boolean COLLIDE_BLOCK_EVENT_MOVE = false;
-    public static boolean COLLIDE_BLOCK_EVENT_FALL = false;
-    public static boolean COLLIDE_BLOCK_EVENT_STEP_ON = false;
-    public static boolean COLLIDE_BLOCK_EVENT_INSIDE = false;
+    public static boolean SPAWN_ENTITY_EVENT = false;
 
-    public static boolean BREEDING_EVENT_READY_TO_MATE = false;
-    public static boolean BREEDING_EVENT_FIND_MATE = false;
-    public static boolean BREEDING_EVENT_BREED = false;
+    public static boolean SPAWN_ENTITY_EVENT_CUSTOM = false;
 
-    public static boolean PLAY_SOUND_EVENT_AT_ENTITY = false;
-    public static boolean PLAY_SOUND_EVENT_RECORD = false;
-    public static boolean PLAY_SOUND_EVENT_BROADCAST = false;
-    public static boolean PLAY_SOUND_EVENT_NOTE_BLOCK = false;
+    public static boolean TICK_BLOCK_EVENT = false;
 
-    public static boolean KICK_PLAYER_EVENT = false;
+    public static boolean TRANSFER_INVENTORY_EVENT_POST = false;
 
-    public static boolean CHUNK_EVENT_LOAD = false;
-    public static boolean CHUNK_EVENT_SAVE_PRE = false;
-    public static boolean CHUNK_EVENT_SAVE_POST = false;
-    public static boolean CHUNK_EVENT_GENERATED = false;
-    public static boolean CHUNK_EVENT_UNLOAD = false;
+    public static boolean TRANSFER_INVENTORY_EVENT_PRE = false;
 
-    public static boolean CHANGE_DATA_HOLDER_EVENT_VALUE_CHANGE = false;
+    public static boolean UPDATE_ANVIL_EVENT = false;
 
+    private ShouldFire() {
+    }
+
+    /**
+     * The event a flag was generated for.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    public @interface Flag {
+        Class<? extends Event> value();
+    }
 }
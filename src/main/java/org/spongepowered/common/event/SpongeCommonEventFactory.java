@@ -169,7 +169,12 @@ public final class SpongeCommonEventFactory {
     public static int lastPrimaryPacketTick = 0;
     @Nullable public static WeakReference<net.minecraft.server.level.ServerPlayer> lastAnimationPlayer;
 
+    @SuppressWarnings("unchecked")
     public static void callDropItemDispense(final List<ItemEntity> items, final PhaseContext<?> context) {
+        if (!ShouldFire.DROP_ITEM_EVENT_DISPENSE) {
+            EntityUtil.processEntitySpawns((List<Entity>) (List<?>) items, context);
+            return;
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.addContext(EventContextKeys.SPAWN_TYPE, SpawnTypes.DISPENSE);
             final ArrayList<Entity> entities = new ArrayList<>();
@@ -185,8 +190,13 @@ public static void callDropItemDispense(final List<ItemEntity> items, final Phas
         }
     }
 
+    @SuppressWarnings("unchecked")
     public static void callDropItemDrop(final net.minecraft.server.level.ServerPlayer player, final List<ItemEntity> items,
             final PhaseContext<?> context) {
+        if (!ShouldFire.CLICK_CONTAINER_EVENT_DROP_OUTSIDE_CREATIVE) {
+            EntityUtil.processEntitySpawns((List<Entity>) (List<?>) items, context);
+            return;
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.addContext(EventContextKeys.SPAWN_TYPE, SpawnTypes.DROPPED_ITEM);
             final ArrayList<Entity> entities = new ArrayList<>();
@@ -207,6 +217,10 @@ public static void callDropItemDrop(final net.minecraft.server.level.ServerPlaye
     }
 
     public static void callDropItemCustom(final List<Entity> items, final PhaseContext<?> context) {
+        if (!ShouldFire.DROP_ITEM_EVENT_CUSTOM) {
+            EntityUtil.processEntitySpawns(items, context);
+            return;
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.addContext(EventContextKeys.SPAWN_TYPE, SpawnTypes.DROPPED_ITEM);
             final DropItemEvent.Custom event =
@@ -219,6 +233,10 @@ public static void callDropItemCustom(final List<Entity> items, final PhaseConte
     }
 
     public static void callDropItemCustom(final List<Entity> items, final PhaseContext<?> context, final Supplier<Optional<User>> supplier) {
+        if (!ShouldFire.DROP_ITEM_EVENT_CUSTOM) {
+            EntityUtil.processEntitySpawns(items, supplier);
+            return;
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.currentContext().require(EventContextKeys.SPAWN_TYPE);
             final DropItemEvent.Custom event = SpongeEventFactory.createDropItemEventCustom(frame.currentCause(), items);
@@ -230,6 +248,10 @@ public static void callDropItemCustom(final List<Entity> items, final PhaseConte
     }
 
     public static void callDropItemClose(final List<Entity> items, final PhaseContext<?> context, final Supplier<Optional<User>> supplier) {
+        if (!ShouldFire.DROP_ITEM_EVENT_CLOSE) {
+            EntityUtil.processEntitySpawns(items, supplier);
+            return;
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.currentContext().require(EventContextKeys.SPAWN_TYPE);
             final DropItemEvent.Close event = SpongeEventFactory.createDropItemEventClose(frame.currentCause(), items);
@@ -241,6 +263,9 @@ public static void callDropItemClose(final List<Entity> items, final PhaseContex
     }
 
     public static boolean callSpawnEntitySpawner(final List<Entity> entities, final PhaseContext<?> context) {
+        if (!ShouldFire.SPAWN_ENTITY_EVENT) {
+            return !entities.isEmpty() && EntityUtil.processEntitySpawns(entities, context);
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.addContext(EventContextKeys.SPAWN_TYPE, SpawnTypes.WORLD_SPAWNER);
 
@@ -254,6 +279,10 @@ public static boolean callSpawnEntitySpawner(final List<Entity> entities, final
     }
 
     public static void callDropItemDestruct(final List<Entity> entities, final PhaseContext<?> context) {
+        if (!ShouldFire.DROP_ITEM_EVENT_DESTRUCT) {
+            EntityUtil.processEntitySpawns(entities, context);
+            return;
+        }
         final DropItemEvent.Destruct destruct = SpongeEventFactory.createDropItemEventDestruct(PhaseTracker.getCauseStackManager().currentCause(), entities);
         SpongeCommon.post(destruct);
         if (!destruct.isCancelled()) {
@@ -262,6 +291,9 @@ public static void callDropItemDestruct(final List<Entity> entities, final Phase
     }
 
     public static boolean callSpawnEntity(final List<Entity> entities, final PhaseContext<?> context) {
+        if (!ShouldFire.SPAWN_ENTITY_EVENT) {
+            return EntityUtil.processEntitySpawns(entities, context);
+        }
         PhaseTracker.getCauseStackManager().currentContext().require(EventContextKeys.SPAWN_TYPE);
         try {
             final SpawnEntityEvent event = SpongeEventFactory.createSpawnEntityEvent(PhaseTracker.getCauseStackManager().currentCause(), entities);
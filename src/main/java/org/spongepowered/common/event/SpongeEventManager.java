@@ -28,7 +28,37 @@
 import org.spongepowered.api.event.EventManager;
 import org.spongepowered.plugin.PluginContainer;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public interface SpongeEventManager extends EventManager {
 
     boolean postToPlugin(Event event, PluginContainer plugin);
+
+    /**
+     * Posts the event without blocking the calling thread.
+     *
+     * <p>Listeners marked {@link AsyncSafe} are called on a bounded pool of
+     * event workers, each with its own cause stack. All other listeners are
+     * called on the main thread. Listener order is kept across both.</p>
+     *
+     * @param event The event
+     * @return A future completed with whether the event was cancelled, once
+     *     all listeners have been called
+     */
+    CompletableFuture<Boolean> postAsync(Event event);
+
+    /**
+     * Posts the event without blocking the calling thread, like
+     * {@link #postAsync(Event)}, but calls the listeners which are not
+     * {@link AsyncSafe} through the given executor instead of the main
+     * thread. Used for events which are fired off the main thread, such as
+     * the auth event.
+     *
+     * @param event The event
+     * @param executor The executor calling the listeners which are not async-safe
+     * @return A future completed with whether the event was cancelled, once
+     *     all listeners have been called
+     */
+    CompletableFuture<Boolean> postAsync(Event event, Executor executor);
 }
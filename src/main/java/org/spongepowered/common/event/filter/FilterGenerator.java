@@ -56,25 +56,20 @@
 import org.spongepowered.api.event.filter.cause.Root;
 import org.spongepowered.api.event.filter.data.Has;
 import org.spongepowered.api.event.filter.data.Supports;
-import org.spongepowered.api.event.filter.type.Exclude;
-import org.spongepowered.api.event.filter.type.Include;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.util.Tuple;
 import org.spongepowered.common.event.filter.delegate.AfterCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.AllCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.BeforeCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.CancellationEventFilterDelegate;
-import org.spongepowered.common.event.filter.delegate.ExcludeSubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.FilterDelegate;
 import org.spongepowered.common.event.filter.delegate.FirstCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.GetterFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.HasDataFilterDelegate;
-import org.spongepowered.common.event.filter.delegate.IncludeSubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.LastCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.ParameterFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.ParameterFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.RootCauseFilterSourceDelegate;
-import org.spongepowered.common.event.filter.delegate.SubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.SupportsDataFilterDelegate;
 import org.spongepowered.common.util.generator.GeneratorUtils;
 
@@ -106,7 +101,7 @@ public byte[] generateClass(String name, Method method) {
 
         cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, "java/lang/Object", new String[] { Type.getInternalName(EventFilter.class) });
 
-        SubtypeFilterDelegate sfilter = null;
+        // @Include and @Exclude are applied when baking the listeners of an event class, see SubtypeFilter
         List<FilterDelegate> additional = Lists.newArrayList();
         boolean cancellation = false;
         for (Annotation anno : method.getAnnotations()) {
@@ -114,12 +109,7 @@ public byte[] generateClass(String name, Method method) {
             if (obj == null) {
                 continue;
             }
-            if (obj instanceof SubtypeFilter) {
-                if (sfilter != null) {
-                    throw new IllegalStateException("Cannot have both @Include and @Exclude annotations present at once");
-                }
-                sfilter = ((SubtypeFilter) obj).getDelegate(anno);
-            } else if (obj instanceof EventTypeFilter) {
+            if (obj instanceof EventTypeFilter) {
                 EventTypeFilter etf = (EventTypeFilter) obj;
                 additional.add(etf.getDelegate(anno));
                 if (etf == EventTypeFilter.CANCELLATION) {
@@ -131,17 +121,11 @@ public byte[] generateClass(String name, Method method) {
             additional.add(new CancellationEventFilterDelegate(Tristate.FALSE));
         }
 
-        if (sfilter != null) {
-            sfilter.createFields(cw);
-        }
         {
             mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
             mv.visitCode();
             mv.visitVarInsn(ALOAD, 0);
             mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
-            if (sfilter != null) {
-                sfilter.writeCtor(name, cw, mv);
-            }
             mv.visitInsn(RETURN);
             mv.visitMaxs(0, 0);
             mv.visitEnd();
@@ -151,9 +135,6 @@ public byte[] generateClass(String name, Method method) {
             mv.visitCode();
             // index of the next available local variable
             int local = 2;
-            if (sfilter != null) {
-                local = sfilter.write(name, cw, mv, method, local);
-            }
             for (FilterDelegate eventFilter : additional) {
                 local = eventFilter.write(name, cw, mv, method, local);
             }
@@ -241,8 +222,6 @@ public byte[] generateClass(String name, Method method) {
 
     private static Object filterFromAnnotation(Class<? extends Annotation> cls) {
         Object filter;
-        if ((filter = SubtypeFilter.valueOf(cls)) != null)
-            return filter;
         if ((filter = EventTypeFilter.valueOf(cls)) != null)
             return filter;
         if ((filter = ParameterSource.valueOf(cls)) != null)
@@ -252,36 +231,6 @@ private static Object filterFromAnnotation(Class<? extends Annotation> cls) {
         return null;
     }
 
-    private static enum SubtypeFilter {
-        INCLUDE(Include.class),
-        EXCLUDE(Exclude.class),
-        ;
-
-        private final Class<? extends Annotation> cls;
-
-        private SubtypeFilter(Class<? extends Annotation> cls) {
-            this.cls = cls;
-        }
-
-        public SubtypeFilterDelegate getDelegate(Annotation anno) {
-            if (this == SubtypeFilter.INCLUDE) {
-                return new IncludeSubtypeFilterDelegate((Include) anno);
-            } else if (this == SubtypeFilter.EXCLUDE) {
-                return new ExcludeSubtypeFilterDelegate((Exclude) anno);
-            }
-            throw new UnsupportedOperationException();
-        }
-
-        public static SubtypeFilter valueOf(Class<? extends Annotation> cls) {
-            for (SubtypeFilter value : SubtypeFilter.values()) {
-                if (value.cls.equals(cls)) {
-                    return value;
-                }
-            }
-            return null;
-        }
-    }
-
     private static enum EventTypeFilter {
         CANCELLATION(IsCancelled.class),
         ;
@@ -0,0 +1,114 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.filter;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The {@link Include} or {@link Exclude} filter of a listener method.
+ *
+ * <p>Unlike the other filters these only depend on the class of the event,
+ * so they are applied while baking the listeners for an event class instead
+ * of being part of the generated {@link EventFilter}.</p>
+ */
+public final class SubtypeFilter {
+
+    private final Class<?>[] classes;
+    private final boolean include;
+
+    private SubtypeFilter(final Class<?>[] classes, final boolean include) {
+        this.classes = classes;
+        this.include = include;
+    }
+
+    /**
+     * Gets the subtype filter declared on the given listener method.
+     *
+     * @param method The listener method
+     * @return The subtype filter, or null if the method doesn't declare one
+     */
+    public static @Nullable SubtypeFilter of(final Method method) {
+        final Include include = method.getAnnotation(Include.class);
+        final Exclude exclude = method.getAnnotation(Exclude.class);
+        if (include != null && exclude != null) {
+            throw new IllegalStateException("Cannot have both @Include and @Exclude annotations present at once");
+        }
+        if (include != null) {
+            return new SubtypeFilter(include.value(), true);
+        }
+        if (exclude != null) {
+            return new SubtypeFilter(exclude.value(), false);
+        }
+        return null;
+    }
+
+    /**
+     * Gets whether an event of the given concrete class passes this filter.
+     *
+     * @param eventClass The concrete event class
+     * @return Whether the event passes
+     */
+    public boolean test(final Class<?> eventClass) {
+        for (final Class<?> cls : this.classes) {
+            if (cls.isAssignableFrom(eventClass)) {
+                return this.include;
+            }
+        }
+        return !this.include;
+    }
+
+    /**
+     * Gets whether an event of any of the given concrete classes passes
+     * this filter.
+     *
+     * <p>Events may implement types of other hierarchies, for example a
+     * {@code DropItemEvent.Dispense} is a {@code SpawnEntityEvent} as well,
+     * so a type can only be ruled out by testing all the concrete events
+     * implementing it.</p>
+     *
+     * @param eventClasses The concrete event classes
+     * @return Whether an event of one of the classes passes
+     */
+    public boolean mayMatch(final Collection<Class<?>> eventClasses) {
+        for (final Class<?> eventClass : eventClasses) {
+            if (this.test(eventClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return (this.include ? "Include" : "Exclude") + Arrays.toString(this.classes);
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Cause;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable entry of the cause stack. Pushing a cause links a new entry
+ * on top of the current one, so every state the stack has been in stays
+ * intact and the {@link Cause} built for it can be memoized on the entry
+ * and reused once the stack is popped back down to it.
+ */
+final class CauseStackEntry implements Iterable<Object> {
+
+    final Object value;
+    final @Nullable CauseStackEntry next;
+    final int size;
+    @Nullable Cause cause;
+
+    CauseStackEntry(final Object value, final @Nullable CauseStackEntry next) {
+        this.value = value;
+        this.next = next;
+        this.size = next == null ? 1 : next.size + 1;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+
+            private @Nullable CauseStackEntry current = CauseStackEntry.this;
+
+            @Override
+            public boolean hasNext() {
+                return this.current != null;
+            }
+
+            @Override
+            public Object next() {
+                final @Nullable CauseStackEntry entry = this.current;
+                if (entry == null) {
+                    throw new NoSuchElementException();
+                }
+                this.current = entry.next;
+                return entry.value;
+            }
+        };
+    }
+}
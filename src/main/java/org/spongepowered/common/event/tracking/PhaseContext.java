@@ -39,6 +39,7 @@
 import org.spongepowered.api.event.EventContextKeys;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.bridge.CreatorTrackedBridge;
 import org.spongepowered.common.bridge.server.level.ServerPlayerBridge;
 import org.spongepowered.common.bridge.world.inventory.container.TrackedInventoryBridge;
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
@@ -66,6 +67,12 @@
 @DefaultQualifier(NonNull.class)
 public class PhaseContext<P extends PhaseContext<P>> implements PhaseStateProxy<P>, AutoCloseable {
 
+    /**
+     * When enabled, pooled contexts remember where they were closed and refuse
+     * to be used again until they are handed out by their state once more.
+     */
+    private static final boolean DEBUG_CLOSED_CONTEXTS = Boolean.parseBoolean(System.getProperty("sponge.debugphasecontexts", "false"));
+
     @MonotonicNonNull private static Supplier<PhaseContext<@NonNull ?>> EMPTY = MemoizedSupplier.memoize(() -> new EmptyContext(new PhaseTracker()).markEmpty());
     protected final PhaseTracker createdTracker;
     @MonotonicNonNull private TransactionalCaptureSupplier transactor;
@@ -81,19 +88,26 @@
     protected boolean isCompleted = false;
     // Only used in hard debugging instances.
     private @Nullable StackTraceElement[] stackTrace;
+    // Only set with -Dsponge.debugphasecontexts=true, where this context was last closed
+    private @Nullable Exception closedTrace;
 
     // General
     @Nullable protected User creator;
     @Nullable protected User notifier;
+    // Resolved into the creator and notifier the first time either is asked for
+    private @Nullable CreatorTrackedBridge ownerSource;
     private boolean allowsBlockEvents = true; // Defaults to allow block events
     private boolean allowsEntityEvents = true;
     private boolean allowsBulkBlockCaptures = true; // Defaults to allow block captures
     private boolean allowsBulkEntityCaptures = true;
     @Nullable Deque<CauseStackManager.StackFrame> usedFrame;
+    // Set when the phase is entered while the PhaseStateProfiler is enabled
+    long profileStartNanos;
 
     private @Nullable Object source;
 
     public P source(final Object owner) {
+        this.checkNotClosed();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.source = owner;
         return (P) this;
@@ -105,7 +119,9 @@ public P creator(final Supplier<Optional<User>> supplier) {
     }
 
     public P creator(final User owner) {
+        this.checkNotClosed();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
+        this.resolveOwners();
         if (this.creator != null) {
             throw new IllegalStateException("Owner for this phase context is already set!");
         }
@@ -119,7 +135,9 @@ public P notifier(final Supplier<Optional<User>> supplier) {
     }
 
     public P notifier(final User notifier) {
+        this.checkNotClosed();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
+        this.resolveOwners();
         if (this.notifier != null) {
             throw new IllegalStateException("Notifier for this phase context is already set!");
         }
@@ -127,14 +145,58 @@ public P notifier(final User notifier) {
         return (P) this;
     }
 
+    /**
+     * Uses the creator and notifier tracked by the given object, without
+     * looking up either {@link User} until something asks for them. Most
+     * phases complete without capturing anything, so the lookup is skipped.
+     *
+     * @param tracked The tracked object providing the creator and notifier
+     * @return This context, for chaining
+     */
+    public P ownersFrom(final CreatorTrackedBridge tracked) {
+        this.checkNotClosed();
+        checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
+        this.ownerSource = checkNotNull(tracked, "Tracked object cannot be null!");
+        return (P) this;
+    }
+
+    private void resolveOwners() {
+        final @Nullable CreatorTrackedBridge tracked = this.ownerSource;
+        if (tracked == null) {
+            return;
+        }
+        this.ownerSource = null;
+        if (this.notifier == null) {
+            this.notifier = tracked.tracked$getNotifierReference().orElse(null);
+        }
+        if (this.creator == null) {
+            this.creator = tracked.tracked$getCreatorReference().orElse(null);
+        }
+    }
+
     private void checkBlockSuppliers() {
     }
 
+    private void checkNotClosed() {
+        if (PhaseContext.DEBUG_CLOSED_CONTEXTS && this.closedTrace != null) {
+            throw new IllegalStateException("Attempted to use a " + this.getClass().getSimpleName() + " for " + this.state
+                + " after it was closed, see the cause for where it was closed", this.closedTrace);
+        }
+    }
+
+    // Called by PooledPhaseState when handing this context out again
+    final void markReused() {
+        this.closedTrace = null;
+    }
+
     public P addBlockCaptures() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.checkBlockSuppliers();
 
-        this.transactor = new TransactionalCaptureSupplier();
+        // Pooled contexts keep their supplier, it was already reset when they were closed
+        if (this.transactor == null) {
+            this.transactor = new TransactionalCaptureSupplier();
+        }
         return (P) this;
     }
 
@@ -190,6 +252,7 @@ public boolean allowsBulkEntityCaptures() {
     }
 
     public P buildAndSwitch() {
+        this.checkNotClosed();
         this.isCompleted = true;
         if (SpongeConfigs.getCommon().get().phaseTracker.generateStackTracePerPhase) {
             this.stackTrace = new Exception("Debug Trace").getStackTrace();
@@ -208,6 +271,7 @@ public PrettyPrinter printCustom(final PrettyPrinter printer, final int indent)
             printer.add(s + "StackTrace On Entry")
                 .add(this.stackTrace);
         }
+        this.resolveOwners();
         if (this.creator != null) {
             printer.add(s + "- %s: %s", "Owner", this.creator);
         }
@@ -247,6 +311,7 @@ public <T> T requireSource(final Class<T> targetClass) {
     }
 
     public Optional<User> getCreator() {
+        this.resolveOwners();
         return Optional.ofNullable(this.creator);
     }
 
@@ -257,6 +322,7 @@ public Optional<User> getCreator() {
      * @return True if the consumer was called
      */
     public boolean applyOwnerIfAvailable(final Consumer<? super User> consumer) {
+        this.resolveOwners();
         if (this.creator != null) {
             consumer.accept(this.creator);
             return true;
@@ -265,6 +331,7 @@ public boolean applyOwnerIfAvailable(final Consumer<? super User> consumer) {
     }
 
     public Optional<User> getNotifier() {
+        this.resolveOwners();
         return Optional.ofNullable(this.notifier);
     }
 
@@ -275,6 +342,7 @@ public Optional<User> getNotifier() {
      * @return True if the consumer was called
      */
     public boolean applyNotifierIfAvailable(final Consumer<? super User> consumer) {
+        this.resolveOwners();
         if (this.notifier != null) {
             consumer.accept(this.notifier);
             return true;
@@ -316,7 +384,12 @@ public List<SpongeBlockSnapshot> getCapturedOriginalBlocksChanged() throws Illeg
         return Collections.emptyList();
     }
 
+    int capturedTransactionCount() {
+        return this.transactor == null ? 0 : this.transactor.loggedTransactionCount();
+    }
+
     public TransactionalCaptureSupplier getTransactor() {
+        this.checkNotClosed();
         if (this.transactor == null) {
             this.transactor = new TransactionalCaptureSupplier();
         }
@@ -337,6 +410,7 @@ public boolean hasCaptures() {
     }
 
     public void addCreatorAndNotifierToCauseStack(final CauseStackManager.StackFrame frame) {
+        this.resolveOwners();
         if (this.creator != null) {
             frame.addContext(EventContextKeys.CREATOR, this.creator);
         }
@@ -394,15 +468,12 @@ public void close() { // Should never throw an exception
                     this.state, this, new IllegalStateException("Closing empty phase context"));
             return;
         }
+        this.checkNotClosed();
         final PhaseTracker instance = PhaseTracker.getInstance();
         instance.completePhase(this);
-        if (!this.shouldProvideModifiers()) {
-            if (this.usedFrame != null) {
-                this.usedFrame.iterator().forEachRemaining(instance::popCauseFrame);
-            }
-            return;
-        }
-        if (this.usedFrame == null) {
+        // Contexts that did not provide modifiers still have to be reset and returned
+        // to their pool, otherwise every use of their state allocates a new context
+        if (this.usedFrame == null && this.shouldProvideModifiers()) {
             // So, this part is interesting... Since the used frame is null, that means
             // the cause stack manager still has the refernce of this context/phase, we have
             // to "pop off" the list.
@@ -415,6 +486,9 @@ public void close() { // Should never throw an exception
         }
         this.reset();
         this.isCompleted = false;
+        if (PhaseContext.DEBUG_CLOSED_CONTEXTS) {
+            this.closedTrace = new Exception("Phase context closed");
+        }
         if (this.state instanceof PooledPhaseState) {
             ((PooledPhaseState) this.state).releaseContextFromPool(this);
         }
@@ -425,6 +499,8 @@ protected void reset() {
         this.stackTrace = null;
         this.creator = null;
         this.notifier = null;
+        this.ownerSource = null;
+        this.profileStartNanos = 0;
         if (this.transactor != null) {
             this.transactor.reset();
         }
@@ -438,6 +514,7 @@ public void printTrace(final PrettyPrinter printer) {
     }
 
     public @Nullable User getActiveUser() {
+        this.resolveOwners();
         if (this.notifier != null) {
             return this.notifier;
         }
@@ -0,0 +1,235 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Optional counters for every {@link IPhaseState} entered on the server
+ * thread: how often it was entered, how long it stayed on the stack
+ * (including the phases entered from within), how many transactions it
+ * captured and how many events were posted while it was the current state.
+ *
+ * <p>Counters are aggregated into windows of
+ * {@code phase-tracker.profile-window-ticks} ticks, the last completed window
+ * is kept next to the totals since profiling was last enabled.</p>
+ */
+public final class PhaseStateProfiler {
+
+    private static final Map<IPhaseState<?>, Counters> COUNTERS = new Reference2ObjectOpenHashMap<>();
+    private static boolean enabled;
+    private static int windowTicks;
+    private static int elapsedTicks;
+    private static long windowStart;
+    private static long lastWindowNanos;
+
+    public static boolean isEnabled() {
+        return PhaseStateProfiler.enabled;
+    }
+
+    public static void setEnabled(final boolean enabled) {
+        if (enabled && !PhaseStateProfiler.enabled) {
+            PhaseStateProfiler.reset();
+        }
+        PhaseStateProfiler.enabled = enabled;
+    }
+
+    public static void reset() {
+        PhaseStateProfiler.COUNTERS.clear();
+        PhaseStateProfiler.elapsedTicks = 0;
+        PhaseStateProfiler.windowStart = System.nanoTime();
+        PhaseStateProfiler.lastWindowNanos = 0;
+    }
+
+    static void recordPhase(final IPhaseState<?> state, final long nanos, final int transactions) {
+        final Counters counters = PhaseStateProfiler.counters(state);
+        counters.current.entered++;
+        counters.current.nanos += nanos;
+        counters.current.transactions += transactions;
+    }
+
+    /**
+     * Counts an event posted on the server thread against the current phase
+     * state, events posted from other threads are ignored.
+     */
+    public static void recordEvent() {
+        if (!PhaseStateProfiler.enabled) {
+            return;
+        }
+        final PhaseTracker tracker = PhaseTracker.SERVER;
+        if (Thread.currentThread() != tracker.getSidedThread()) {
+            return;
+        }
+        PhaseStateProfiler.counters(tracker.getCurrentState()).current.events++;
+    }
+
+    public static void endTick() {
+        if (!PhaseStateProfiler.enabled) {
+            return;
+        }
+        if (PhaseStateProfiler.windowTicks == 0) {
+            PhaseStateProfiler.windowTicks = Math.max(1, SpongeConfigs.getCommon().get().phaseTracker.profileWindowTicks);
+        }
+        if (++PhaseStateProfiler.elapsedTicks < PhaseStateProfiler.windowTicks) {
+            return;
+        }
+        final long now = System.nanoTime();
+        PhaseStateProfiler.lastWindowNanos = now - PhaseStateProfiler.windowStart;
+        PhaseStateProfiler.windowStart = now;
+        PhaseStateProfiler.elapsedTicks = 0;
+        PhaseStateProfiler.windowTicks = 0;
+        for (final Counters counters : PhaseStateProfiler.COUNTERS.values()) {
+            counters.roll();
+        }
+    }
+
+    /**
+     * Gets the length of the last completed window.
+     *
+     * @return The window length in nanoseconds, {@code 0} if none completed yet
+     */
+    public static long lastWindowNanos() {
+        return PhaseStateProfiler.lastWindowNanos;
+    }
+
+    /**
+     * Gets a copy of the counters of every state seen so far, the states that
+     * spent the most time during the last window come first.
+     *
+     * @return The counters
+     */
+    public static List<Counters> snapshot() {
+        final List<Counters> snapshot = new ArrayList<>(PhaseStateProfiler.COUNTERS.size());
+        for (final Counters counters : PhaseStateProfiler.COUNTERS.values()) {
+            snapshot.add(counters.copy());
+        }
+        snapshot.sort(Comparator.comparingLong((Counters counters) -> counters.lastWindow.nanos)
+            .thenComparingLong(counters -> counters.total.nanos)
+            .reversed());
+        return snapshot;
+    }
+
+    private static Counters counters(final IPhaseState<?> state) {
+        return PhaseStateProfiler.COUNTERS.computeIfAbsent(state, Counters::new);
+    }
+
+    public static final class Counters {
+
+        public final IPhaseState<?> state;
+        final Window current;
+        final Window lastWindow;
+        final Window total;
+
+        Counters(final IPhaseState<?> state) {
+            this(state, new Window(), new Window(), new Window());
+        }
+
+        private Counters(final IPhaseState<?> state, final Window current, final Window lastWindow, final Window total) {
+            this.state = state;
+            this.current = current;
+            this.lastWindow = lastWindow;
+            this.total = total;
+        }
+
+        public Window lastWindow() {
+            return this.lastWindow;
+        }
+
+        /**
+         * Gets the counters since profiling was enabled, including the window
+         * that is still in progress.
+         *
+         * @return The totals
+         */
+        public Window total() {
+            final Window total = this.total.copy();
+            total.add(this.current);
+            return total;
+        }
+
+        void roll() {
+            this.total.add(this.current);
+            this.lastWindow.set(this.current);
+            this.current.set(new Window());
+        }
+
+        Counters copy() {
+            return new Counters(this.state, this.current.copy(), this.lastWindow.copy(), this.total.copy());
+        }
+    }
+
+    public static final class Window {
+
+        long entered;
+        long nanos;
+        long transactions;
+        long events;
+
+        public long entered() {
+            return this.entered;
+        }
+
+        public long nanos() {
+            return this.nanos;
+        }
+
+        public long transactions() {
+            return this.transactions;
+        }
+
+        public long events() {
+            return this.events;
+        }
+
+        void add(final Window other) {
+            this.entered += other.entered;
+            this.nanos += other.nanos;
+            this.transactions += other.transactions;
+            this.events += other.events;
+        }
+
+        void set(final Window other) {
+            this.entered = other.entered;
+            this.nanos = other.nanos;
+            this.transactions = other.transactions;
+            this.events = other.events;
+        }
+
+        Window copy() {
+            final Window copy = new Window();
+            copy.set(this);
+            return copy;
+        }
+    }
+
+    private PhaseStateProfiler() {
+    }
+}
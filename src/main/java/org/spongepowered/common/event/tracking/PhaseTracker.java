@@ -202,7 +202,7 @@ public static Block validateBlockForNeighborNotification(final ServerLevel world
         INITIAL_POOL_SIZE = Math.max(0, Math.min(PhaseTracker.MAX_POOL_SIZE, initialPoolSize));
     }
 
-    private final Deque<Object> cause = Queues.newArrayDeque();
+    private @Nullable CauseStackEntry cause;
     // Frames in use
     private final Deque<SpongeCauseStackFrame> frames = Queues.newArrayDeque();
     // Frames not currently in use
@@ -210,7 +210,7 @@ public static Block validateBlockForNeighborNotification(final ServerLevel world
     private final Map<EventContextKey<?>, Object> ctx = Maps.newHashMap();
     private int min_depth = 0;
     private int[] duplicateCauses = new int[100];
-    private @Nullable Cause cached_cause;
+    private @Nullable Cause cached_root_cause;
     private @Nullable EventContext cached_ctx;
     private final AtomicBoolean pendingProviders = new AtomicBoolean(false);
     private @Nullable WeakReference<Thread> sidedThread;
@@ -238,6 +238,7 @@ public void init() {
             return;
         }
         this.hasRun = true;
+        PhaseStateProfiler.setEnabled(SpongeConfigs.getCommon().get().phaseTracker.profilePhaseStates);
         Task.builder()
             .name("Sponge Async To Sync Entity Spawn Task")
             .interval(Ticks.single())
@@ -348,6 +349,9 @@ void switchToPhase(final IPhaseState<?> state, final PhaseContext<?> phaseContex
             this.registerPhaseContextProvider(phaseContext);
         }
         this.stack.push(state, phaseContext);
+        if (this == PhaseTracker.SERVER && PhaseStateProfiler.isEnabled()) {
+            phaseContext.profileStartNanos = System.nanoTime();
+        }
     }
 
     @SuppressWarnings({"rawtypes", "unused", "try"})
@@ -412,7 +416,13 @@ void completePhase(final PhaseContext<?> context) {
         // If pop is called, the Deque will already throw an exception if there is no element
         // so it's an error properly handled.
         this.stack.pop();
-
+        if (currentContext.profileStartNanos != 0) {
+            if (PhaseStateProfiler.isEnabled()) {
+                PhaseStateProfiler.recordPhase(state, System.nanoTime() - currentContext.profileStartNanos,
+                    currentContext.capturedTransactionCount());
+            }
+            currentContext.profileStartNanos = 0;
+        }
     }
 
     private void checkPhaseContextProcessed(final IPhaseState<?> state, final PhaseContext<?> context) {
@@ -487,14 +497,42 @@ public String toString() {
     @Override
     public Cause currentCause() {
         this.enforceMainThread();
-        if (this.cached_cause == null || this.cached_ctx == null) {
-            if (this.cause.isEmpty()) {
-                this.cached_cause = Cause.of(this.currentContext(), SpongeCommon.game());
-            } else {
-                this.cached_cause = Cause.of(this.currentContext(), this.cause);
+        final EventContext context = this.currentContext();
+        // Causes are memoized on the stack entries they were built for, so popping
+        // back to an earlier state of the stack reuses the cause built back then
+        final @Nullable CauseStackEntry entry = this.cause;
+        if (entry == null) {
+            if (this.cached_root_cause == null || this.cached_root_cause.context() != context) {
+                this.cached_root_cause = Cause.of(context, SpongeCommon.game());
+            }
+            return this.cached_root_cause;
+        }
+        if (entry.cause == null || entry.cause.context() != context) {
+            entry.cause = Cause.of(context, entry);
+        }
+        return entry.cause;
+    }
+
+    /**
+     * Gets the first object on the cause stack of the given type, in the same
+     * order {@link Cause#first(Class)} would, without building the
+     * {@link Cause}.
+     *
+     * @param target The type of object to look for
+     * @param <T> The type
+     * @return The first object of the type, if any
+     */
+    public <T> Optional<T> firstCause(final Class<T> target) {
+        this.enforceMainThread();
+        if (this.cause == null) {
+            return target.isInstance(SpongeCommon.game()) ? Optional.of(target.cast(SpongeCommon.game())) : Optional.empty();
+        }
+        for (@Nullable CauseStackEntry entry = this.cause; entry != null; entry = entry.next) {
+            if (target.isInstance(entry.value)) {
+                return Optional.of(target.cast(entry.value));
             }
         }
-        return this.cached_cause;
+        return Optional.empty();
     }
 
     @Override
@@ -510,15 +548,14 @@ public EventContext currentContext() {
     public CauseStackManager pushCause(final Object obj) {
         checkNotNull(obj, "obj");
         this.enforceMainThread();
-        this.cached_cause = null;
-        if (this.cause.peek() == obj) {
+        if (this.cause != null && this.cause.value == obj) {
             // We don't want to be pushing duplicate objects
             // to the root and secondary entry of the cause.
             // This avoids some odd corner cases of the phase tracking system pushing
             // objects without being able to definitively say if the object is already pushed
             // without generating cause frames forcibly.
             // BUT, we do want to at least mark the index of the duplicated object for later popping (if some consumer is doing manual push and pops)
-            final int dupedIndex = this.cause.size();
+            final int dupedIndex = this.cause.size;
             if (this.duplicateCauses.length <= dupedIndex) {
                 // Make sure that we have enough space. If not, increase by 50%
                 this.duplicateCauses = Arrays.copyOf(this.duplicateCauses, (int) (dupedIndex * 1.5));
@@ -528,28 +565,29 @@ public CauseStackManager pushCause(final Object obj) {
             this.duplicateCauses[dupedIndex] = this.duplicateCauses[dupedIndex] + 1;
             return this;
         }
-        this.cause.push(obj);
+        this.cause = new CauseStackEntry(obj, this.cause);
         return this;
     }
 
     @Override
     public Object popCause() {
         this.enforceMainThread();
-        final int size = this.cause.size();
+        final int size = this.causeSize();
         // First, check for duplicate causes. If there are duplicates,
         // we can artificially "pop" by just peeking.
         final int dupeCause = this.duplicateCauses[size];
         if (dupeCause > 0) {
             // Make sure to just decrement the duplicate causes.
             this.duplicateCauses[size] = dupeCause - 1;
-            return checkNotNull(this.cause.peek());
+            return checkNotNull(this.cause).value;
         }
         if (size <= this.min_depth) {
             throw new IllegalStateException("Cause stack corruption, tried to pop more objects off than were pushed since last frame (Size was "
                                                 + size + " but mid depth is " + this.min_depth + ")");
         }
-        this.cached_cause = null;
-        return this.cause.pop();
+        final CauseStackEntry popped = checkNotNull(this.cause);
+        this.cause = popped.next;
+        return popped.value;
     }
 
     @Override
@@ -563,14 +601,14 @@ public void popCauses(final int n) {
     @Override
     public Object peekCause() {
         this.enforceMainThread();
-        return this.cause.peek();
+        return this.cause == null ? null : this.cause.value;
     }
 
     @Override
     public StackFrame pushCauseFrame() {
         this.enforceMainThread();
         // Ensure duplicate causes will be correctly sized.
-        final int size = this.cause.size();
+        final int size = this.causeSize();
         if (this.duplicateCauses.length <= size) {
             this.duplicateCauses = Arrays.copyOf(this.duplicateCauses, (int) (size * 1.5));
         }
@@ -662,8 +700,12 @@ public void popCauseFrame(final StackFrame oldFrame) {
         this.frames.pop();
 
         // Remove new values
+        if (!frame.getOriginalContextDelta().isEmpty()) {
+            // The context is back to what it was when the frame first changed it,
+            // and so is the event context that was built for it
+            this.cached_ctx = frame.originalEventContext;
+        }
         for (final Map.Entry<EventContextKey<?>, Object> entry : frame.getOriginalContextDelta().entrySet()) {
-            this.cached_ctx = null;
             if (entry.getValue() == null) { // wasn't present before, remove
                 this.ctx.remove(entry.getKey());
             } else { // was there, replace
@@ -672,8 +714,8 @@ public void popCauseFrame(final StackFrame oldFrame) {
         }
 
         // If there were any objects left on the stack then we pop them off
-        while (this.cause.size() > this.min_depth) {
-            final int index = this.cause.size();
+        while (this.causeSize() > this.min_depth) {
+            final int index = this.causeSize();
 
             // Then, only pop the potential duplicate causes (if any) if and only if
             // there was a duplicate cause pushed prior to the frame being popped.
@@ -683,13 +725,10 @@ public void popCauseFrame(final StackFrame oldFrame) {
                 // And of course, reset the number of duplicates in the entry.
                 this.duplicateCauses[index] = 0;
             }
-            this.cause.pop();
-
-            // and clear the cached causes
-            this.cached_cause = null;
+            this.cause = checkNotNull(this.cause).next;
         }
         this.min_depth = frame.old_min_depth;
-        final int size = this.cause.size();
+        final int size = this.causeSize();
         if (this.duplicateCauses.length > size) {
             // Then set the last cause index to whatever the size of the entry was at the time.
             this.duplicateCauses[size] = frame.lastCauseSize;
@@ -704,11 +743,44 @@ public void popCauseFrame(final StackFrame oldFrame) {
         }
     }
 
+    /**
+     * Remembers the current causes on the given frame, which has to be the
+     * top frame, for a later {@link #isFrameUnchanged(StackFrame)} check.
+     *
+     * @param frame The top frame
+     */
+    public void markFrame(final StackFrame frame) {
+        final SpongeCauseStackFrame spongeFrame = (SpongeCauseStackFrame) frame;
+        final int size = this.causeSize();
+        spongeFrame.mark = this.cause;
+        spongeFrame.markDuplicates = this.duplicateCauses.length > size ? this.duplicateCauses[size] : 0;
+    }
+
+    /**
+     * Gets whether the given frame is still the top frame and neither causes
+     * nor context were changed since it was {@link #markFrame(StackFrame) marked},
+     * so it is in the same state a freshly pushed and marked frame would be.
+     *
+     * @param frame The marked frame
+     * @return Whether the frame is unchanged
+     */
+    public boolean isFrameUnchanged(final StackFrame frame) {
+        final SpongeCauseStackFrame spongeFrame = (SpongeCauseStackFrame) frame;
+        if (this.frames.peek() != spongeFrame || this.cause != spongeFrame.mark || !spongeFrame.getOriginalContextDelta().isEmpty()) {
+            return false;
+        }
+        final int size = this.causeSize();
+        return (this.duplicateCauses.length > size ? this.duplicateCauses[size] : 0) == spongeFrame.markDuplicates;
+    }
+
     @Override
     public <T> CauseStackManager addContext(final EventContextKey<T> key, final T value) {
         checkNotNull(key, "key");
         checkNotNull(value, "value");
         this.enforceMainThread();
+        if (!this.frames.isEmpty()) {
+            this.frames.peek().storeOriginalEventContext(this.cached_ctx);
+        }
         this.cached_ctx = null;
         final @Nullable Object existing = this.ctx.put(key, value);
         if (!this.frames.isEmpty()) {
@@ -728,6 +800,9 @@ public <T> Optional<T> context(final EventContextKey<T> key) {
     public <T> Optional<T> removeContext(final EventContextKey<T> key) {
         checkNotNull(key, "key");
         this.enforceMainThread();
+        if (!this.frames.isEmpty()) {
+            this.frames.peek().storeOriginalEventContext(this.cached_ctx);
+        }
         this.cached_ctx = null;
         final Object existing = this.ctx.remove(key);
         if (!this.frames.isEmpty()) {
@@ -736,6 +811,10 @@ public <T> Optional<T> removeContext(final EventContextKey<T> key) {
         return Optional.ofNullable((T) existing);
     }
 
+    private int causeSize() {
+        return this.cause == null ? 0 : this.cause.size;
+    }
+
     private void enforceMainThread() {
         // On clients, this may not be available immediately, we can't bomb out that early.
         if (Thread.currentThread() != this.getSidedThread()) {
@@ -775,7 +854,6 @@ private void registerPhaseContextProvider(final PhaseContext<?> context) {
         checkNotNull(context.state.getFrameModifier(), "Consumer");
         // Reset our cached objects
         this.pendingProviders.compareAndSet(false, true); //I Reset the cache
-        this.cached_cause = null; // Reset the cache
         this.cached_ctx = null; // Reset the cache
         // Since we cannot rely on the PhaseStack being tied to this stack of providers,
         // we have to make the tuple to tie the phase context to provide the consumer.
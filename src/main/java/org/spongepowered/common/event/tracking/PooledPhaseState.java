@@ -46,17 +46,20 @@ public final C createPhaseContext(final PhaseTracker tracker) {
             if (this.serverCached != null && !this.serverCached.isCompleted) {
                 final C cached = this.serverCached;
                 this.serverCached = null;
+                cached.markReused();
                 return cached;
             }
         } else if (tracker == PhaseTracker.CLIENT) {
             if (this.clientCached != null && !this.clientCached.isCompleted) {
                 final C cached = this.clientCached;
                 this.clientCached = null;
+                cached.markReused();
                 return cached;
             }
         }
         final C peek = tracker.getContextPoolFor(this).pollFirst();
         if (peek != null) {
+            peek.markReused();
             if (tracker == PhaseTracker.SERVER) {
                 this.serverCached = peek;
             } else if (tracker == PhaseTracker.CLIENT) {
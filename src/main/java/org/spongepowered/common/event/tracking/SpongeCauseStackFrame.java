@@ -44,6 +44,9 @@ public final class SpongeCauseStackFrame implements CauseStackManager.StackFrame
     private final Map<EventContextKey<?>, Object> storedContext;
     int old_min_depth;
     int lastCauseSize;
+    @Nullable EventContext originalEventContext;
+    @Nullable CauseStackEntry mark;
+    int markDuplicates;
 
     @Nullable Exception stackDebug = null;
 
@@ -59,6 +62,9 @@ public void clear() {
         this.storedContext.clear();
         this.lastCauseSize = -1;
         this.old_min_depth = -1;
+        this.originalEventContext = null;
+        this.mark = null;
+        this.markDuplicates = 0;
         this.stackDebug = null;
     }
 
@@ -92,6 +98,14 @@ void storeOriginalContext(final EventContextKey<?> key, final @Nullable Object v
         }
     }
 
+    // Keeps the event context built before this frame first changed the context,
+    // which becomes valid again once the frame is popped
+    void storeOriginalEventContext(final @Nullable EventContext context) {
+        if (this.storedContext.isEmpty()) {
+            this.originalEventContext = context;
+        }
+    }
+
     Map<EventContextKey<?>, Object> getOriginalContextDelta() {
         return this.storedContext;
     }
@@ -81,6 +81,9 @@
 import net.minecraft.world.level.block.RepeaterBlock;
 import net.minecraft.world.level.block.entity.TickableBlockEntity;
 import net.minecraft.world.level.material.FluidState;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
@@ -116,22 +119,39 @@ public final class TrackingUtil {
         });
     public static final int WIDTH = 40;
 
-    public static void tickEntity(final Consumer<net.minecraft.world.entity.Entity> consumer, final net.minecraft.world.entity.Entity entity) {
+    /**
+     * Ticks the entity within its own phase, or within the current phase if
+     * the fast path allows it.
+     *
+     * @param consumer The vanilla tick of the entity
+     * @param entity The entity
+     * @param fastPath Whether the entity tick fast path is enabled, read
+     *     from the config once per world tick
+     */
+    public static void tickEntity(final Consumer<net.minecraft.world.entity.Entity> consumer, final net.minecraft.world.entity.Entity entity,
+        final boolean fastPath
+    ) {
         checkArgument(entity instanceof Entity, "Entity %s is not an instance of SpongeAPI's Entity!", entity);
         checkNotNull(entity, "Cannot capture on a null ticking entity!");
         if (!((TrackableBridge) entity).bridge$shouldTick()) {
             return;
         }
+        if (fastPath && TrackingUtil.canTickEntityWithoutPhase(entity)) {
+            try (final Timing entityTiming = ((TimingBridge) entity).bridge$getTimingsHandler()) {
+                entityTiming.startTiming();
+                consumer.accept(entity);
+            } catch (final Exception e) {
+                PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, PhaseTracker.SERVER.getPhaseContext());
+            }
+            return;
+        }
 
         final EntityTickContext tickContext = TickPhase.Tick.ENTITY.createPhaseContext(PhaseTracker.SERVER).source(entity);
         try (final EntityTickContext context = tickContext;
              final Timing entityTiming = ((TimingBridge) entity).bridge$getTimingsHandler()
         ) {
             if (entity instanceof CreatorTrackedBridge) {
-                ((CreatorTrackedBridge) entity).tracked$getNotifierReference()
-                    .ifPresent(context::notifier);
-                ((CreatorTrackedBridge) entity).tracked$getCreatorReference()
-                    .ifPresent(context::creator);
+                context.ownersFrom((CreatorTrackedBridge) entity);
             }
             context.buildAndSwitch();
             entityTiming.startTiming();
@@ -147,6 +167,32 @@ public static void tickEntity(final Consumer<net.minecraft.world.entity.Entity>
         }
     }
 
+    /**
+     * Whether the entity can tick inside the current phase instead of its own,
+     * see {@link org.spongepowered.common.applaunch.config.common.PhaseTrackerCategory#entityTickFastPath}.
+     * Entities with a creator or notifier always get their own phase, so what
+     * they change keeps its owner.
+     */
+    private static boolean canTickEntityWithoutPhase(final net.minecraft.world.entity.Entity entity) {
+        if (ShouldFire.CHANGE_BLOCK_EVENT || ShouldFire.CHANGE_BLOCK_EVENT_ALL || ShouldFire.CHANGE_BLOCK_EVENT_PRE
+            || ShouldFire.CHANGE_BLOCK_EVENT_POST || ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT
+            || ShouldFire.SPAWN_ENTITY_EVENT || ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM
+            || ShouldFire.DROP_ITEM_EVENT || ShouldFire.DROP_ITEM_EVENT_CUSTOM || ShouldFire.DROP_ITEM_EVENT_DESTRUCT
+            || ShouldFire.EXPLOSION_EVENT_PRE || ShouldFire.EXPLOSION_EVENT_DETONATE
+            || ShouldFire.COLLIDE_BLOCK_EVENT_FALL || ShouldFire.COLLIDE_BLOCK_EVENT_INSIDE
+            || ShouldFire.COLLIDE_BLOCK_EVENT_MOVE || ShouldFire.COLLIDE_BLOCK_EVENT_STEP_ON
+            || ShouldFire.COLLIDE_ENTITY_EVENT || ShouldFire.MOVE_ENTITY_EVENT || ShouldFire.ROTATE_ENTITY_EVENT
+            || ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP || ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP_PRE) {
+            return false;
+        }
+        if (entity instanceof CreatorTrackedBridge) {
+            // Empty optionals are shared, this does not allocate for untracked entities
+            return !((CreatorTrackedBridge) entity).tracked$getCreatorUUID().isPresent()
+                && !((CreatorTrackedBridge) entity).tracked$getNotifierUUID().isPresent();
+        }
+        return true;
+    }
+
     public static void tickRidingEntity(final net.minecraft.world.entity.Entity entity) {
         checkArgument(entity instanceof Entity, "Entity %s is not an instance of SpongeAPI's Entity!", entity);
         checkNotNull(entity, "Cannot capture on a null ticking entity!");
@@ -161,10 +207,7 @@ public static void tickRidingEntity(final net.minecraft.world.entity.Entity enti
              ) {
             entityTiming.startTiming();
             if (entity instanceof CreatorTrackedBridge) {
-                ((CreatorTrackedBridge) entity).tracked$getNotifierReference()
-                    .ifPresent(context::notifier);
-                ((CreatorTrackedBridge) entity).tracked$getCreatorReference()
-                    .ifPresent(context::creator);
+                context.ownersFrom((CreatorTrackedBridge) entity);
             }
             context.buildAndSwitch();
             entity.rideTick();
@@ -421,6 +464,47 @@ private TrackingUtil() {
         return mixinChunk.bridge$getBlockCreator(blockPos).orElse(null);
     }
 
+    /**
+     * Resolves the creators or notifiers of many blocks in one pass, such as
+     * the blocks affected by an explosion or a piston. The chunk is only looked
+     * up again once a position leaves the chunk of the previous one, positions
+     * in chunks that are not loaded are skipped rather than loading them.
+     *
+     * @param world The world the positions are in
+     * @param positions The positions to resolve
+     * @param type Whether to resolve the creator or the notifier
+     * @return The users of the positions that are tracked
+     */
+    public static Map<BlockPos, User> getBlockOwners(final ServerLevel world, final Collection<BlockPos> positions,
+        final PlayerTracker.Type type
+    ) {
+        final Map<BlockPos, User> owners = new HashMap<>();
+        @Nullable LevelChunkBridge chunk = null;
+        boolean lookedUp = false;
+        int chunkX = 0;
+        int chunkZ = 0;
+        for (final BlockPos pos : positions) {
+            final int x = pos.getX() >> 4;
+            final int z = pos.getZ() >> 4;
+            if (!lookedUp || x != chunkX || z != chunkZ) {
+                chunk = (LevelChunkBridge) world.getChunkSource().getChunkNow(x, z);
+                lookedUp = true;
+                chunkX = x;
+                chunkZ = z;
+            }
+            if (chunk == null) {
+                continue;
+            }
+            final Optional<User> owner = type == PlayerTracker.Type.CREATOR
+                ? chunk.bridge$getBlockCreator(pos)
+                : chunk.bridge$getBlockNotifier(pos);
+            if (owner.isPresent()) {
+                owners.put(pos.immutable(), owner.get());
+            }
+        }
+        return owners;
+    }
+
     public static Supplier<IllegalStateException> throwWithContext(final String s, final PhaseContext<?> phaseContext) {
         return () -> {
             final PrettyPrinter printer = new PrettyPrinter(60);
@@ -505,6 +589,23 @@ public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world
         final Supplier<ServerLevel> worldSupplier,
         final Supplier<Optional<UUID>> creatorSupplier,
         final Supplier<Optional<UUID>> notifierSupplier
+    ) {
+        return TrackingUtil.createPooledSnapshot(state, pos, updateFlag, limit, blockEntity, worldSupplier, creatorSupplier,
+            notifierSupplier, false);
+    }
+
+    /**
+     * Creates a snapshot for a transaction, optionally leaving the block entity
+     * unserialized until the snapshot's data is needed. Deferred snapshots
+     * must be handed to a {@link org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier}
+     * so they are released once the transaction is processed.
+     */
+    public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world.level.block.state.BlockState state, final BlockPos pos,
+        final BlockChangeFlag updateFlag, final int limit, final net.minecraft.world.level.block.entity.@Nullable BlockEntity blockEntity,
+        final Supplier<ServerLevel> worldSupplier,
+        final Supplier<Optional<UUID>> creatorSupplier,
+        final Supplier<Optional<UUID>> notifierSupplier,
+        final boolean deferBlockEntity
     ) {
         final SpongeBlockSnapshotBuilder builder = SpongeBlockSnapshotBuilder.pooled();
         builder.reset();
@@ -514,7 +615,11 @@ public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world
         creatorSupplier.get().ifPresent(builder::creator);
         notifierSupplier.get().ifPresent(builder::notifier);
         if (blockEntity != null) {
-            TrackingUtil.addTileEntityToBuilder(blockEntity, builder);
+            if (deferBlockEntity) {
+                builder.deferredTileEntity(blockEntity);
+            } else {
+                TrackingUtil.addTileEntityToBuilder(blockEntity, builder);
+            }
         }
         builder.flag(updateFlag);
         return builder.build();
@@ -45,6 +45,7 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
 import org.spongepowered.common.event.tracking.context.transaction.type.TransactionTypes;
@@ -56,8 +57,8 @@
 
 abstract class BlockEventBasedTransaction extends GameTransaction<ChangeBlockEvent.All> {
 
-    final BlockPos affectedPosition;
-    final BlockState originalState;
+    BlockPos affectedPosition;
+    BlockState originalState;
 
     BlockEventBasedTransaction(final BlockPos affectedPosition, final BlockState originalState, final ResourceKey worldKey) {
         super(TransactionTypes.BLOCK.get(), worldKey);
@@ -65,6 +66,12 @@ abstract class BlockEventBasedTransaction extends GameTransaction<ChangeBlockEve
         this.originalState = originalState;
     }
 
+    void reposition(final BlockPos affectedPosition, final BlockState originalState, final ResourceKey worldKey) {
+        this.affectedPosition = affectedPosition.immutable();
+        this.originalState = originalState;
+        this.worldKey = worldKey;
+    }
+
     @Override
     public final Optional<ChangeBlockEvent.All> generateEvent(final PhaseContext<@NonNull ?> context,
         final @Nullable GameTransaction<@NonNull ?> parent,
@@ -77,8 +84,15 @@ public final Optional<ChangeBlockEvent.All> generateEvent(final PhaseContext<@No
             return Optional.empty();
         }
         final ListMultimap<BlockPos, SpongeBlockSnapshot> positions = LinkedListMultimap.create();
+        // Listeners may keep the snapshots past their release. Block entities
+        // which were removed or replaced were serialized before the change, the
+        // ones left in place are serialized by the hooks before any mutation
+        final boolean captureDeferred = ShouldFire.CHANGE_BLOCK_EVENT_ALL || ShouldFire.CHANGE_BLOCK_EVENT_POST;
         for (final GameTransaction<@NonNull ?> transaction : transactions) {
             final BlockEventBasedTransaction blockTransaction = (BlockEventBasedTransaction) transaction;
+            if (captureDeferred) {
+                blockTransaction.getOriginalSnapshot().captureDeferredData();
+            }
             if (!positions.containsKey(blockTransaction.affectedPosition)) {
                 positions.put(
                     blockTransaction.affectedPosition,
@@ -32,6 +32,7 @@
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
+import org.spongepowered.common.bridge.world.level.block.state.BlockStateBridge;
 import org.spongepowered.common.event.tracking.BlockChangeFlagManager;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.transaction.effect.BlockAddedEffect;
@@ -56,10 +57,10 @@
 @DefaultQualifier(NonNull.class)
 public final class ChangeBlock extends BlockEventBasedTransaction {
 
-    final SpongeBlockSnapshot original;
-    final int originalOpacity;
-    final BlockState newState;
-    final SpongeBlockChangeFlag blockChangeFlag;
+    SpongeBlockSnapshot original;
+    int originalOpacity;
+    BlockState newState;
+    SpongeBlockChangeFlag blockChangeFlag;
     @Nullable public BlockEntity queuedRemoval;
     @Nullable public BlockEntity queuedAdd;
 
@@ -73,6 +74,63 @@ public final class ChangeBlock extends BlockEventBasedTransaction {
         this.originalOpacity = this.originalState.getLightBlock(this.original.getServerWorld().get(), this.affectedPosition);
     }
 
+    void reuse(final SpongeBlockSnapshot attachedSnapshot, final BlockState newState,
+        final SpongeBlockChangeFlag blockChange
+    ) {
+        this.recycle();
+        this.reposition(attachedSnapshot.getBlockPos(), (BlockState) attachedSnapshot.state(), attachedSnapshot.world());
+        this.original = attachedSnapshot;
+        this.newState = newState;
+        this.blockChangeFlag = blockChange;
+        this.queuedRemoval = null;
+        this.queuedAdd = null;
+        this.originalOpacity = this.originalState.getLightBlock(this.original.getServerWorld().get(), this.affectedPosition);
+    }
+
+    /**
+     * Drops every reference this transaction holds on to while it sits unused
+     * in the arena of the {@link TransactionalCaptureSupplier}, so a retained
+     * instance keeps neither snapshots, states nor block entities alive. The
+     * transaction is unusable until it is handed out again through
+     * {@link #reuse}.
+     */
+    @SuppressWarnings("ConstantConditions")
+    void release() {
+        this.recycle();
+        this.original = null;
+        this.originalOpacity = 0;
+        this.newState = null;
+        this.blockChangeFlag = null;
+        this.queuedRemoval = null;
+        this.queuedAdd = null;
+        this.affectedPosition = null;
+        this.originalState = null;
+        this.worldKey = null;
+    }
+
+    /**
+     * Whether the next change of the same position can be folded into this
+     * transaction, keeping the original snapshot and only moving the new state
+     * forward. Block entities and captured side effects always need their own
+     * transaction.
+     */
+    boolean canCoalesce(final SpongeBlockSnapshot next) {
+        return !this.cancelled
+            && this.queuedRemoval == null
+            && this.queuedAdd == null
+            && this.newState == (BlockState) next.state()
+            && this.affectedPosition.equals(next.getBlockPos())
+            && this.worldKey.equals(next.world())
+            && !((BlockStateBridge) this.original.state()).bridge$hasTileEntity()
+            && !((BlockStateBridge) this.newState).bridge$hasTileEntity()
+            && !this.hasChildTransactions();
+    }
+
+    void coalesce(final BlockState newState, final SpongeBlockChangeFlag blockChange) {
+        this.newState = newState;
+        this.blockChangeFlag = blockChange;
+    }
+
     public BlockState getNewState() {
         return this.newState;
     }
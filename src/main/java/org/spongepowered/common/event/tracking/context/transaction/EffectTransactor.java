@@ -48,7 +48,7 @@ public class EffectTransactor implements AutoCloseable {
 
     @Override
     public void close() {
-        if (this.effect.head == null
+        if (this.effect.children == null
             && this.parent != null
             && this.parent.sideEffects != null
             && this.parent.getEffects().peekLast() == this.effect
@@ -40,8 +40,8 @@
 import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
 import org.spongepowered.common.util.PrettyPrinter;
 
+import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.function.BiConsumer;
@@ -50,15 +50,11 @@
 public abstract class GameTransaction<E extends Event & Cancellable> {
 
     private final TransactionType<? extends E> transactionType;
-    protected final ResourceKey worldKey;
+    protected ResourceKey worldKey;
     boolean cancelled = false;
 
     // Children Definitions
-    @Nullable LinkedList<ResultingTransactionBySideEffect> sideEffects;
-
-    // LinkedList node definitions
-    @Nullable GameTransaction<@NonNull ?> previous;
-    @Nullable GameTransaction<@NonNull ?> next;
+    @Nullable ArrayDeque<ResultingTransactionBySideEffect> sideEffects;
 
     GameTransaction(final TransactionType<? extends E> transactionType, final ResourceKey worldKey) {
         this.transactionType = transactionType;
@@ -78,13 +74,33 @@ public TransactionType<? extends E> getTransactionType() {
 
     Deque<ResultingTransactionBySideEffect> getEffects() {
         if (this.sideEffects == null) {
-            this.sideEffects = new LinkedList<>();
+            // Most transactions only ever see a handful of effects
+            this.sideEffects = new ArrayDeque<>(4);
         }
         return this.sideEffects;
     }
 
     public final boolean hasChildTransactions() {
-        return this.sideEffects != null && this.sideEffects.stream().anyMatch(effect -> effect.head != null);
+        if (this.sideEffects == null) {
+            return false;
+        }
+        for (final ResultingTransactionBySideEffect sideEffect : this.sideEffects) {
+            if (sideEffect.children != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Detaches this transaction from its side effects so that the instance
+     * can be handed out again by the {@link TransactionalCaptureSupplier}.
+     */
+    void recycle() {
+        this.cancelled = false;
+        if (this.sideEffects != null) {
+            this.sideEffects.clear();
+        }
     }
 
     public final boolean hasAnyPrimaryChildrenTransactions() {
@@ -92,12 +108,13 @@ public final boolean hasAnyPrimaryChildrenTransactions() {
             return false;
         }
         for (final ResultingTransactionBySideEffect sideEffect : this.sideEffects) {
-            @Nullable GameTransaction<@NonNull ?> transaction = sideEffect.head;
-            while (transaction != null) {
+            if (sideEffect.children == null) {
+                continue;
+            }
+            for (final GameTransaction<@NonNull ?> transaction : sideEffect.children) {
                 if (transaction.transactionType.isPrimary() || transaction.hasChildTransactions()) {
                     return true;
                 }
-                transaction = transaction.next;
             }
         }
         return false;
@@ -147,11 +164,9 @@ public void markCancelled() {
         this.cancelled = true;
         if (this.sideEffects != null) {
             for (final ResultingTransactionBySideEffect sideEffect : this.sideEffects) {
-                if (sideEffect.head != null) {
-                    @Nullable GameTransaction<@NonNull ?> node = sideEffect.head;
-                    while (node != null) {
+                if (sideEffect.children != null) {
+                    for (final GameTransaction<@NonNull ?> node : sideEffect.children) {
                         node.markCancelled();
-                        node = node.next;
                     }
                 }
             }
@@ -56,17 +56,17 @@
 import java.util.function.Supplier;
 
 final class NeighborNotification extends GameTransaction<NotifyNeighborBlockEvent> {
-    final BlockState original;
-    final BlockPos notifyPos;
-    final Block sourceBlock;
-    final BlockPos sourcePos;
+    BlockState original;
+    BlockPos notifyPos;
+    Block sourceBlock;
+    BlockPos sourcePos;
     // State definitions
-    final BlockPos affectedPosition;
-    final BlockState originalState;
-    private final Supplier<ServerLevel> serverWorld;
-    private Supplier<LocatableBlock> locatableBlock;
-    private Supplier<SpongeBlockSnapshot> targetSnapshot;
-    private Supplier<NotificationTicket> ticketSupplier;
+    BlockPos affectedPosition;
+    BlockState originalState;
+    private Supplier<ServerLevel> serverWorld;
+    private @Nullable BlockEntity existingTile;
+    // Created once the notification is turned into an event
+    private @Nullable NotificationTicket ticket;
 
     NeighborNotification(
         final Supplier<ServerLevel> serverWorldSupplier,
@@ -81,36 +81,67 @@ final class NeighborNotification extends GameTransaction<NotifyNeighborBlockEven
         this.notifyPos = notifyPos;
         this.sourceBlock = sourceBlock;
         this.sourcePos = sourcePos;
+        this.existingTile = existingTile;
         this.original = serverWorldSupplier.get().getBlockState(sourcePos);
-        // This is one way to have lazily initialized fields
-        this.locatableBlock = () -> {
-            final LocatableBlock locatableBlock = new SpongeLocatableBlockBuilder()
+    }
+
+    void reuse(
+        final Supplier<ServerLevel> serverWorldSupplier,
+        final BlockState notifyState, final BlockPos notifyPos,
+        final Block sourceBlock, final BlockPos sourcePos,
+        final @Nullable BlockEntity existingTile
+    ) {
+        this.recycle();
+        this.worldKey = ((org.spongepowered.api.world.server.ServerWorld) serverWorldSupplier.get()).key();
+        this.affectedPosition = sourcePos;
+        this.originalState = notifyState;
+        this.serverWorld = serverWorldSupplier;
+        this.notifyPos = notifyPos;
+        this.sourceBlock = sourceBlock;
+        this.sourcePos = sourcePos;
+        this.existingTile = existingTile;
+        this.ticket = null;
+        this.original = serverWorldSupplier.get().getBlockState(sourcePos);
+    }
+
+    /**
+     * Drops every reference to the world and its blocks, called once the
+     * notification is parked in the arena of its supplier until the next
+     * {@link #reuse}.
+     */
+    @SuppressWarnings("ConstantConditions")
+    void release() {
+        this.recycle();
+        this.original = null;
+        this.notifyPos = null;
+        this.sourceBlock = null;
+        this.sourcePos = null;
+        this.affectedPosition = null;
+        this.originalState = null;
+        this.serverWorld = null;
+        this.existingTile = null;
+        this.ticket = null;
+        this.worldKey = null;
+    }
+
+    private NotificationTicket ticket() {
+        if (this.ticket == null) {
+            final LocatableBlock notifier = new SpongeLocatableBlockBuilder()
                 .world(this.serverWorld)
                 .position(this.sourcePos.getX(), this.sourcePos.getY(), this.sourcePos.getZ())
                 .state((org.spongepowered.api.block.BlockState) this.original)
                 .build();
-            this.locatableBlock = () -> locatableBlock;
-            return locatableBlock;
-        };
-        this.targetSnapshot = () -> {
             final SpongeBlockSnapshotBuilder pooled = SpongeBlockSnapshotBuilder.pooled();
             pooled.world(this.serverWorld.get())
-                .position(new Vector3i(notifyPos.getX(), notifyPos.getY(), notifyPos.getZ()))
-                .blockState(notifyState);
-            if (existingTile != null) {
-                pooled.tileEntity(existingTile);
+                .position(new Vector3i(this.notifyPos.getX(), this.notifyPos.getY(), this.notifyPos.getZ()))
+                .blockState(this.originalState);
+            if (this.existingTile != null) {
+                pooled.tileEntity(this.existingTile);
             }
-            final SpongeBlockSnapshot snapshot = pooled.build();
-            this.targetSnapshot = () -> snapshot;
-            return snapshot;
-        };
-        this.ticketSupplier = () -> {
-            final LocatableBlock notifier = this.locatableBlock.get();
-            final SpongeBlockSnapshot target = this.targetSnapshot.get();
-            final SpongeNotificationTicket ticket = new SpongeNotificationTicket(notifier, target);
-            this.ticketSupplier = () -> ticket;
-            return ticket;
-        };
+            final SpongeBlockSnapshot target = pooled.build();
+            this.ticket = new SpongeNotificationTicket(notifier, target);
+        }
+        return this.ticket;
     }
 
     @Override
@@ -136,7 +167,7 @@ public String toString() {
             if (parent instanceof ChangeBlock) {
                 frame.pushCause(((ChangeBlock) parent).original);
             }
-            frame.pushCause(this.ticketSupplier.get());
+            frame.pushCause(this.ticket());
         });
     }
 
@@ -156,7 +187,7 @@ public Optional<NotifyNeighborBlockEvent> generateEvent(final PhaseContext<@NonN
         final ImmutableMultimap.Builder<TransactionType, ? extends Event> transactionPostEventBuilder
     ) {
         final ImmutableList<NotificationTicket> tickets = transactions.stream()
-            .map(transaction -> ((NeighborNotification) transaction).ticketSupplier.get())
+            .map(transaction -> ((NeighborNotification) transaction).ticket())
             .collect(ImmutableList.toImmutableList());
 
         return Optional.of(SpongeEventFactory.createNotifyNeighborBlockEvent(currentCause, tickets));
@@ -27,23 +27,27 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @SuppressWarnings("rawtypes")
 public class ResultingTransactionBySideEffect {
     public final ProcessingSideEffect effect;
-    @Nullable GameTransaction head;
-    @Nullable GameTransaction tail;
+    // Created with the first child, most effects never get one
+    @Nullable List<GameTransaction> children;
 
     public ResultingTransactionBySideEffect(final ProcessingSideEffect effect) {
         this.effect = effect;
     }
 
     public void addChild(final GameTransaction child) {
-        if (this.tail != null) {
-            this.tail.next = child;
-            child.previous = this.tail;
-        } else {
-            this.head = child;
+        if (this.children == null) {
+            this.children = new ArrayList<>(4);
         }
-        this.tail = child;
+        this.children.add(child);
+    }
+
+    @Nullable GameTransaction lastChild() {
+        return this.children == null ? null : this.children.get(this.children.size() - 1);
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the transactions of a single type handed out by a
+ * {@link TransactionalCaptureSupplier} around so they can be handed out
+ * again once the supplier is cleared. The supplier lives as long as its
+ * pooled phase context and so does the arena.
+ *
+ * @param <T> The type of transaction
+ */
+final class TransactionArena<T> {
+
+    private final int maxRetained;
+    private final Consumer<T> release;
+    private final List<T> retained = new ArrayList<>();
+    private int used;
+
+    /**
+     * Creates a new arena.
+     *
+     * @param maxRetained The upper bound of transactions kept for reuse
+     * @param release Drops every reference held by a transaction once it is
+     *     no longer in use
+     */
+    TransactionArena(final int maxRetained, final Consumer<T> release) {
+        this.maxRetained = maxRetained;
+        this.release = release;
+    }
+
+    /**
+     * Gets a released transaction to reinitialize, if any is left.
+     *
+     * @return The transaction, or {@code null} if every retained transaction
+     *     is in use
+     */
+    @Nullable T reuse() {
+        if (this.used < this.retained.size()) {
+            return this.retained.get(this.used++);
+        }
+        return null;
+    }
+
+    /**
+     * Retains a newly created transaction for reuse after the next
+     * {@link #rewind()}, unless the arena is full.
+     *
+     * @param transaction The transaction
+     * @return The transaction
+     */
+    T retain(final T transaction) {
+        if (this.retained.size() < this.maxRetained) {
+            this.retained.add(transaction);
+            this.used++;
+        }
+        return transaction;
+    }
+
+    /**
+     * Releases every transaction handed out since the last rewind.
+     */
+    void rewind() {
+        for (int i = 0; i < this.used; i++) {
+            this.release.accept(this.retained.get(i));
+        }
+        this.used = 0;
+    }
+}
@@ -36,6 +36,7 @@
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.bridge.world.level.TrackerBlockEventDataBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
@@ -67,8 +68,10 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
@@ -78,16 +81,30 @@
 @SuppressWarnings("rawtypes")
 public final class TransactionalCaptureSupplier implements ICaptureSupplier {
 
-    // We made BlockTransaction a Node and this is a pseudo LinkedList due to the nature of needing
+    // Upper bound of block changes and neighbor notifications kept around for reuse by a single supplier
+    private static final int MAX_RETAINED_CHANGES = 256;
+    // Logs grown past this are dropped on reset instead of pinning their backing array
+    private static final int MAX_RETAINED_LOG_SIZE = 1024;
+
+    // Transactions are kept in the order they are logged due to the nature of needing
     // to be able to track what block states exist at the time of the transaction while other transactions
     // are processing (because future transactions performing logic based on what exists at that state,
     // will potentially get contaminated information based on the last transaction prior to transaction
     // processing). Example: When starting to perform neighbor notifications during piston movement, one
     // can feasibly see that the block state is changed already without being able to get the appropriate
-    // block state.
+    // block state. Transactions logged during a side effect are kept by that effect, in the same order.
+    private List<GameTransaction> transactions = new ArrayList<>();
     private @Nullable GameTransaction tail;
-    private @Nullable GameTransaction head;
     private @Nullable ResultingTransactionBySideEffect effect;
+    // Original snapshots still watching their block entity, released once processed
+    private @Nullable List<SpongeBlockSnapshot> deferredSnapshots;
+    // The transactions logged most often are handed out again after a reset
+    private final TransactionArena<ChangeBlock> changeArena =
+        new TransactionArena<>(TransactionalCaptureSupplier.MAX_RETAINED_CHANGES, ChangeBlock::release);
+    private final TransactionArena<NeighborNotification> notificationArena =
+        new TransactionArena<>(TransactionalCaptureSupplier.MAX_RETAINED_CHANGES, NeighborNotification::release);
+    // Transactions logged since the last reset, including coalesced block changes
+    private int loggedTransactionCount;
 
     public TransactionalCaptureSupplier() {
     }
@@ -100,7 +117,7 @@ public TransactionalCaptureSupplier() {
      */
     @Override
     public final boolean isEmpty() {
-        return this.head == null;
+        return this.transactions.isEmpty();
     }
 
     /*
@@ -120,7 +137,7 @@ public final boolean isEmpty() {
     @SuppressWarnings("unchecked")
     public EffectTransactor pushEffect(final ResultingTransactionBySideEffect effect) {
         final GameTransaction parentTransaction = Optional.ofNullable(this.effect)
-            .map(child -> child.tail)
+            .map(ResultingTransactionBySideEffect::lastChild)
             .orElse(Objects.requireNonNull(this.tail));
         final EffectTransactor effectTransactor = new EffectTransactor(effect, parentTransaction, this.effect, this);
         this.effect = effect;
@@ -132,17 +149,16 @@ void popEffect(final EffectTransactor transactor) {
         this.effect = transactor.previousEffect;
     }
 
-    private void logTransaction(final GameTransaction transaction) {
-        if (this.head == null) {
-            this.head = transaction;
-            this.tail = transaction;
-        } else if (this.effect != null) {
+    public int loggedTransactionCount() {
+        return this.loggedTransactionCount;
+    }
+
+    void logTransaction(final GameTransaction transaction) {
+        this.loggedTransactionCount++;
+        if (this.effect != null && !this.transactions.isEmpty()) {
             this.effect.addChild(transaction);
         } else {
-            transaction.previous = this.tail;
-            if (this.tail != null) {
-                this.tail.next = transaction;
-            }
+            this.transactions.add(transaction);
             this.tail = transaction;
         }
     }
@@ -150,13 +166,51 @@ private void logTransaction(final GameTransaction transaction) {
     public ChangeBlock logBlockChange(final SpongeBlockSnapshot originalBlockSnapshot, final BlockState newState,
         final BlockChangeFlag flags
     ) {
-        final ChangeBlock changeBlock = new ChangeBlock(
-            originalBlockSnapshot, newState, (SpongeBlockChangeFlag) flags
-        );
+        final SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) flags;
+        if (TransactionalCaptureSupplier.canCoalesceBlockChanges() && this.effect == null && this.tail instanceof ChangeBlock) {
+            // Nobody gets to see the intermediate states, so a position changing over
+            // and over again only needs a single original -> final transaction
+            final ChangeBlock previous = (ChangeBlock) this.tail;
+            if (previous.canCoalesce(originalBlockSnapshot)) {
+                previous.coalesce(newState, flag);
+                this.loggedTransactionCount++;
+                return previous;
+            }
+        }
+        final ChangeBlock changeBlock = this.allocateChangeBlock(originalBlockSnapshot, newState, flag);
+        if (originalBlockSnapshot.hasDeferredData()) {
+            if (this.deferredSnapshots == null) {
+                this.deferredSnapshots = new ArrayList<>();
+            }
+            this.deferredSnapshots.add(originalBlockSnapshot);
+        }
         this.logTransaction(changeBlock);
         return changeBlock;
     }
 
+    /**
+     * Coalescing hides the intermediate states of a position from every
+     * listener of a {@link org.spongepowered.api.event.block.ChangeBlockEvent},
+     * so it is only done while there are none.
+     */
+    static boolean canCoalesceBlockChanges() {
+        return !ShouldFire.CHANGE_BLOCK_EVENT
+            && !ShouldFire.CHANGE_BLOCK_EVENT_ALL
+            && !ShouldFire.CHANGE_BLOCK_EVENT_PRE
+            && !ShouldFire.CHANGE_BLOCK_EVENT_POST;
+    }
+
+    private ChangeBlock allocateChangeBlock(final SpongeBlockSnapshot originalBlockSnapshot, final BlockState newState,
+        final SpongeBlockChangeFlag flag
+    ) {
+        final @Nullable ChangeBlock recycled = this.changeArena.reuse();
+        if (recycled != null) {
+            recycled.reuse(originalBlockSnapshot, newState, flag);
+            return recycled;
+        }
+        return this.changeArena.retain(new ChangeBlock(originalBlockSnapshot, newState, flag));
+    }
+
     public boolean logTileAddition(final BlockEntity tileEntity,
         final Supplier<ServerLevel> worldSupplier, final LevelChunk chunk
         ) {
@@ -184,17 +238,19 @@ public boolean logTileRemoval(final @Nullable BlockEntity tileentity, final Supp
             // Need to traverse children by "most recent" transactions to "oldest"
             // to verify which transaction could potentially absorb the tile removed
             if (this.tail.hasChildTransactions()) {
-                final LinkedList<ResultingTransactionBySideEffect> sideEffects = this.tail.sideEffects;
+                final ArrayDeque<ResultingTransactionBySideEffect> sideEffects = this.tail.sideEffects;
                 final Iterator<ResultingTransactionBySideEffect> iter = sideEffects.descendingIterator();
                 // Nasty way at doing it with an iterator....
                 for (ResultingTransactionBySideEffect sideEffect = iter.next(); iter.hasNext(); sideEffect = iter.next()) {
-                    // Then we traverse our own manual doubly linked nodes.
-                    @Nullable GameTransaction<@NonNull ?> pointer = sideEffect.tail;
-                    while (pointer != null) {
-                        if (pointer.acceptTileRemoval(tileentity)) {
+                    // Then we traverse the children of the effect from the most recent one.
+                    final @Nullable List<GameTransaction> children = sideEffect.children;
+                    if (children == null) {
+                        continue;
+                    }
+                    for (int i = children.size() - 1; i >= 0; i--) {
+                        if (children.get(i).acceptTileRemoval(tileentity)) {
                             return true;
                         }
-                        pointer = pointer.previous;
                     }
                 }
             }
@@ -221,7 +277,13 @@ public void logNeighborNotification(final Supplier<ServerLevel> serverWorldSuppl
         final BlockPos immutableTarget, final BlockState targetBlockState,
         final @Nullable BlockEntity existingTile
     ) {
-        final NeighborNotification notificationTransaction = new NeighborNotification(serverWorldSupplier, targetBlockState, immutableTarget, blockIn, immutableFrom, existingTile);
+        @Nullable NeighborNotification notificationTransaction = this.notificationArena.reuse();
+        if (notificationTransaction != null) {
+            notificationTransaction.reuse(serverWorldSupplier, targetBlockState, immutableTarget, blockIn, immutableFrom, existingTile);
+        } else {
+            notificationTransaction = this.notificationArena.retain(
+                new NeighborNotification(serverWorldSupplier, targetBlockState, immutableTarget, blockIn, immutableFrom, existingTile));
+        }
         this.logTransaction(notificationTransaction);
     }
 
@@ -410,19 +472,46 @@ private AddTileEntity createTileAdditionTransaction(final BlockEntity tileentity
     }
 
     public void clear() {
-        this.head = null;
-        this.tail = null;
+        this.clearLog();
         this.effect = null;
+        this.releaseDeferredSnapshots();
+        this.rewindArenas();
+        this.loggedTransactionCount = 0;
+    }
+
+    private void clearLog() {
+        if (this.transactions.size() > TransactionalCaptureSupplier.MAX_RETAINED_LOG_SIZE) {
+            this.transactions = new ArrayList<>();
+        } else {
+            this.transactions.clear();
+        }
+        this.tail = null;
+    }
+
+    private void rewindArenas() {
+        this.changeArena.rewind();
+        this.notificationArena.rewind();
+    }
+
+    private void releaseDeferredSnapshots() {
+        final @Nullable List<SpongeBlockSnapshot> snapshots = this.deferredSnapshots;
+        if (snapshots == null) {
+            return;
+        }
+        this.deferredSnapshots = null;
+        for (final SpongeBlockSnapshot snapshot : snapshots) {
+            snapshot.releaseDeferredData();
+        }
     }
 
     @SuppressWarnings("unchecked")
     public boolean processTransactions(final PhaseContext<@NonNull ?> context) {
-        if ((GameTransaction<@NonNull ?>) this.head == null) {
+        if (this.transactions.isEmpty()) {
             return false;
         }
         final ImmutableMultimap.Builder<TransactionType, ? extends Event> builder = ImmutableMultimap.builder();
         final ImmutableList<EventByTransaction<@NonNull ?>> batched = TransactionalCaptureSupplier.batchTransactions(
-            this.head, this.head, context, builder
+            this.transactions, this.transactions.get(0), context, builder
         );
         boolean cancelledAny = false;
         for (final EventByTransaction<@NonNull ?> eventWithTransactions : batched) {
@@ -463,21 +552,24 @@ public boolean processTransactions(final PhaseContext<@NonNull ?> context) {
         }
         builder.build().asMap()
             .forEach(TransactionType::createAndProcessPostEvents);
+        this.releaseDeferredSnapshots();
         return !cancelledAny;
     }
 
     @SuppressWarnings("unchecked")
     static ImmutableList<EventByTransaction<@NonNull ?>> batchTransactions(
-        final GameTransaction head,
+        final List<GameTransaction> transactionLog,
         final GameTransaction parent,
         final PhaseContext<@NonNull ?> context,
         final ImmutableMultimap.Builder<TransactionType, ? extends Event> transactionPostEventBuilder
     ) {
         final ImmutableList.Builder<EventByTransaction<@NonNull ?>> builder = ImmutableList.builder();
-        @Nullable GameTransaction pointer = head;
         ImmutableList.Builder<GameTransaction> accumilator = ImmutableList.builder();
         @MonotonicNonNull GameTransaction batchDecider = null;
-        while (pointer != null) {
+        final int last = transactionLog.size() - 1;
+        int index = 0;
+        while (index <= last) {
+            final GameTransaction pointer = transactionLog.get(index);
             if (batchDecider == null) {
                 batchDecider = pointer;
             }
@@ -495,11 +587,11 @@ public boolean processTransactions(final PhaseContext<@NonNull ?> context) {
                 accumilator.add(pointer);
                 batchDecider = pointer;
                 continue;
-            } else if (pointer.hasAnyPrimaryChildrenTransactions() || pointer.isUnbatchable() || pointer.next == null) {
+            } else if (pointer.hasAnyPrimaryChildrenTransactions() || pointer.isUnbatchable() || index == last) {
                 accumilator.add(pointer);
                 final ImmutableList<GameTransaction> transactions = accumilator.build();
                 accumilator = ImmutableList.builder();
-                batchDecider = pointer.next;
+                batchDecider = index == last ? null : transactionLog.get(index + 1);
                 TransactionalCaptureSupplier.generateEventForTransaction(
                     pointer,
                     parent,
@@ -511,7 +603,7 @@ public boolean processTransactions(final PhaseContext<@NonNull ?> context) {
             } else {
                 accumilator.add(pointer);
             }
-            pointer = pointer.next;
+            index++;
         }
         final ImmutableList<GameTransaction> remaining = accumilator.build();
         if (!remaining.isEmpty()) {
@@ -567,10 +659,10 @@ private static <E extends Event & Cancellable> void generateEventForTransaction(
                     continue;
                 }
                 for (final ResultingTransactionBySideEffect sideEffect : transaction.sideEffects) {
-                    if (sideEffect.head == null) {
+                    if (sideEffect.children == null) {
                         continue;
                     }
-                    builder.addAll(TransactionalCaptureSupplier.batchTransactions(sideEffect.head, pointer, context, transactionPostEventBuilder));
+                    builder.addAll(TransactionalCaptureSupplier.batchTransactions(sideEffect.children, pointer, context, transactionPostEventBuilder));
                 }
             }
         }
@@ -578,7 +670,7 @@ private static <E extends Event & Cancellable> void generateEventForTransaction(
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.head);
+        return this.transactions.hashCode();
     }
 
     @Override
@@ -590,26 +682,28 @@ public boolean equals(final @Nullable Object obj) {
             return false;
         }
         final TransactionalCaptureSupplier other = (TransactionalCaptureSupplier) obj;
-        return Objects.equals(this.head, other.head);
+        return this.transactions.equals(other.transactions);
     }
 
     @Override
     public String toString() {
         return new StringJoiner(", ", TransactionalCaptureSupplier.class.getSimpleName() + "[", "]")
             .add("tail=" + this.tail)
-            .add("head=" + this.head)
+            .add("transactions=" + this.transactions.size())
             .add("effect=" + this.effect)
             .toString();
     }
 
     public void reset() {
-        if (this.head != null) {
-            this.head = null;
-            this.tail = null;
+        if (!this.transactions.isEmpty()) {
+            this.clearLog();
         }
         if (this.effect != null) {
             this.effect = null;
         }
+        this.releaseDeferredSnapshots();
+        this.rewindArenas();
+        this.loggedTransactionCount = 0;
     }
 
 }
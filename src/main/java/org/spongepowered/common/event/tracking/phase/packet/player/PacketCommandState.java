@@ -78,7 +78,7 @@ public void postBlockTransactionApplication(final BlockChange blockChange, final
         // We have to check if there is a player, because command blocks can be triggered
         // without player interaction.
         // Fixes https://github.com/SpongePowered/SpongeForge/issues/2442
-        PhaseTracker.getCauseStackManager().currentCause().first(User.class).ifPresent(user -> {
+        PhaseTracker.getInstance().firstCause(User.class).ifPresent(user -> {
             TrackingUtil.associateTrackerToTarget(blockChange, transaction, user);
         });
    }
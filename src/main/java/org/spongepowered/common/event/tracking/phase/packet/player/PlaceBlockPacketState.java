@@ -100,7 +100,7 @@ public void postBlockTransactionApplication(final BlockChange blockChange, final
     public void appendNotifierToBlockEvent(final BasicPacketContext context,
         final TrackedWorldBridge mixinWorldServer, final BlockPos pos, final TrackerBlockEventDataBridge blockEvent
     ) {
-        final Player player = PhaseTracker.getCauseStackManager().currentCause().first(Player.class).get();
+        final Player player = PhaseTracker.getInstance().firstCause(Player.class).get();
         final BlockState state = ((ServerWorld) mixinWorldServer).block(pos.getX(), pos.getY(), pos.getZ());
         final LocatableBlock locatable =
                 new SpongeLocatableBlockBuilder().world((ServerWorld) mixinWorldServer).position(pos.getX(), pos.getY(), pos.getZ()).state(state).build();
@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.map.canvas;
 
-import com.google.common.primitives.Bytes;
 import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.map.MapCanvas;
@@ -58,7 +57,7 @@ public int contentVersion() {
 
     @Override
     public DataContainer toContainer() {
-        return DataContainer.createNew().set(Constants.Map.MAP_CANVAS, Bytes.asList(this.canvas));
+        return DataContainer.createNew().set(Constants.Map.MAP_CANVAS, this.canvas);
     }
 
     @Override
@@ -27,17 +27,29 @@
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.Level;
 import org.spongepowered.api.scheduler.ScheduledTask;
-import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.util.PrettyPrinter;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -48,27 +60,58 @@ public final class AsyncScheduler extends SpongeScheduler {
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
     private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                                                   .setNameFormat("Sponge-AsyncScheduler-%d")
-                                                                                   .build());
+    // The thread pool of asynchronous tasks, configured in the scheduler category.
+    private final ExecutorService executor;
+    private final AsyncTaskExecutor taskExecutor;
+    // Tasks started during a tick, submitted to the thread pool once the
+    // lock is released. Only accessed by the scheduler thread.
+    private final List<Runnable> startedTasks = new ArrayList<>();
     private volatile boolean running = true;
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
 
     public AsyncScheduler() {
         super("A");
 
+        final SchedulerCategory.AsyncSubCategory config = SpongeConfigs.getCommon().get().scheduler.async;
+        this.executor = AsyncScheduler.createExecutor(config);
+        this.taskExecutor = new AsyncTaskExecutor(this.executor, config);
+
         final Thread thread = new Thread(AsyncScheduler.this::mainLoop);
         thread.setName("Sponge Async Scheduler Thread");
         thread.setDaemon(true);
         thread.start();
     }
 
+    private static ExecutorService createExecutor(final SchedulerCategory.AsyncSubCategory config) {
+        final int poolSize = config.poolSize > 0 ? config.poolSize : Runtime.getRuntime().availableProcessors();
+        switch (config.poolType) {
+            case FIXED:
+                final BlockingQueue<Runnable> queue = config.queueSize > 0
+                        ? new ArrayBlockingQueue<>(config.queueSize)
+                        : new LinkedBlockingQueue<>();
+                return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue, AsyncScheduler.threadFactory());
+            case WORK_STEALING:
+                final AtomicInteger threadCount = new AtomicInteger();
+                return new ForkJoinPool(poolSize, pool -> {
+                    final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("Sponge-AsyncScheduler-" + threadCount.getAndIncrement());
+                    return thread;
+                }, null, true);
+            case CACHED:
+            default:
+                return Executors.newCachedThreadPool(AsyncScheduler.threadFactory());
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        return new ThreadFactoryBuilder()
+                .setNameFormat("Sponge-AsyncScheduler-%d")
+                .build();
+    }
+
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (this.running) {
             this.recalibrateMinimumTimeout();
             this.runTick();
@@ -78,40 +121,8 @@ private void mainLoop() {
     private void recalibrateMinimumTimeout() {
         this.lock.lock();
         try {
-            final Set<ScheduledTask> tasks = this.tasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                final long timeSinceLast = now - task.timestamp();
-
-                if (task.task.delay > 0 && task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.state().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                final long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
+            // Tasks still executing are not queued, we'll signal when they complete.
+            this.minimumTimeout = this.timeUntilNextTask();
         } finally {
             this.lock.unlock();
         }
@@ -122,6 +133,7 @@ protected void addTask(final SpongeScheduledTask task) {
         this.lock.lock();
         try {
             super.addTask(task);
+            this.stateChanged.set(true);
             this.condition.signalAll();
         } finally {
             this.lock.unlock();
@@ -147,14 +159,19 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
         this.lock.unlock();
+        // Submitting may block or run the task right here if the pool is
+        // saturated, which must not keep other threads from adding tasks
+        for (final Runnable task : this.startedTasks) {
+            try {
+                task.run();
+            } catch (final Throwable t) {
+                SpongeCommon.logger().error("The async scheduler failed to submit a task", t);
+            }
+        }
+        this.startedTasks.clear();
     }
 
     @Override
@@ -172,11 +189,61 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
 
     @Override
     protected void executeTaskRunnable(final SpongeScheduledTask task, final Runnable runnable) {
-        this.executor.submit(runnable);
+        this.startedTasks.add(() -> this.taskExecutor.execute(task.owner(), runnable, () -> {
+            // A task that does not repeat would never run, so it is cancelled instead
+            if (task.task.interval == 0L) {
+                task.cancel();
+            }
+        }));
     }
 
     public <T> CompletableFuture<T> submit(final Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.executor);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        this.taskExecutor.execute(null, () -> {
+            try {
+                future.complete(callable.call());
+            } catch (final Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }, () -> future.completeExceptionally(new RejectedExecutionException("The async scheduler is overloaded")));
+        return future;
+    }
+
+    /**
+     * Gets the number of async tasks which finished running.
+     *
+     * @return The number of tasks
+     */
+    public long completedTasks() {
+        return this.taskExecutor.completedTasks();
+    }
+
+    /**
+     * Gets the number of async tasks which did not fit into the queue of
+     * the thread pool.
+     *
+     * @return The number of tasks
+     */
+    public long rejectedTasks() {
+        return this.taskExecutor.rejectedTasks();
+    }
+
+    /**
+     * Gets the total time async tasks waited for a thread.
+     *
+     * @return The time in nanoseconds
+     */
+    public long taskWaitTime() {
+        return this.taskExecutor.waitTime();
+    }
+
+    /**
+     * Gets the total time async tasks were running.
+     *
+     * @return The time in nanoseconds
+     */
+    public long taskRunTime() {
+        return this.taskExecutor.runTime();
     }
 
     public void close() {
@@ -0,0 +1,217 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the tasks of the {@link AsyncScheduler} on its thread pool, limits
+ * how many tasks of a plugin run at the same time and measures how long
+ * tasks wait for a thread and how long they run.
+ */
+final class AsyncTaskExecutor {
+
+    private static final Logger LOGGER = LogManager.getLogger(AsyncTaskExecutor.class);
+
+    private final ExecutorService executor;
+    private final SchedulerCategory.RejectionPolicy rejectionPolicy;
+    private final int pluginConcurrency;
+    private final Map<String, Integer> pluginConcurrencyOverrides;
+    private final Map<PluginContainer, PluginLane> lanes = new ConcurrentHashMap<>();
+
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder waitTime = new LongAdder();
+    private final LongAdder runTime = new LongAdder();
+
+    AsyncTaskExecutor(final ExecutorService executor, final SchedulerCategory.AsyncSubCategory config) {
+        this.executor = executor;
+        this.rejectionPolicy = config.rejectionPolicy;
+        this.pluginConcurrency = config.pluginConcurrency;
+        this.pluginConcurrencyOverrides = config.pluginConcurrencyOverrides;
+    }
+
+    /**
+     * Runs the runnable on the thread pool once the plugin is below its
+     * concurrency limit.
+     *
+     * @param plugin The plugin owning the runnable, or null if it is not
+     *     limited
+     * @param runnable The runnable
+     * @param discarded Called instead of the runnable if it is discarded
+     *     because the thread pool is saturated
+     */
+    void execute(final @Nullable PluginContainer plugin, final Runnable runnable, final Runnable discarded) {
+        final Submission submission = new Submission(runnable, discarded);
+        if (plugin == null) {
+            this.start(null, submission);
+            return;
+        }
+        final PluginLane lane = this.lanes.computeIfAbsent(plugin, this::createLane);
+        if (lane.tryAcquire(submission)) {
+            this.start(lane, submission);
+        }
+    }
+
+    private PluginLane createLane(final PluginContainer plugin) {
+        return new PluginLane(this.pluginConcurrencyOverrides.getOrDefault(plugin.metadata().id(), this.pluginConcurrency));
+    }
+
+    private void start(final @Nullable PluginLane lane, final Submission first) {
+        // Submissions the pool rejects run or are discarded right here, after which the slot
+        // of the lane passes on to the next one in this loop rather than recursing into it
+        @Nullable Submission submission = first;
+        while (submission != null) {
+            final Submission current = submission;
+            final long submitted = System.nanoTime();
+            try {
+                this.executor.execute(() -> this.run(lane, current, submitted, true));
+                return;
+            } catch (final RejectedExecutionException e) {
+                this.rejectedTasks.increment();
+                if (this.rejectionPolicy == SchedulerCategory.RejectionPolicy.CALLER_RUNS && !this.executor.isShutdown()) {
+                    try {
+                        this.run(lane, current, submitted, false);
+                    } catch (final Throwable t) {
+                        AsyncTaskExecutor.LOGGER.error("An async task failed on the submitting thread", t);
+                    }
+                } else {
+                    AsyncTaskExecutor.LOGGER.warn("The async scheduler is overloaded, a task has been discarded.");
+                    try {
+                        current.discarded.run();
+                    } catch (final Throwable t) {
+                        AsyncTaskExecutor.LOGGER.error("Failed to discard an async task", t);
+                    }
+                }
+                submission = lane == null ? null : lane.release();
+            }
+        }
+    }
+
+    private void run(final @Nullable PluginLane lane, final Submission submission, final long submitted, final boolean release) {
+        final long started = System.nanoTime();
+        this.waitTime.add(started - submitted);
+        try {
+            submission.runnable.run();
+        } finally {
+            this.runTime.add(System.nanoTime() - started);
+            this.completedTasks.increment();
+            if (release && lane != null) {
+                final @Nullable Submission next = lane.release();
+                if (next != null) {
+                    this.start(lane, next);
+                }
+            }
+        }
+    }
+
+    long completedTasks() {
+        return this.completedTasks.sum();
+    }
+
+    long rejectedTasks() {
+        return this.rejectedTasks.sum();
+    }
+
+    /**
+     * Gets the total time tasks waited for a thread, after they were
+     * allowed to run by the concurrency limit of their plugin.
+     *
+     * @return The time in nanoseconds
+     */
+    long waitTime() {
+        return this.waitTime.sum();
+    }
+
+    /**
+     * Gets the total time tasks were running.
+     *
+     * @return The time in nanoseconds
+     */
+    long runTime() {
+        return this.runTime.sum();
+    }
+
+    private static final class Submission {
+
+        final Runnable runnable;
+        final Runnable discarded;
+
+        Submission(final Runnable runnable, final Runnable discarded) {
+            this.runnable = runnable;
+            this.discarded = discarded;
+        }
+    }
+
+    private static final class PluginLane {
+
+        private final int limit;
+        private final ArrayDeque<Submission> waiting = new ArrayDeque<>();
+        private int running;
+
+        PluginLane(final int limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * Takes a slot for the submission, or queues it until one is released.
+         *
+         * @param submission The submission
+         * @return Whether the submission may start now
+         */
+        synchronized boolean tryAcquire(final Submission submission) {
+            if (this.limit <= 0 || this.running < this.limit) {
+                this.running++;
+                return true;
+            }
+            this.waiting.add(submission);
+            return false;
+        }
+
+        /**
+         * Releases a slot, or passes it to the next waiting submission.
+         *
+         * @return The submission to start with the slot
+         */
+        synchronized @Nullable Submission release() {
+            final @Nullable Submission next = this.waiting.poll();
+            if (next == null) {
+                this.running--;
+            }
+            return next;
+        }
+    }
+}
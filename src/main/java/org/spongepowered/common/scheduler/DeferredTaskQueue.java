@@ -0,0 +1,162 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The due tasks of a {@link SpongeScheduler} which could not run within the
+ * time budget of a tick yet.
+ *
+ * <p>Tasks are polled by priority, and within a priority the plugins owning
+ * the tasks take turns, so a single plugin with many tasks cannot hold back
+ * the tasks of all other plugins.</p>
+ */
+final class DeferredTaskQueue {
+
+    private final EnumMap<TaskPriority, Turns> turns = new EnumMap<>(TaskPriority.class);
+    private int size;
+    private long deferrals;
+    private long ticks;
+    private long depths;
+
+    DeferredTaskQueue() {
+        for (final TaskPriority priority : TaskPriority.values()) {
+            this.turns.put(priority, new Turns());
+        }
+    }
+
+    void add(final SpongeScheduledTask task) {
+        this.turns.get(task.task.priority()).add(task);
+        this.size++;
+    }
+
+    @Nullable SpongeScheduledTask poll() {
+        if (this.size == 0) {
+            return null;
+        }
+        for (final Turns turns : this.turns.values()) {
+            final @Nullable SpongeScheduledTask task = turns.poll();
+            if (task != null) {
+                this.size--;
+                return task;
+            }
+        }
+        return null;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Records the number of queued tasks a tick starts to process with.
+     */
+    void sampleDepth() {
+        this.ticks++;
+        this.depths += this.size;
+    }
+
+    /**
+     * Counts the tasks left in the queue as deferred to the next tick.
+     */
+    void deferRemaining() {
+        this.deferrals += this.size;
+    }
+
+    /**
+     * Gets the number of tasks waiting for their turn.
+     *
+     * @return The number of tasks
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets how often a task was deferred to the next tick.
+     *
+     * @return The number of deferrals
+     */
+    long deferrals() {
+        return this.deferrals;
+    }
+
+    /**
+     * Gets the average number of tasks deferred to the next tick, over all
+     * ticks processed within a budget.
+     *
+     * @return The average number of deferrals per tick
+     */
+    double averageDeferrals() {
+        return this.ticks == 0L ? 0.0D : (double) this.deferrals / this.ticks;
+    }
+
+    /**
+     * Gets the average number of queued tasks at the start of processing,
+     * over all ticks processed within a budget.
+     *
+     * @return The average queue depth per tick
+     */
+    double averageDepth() {
+        return this.ticks == 0L ? 0.0D : (double) this.depths / this.ticks;
+    }
+
+    private static final class Turns {
+
+        private final Map<PluginContainer, ArrayDeque<SpongeScheduledTask>> byPlugin = new IdentityHashMap<>();
+        private final ArrayDeque<ArrayDeque<SpongeScheduledTask>> order = new ArrayDeque<>();
+
+        void add(final SpongeScheduledTask task) {
+            final ArrayDeque<SpongeScheduledTask> tasks = this.byPlugin.computeIfAbsent(task.owner(), plugin -> {
+                final ArrayDeque<SpongeScheduledTask> queue = new ArrayDeque<>();
+                this.order.add(queue);
+                return queue;
+            });
+            tasks.add(task);
+        }
+
+        @Nullable SpongeScheduledTask poll() {
+            final @Nullable ArrayDeque<SpongeScheduledTask> tasks = this.order.poll();
+            if (tasks == null) {
+                return null;
+            }
+            final SpongeScheduledTask task = tasks.poll();
+            if (tasks.isEmpty()) {
+                this.byPlugin.remove(task.owner());
+            } else {
+                // The next plugin gets its turn first
+                this.order.add(tasks);
+            }
+            return task;
+        }
+    }
+}
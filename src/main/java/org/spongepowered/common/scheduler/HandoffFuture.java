@@ -0,0 +1,109 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.scheduler.TaskFuture;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * The future of work handed over through a {@link MainThreadHandoff}.
+ *
+ * <p>There is no scheduled task behind it, one is only created once it is
+ * asked for through {@link #task()}.</p>
+ */
+final class HandoffFuture<V> extends FutureTask<V> implements TaskFuture<V> {
+
+    private final Supplier<Task.Builder> taskBuilderProvider;
+    private @Nullable ScheduledTask task;
+
+    HandoffFuture(final Callable<V> callable, final Supplier<Task.Builder> taskBuilderProvider) {
+        super(callable);
+        this.taskBuilderProvider = taskBuilderProvider;
+    }
+
+    HandoffFuture(final Runnable runnable, final @Nullable V result, final Supplier<Task.Builder> taskBuilderProvider) {
+        super(runnable, result);
+        this.taskBuilderProvider = taskBuilderProvider;
+    }
+
+    /**
+     * Completes this future exceptionally, if the runnable could not be run.
+     *
+     * @param failure The reason
+     */
+    void fail(final Throwable failure) {
+        this.setException(failure);
+    }
+
+    @Override
+    public synchronized ScheduledTask task() {
+        if (this.task == null) {
+            this.task = new HandoffTask(this.taskBuilderProvider.get().execute(this).build());
+        }
+        return this.task;
+    }
+
+    private final class HandoffTask implements ScheduledTask {
+
+        private final Task task;
+        private final UUID id = UUID.randomUUID();
+
+        HandoffTask(final Task task) {
+            this.task = task;
+        }
+
+        @Override
+        public UUID uniqueId() {
+            return this.id;
+        }
+
+        @Override
+        public String name() {
+            return this.task.name();
+        }
+
+        @Override
+        public Task task() {
+            return this.task;
+        }
+
+        @Override
+        public boolean cancel() {
+            return HandoffFuture.this.cancel(false);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return HandoffFuture.this.isCancelled();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * A lock-free queue of runnables handed over to the thread of a
+ * {@link SyncScheduler}, which runs them once per tick.
+ *
+ * <p>Unlike tasks, a hand-off costs a single queue node: producers push
+ * onto a linked stack with a compare-and-set, the scheduler thread takes the
+ * whole stack at once and runs it in submission order. Runnables handed
+ * over while draining run on the next tick, as do runnables which did not
+ * fit into the time budget of the tick.</p>
+ */
+final class MainThreadHandoff {
+
+    private static final Logger LOGGER = LogManager.getLogger(MainThreadHandoff.class);
+
+    private final AtomicReference<Node> head = new AtomicReference<>();
+    // Taken from the stack but not run yet, in submission order, only
+    // accessed by the scheduler thread
+    private @Nullable Node pending;
+    private @Nullable Node pendingTail;
+
+    /**
+     * Hands the runnable over to the scheduler thread, may be called from
+     * any thread.
+     *
+     * @param plugin The plugin handing over the runnable
+     * @param runnable The runnable
+     */
+    void execute(final PluginContainer plugin, final Runnable runnable) {
+        final Node node = new Node(plugin, runnable);
+        @Nullable Node head;
+        do {
+            head = this.head.get();
+            node.next = head;
+        } while (!this.head.compareAndSet(head, node));
+    }
+
+    /**
+     * Runs the runnables handed over so far until the deadline passes, must
+     * be called from the scheduler thread. At least one runnable is run, the
+     * remaining ones are kept for the next call. Exceptions are caught and
+     * logged. If the executor fails before running a batch, the first
+     * runnable of the batch is completed exceptionally if it is a future,
+     * or run without the executor otherwise, so it is never lost.
+     *
+     * <p>Consecutive runnables of the same plugin are passed to the executor
+     * as a single batch, so it can set up the plugin once for all of
+     * them.</p>
+     *
+     * @param deadline The {@link System#nanoTime()} after which no further
+     *     runnable is started, or {@link Long#MAX_VALUE} to run all of them
+     * @param executor Runs a batch of runnables for their plugin
+     */
+    void drain(final long deadline, final BiConsumer<PluginContainer, Runnable> executor) {
+        this.takeSubmitted();
+        boolean first = true;
+        @Nullable Node batch;
+        while ((batch = this.pending) != null && (first || System.nanoTime() < deadline)) {
+            first = false;
+            final PluginContainer plugin = batch.plugin;
+            @Nullable Throwable failure = null;
+            try {
+                executor.accept(plugin, () -> this.runBatch(plugin, deadline));
+            } catch (final Throwable t) {
+                MainThreadHandoff.LOGGER.error("The Scheduler tried to run tasks handed over by '{}' but an error occurred.",
+                        plugin.metadata().id(), t);
+                failure = t;
+            }
+            if (this.pending == batch) {
+                // The batch never started, take its first runnable off the queue so it keeps moving
+                this.pending = batch.next;
+                this.abandon(batch, failure == null ? new IllegalStateException("The batch was never run") : failure);
+            }
+        }
+        if (this.pending == null) {
+            this.pendingTail = null;
+        }
+    }
+
+    private void abandon(final Node node, final Throwable failure) {
+        if (node.runnable instanceof HandoffFuture) {
+            ((HandoffFuture<?>) node.runnable).fail(failure);
+            return;
+        }
+        // Nothing else would ever learn about it, so it is rather run without its plugin set up
+        try {
+            node.runnable.run();
+        } catch (final Throwable t) {
+            MainThreadHandoff.LOGGER.error("The Scheduler tried to run a task handed over by '{}' but an error occurred.",
+                    node.plugin.metadata().id(), t);
+        }
+    }
+
+    private void runBatch(final PluginContainer plugin, final long deadline) {
+        @Nullable Node node = this.pending;
+        if (node == null) {
+            return;
+        }
+        do {
+            this.pending = node.next;
+            try {
+                node.runnable.run();
+            } catch (final Throwable t) {
+                MainThreadHandoff.LOGGER.error("The Scheduler tried to run a task handed over by '{}' but an error occurred.",
+                        plugin.metadata().id(), t);
+            }
+            node = this.pending;
+        } while (node != null && node.plugin == plugin && System.nanoTime() < deadline);
+    }
+
+    private void takeSubmitted() {
+        @Nullable Node node = this.head.getAndSet(null);
+        if (node == null) {
+            return;
+        }
+        // The stack is in reverse submission order
+        final Node tail = node;
+        @Nullable Node reversed = null;
+        while (node != null) {
+            final @Nullable Node next = node.next;
+            node.next = reversed;
+            reversed = node;
+            node = next;
+        }
+        if (this.pendingTail == null) {
+            this.pending = reversed;
+        } else {
+            this.pendingTail.next = reversed;
+        }
+        this.pendingTail = tail;
+    }
+
+    private static final class Node {
+
+        final PluginContainer plugin;
+        final Runnable runnable;
+        @Nullable Node next;
+
+        Node(final PluginContainer plugin, final Runnable runnable) {
+            this.plugin = plugin;
+            this.runnable = runnable;
+        }
+    }
+}
@@ -24,8 +24,11 @@
  */
 package org.spongepowered.common.scheduler;
 
+import com.google.common.collect.ImmutableSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.world.entity.player.PlayerInventoryBridge;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -33,8 +36,15 @@
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.plugin.PluginContainer;
 
+import java.util.List;
+import java.util.Set;
+
 public final class ServerScheduler extends SyncScheduler {
 
+    // The configured list the set was copied from, a reload replaces it
+    private @Nullable List<String> mustRunPluginsSource;
+    private Set<String> mustRunPlugins = ImmutableSet.of();
+
     public ServerScheduler() {
         super("S");
     }
@@ -51,6 +61,27 @@ public void tick() {
         }
     }
 
+    @Override
+    protected long tickBudget() {
+        return (long) (SpongeConfigs.getCommon().get().scheduler.tickBudget * 1_000_000);
+    }
+
+    @Override
+    protected void preTick() {
+        super.preTick();
+        final List<String> mustRunPlugins = SpongeConfigs.getCommon().get().scheduler.mustRunPlugins;
+        if (mustRunPlugins != this.mustRunPluginsSource) {
+            this.mustRunPluginsSource = mustRunPlugins;
+            this.mustRunPlugins = ImmutableSet.copyOf(mustRunPlugins);
+        }
+    }
+
+    @Override
+    protected boolean mustRun(final SpongeScheduledTask task) {
+        return super.mustRun(task)
+                || (!this.mustRunPlugins.isEmpty() && this.mustRunPlugins.contains(task.owner().metadata().id()));
+    }
+
     @Override
     protected void executeTaskRunnable(final SpongeScheduledTask task, final Runnable runnable) {
         try (final BasicPluginContext context = PluginPhase.State.SCHEDULED_TASK.createPhaseContext(PhaseTracker.SERVER)
@@ -60,6 +91,25 @@ protected void executeTaskRunnable(final SpongeScheduledTask task, final Runnabl
         }
     }
 
+    @Override
+    protected void executeHandoffs(final PluginContainer plugin, final Runnable batch) {
+        // A new context per batch, if it cannot be switched to the batch is
+        // not run and the scheduler fails its runnables instead
+        @Nullable BasicPluginContext context = null;
+        try {
+            final BasicPluginContext created = PluginPhase.State.SCHEDULED_TASK.createPhaseContext(PhaseTracker.SERVER)
+                    .source(plugin)
+                    .container(plugin);
+            created.buildAndSwitch();
+            context = created;
+            super.executeHandoffs(plugin, batch);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
     @Override
     protected PhaseContext<?> createContext(final SpongeScheduledTask task, final PluginContainer container) {
         return PluginPhase.State.SCHEDULED_TASK.createPhaseContext(PhaseTracker.SERVER)
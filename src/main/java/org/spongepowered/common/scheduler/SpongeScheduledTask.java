@@ -25,10 +25,12 @@
 package org.spongepowered.common.scheduler;
 
 import com.google.common.base.MoreObjects;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.scheduler.Task;
 
 import java.util.UUID;
+import java.util.concurrent.Future;
 
 /**
  * An internal representation of a {@link Task} created by a plugin.
@@ -41,7 +43,13 @@ public final class SpongeScheduledTask implements ScheduledTask {
     private final String name;
     private long timestamp;
     private ScheduledTaskState state;
-    private boolean isCancelled = false;
+    private volatile boolean isCancelled = false;
+    // The future completed by running the task, if it was submitted through an executor service
+    private volatile @Nullable Future<?> future;
+    // The position of the task in the TaskQueue of the scheduler
+    long queuedTimestamp;
+    boolean queuedTickBased;
+    long queuedOrder;
 
     SpongeScheduledTask(SpongeScheduler scheduler, SpongeTask task, String taskName) {
         this.scheduler = scheduler;
@@ -74,8 +82,17 @@ public boolean cancel() {
                 || this.state() == ScheduledTaskState.EXECUTING) {
             success = true;
         }
+        final boolean executing = this.state() == ScheduledTaskState.EXECUTING;
         this.state = ScheduledTaskState.CANCELED;
-        this.isCancelled = true;
+        if (!this.isCancelled) {
+            this.isCancelled = true;
+            this.scheduler.removeCancelledTask(this);
+        }
+        final @Nullable Future<?> future = this.future;
+        if (future != null && !executing) {
+            // The task will not run anymore, so nothing would ever complete the future
+            future.cancel(false);
+        }
         return success;
     }
 
@@ -118,6 +135,14 @@ void setState(ScheduledTaskState state) {
         this.state = state;
     }
 
+    void setFuture(final Future<?> future) {
+        this.future = future;
+        // The task may have been cancelled before the future was known
+        if (this.isCancelled && this.state() != ScheduledTaskState.EXECUTING) {
+            future.cancel(false);
+        }
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
@@ -36,7 +36,9 @@
 import co.aikar.timings.sponge.TimingsManager;
 import org.spongepowered.plugin.PluginContainer;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -57,8 +59,14 @@ public abstract class SpongeScheduler implements Scheduler {
 
     private final String tag;
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // All pending (and running) ScheduledTasks by their id
     private final Map<UUID, SpongeScheduledTask> taskMap = new ConcurrentHashMap<>();
+    // The same tasks, ordered by their next execution
+    private final TaskQueue taskQueue = new TaskQueue();
+    // Repeating tasks which were due while their previous execution was still running
+    private final List<SpongeScheduledTask> executingTasks = new ArrayList<>();
+    // Due tasks which did not fit into the time budget of a tick
+    private final DeferredTaskQueue deferredTasks = new DeferredTaskQueue();
     private long sequenceNumber = 0L;
 
     SpongeScheduler(final String tag) {
@@ -89,6 +97,7 @@ protected long timestamp(final boolean tickBased) {
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.timestamp(task.task.tickBasedDelay));
         this.taskMap.put(task.uniqueId(), task);
+        this.taskQueue.submit(task, task.task.tickBasedDelay, task.timestamp() + task.task.delay);
     }
 
     /**
@@ -100,6 +109,39 @@ private void removeTask(final SpongeScheduledTask task) {
         this.taskMap.remove(task.uniqueId());
     }
 
+    /**
+     * Removes a task which was just cancelled from the task map, it is
+     * dropped from the task queue once it is reached.
+     *
+     * @param task The cancelled task
+     */
+    void removeCancelledTask(final SpongeScheduledTask task) {
+        if (this.taskMap.remove(task.uniqueId()) != null) {
+            this.taskQueue.cancelled();
+        }
+    }
+
+    /**
+     * Gets the time until the next queued task is due, must be called from
+     * the thread processing this scheduler.
+     *
+     * @return The time in nanoseconds, or {@link Long#MAX_VALUE} if no task
+     *     is queued
+     */
+    protected final long timeUntilNextTask() {
+        this.taskQueue.update();
+        final long tickBased = this.taskQueue.nextTimestamp(true);
+        final long realTime = this.taskQueue.nextTimestamp(false);
+        long timeout = Long.MAX_VALUE;
+        if (tickBased != Long.MAX_VALUE) {
+            timeout = Math.min(timeout, tickBased - this.timestamp(true));
+        }
+        if (realTime != Long.MAX_VALUE) {
+            timeout = Math.min(timeout, realTime - this.timestamp(false));
+        }
+        return Math.max(timeout, 0L);
+    }
+
     @Override
     public Optional<ScheduledTask> findTask(final UUID id) {
         Objects.requireNonNull(id, "id");
@@ -166,13 +208,35 @@ public SpongeScheduledTask submit(final Task task) {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks which are due.
      */
     final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.taskQueue.update();
+            if (!this.executingTasks.isEmpty()) {
+                // These were due before, try again now that they may have finished
+                final List<SpongeScheduledTask> executingTasks = new ArrayList<>(this.executingTasks);
+                this.executingTasks.clear();
+                executingTasks.forEach(this::processTask);
+            }
+            // This moment is 'now'. Tasks started now are queued again after
+            // it, so every task is processed at most once.
+            final long tickTimestamp = this.timestamp(true);
+            final long realTimestamp = this.timestamp(false);
+            final long budget = this.tickBudget();
+            final long start = System.nanoTime();
+            // Hand-offs may use up to half of the budget, tasks get the rest
+            this.processHandoffs(budget > 0L ? start + budget / 2 : Long.MAX_VALUE);
+            if (budget > 0L || !this.deferredTasks.isEmpty()) {
+                this.processTasksWithinBudget(tickTimestamp, realTimestamp, budget > 0L ? start + budget : Long.MAX_VALUE);
+            } else {
+                @Nullable SpongeScheduledTask task;
+                while ((task = this.taskQueue.poll(tickTimestamp, realTimestamp)) != null) {
+                    this.processTask(task);
+                }
+            }
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -180,6 +244,103 @@ final void runTick() {
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    /**
+     * Processes the due tasks until the time budget is used up, the others
+     * are deferred to the next tick. Due tasks are not processed in the order
+     * they became due, but in turns between their plugins.
+     *
+     * @param tickTimestamp The current tick based timestamp
+     * @param realTimestamp The current real time timestamp
+     * @param deadline The {@link System#nanoTime()} after which tasks are
+     *     deferred, or {@link Long#MAX_VALUE} to process all tasks
+     */
+    private void processTasksWithinBudget(final long tickTimestamp, final long realTimestamp, final long deadline) {
+        @Nullable SpongeScheduledTask task;
+        while ((task = this.taskQueue.poll(tickTimestamp, realTimestamp)) != null) {
+            if (this.mustRun(task)) {
+                this.processTask(task);
+            } else {
+                this.deferredTasks.add(task);
+            }
+        }
+        this.deferredTasks.sampleDepth();
+        while (System.nanoTime() < deadline && (task = this.deferredTasks.poll()) != null) {
+            this.processTask(task);
+        }
+        this.deferredTasks.deferRemaining();
+    }
+
+    /**
+     * Runs work handed over to this scheduler outside of tasks, before the
+     * due tasks are processed.
+     *
+     * @param deadline The {@link System#nanoTime()} after which the
+     *     remaining work is carried over to the next tick, or
+     *     {@link Long#MAX_VALUE} to run all of it
+     */
+    protected void processHandoffs(final long deadline) {
+    }
+
+    /**
+     * Gets the time this scheduler may spend on processing tasks each tick.
+     *
+     * @return The time budget in nanoseconds, or 0 if there is no budget
+     */
+    protected long tickBudget() {
+        return 0L;
+    }
+
+    /**
+     * Gets whether the task has to be processed as soon as it is due, even
+     * if the time budget of the tick is used up.
+     *
+     * @param task The task
+     * @return Whether the task must run
+     */
+    protected boolean mustRun(final SpongeScheduledTask task) {
+        return task.task.priority() == TaskPriority.MUST_RUN;
+    }
+
+    /**
+     * Gets the number of due tasks waiting for their turn because of the
+     * time budget.
+     *
+     * @return The number of deferred tasks
+     */
+    public int deferredTaskCount() {
+        return this.deferredTasks.size();
+    }
+
+    /**
+     * Gets how often due tasks were deferred to the next tick because of
+     * the time budget.
+     *
+     * @return The number of deferrals
+     */
+    public long deferrals() {
+        return this.deferredTasks.deferrals();
+    }
+
+    /**
+     * Gets the average number of due tasks deferred to the next tick per
+     * tick processed within the time budget.
+     *
+     * @return The average number of deferrals
+     */
+    public double averageDeferrals() {
+        return this.deferredTasks.averageDeferrals();
+    }
+
+    /**
+     * Gets the average number of due tasks waiting for their turn at the
+     * start of a tick processed within the time budget.
+     *
+     * @return The average queue depth
+     */
+    public double averageDeferredTaskCount() {
+        return this.deferredTasks.averageDepth();
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -200,7 +361,7 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task which is due.
      *
      * @param task The task to process
      */
@@ -214,40 +375,21 @@ private void processTask(final SpongeScheduledTask task) {
         // If the task is already being processed, we wait for the previous
         // occurrence to terminate.
         if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
+            this.executingTasks.add(task);
             return;
         }
-        final long threshold;
-        final boolean tickBased;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-            tickBased = task.task.tickBasedDelay;
-        } else if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-            tickBased = task.task.tickBasedInterval;
-        } else {
-            threshold = Long.MAX_VALUE;
-            tickBased = false;
-        }
-        // This moment is 'now'
-        final long now = this.timestamp(tickBased);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        // It is always interval here because that's the only thing that matters
+        // at this point.
+        task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
         // If the task has a interval of 0 (zero) this task will not repeat, and
         // is removed after we start it.
-        if (threshold <= (now - task.timestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            // It is always interval here because that's the only thing that matters
-            // at this point.
-            task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
+        } else {
+            this.taskQueue.requeue(task, task.task.tickBasedInterval, task.timestamp() + task.task.interval);
         }
+        this.startTask(task);
     }
 
     /**
@@ -302,7 +444,11 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
 
     public <V> Future<V> execute(final Callable<V> callable) {
         final FutureTask<V> runnable = new FutureTask<>(callable);
-        this.submit(new SpongeTaskBuilder().execute(runnable).plugin(Launch.instance().commonPlugin()).build());
+        this.submit(new SpongeTaskBuilder()
+                .priority(TaskPriority.MUST_RUN)
+                .execute(runnable)
+                .plugin(Launch.instance().commonPlugin())
+                .build());
         return runnable;
     }
 
@@ -47,6 +47,7 @@ public final class SpongeTask implements Task {
     final boolean tickBasedDelay;
     final boolean tickBasedInterval;
     final @Nullable String customName;
+    private final TaskPriority priority;
     private final PluginContainer owner;
     private final Consumer<ScheduledTask> consumer;
     private final String name;
@@ -55,7 +56,7 @@ public final class SpongeTask implements Task {
 
     SpongeTask(final Consumer<ScheduledTask> task, final String name, final String customName,
                final PluginContainer pluginContainer, final long delay, final long interval,
-               final boolean tickBasedDelay, final boolean tickBasedInterval) {
+               final boolean tickBasedDelay, final boolean tickBasedInterval, final TaskPriority priority) {
         this.delay = delay;
         this.interval = interval;
         this.owner = pluginContainer;
@@ -64,6 +65,7 @@ public final class SpongeTask implements Task {
         this.customName = customName;
         this.tickBasedDelay = tickBasedDelay;
         this.tickBasedInterval = tickBasedInterval;
+        this.priority = priority;
     }
 
     @Override
@@ -91,6 +93,10 @@ public Consumer<ScheduledTask> consumer() {
         return this.consumer;
     }
 
+    public TaskPriority priority() {
+        return this.priority;
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
@@ -120,6 +126,7 @@ public static final class Builder implements Task.Builder {
         private long interval;
         private boolean tickBasedDelay;
         private boolean tickBasedInterval;
+        private TaskPriority priority = TaskPriority.NORMAL;
 
         @Override
         public Task.Builder execute(final Consumer<ScheduledTask> executor) {
@@ -214,6 +221,28 @@ public Task.Builder name(final String name) {
             return this;
         }
 
+        /**
+         * Sets how the task is treated once the server scheduler used up its
+         * time budget for a tick.
+         *
+         * @param priority The priority
+         * @return This builder, for chaining
+         */
+        public Builder priority(final TaskPriority priority) {
+            this.priority = Objects.requireNonNull(priority);
+            return this;
+        }
+
+        /**
+         * Makes the task run as soon as it is due, regardless of the time
+         * budget of the server scheduler.
+         *
+         * @return This builder, for chaining
+         */
+        public Builder mustRun() {
+            return this.priority(TaskPriority.MUST_RUN);
+        }
+
         @Override
         public Task.Builder plugin(final PluginContainer plugin) {
             this.plugin = Objects.requireNonNull(plugin);
@@ -232,6 +261,7 @@ public Task.Builder from(final Task value) {
             this.tickBasedDelay = task.tickBasedDelay;
             this.tickBasedInterval = task.tickBasedInterval;
             this.name = task.customName;
+            this.priority = task.priority();
             return this;
         }
 
@@ -244,6 +274,7 @@ public Task.Builder reset() {
             this.tickBasedDelay = false;
             this.tickBasedInterval = false;
             this.name = null;
+            this.priority = TaskPriority.NORMAL;
             return this;
         }
 
@@ -259,7 +290,7 @@ public Task build() {
                 name = this.name;
             }
             return new SpongeTask(this.consumer, name, this.name, this.plugin, this.delay, this.interval,
-                    this.tickBasedDelay, this.tickBasedInterval);
+                    this.tickBasedDelay, this.tickBasedInterval, this.priority);
         }
     }
 }
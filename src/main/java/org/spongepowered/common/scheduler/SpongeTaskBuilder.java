@@ -49,6 +49,7 @@ public final class SpongeTaskBuilder implements Task.Builder {
     private long interval;
     private boolean tickBasedDelay;
     private boolean tickBasedInterval;
+    private TaskPriority priority = TaskPriority.NORMAL;
 
     public SpongeTaskBuilder() {
     }
@@ -128,6 +129,28 @@ public Task.Builder name(final String name) {
         return this;
     }
 
+    /**
+     * Sets how the task is treated once the server scheduler used up its
+     * time budget for a tick.
+     *
+     * @param priority The priority
+     * @return This builder, for chaining
+     */
+    public SpongeTaskBuilder priority(final TaskPriority priority) {
+        this.priority = Objects.requireNonNull(priority, "priority");
+        return this;
+    }
+
+    /**
+     * Makes the task run as soon as it is due, regardless of the time
+     * budget of the server scheduler.
+     *
+     * @return This builder, for chaining
+     */
+    public SpongeTaskBuilder mustRun() {
+        return this.priority(TaskPriority.MUST_RUN);
+    }
+
     @Override
     public Task.Builder plugin(final PluginContainer plugin) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
@@ -150,7 +173,7 @@ public Task build() {
             name = this.name;
         }
         return new SpongeTask(this.consumer, name, this.name, this.plugin, this.delay, this.interval,
-                this.tickBasedDelay, this.tickBasedInterval);
+                this.tickBasedDelay, this.tickBasedInterval, this.priority);
     }
 
     @Override
@@ -163,6 +186,7 @@ public Task.Builder from(final Task value) {
         this.tickBasedDelay = task.tickBasedDelay;
         this.tickBasedInterval = task.tickBasedInterval;
         this.name = task.customName;
+        this.priority = task.priority();
         return this;
     }
 
@@ -175,6 +199,7 @@ public Task.Builder reset() {
         this.tickBasedDelay = false;
         this.tickBasedInterval = false;
         this.name = null;
+        this.priority = TaskPriority.NORMAL;
         return this;
     }
 
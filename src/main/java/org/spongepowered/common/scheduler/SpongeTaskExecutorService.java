@@ -40,6 +40,7 @@
 import java.util.concurrent.Callable;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -49,10 +50,18 @@ class SpongeTaskExecutorService extends AbstractExecutorService implements TaskE
 
     private final Supplier<Task.Builder> taskBuilderProvider;
     private final SpongeScheduler scheduler;
+    // Runs immediate, non-repeating work without creating a task
+    private final @Nullable Executor immediateExecutor;
 
     SpongeTaskExecutorService(final Supplier<Task.Builder> taskBuilderProvider, final SpongeScheduler scheduler) {
+        this(taskBuilderProvider, scheduler, null);
+    }
+
+    SpongeTaskExecutorService(final Supplier<Task.Builder> taskBuilderProvider, final SpongeScheduler scheduler,
+            final @Nullable Executor immediateExecutor) {
         this.taskBuilderProvider = taskBuilderProvider;
         this.scheduler = scheduler;
+        this.immediateExecutor = immediateExecutor;
     }
 
     @Override
@@ -89,6 +98,10 @@ public boolean awaitTermination(final long timeout, final TimeUnit unit) {
 
     @Override
     public void execute(final Runnable command) {
+        if (this.immediateExecutor != null) {
+            this.immediateExecutor.execute(command);
+            return;
+        }
         this.submitTask(this.createTask(command).build());
     }
 
@@ -99,6 +112,11 @@ public TaskFuture<?> submit(final Runnable command) {
 
     @Override
     public <T> TaskFuture<T> submit(final Runnable command, final @Nullable T result) {
+        if (this.immediateExecutor != null) {
+            final HandoffFuture<T> future = new HandoffFuture<>(command, result, this.taskBuilderProvider);
+            this.immediateExecutor.execute(future);
+            return future;
+        }
         final FutureTask<T> runnable = new FutureTask<>(command, result);
         final Task task = this.createTask(runnable)
                 .build();
@@ -107,6 +125,11 @@ public <T> TaskFuture<T> submit(final Runnable command, final @Nullable T result
 
     @Override
     public <T> TaskFuture<T> submit(final Callable<T> command) {
+        if (this.immediateExecutor != null) {
+            final HandoffFuture<T> future = new HandoffFuture<>(command, this.taskBuilderProvider);
+            this.immediateExecutor.execute(future);
+            return future;
+        }
         final FutureTask<T> runnable = new FutureTask<>(command);
         final Task task = this.createTask(runnable)
                 .build();
@@ -205,6 +228,8 @@ private SpongeScheduledTask submitTask(final Task task) {
             this.runnable = runnable;
             this.task = task;
             this.scheduler = scheduler;
+            // Cancelling the task, such as when the async scheduler discards it, cancels the runnable too
+            task.setFuture(runnable);
         }
 
         @Override
@@ -255,8 +280,10 @@ public void run() {
 
         @Override
         public boolean cancel(final boolean mayInterruptIfRunning) {
+            // The runnable goes first, cancelling the task cancels it as well
+            final boolean cancelled = this.runnable.cancel(mayInterruptIfRunning);
             this.task.cancel(); //Ensure Sponge is not going to try to run a cancelled task.
-            return this.runnable.cancel(mayInterruptIfRunning);
+            return cancelled;
         }
 
         @Override
@@ -24,10 +24,18 @@
  */
 package org.spongepowered.common.scheduler;
 
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.Objects;
+
 public abstract class SyncScheduler extends SpongeScheduler {
 
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
+    // Work handed over by the executors of this scheduler
+    private final MainThreadHandoff handoff = new MainThreadHandoff();
 
     SyncScheduler(final String tag) {
         super(tag);
@@ -41,6 +49,34 @@ public void tick() {
         this.runTick();
     }
 
+    @Override
+    protected void processHandoffs(final long deadline) {
+        this.handoff.drain(deadline, this::executeHandoffs);
+    }
+
+    @Override
+    public SpongeTaskExecutorService createExecutor(final PluginContainer plugin) {
+        Objects.requireNonNull(plugin, "plugin");
+        return new SpongeTaskExecutorService(() -> Task.builder().plugin(plugin), this,
+                runnable -> this.handoff.execute(plugin, runnable));
+    }
+
+    /**
+     * Runs a batch of runnables handed over by a single plugin through an
+     * executor of this scheduler.
+     *
+     * @param plugin The plugin which handed over the runnables
+     * @param batch Runs the runnables of the batch
+     */
+    protected void executeHandoffs(final PluginContainer plugin, final Runnable batch) {
+        try {
+            SpongeCommon.setActivePlugin(plugin);
+            batch.run();
+        } finally {
+            SpongeCommon.setActivePlugin(null);
+        }
+    }
+
     @Override
     protected long timestamp(final boolean tickBased) {
         // The task is based on minecraft ticks, so we generate
@@ -0,0 +1,163 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The pending tasks of a {@link SpongeScheduler}, ordered by the timestamp
+ * of their next execution.
+ *
+ * <p>Tasks are kept in two min-heaps, one for each kind of timestamp a
+ * scheduler can produce (ticks or real time), so only due tasks are ever
+ * looked at. The heaps are only touched by the thread processing the
+ * scheduler, tasks submitted from other threads are handed over through a
+ * concurrent queue. Cancelled tasks are not searched for in the heaps, they
+ * are dropped once they reach the head, or in bulk once they make up most
+ * of the heaps. Both ways count towards the number of cancelled tasks still
+ * queued, so bulk drops are only triggered by tasks which are actually in
+ * the heaps.</p>
+ */
+final class TaskQueue {
+
+    private static final int MIN_PURGE_SIZE = 256;
+    private static final Comparator<SpongeScheduledTask> ORDER = Comparator
+        .comparingLong((SpongeScheduledTask task) -> task.queuedTimestamp)
+        .thenComparingLong(task -> task.queuedOrder);
+
+    private final Queue<SpongeScheduledTask> submitted = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<SpongeScheduledTask> tickBased = new PriorityQueue<>(TaskQueue.ORDER);
+    private final PriorityQueue<SpongeScheduledTask> realTime = new PriorityQueue<>(TaskQueue.ORDER);
+    private final AtomicInteger cancelled = new AtomicInteger();
+    private long order;
+
+    /**
+     * Queues a newly submitted task, may be called from any thread.
+     *
+     * @param task The task
+     * @param tickBased Whether the timestamp is tick based
+     * @param timestamp The timestamp after which the task is due
+     */
+    void submit(final SpongeScheduledTask task, final boolean tickBased, final long timestamp) {
+        task.queuedTickBased = tickBased;
+        task.queuedTimestamp = timestamp;
+        this.submitted.add(task);
+    }
+
+    /**
+     * Queues a task again, after it was polled from this queue.
+     *
+     * @param task The task
+     * @param tickBased Whether the timestamp is tick based
+     * @param timestamp The timestamp after which the task is due
+     */
+    void requeue(final SpongeScheduledTask task, final boolean tickBased, final long timestamp) {
+        task.queuedTickBased = tickBased;
+        task.queuedTimestamp = timestamp;
+        this.offer(task);
+    }
+
+    /**
+     * Notes that a queued task got cancelled.
+     */
+    void cancelled() {
+        this.cancelled.incrementAndGet();
+    }
+
+    /**
+     * Moves the submitted tasks into the heaps and drops cancelled tasks if
+     * they make up more than half of them.
+     */
+    void update() {
+        SpongeScheduledTask task;
+        while ((task = this.submitted.poll()) != null) {
+            this.offer(task);
+        }
+        final int size = this.tickBased.size() + this.realTime.size();
+        final int cancelled = this.cancelled.get();
+        if (size >= TaskQueue.MIN_PURGE_SIZE && cancelled > size / 2) {
+            // Tasks cancelled from now on may still be in the heaps, but
+            // none of the ones counted so far are afterwards. This also
+            // forgets tasks which were cancelled outside of the heaps.
+            this.cancelled.addAndGet(-cancelled);
+            this.tickBased.removeIf(SpongeScheduledTask::isCancelled);
+            this.realTime.removeIf(SpongeScheduledTask::isCancelled);
+        }
+    }
+
+    /**
+     * Polls the next task which is due at the given timestamps, which may
+     * also be a cancelled task.
+     *
+     * @param tickTimestamp The current tick based timestamp
+     * @param realTimestamp The current real time timestamp
+     * @return The task, or null if no task is due
+     */
+    @Nullable SpongeScheduledTask poll(final long tickTimestamp, final long realTimestamp) {
+        final @Nullable SpongeScheduledTask tickTask = this.tickBased.peek();
+        if (tickTask != null && tickTask.queuedTimestamp <= tickTimestamp) {
+            return this.dequeued(this.tickBased.poll());
+        }
+        final @Nullable SpongeScheduledTask realTask = this.realTime.peek();
+        if (realTask != null && realTask.queuedTimestamp <= realTimestamp) {
+            return this.dequeued(this.realTime.poll());
+        }
+        return null;
+    }
+
+    /**
+     * Gets the first timestamp at which a task is due.
+     *
+     * @param tickBased The kind of timestamps
+     * @return The timestamp, or {@link Long#MAX_VALUE} if there is no task
+     */
+    long nextTimestamp(final boolean tickBased) {
+        final PriorityQueue<SpongeScheduledTask> queue = tickBased ? this.tickBased : this.realTime;
+        @Nullable SpongeScheduledTask task;
+        while ((task = queue.peek()) != null && task.isCancelled()) {
+            this.dequeued(queue.poll());
+        }
+        return task == null ? Long.MAX_VALUE : task.queuedTimestamp;
+    }
+
+    private SpongeScheduledTask dequeued(final SpongeScheduledTask task) {
+        if (task.isCancelled()) {
+            // Never below zero, the task may have been dropped before it was counted
+            this.cancelled.getAndUpdate(count -> count > 0 ? count - 1 : 0);
+        }
+        return task;
+    }
+
+    private void offer(final SpongeScheduledTask task) {
+        task.queuedOrder = this.order++;
+        (task.queuedTickBased ? this.tickBased : this.realTime).offer(task);
+    }
+}
@@ -54,6 +54,7 @@
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 public final class ServerUserProvider {
@@ -64,6 +65,9 @@ public final class ServerUserProvider {
     // it should mirror the filesystem.
     private final Set<UUID> knownUUIDs = new HashSet<>();
     private final Cache<UUID, User> userCache;
+    // Bumped whenever a user is dropped from the cache or a user file appears
+    // or disappears, lets callers holding on to resolved users notice changes
+    private final AtomicInteger generation = new AtomicInteger();
 
     private final Map<String, MutableWatchEvent> watcherUpdateMap = new HashMap<>();
 
@@ -73,6 +77,8 @@ public final class ServerUserProvider {
     public ServerUserProvider(final Server server) {
         this.userCache = Caffeine.newBuilder()
                 .expireAfterAccess(1, TimeUnit.DAYS)
+                .executor(Runnable::run)
+                .<UUID, User>removalListener((uuid, user, cause) -> this.generation.incrementAndGet())
                 .build();
         this.server = (MinecraftServer) server;
     }
@@ -124,6 +130,7 @@ void refreshFilesystemProfiles() {
         }
         this.knownUUIDs.clear();
         this.userCache.invalidateAll();
+        this.generation.incrementAndGet();
 
         // Add all known profiles from the data files
         final String[] uuids = this.getSaveHandler().getSeenPlayers();
@@ -148,6 +155,12 @@ void refreshFilesystemProfiles() {
         }
     }
 
+    int generation() {
+        // Files may have been created or deleted since the last lookup
+        this.pollFilesystemWatcher();
+        return this.generation.get();
+    }
+
     Optional<User> getUser(final String lastKnownName) {
         final com.mojang.authlib.GameProfile gameProfile = this.server.getProfileCache().get(lastKnownName);
         if (gameProfile == null) {
@@ -195,7 +208,9 @@ User getOrCreateUser(final GameProfile profile, final boolean force) {
         this.pollFilesystemWatcher();
         final User user = new SpongeUser(resolvedProfile);
         this.userCache.put(profile.uniqueId(), user);
-        this.knownUUIDs.add(profile.uniqueId());
+        if (this.knownUUIDs.add(profile.uniqueId())) {
+            this.generation.incrementAndGet();
+        }
         return user;
     }
 
@@ -203,6 +218,7 @@ boolean deleteUser(final UUID uuid) {
         if (this.deleteStoredPlayerData(uuid)) {
             this.userCache.invalidate(uuid);
             this.knownUUIDs.remove(uuid);
+            this.generation.incrementAndGet();
             return true;
         }
         return false;
@@ -277,9 +293,13 @@ private void pollFilesystemWatcher() {
 
                             // It will only be create or delete here.
                             if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
-                                this.knownUUIDs.add(uuid);
+                                if (this.knownUUIDs.add(uuid)) {
+                                    this.generation.incrementAndGet();
+                                }
                             } else {
-                                this.knownUUIDs.remove(uuid);
+                                if (this.knownUUIDs.remove(uuid)) {
+                                    this.generation.incrementAndGet();
+                                }
                                 // We don't do this, in case we were caught at a bad time.
                                 // Everything else should handle it for us, however.
                                 // this.userCache.invalidate(uuid);
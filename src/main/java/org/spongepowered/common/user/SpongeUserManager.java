@@ -56,6 +56,19 @@ public void init() {
         this.serverUserProvider.setupWatchers();
     }
 
+    /**
+     * Gets a counter that changes whenever a previously found {@link User}
+     * may have been replaced, or a previously missing one may now exist.
+     * Caches of resolved users compare it to know when to start over. This
+     * polls the file system watcher first, so users whose files were created
+     * or deleted since the last lookup are accounted for.
+     *
+     * @return The current generation
+     */
+    public int generation() {
+        return this.serverUserProvider.generation();
+    }
+
     @Override
     public Optional<User> find(final UUID uniqueId) {
         return this.serverUserProvider.getUser(uniqueId);
@@ -37,11 +37,8 @@
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.common.map.color.SpongeMapColor;
 
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 public final class MapUtil {
@@ -73,22 +70,26 @@ public static Optional<MapColor> getMapColorFromPixelValue(final byte value) {
 
     public static byte[] getMapCanvasFromContainer(final DataView container) {
         final DataQuery canvasQuery = Constants.Map.MAP_CANVAS;
-        final List<Byte> data = container.getByteList(canvasQuery)
-                .orElseThrow(() -> new InvalidDataException(canvasQuery + " was not a byte list!"));
-        if (data.size() != Constants.Map.MAP_SIZE) {
-            throw new InvalidDataException(canvasQuery + "had incorrect length, expected: " + Constants.Map.MAP_SIZE + ", got: " + data.size());
+        // Canvases are stored as byte arrays, copy those directly instead of boxing them through getByteList
+        final Optional<Object> raw = container.get(canvasQuery);
+        final byte[] data = raw.isPresent() && raw.get() instanceof byte[] ? ((byte[]) raw.get()).clone()
+                : container.getByteList(canvasQuery)
+                        .map(Bytes::toArray)
+                        .orElseThrow(() -> new InvalidDataException(canvasQuery + " was not a byte list!"));
+        if (data.length != Constants.Map.MAP_SIZE) {
+            throw new InvalidDataException(canvasQuery + "had incorrect length, expected: " + Constants.Map.MAP_SIZE + ", got: " + data.length);
         }
-        final Set<Byte> validPixels = new HashSet<>();
+        final boolean[] validPixels = new boolean[256];
         // Ensure the data is valid.
-        for (Byte pixel : data) {
-            if (validPixels.contains(pixel)) {
+        for (final byte pixel : data) {
+            if (validPixels[Byte.toUnsignedInt(pixel)]) {
                 continue;
             }
             MapUtil.getMapColorFromPixelValue(pixel)
                     .orElseThrow(() -> new InvalidDataException("Invalid pixel value: " + pixel));
-            validPixels.add(pixel);
+            validPixels[Byte.toUnsignedInt(pixel)] = true;
         }
-        return Bytes.toArray(data);
+        return data;
     }
 
     // Minecraft's orientation system is weird, it goes positive or negative
@@ -0,0 +1,373 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.game.ClientboundLevelChunkPacket;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ThreadedLevelLightEngine;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.EntityBlock;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.transaction.BlockTransaction;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.world.BlockChangeFlags;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
+import org.spongepowered.common.bridge.world.level.block.state.BlockStateBridge;
+import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+import org.spongepowered.common.world.storage.BlockOwnerTable;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Collects a large number of block changes for a {@link ServerLevel} and
+ * writes them straight into the {@link LevelChunkSection} palettes, bypassing
+ * the per-block {@link PhaseTracker} pipeline.
+ *
+ * <p>Changes are grouped by chunk section. On {@link #apply(boolean)}, at most
+ * one {@link ChangeBlockEvent.All} is thrown for the whole batch, heightmaps and
+ * points of interest follow every changed block, light checks are queued only
+ * after every section has been written, and clients receive either the vanilla per-section
+ * multi block update or, for heavily modified sections, the section contents
+ * themselves. Block physics, neighbor notifications and drops are never
+ * performed, which is what makes this suitable for resetting arenas or pasting
+ * schematics. Changes in chunks that are not loaded are dropped, and the
+ * creator and notifier of every replaced block are cleared.</p>
+ *
+ * <p>While a volume stream is applied to a world, its block changes that
+ * would not perform physics anyway are collected into a bulk change, see
+ * {@link #accepts(SpongeBlockChangeFlag)}.</p>
+ */
+public final class SpongeBulkBlockChange {
+
+    /**
+     * Sections with at least this many changed blocks are resent whole instead
+     * of as a list of single block changes.
+     */
+    private static final int FULL_SECTION_THRESHOLD = 1024;
+
+    private final ServerLevel level;
+    private final Long2ObjectLinkedOpenHashMap<BlockState[]> pending = new Long2ObjectLinkedOpenHashMap<>();
+
+    public SpongeBulkBlockChange(final ServerLevel level) {
+        this.level = Objects.requireNonNull(level, "level");
+    }
+
+    public SpongeBulkBlockChange set(final int x, final int y, final int z, final org.spongepowered.api.block.BlockState state) {
+        Objects.requireNonNull(state, "state");
+        if (Level.isOutsideBuildHeight(y)) {
+            return this;
+        }
+        this.section(x >> 4, y >> 4, z >> 4)[SpongeBulkBlockChange.index(x, y, z)] = (BlockState) state;
+        return this;
+    }
+
+    public SpongeBulkBlockChange fill(final Vector3i min, final Vector3i max, final org.spongepowered.api.block.BlockState state) {
+        final BlockState nativeState = (BlockState) Objects.requireNonNull(state, "state");
+        final Vector3i lower = Objects.requireNonNull(min, "min").min(Objects.requireNonNull(max, "max"));
+        final Vector3i upper = min.max(max);
+        final int minY = Math.max(lower.y(), 0);
+        final int maxY = Math.min(upper.y(), this.level.getMaxBuildHeight() - 1);
+        // Walk section by section so that each section array is only looked up once
+        for (int sx = lower.x() >> 4; sx <= upper.x() >> 4; sx++) {
+            for (int sz = lower.z() >> 4; sz <= upper.z() >> 4; sz++) {
+                for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+                    final BlockState[] section = this.section(sx, sy, sz);
+                    final int x0 = Math.max(lower.x(), sx << 4);
+                    final int x1 = Math.min(upper.x(), (sx << 4) + 15);
+                    final int y0 = Math.max(minY, sy << 4);
+                    final int y1 = Math.min(maxY, (sy << 4) + 15);
+                    final int z0 = Math.max(lower.z(), sz << 4);
+                    final int z1 = Math.min(upper.z(), (sz << 4) + 15);
+                    for (int y = y0; y <= y1; y++) {
+                        for (int z = z0; z <= z1; z++) {
+                            for (int x = x0; x <= x1; x++) {
+                                section[SpongeBulkBlockChange.index(x, y, z)] = nativeState;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes every collected change into the world.
+     *
+     * @param throwEvent Whether a single {@link ChangeBlockEvent.All} should be
+     *     thrown for the batch, allowing plugins to veto or replace changes
+     * @return The number of blocks that were actually changed
+     */
+    public int apply(final boolean throwEvent) {
+        final PhaseTracker instance = PhaseTracker.getInstance();
+        if (instance.getSidedThread() != PhaseTracker.SERVER.getSidedThread() && instance != PhaseTracker.SERVER) {
+            throw new UnsupportedOperationException("Cannot perform a bulk Block Change on a ServerWorld while not on the main thread!");
+        }
+        try {
+            this.discardRedundantChanges();
+            if (throwEvent && ShouldFire.CHANGE_BLOCK_EVENT_ALL && !this.throwEvent()) {
+                return 0;
+            }
+            return this.write();
+        } finally {
+            this.pending.clear();
+        }
+    }
+
+    /**
+     * Gets whether a block change with the given flag may be collected into a
+     * bulk change, which never performs physics or updates neighbors.
+     *
+     * @param flag The flag of the block change
+     * @return Whether the change may be collected
+     */
+    public static boolean accepts(final SpongeBlockChangeFlag flag) {
+        return !flag.performBlockPhysics() && !flag.updateNeighbors() && !flag.updateNeighboringShapes();
+    }
+
+    private BlockState[] section(final int sx, final int sy, final int sz) {
+        final long key = SectionPos.asLong(sx, sy, sz);
+        BlockState[] section = this.pending.get(key);
+        if (section == null) {
+            section = new BlockState[4096];
+            this.pending.put(key, section);
+        }
+        return section;
+    }
+
+    private static int index(final int x, final int y, final int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    private void discardRedundantChanges() {
+        final ServerChunkCache chunkSource = this.level.getChunkSource();
+        for (final Iterator<Long2ObjectMap.Entry<BlockState[]>> iterator = this.pending.long2ObjectEntrySet().iterator(); iterator.hasNext(); ) {
+            final Long2ObjectMap.Entry<BlockState[]> entry = iterator.next();
+            final long key = entry.getLongKey();
+            // Chunks are never loaded for a bulk change, changes to unloaded ones are dropped
+            final @Nullable LevelChunk chunk = chunkSource.getChunkNow(SectionPos.x(key), SectionPos.z(key));
+            if (chunk == null) {
+                iterator.remove();
+                continue;
+            }
+            final @Nullable LevelChunkSection section = chunk.getSections()[SectionPos.y(key)];
+            final BlockState[] states = entry.getValue();
+            for (int i = 0; i < states.length; i++) {
+                final @Nullable BlockState state = states[i];
+                if (state == null) {
+                    continue;
+                }
+                if (LevelChunkSection.isEmpty(section) ? state.isAir() : section.getBlockState(i & 15, i >> 8, i >> 4 & 15) == state) {
+                    states[i] = null;
+                }
+            }
+        }
+    }
+
+    private boolean throwEvent() {
+        final PhaseContext<@NonNull ?> context = PhaseTracker.getInstance().getPhaseContext();
+        final List<BlockTransaction> transactions = new ArrayList<>();
+        for (final Long2ObjectMap.Entry<BlockState[]> entry : this.pending.long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            final int baseX = SectionPos.sectionToBlockCoord(SectionPos.x(key));
+            final int baseY = SectionPos.sectionToBlockCoord(SectionPos.y(key));
+            final int baseZ = SectionPos.sectionToBlockCoord(SectionPos.z(key));
+            final BlockState[] states = entry.getValue();
+            for (int i = 0; i < states.length; i++) {
+                if (states[i] == null) {
+                    continue;
+                }
+                final BlockState newState = states[i];
+                final int x = baseX + (i & 15);
+                final int y = baseY + (i >> 8);
+                final int z = baseZ + (i >> 4 & 15);
+                final SpongeBlockSnapshot original = ((TrackedWorldBridge) this.level).bridge$createSnapshot(new BlockPos(x, y, z),
+                    BlockChangeFlags.NONE);
+                final BlockState currentState = (BlockState) original.state();
+                // Classify the change the same way a tracked block change would be
+                original.blockChange = context.associateBlockChangeWithSnapshot(newState, newState.getBlock(), currentState, original,
+                    currentState.getBlock());
+                final BlockSnapshot replacement = SpongeBlockSnapshotBuilder.pooled()
+                    .blockState(newState)
+                    .world(this.level)
+                    .position(new Vector3i(x, y, z))
+                    .flag(BlockChangeFlags.NONE)
+                    .build();
+                transactions.add(new BlockTransaction(original, replacement, context.getBlockOperation(original, original.blockChange)));
+            }
+        }
+        if (transactions.isEmpty()) {
+            return true;
+        }
+        final ChangeBlockEvent.All event = SpongeEventFactory.createChangeBlockEventAll(PhaseTracker.getCauseStackManager().currentCause(),
+            transactions, (ServerWorld) this.level);
+        if (SpongeCommon.post(event)) {
+            return false;
+        }
+        for (final BlockTransaction transaction : event.transactions()) {
+            final Vector3i position = transaction.original().position();
+            final BlockState[] states = this.pending.get(SectionPos.asLong(position.x() >> 4, position.y() >> 4, position.z() >> 4));
+            final int index = SpongeBulkBlockChange.index(position.x(), position.y(), position.z());
+            states[index] = transaction.isValid() ? (BlockState) transaction.finalReplacement().state() : null;
+        }
+        return true;
+    }
+
+    private int write() {
+        final ServerChunkCache chunkSource = this.level.getChunkSource();
+        final ThreadedLevelLightEngine lightEngine = chunkSource.getLightEngine();
+        final List<BlockPos> lightChecks = new ArrayList<>();
+        final Long2ObjectLinkedOpenHashMap<LevelChunk> touchedChunks = new Long2ObjectLinkedOpenHashMap<>();
+        final Long2ObjectLinkedOpenHashMap<int[]> resentSections = new Long2ObjectLinkedOpenHashMap<>();
+        int changed = 0;
+        for (final Long2ObjectMap.Entry<BlockState[]> entry : this.pending.long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            final SectionPos sectionPos = SectionPos.of(key);
+            final @Nullable LevelChunk chunk = chunkSource.getChunkNow(sectionPos.x(), sectionPos.z());
+            if (chunk == null) {
+                continue;
+            }
+            final BlockOwnerTable owners = ((LevelChunkBridge) chunk).bridge$getBlockOwners();
+            final LevelChunkSection[] sections = chunk.getSections();
+            @Nullable LevelChunkSection section = sections[sectionPos.y()];
+            final boolean wasEmpty = LevelChunkSection.isEmpty(section);
+            final BlockState[] states = entry.getValue();
+            final List<BlockPos> sectionChanges = new ArrayList<>();
+            for (int i = 0; i < states.length; i++) {
+                final @Nullable BlockState newState = states[i];
+                if (newState == null) {
+                    continue;
+                }
+                if (section == LevelChunk.EMPTY_SECTION) {
+                    if (newState.isAir()) {
+                        continue;
+                    }
+                    section = new LevelChunkSection(sectionPos.minBlockY());
+                    sections[sectionPos.y()] = section;
+                }
+                final int x = i & 15;
+                final int y = i >> 8;
+                final int z = i >> 4 & 15;
+                final BlockState oldState = section.setBlockState(x, y, z, newState, false);
+                if (oldState == newState) {
+                    continue;
+                }
+                final BlockPos pos = new BlockPos(sectionPos.minBlockX() + x, sectionPos.minBlockY() + y, sectionPos.minBlockZ() + z);
+                // Heightmaps are updated per block as the vanilla chunk does, a removed top
+                // block has to lower its column which priming the heightmaps would not do
+                for (final Map.Entry<Heightmap.Types, Heightmap> heightmap : chunk.getHeightmaps()) {
+                    heightmap.getValue().update(x, pos.getY(), z, newState);
+                }
+                this.replaceBlockEntity(chunk, pos, oldState, newState);
+                // The creator and notifier belonged to the replaced block
+                owners.remove(pos);
+                this.level.onBlockStateChange(pos, oldState, newState);
+                if (oldState.getLightBlock(this.level, pos) != newState.getLightBlock(this.level, pos)
+                    || oldState.getLightEmission() != newState.getLightEmission()
+                    || oldState.useShapeForLightOcclusion() || newState.useShapeForLightOcclusion()) {
+                    lightChecks.add(pos);
+                }
+                sectionChanges.add(pos);
+            }
+            if (sectionChanges.isEmpty()) {
+                continue;
+            }
+            changed += sectionChanges.size();
+            touchedChunks.put(chunk.getPos().toLong(), chunk);
+            final boolean isEmpty = LevelChunkSection.isEmpty(section);
+            if (wasEmpty != isEmpty) {
+                lightEngine.updateSectionStatus(sectionPos, isEmpty);
+            }
+            // A partial chunk packet cannot clear a section on the client, so emptied
+            // sections always go through the per block updates
+            if (!isEmpty && sectionChanges.size() >= SpongeBulkBlockChange.FULL_SECTION_THRESHOLD) {
+                resentSections.computeIfAbsent(chunk.getPos().toLong(), k -> new int[1])[0] |= 1 << sectionPos.y();
+            } else {
+                for (final BlockPos changedPos : sectionChanges) {
+                    chunkSource.blockChanged(changedPos);
+                }
+            }
+        }
+        for (final LevelChunk chunk : touchedChunks.values()) {
+            chunk.setUnsaved(true);
+        }
+        for (final BlockPos lightCheck : lightChecks) {
+            lightEngine.checkBlock(lightCheck);
+        }
+        for (final Long2ObjectMap.Entry<int[]> entry : resentSections.long2ObjectEntrySet()) {
+            final LevelChunk chunk = touchedChunks.get(entry.getLongKey());
+            final ClientboundLevelChunkPacket packet = new ClientboundLevelChunkPacket(chunk, entry.getValue()[0]);
+            chunkSource.chunkMap.getPlayers(new ChunkPos(entry.getLongKey()), false)
+                .forEach(player -> player.connection.send(packet));
+        }
+        return changed;
+    }
+
+    private void replaceBlockEntity(final LevelChunk chunk, final BlockPos pos, final BlockState oldState, final BlockState newState) {
+        final boolean hadBlockEntity = ((BlockStateBridge) oldState).bridge$hasTileEntity();
+        final boolean hasBlockEntity = ((BlockStateBridge) newState).bridge$hasTileEntity();
+        if (hadBlockEntity && (!hasBlockEntity || oldState.getBlock() != newState.getBlock())) {
+            chunk.removeBlockEntity(pos);
+        }
+        if (hasBlockEntity) {
+            final @Nullable BlockEntity existing = chunk.getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+            if (existing == null) {
+                final @Nullable BlockEntity created = ((EntityBlock) newState.getBlock()).newBlockEntity(this.level);
+                if (created != null) {
+                    this.level.setBlockEntity(pos, created);
+                }
+            } else {
+                existing.clearCache();
+            }
+        }
+    }
+}
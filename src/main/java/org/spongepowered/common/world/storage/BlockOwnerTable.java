@@ -0,0 +1,251 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.nbt.Tag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.util.Constants;
+
+import java.util.Arrays;
+
+/**
+ * Creator and notifier indices of the blocks in a single chunk. Entries are
+ * grouped per chunk section and keyed by the position within that section,
+ * the value packs the creator index into the high and the notifier index
+ * into the low half of a long.
+ *
+ * <p>Indices point into the player unique id table of the world, {@code -1}
+ * stands for no user. An entry without creator and notifier is not stored.</p>
+ */
+public final class BlockOwnerTable {
+
+    public static final int NONE = -1;
+
+    private static final long EMPTY = BlockOwnerTable.pack(BlockOwnerTable.NONE, BlockOwnerTable.NONE);
+
+    // Section entries are stored as [index:12][creator + 1:26][notifier + 1:26]
+    private static final int ENCODED_INDEX_BITS = 26;
+    private static final long ENCODED_INDEX_MASK = (1L << BlockOwnerTable.ENCODED_INDEX_BITS) - 1;
+    private static final String SECTION_Y = "Y";
+    private static final String SECTION_OWNERS = "Owners";
+
+    private final Int2ObjectMap<Short2LongOpenHashMap> sections = new Int2ObjectOpenHashMap<>();
+    private int size;
+
+    public static long pack(final int creator, final int notifier) {
+        return ((long) creator << 32) | (notifier & 0xFFFFFFFFL);
+    }
+
+    public static int creator(final long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int notifier(final long packed) {
+        return (int) packed;
+    }
+
+    private static short localIndex(final int x, final int y, final int z) {
+        return (short) ((y & 15) << 8 | (z & 15) << 4 | (x & 15));
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean contains(final BlockPos pos) {
+        return this.get(pos) != BlockOwnerTable.EMPTY;
+    }
+
+    /**
+     * Gets the packed creator and notifier of the given position, both halves
+     * are {@link #NONE} if the position is not tracked.
+     *
+     * @param pos The position
+     * @return The packed indices
+     */
+    public long get(final BlockPos pos) {
+        final @Nullable Short2LongOpenHashMap section = this.sections.get(pos.getY() >> 4);
+        if (section == null) {
+            return BlockOwnerTable.EMPTY;
+        }
+        return section.get(BlockOwnerTable.localIndex(pos.getX(), pos.getY(), pos.getZ()));
+    }
+
+    public int getCreator(final BlockPos pos) {
+        return BlockOwnerTable.creator(this.get(pos));
+    }
+
+    public int getNotifier(final BlockPos pos) {
+        return BlockOwnerTable.notifier(this.get(pos));
+    }
+
+    public void setCreator(final BlockPos pos, final int creator) {
+        this.set(pos, creator, this.getNotifier(pos));
+    }
+
+    public void setNotifier(final BlockPos pos, final int notifier) {
+        this.set(pos, this.getCreator(pos), notifier);
+    }
+
+    public void set(final BlockPos pos, final int creator, final int notifier) {
+        this.put(pos.getX(), pos.getY(), pos.getZ(), creator, notifier);
+    }
+
+    public void remove(final BlockPos pos) {
+        this.put(pos.getX(), pos.getY(), pos.getZ(), BlockOwnerTable.NONE, BlockOwnerTable.NONE);
+    }
+
+    private void put(final int x, final int y, final int z, final int creator, final int notifier) {
+        final int sectionY = y >> 4;
+        final short index = BlockOwnerTable.localIndex(x, y, z);
+        final long packed = BlockOwnerTable.pack(creator, notifier);
+        @Nullable Short2LongOpenHashMap section = this.sections.get(sectionY);
+        if (packed == BlockOwnerTable.EMPTY) {
+            if (section != null && section.containsKey(index)) {
+                section.remove(index);
+                this.size--;
+                if (section.isEmpty()) {
+                    this.sections.remove(sectionY);
+                }
+            }
+            return;
+        }
+        if (section == null) {
+            section = new Short2LongOpenHashMap();
+            section.defaultReturnValue(BlockOwnerTable.EMPTY);
+            this.sections.put(sectionY, section);
+        }
+        if (section.put(index, packed) == BlockOwnerTable.EMPTY) {
+            this.size++;
+        }
+    }
+
+    /**
+     * Writes this table into the sponge data of a chunk. Every section is
+     * written as a single long array, only entries whose indices do not fit
+     * into the packed form fall back to the legacy block position table.
+     *
+     * @param spongeData The sponge data compound of the chunk
+     */
+    public void write(final CompoundTag spongeData) {
+        final ListTag sections = new ListTag();
+        final ListTag legacy = new ListTag();
+        for (final Int2ObjectMap.Entry<Short2LongOpenHashMap> sectionEntry : this.sections.int2ObjectEntrySet()) {
+            final Short2LongOpenHashMap section = sectionEntry.getValue();
+            final long[] encoded = new long[section.size()];
+            int written = 0;
+            for (final Short2LongMap.Entry entry : section.short2LongEntrySet()) {
+                final short index = entry.getShortKey();
+                final long packed = entry.getLongValue();
+                final long creator = BlockOwnerTable.creator(packed) + 1L;
+                final long notifier = BlockOwnerTable.notifier(packed) + 1L;
+                if (creator < 0 || creator > BlockOwnerTable.ENCODED_INDEX_MASK
+                    || notifier < 0 || notifier > BlockOwnerTable.ENCODED_INDEX_MASK) {
+                    legacy.add(BlockOwnerTable.writeLegacyEntry(sectionEntry.getIntKey(), index, packed));
+                    continue;
+                }
+                encoded[written++] = ((long) (index & 0xFFF) << (BlockOwnerTable.ENCODED_INDEX_BITS * 2))
+                    | (creator << BlockOwnerTable.ENCODED_INDEX_BITS)
+                    | notifier;
+            }
+            if (written == 0) {
+                continue;
+            }
+            final CompoundTag sectionTag = new CompoundTag();
+            sectionTag.putInt(BlockOwnerTable.SECTION_Y, sectionEntry.getIntKey());
+            sectionTag.put(BlockOwnerTable.SECTION_OWNERS,
+                new LongArrayTag(written == encoded.length ? encoded : Arrays.copyOf(encoded, written)));
+            sections.add(sectionTag);
+        }
+        if (!sections.isEmpty()) {
+            spongeData.put(Constants.Sponge.SPONGE_BLOCK_OWNER_TABLE, sections);
+        }
+        if (!legacy.isEmpty()) {
+            spongeData.put(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, legacy);
+        }
+    }
+
+    /**
+     * Reads the table from the sponge data of a chunk, entries written in the
+     * legacy block position table format are migrated as well.
+     *
+     * @param spongeData The sponge data compound of the chunk
+     * @return The table
+     */
+    public static BlockOwnerTable read(final CompoundTag spongeData) {
+        final BlockOwnerTable table = new BlockOwnerTable();
+        final ListTag sections = spongeData.getList(Constants.Sponge.SPONGE_BLOCK_OWNER_TABLE, Constants.NBT.TAG_COMPOUND);
+        for (final Tag tag : sections) {
+            final CompoundTag sectionTag = (CompoundTag) tag;
+            final int sectionY = sectionTag.getInt(BlockOwnerTable.SECTION_Y);
+            for (final long encoded : sectionTag.getLongArray(BlockOwnerTable.SECTION_OWNERS)) {
+                final int index = (int) (encoded >>> (BlockOwnerTable.ENCODED_INDEX_BITS * 2)) & 0xFFF;
+                final int creator = (int) ((encoded >>> BlockOwnerTable.ENCODED_INDEX_BITS) & BlockOwnerTable.ENCODED_INDEX_MASK) - 1;
+                final int notifier = (int) (encoded & BlockOwnerTable.ENCODED_INDEX_MASK) - 1;
+                table.put(index & 15, (sectionY << 4) | (index >> 8), (index >> 4) & 15, creator, notifier);
+            }
+        }
+        final ListTag legacy = spongeData.getList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Constants.NBT.TAG_COMPOUND);
+        for (final Tag tag : legacy) {
+            BlockOwnerTable.readLegacyEntry(table, (CompoundTag) tag);
+        }
+        return table;
+    }
+
+    private static CompoundTag writeLegacyEntry(final int sectionY, final short index, final long packed) {
+        final int x = index & 15;
+        final int y = (sectionY << 4) | ((index >> 8) & 15);
+        final int z = (index >> 4) & 15;
+        final CompoundTag entry = new CompoundTag();
+        entry.putInt("owner", BlockOwnerTable.creator(packed));
+        entry.putInt("notifier", BlockOwnerTable.notifier(packed));
+        entry.putInt("ipos", Constants.Sponge.blockPosToInt(new BlockPos(x, y, z)));
+        return entry;
+    }
+
+    private static void readLegacyEntry(final BlockOwnerTable table, final CompoundTag entry) {
+        final int creator = entry.contains("owner") ? entry.getInt("owner") : BlockOwnerTable.NONE;
+        final int notifier = entry.contains("notifier") ? entry.getInt("notifier") : BlockOwnerTable.NONE;
+        if (entry.contains("pos")) {
+            final int pos = entry.getShort("pos");
+            table.put(pos & 15, (pos >> 4) & 0xFF, (pos >> 12) & 15, creator, notifier);
+        } else {
+            final int pos = entry.getInt("ipos");
+            table.put(pos & 15, (pos >> 4) & Constants.Chunk.Y_INT_MASK, (pos >>> 28) & 15, creator, notifier);
+        }
+    }
+}
@@ -24,7 +24,9 @@
  */
 package org.spongepowered.common.world.volume;
 
+import net.minecraft.server.level.ServerLevel;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.world.volume.MutableVolume;
 import org.spongepowered.api.world.volume.Volume;
 import org.spongepowered.api.world.volume.stream.VolumeCollector;
@@ -34,9 +36,12 @@
 import org.spongepowered.api.world.volume.stream.VolumeMapper;
 import org.spongepowered.api.world.volume.stream.VolumePredicate;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
+import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.world.server.SpongeBulkBlockChange;
 
 import java.util.Iterator;
 import java.util.Optional;
@@ -197,17 +202,41 @@ public Stream<VolumeElement<V, T>> toStream() {
     public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> collector) {
         try (final PhaseContext<@NonNull ?> context = PluginPhase.State.BLOCK_WORKER.createPhaseContext(PhaseTracker.SERVER)) {
             context.buildAndSwitch();
-            this.stream.forEach(element -> {
-                final W targetVolume = collector.target().get();
-                final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
-                    collector.target(),
-                    element::type,
-                    element.position()
-                ));
-                collector.applicator()
-                    .apply(targetVolume, transformed);
-            });
+            final W target = collector.target().get();
+            final @Nullable SpongeBulkBlockChange bulkChange = SpongeVolumeStream.startBulkBlockChange(target);
+            try {
+                this.stream.forEach(element -> {
+                    final W targetVolume = collector.target().get();
+                    final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
+                        collector.target(),
+                        element::type,
+                        element.position()
+                    ));
+                    collector.applicator()
+                        .apply(targetVolume, transformed);
+                });
+            } finally {
+                if (bulkChange != null) {
+                    ((ServerLevelBridge) target).bridge$setBulkBlockChange(null);
+                    bulkChange.apply(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts collecting the block changes without physics of a volume applied
+     * to a world, so they are written at once instead of one by one. Nested
+     * applications are collected by the outer one.
+     */
+    private static @Nullable SpongeBulkBlockChange startBulkBlockChange(final MutableVolume target) {
+        if (!(target instanceof ServerLevel) || ((WorldBridge) target).bridge$isFake()
+            || ((ServerLevelBridge) target).bridge$getBulkBlockChange() != null) {
+            return null;
         }
+        final SpongeBulkBlockChange bulkChange = new SpongeBulkBlockChange((ServerLevel) target);
+        ((ServerLevelBridge) target).bridge$setBulkBlockChange(bulkChange);
+        return bulkChange;
     }
 
     @Override
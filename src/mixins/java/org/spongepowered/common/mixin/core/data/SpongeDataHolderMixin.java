@@ -27,13 +27,16 @@
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataProvider;
+import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.value.Value;
@@ -47,6 +50,10 @@
 import org.spongepowered.common.entity.SpongeEntitySnapshot;
 import org.spongepowered.common.entity.player.SpongeUser;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 @Mixin({BlockEntity.class, Entity.class, SpongeUser.class, ItemStack.class,
         SpongeEntityArchetype.class,
         SpongeEntitySnapshot.class,
@@ -57,6 +64,10 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
 
     private DataManipulator.Mutable impl$manipulator;
     private Multimap<DataQuery, DataView> impl$failedData;
+    // The keys changed since the custom data was written into impl$syncedCompound
+    private @Nullable Set<Key<?>> impl$dirtyDataKeys;
+    private boolean impl$dataSynced;
+    private @Nullable CompoundTag impl$syncedCompound;
 
     @Override
     public DataManipulator.Mutable bridge$getManipulator() {
@@ -73,6 +84,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
         if (this.impl$manipulator == null) {
             this.impl$manipulator = DataManipulator.mutableOf();
         }
+        this.impl$dataSynced = false;
 
         if (this instanceof DataHolder.Mutable && !(this instanceof org.spongepowered.api.item.inventory.ItemStack)) {
             // Does not work when adding ItemStacks to inventory because the Item may be empty (see Inventory#addResource)
@@ -89,6 +101,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     public void bridge$clear() {
         this.impl$manipulator = null;
         this.impl$failedData = HashMultimap.create();
+        this.impl$dataSynced = false;
     }
 
     @Override
@@ -102,6 +115,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     @Override
     public void bridge$invalidateFailedData() {
         this.impl$failedData = null;
+        this.impl$dataSynced = false;
     }
 
     @Override
@@ -110,5 +124,44 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
             this.impl$failedData  = HashMultimap.create();
         }
         this.impl$failedData.put(nameSpace, keyedData);
+        this.impl$dataSynced = false;
+    }
+
+    @Override
+    public void bridge$markDataDirty(final Key<?> key) {
+        if (this.impl$dirtyDataKeys == null) {
+            this.impl$dirtyDataKeys = new HashSet<>();
+        }
+        this.impl$dirtyDataKeys.add(key);
+        if (!this.impl$defersDataSync()) {
+            DataUtil.syncDataToTag(this);
+        }
+    }
+
+    @Override
+    public @Nullable Set<Key<?>> bridge$getDirtyDataKeys(final @Nullable CompoundTag compound) {
+        if (!this.impl$dataSynced || compound != this.impl$syncedCompound) {
+            return null;
+        }
+        return this.impl$dirtyDataKeys == null ? Collections.emptySet() : this.impl$dirtyDataKeys;
+    }
+
+    @Override
+    public void bridge$markDataSynced(final @Nullable CompoundTag compound) {
+        if (this.impl$dirtyDataKeys != null) {
+            this.impl$dirtyDataKeys.clear();
+        }
+        this.impl$dataSynced = true;
+        this.impl$syncedCompound = compound;
+    }
+
+    /**
+     * Entities, block entities, users and map data only read their compound
+     * when they are saved, which syncs the custom data first. Item stacks and
+     * snapshots expose their compound directly and have to stay in sync.
+     */
+    private boolean impl$defersDataSync() {
+        final Object self = this;
+        return self instanceof Entity || self instanceof BlockEntity || self instanceof SpongeUser || self instanceof MapItemSavedData;
     }
 }
@@ -71,6 +71,7 @@
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
 import org.spongepowered.common.datapack.SpongeDataPackManager;
+import org.spongepowered.common.event.tracking.PhaseStateProfiler;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import co.aikar.timings.sponge.SpongeTimings;
 import co.aikar.timings.sponge.TimingsManager;
@@ -153,6 +154,11 @@ public Subject subject() {
         this.scheduler().tick();
     }
 
+    @Inject(method = "tickServer", at = @At("TAIL"))
+    private void impl$endPhaseStateProfilerTick(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        PhaseStateProfiler.endTick();
+    }
+
     @Override
     public CommandSourceStack bridge$getCommandSource(final Cause cause) {
         return this.shadow$createCommandSourceStack();
@@ -92,6 +92,7 @@
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 import org.spongepowered.common.mixin.core.world.level.LevelMixin;
 import org.spongepowered.common.registry.SpongeRegistryHolder;
+import org.spongepowered.common.world.server.SpongeBulkBlockChange;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -121,6 +122,7 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerLevel
     private Weather impl$prevWeather;
 
     private boolean impl$isManualSave = false;
+    @Nullable private SpongeBulkBlockChange impl$bulkBlockChange;
     protected WorldTimingsHandler impl$timings = new WorldTimingsHandler((ServerLevel) (Object) this);
 
     @Inject(method = "<init>", at = @At("TAIL"))
@@ -252,6 +254,16 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerLevel
         return this.impl$registerHolder;
     }
 
+    @Override
+    public @Nullable SpongeBulkBlockChange bridge$getBulkBlockChange() {
+        return this.impl$bulkBlockChange;
+    }
+
+    @Override
+    public void bridge$setBulkBlockChange(@Nullable final SpongeBulkBlockChange bulkChange) {
+        this.impl$bulkBlockChange = bulkChange;
+    }
+
     @Override
     public BlockSnapshot bridge$createSnapshot(final int x, final int y, final int z) {
         final BlockPos pos = new BlockPos(x, y, z);
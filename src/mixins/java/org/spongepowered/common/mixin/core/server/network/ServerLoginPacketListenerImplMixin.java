@@ -51,8 +51,13 @@
 import org.spongepowered.common.bridge.network.ConnectionHolderBridge;
 import org.spongepowered.common.bridge.server.network.ServerLoginPacketListenerImplBridge;
 import org.spongepowered.common.bridge.server.players.PlayerListBridge;
+import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.network.channel.SpongeChannelManager;
 
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
 @Mixin(ServerLoginPacketListenerImpl.class)
 public abstract class ServerLoginPacketListenerImplMixin implements ServerLoginPacketListenerImplBridge, ConnectionHolderBridge {
 
@@ -124,12 +129,16 @@ public void handleAcceptedLogin() {
         this.shadow$disconnect(reason);
     }
 
-    @Override
-    public boolean bridge$fireAuthEvent() {
+    private ServerSideConnectionEvent.Auth impl$createAuthEvent() {
         final Component disconnectMessage = Component.text("You are not allowed to log in to this server.");
         final Cause cause = Cause.of(EventContext.empty(), this);
-        final ServerSideConnectionEvent.Auth event = SpongeEventFactory.createServerSideConnectionEventAuth(
+        return SpongeEventFactory.createServerSideConnectionEventAuth(
                 cause, disconnectMessage, disconnectMessage, (ServerSideConnection) this);
+    }
+
+    @Override
+    public boolean bridge$fireAuthEvent() {
+        final ServerSideConnectionEvent.Auth event = this.impl$createAuthEvent();
         SpongeCommon.post(event);
         if (event.isCancelled()) {
             this.impl$disconnectClient(event.message());
@@ -137,6 +146,32 @@ public void handleAcceptedLogin() {
         return event.isCancelled();
     }
 
+    @Override
+    public boolean bridge$fireAuthEventAndWait() {
+        final ServerSideConnectionEvent.Auth event = this.impl$createAuthEvent();
+        // Async-safe listeners are called on the event workers, all others on this
+        // waiting thread, like the whole event was before
+        final BlockingQueue<Runnable> stages = new LinkedBlockingQueue<>();
+        final CompletableFuture<Boolean> future = ((SpongeEventManager) Sponge.eventManager()).postAsync(event, stages::add);
+        future.whenComplete((cancelled, failure) -> stages.add(() -> {}));
+        boolean interrupted = false;
+        while (!future.isDone()) {
+            try {
+                stages.take().run();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        final boolean cancelled = future.handle((result, failure) -> failure != null || result).join();
+        if (cancelled) {
+            this.impl$disconnectClient(event.message());
+        }
+        return cancelled;
+    }
+
     @Inject(method = "handleHello(Lnet/minecraft/network/protocol/login/ServerboundHelloPacket;)V",
         at = @At(
             value = "FIELD",
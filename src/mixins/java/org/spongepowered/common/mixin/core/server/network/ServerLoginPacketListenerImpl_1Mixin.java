@@ -44,7 +44,8 @@ public abstract class ServerLoginPacketListenerImpl_1Mixin extends Thread {
     @Inject(method = "run()V", at = @At(value = "JUMP", opcode = Opcodes.IFNULL, ordinal = 0, shift = At.Shift.AFTER),
             remap = false, cancellable = true)
     private void impl$fireAuthEvent(final CallbackInfo ci) {
-        if (((ServerLoginPacketListenerImplBridge) this.handler).bridge$fireAuthEvent()) {
+        // This is the dedicated authenticator thread, which may wait for the listeners
+        if (((ServerLoginPacketListenerImplBridge) this.handler).bridge$fireAuthEventAndWait()) {
             ci.cancel();
         }
     }
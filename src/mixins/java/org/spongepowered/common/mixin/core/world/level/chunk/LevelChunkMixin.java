@@ -40,7 +40,6 @@
 import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.chunk.UpgradeData;
 import net.minecraft.world.level.material.Fluid;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.asm.mixin.Final;
@@ -58,19 +57,16 @@
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.tracking.PhaseTracker;
-import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DirectionUtil;
+import org.spongepowered.common.world.storage.BlockOwnerTable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
@@ -95,8 +91,7 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
     private boolean impl$isSpawning = false;
     private final net.minecraft.world.level.chunk.LevelChunk[] impl$neighbors = new net.minecraft.world.level.chunk.LevelChunk[4];
     private long impl$cacheKey;
-    private Map<Integer, PlayerTracker> impl$trackedIntBlockPositions = new HashMap<>();
-    private Map<Short, PlayerTracker> impl$trackedShortBlockPositions = new HashMap<>();
+    private BlockOwnerTable impl$blockOwners = new BlockOwnerTable();
 
     @Inject(method = "<init>(Lnet/minecraft/world/level/Level;Lnet/minecraft/world/level/ChunkPos;Lnet/minecraft/world/level/chunk/ChunkBiomeContainer;Lnet/minecraft/world/level/chunk/UpgradeData;Lnet/minecraft/world/level/TickList;Lnet/minecraft/world/level/TickList;J[Lnet/minecraft/world/level/chunk/LevelChunkSection;Ljava/util/function/Consumer;)V",
             at = @At("RETURN"))
@@ -140,23 +135,13 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
     // These methods are enabled in ChunkMixin_CreatorTracked as a Mixin plugin
 
     @Override
-    public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() {
-        return this.impl$trackedIntBlockPositions;
+    public BlockOwnerTable bridge$getBlockOwners() {
+        return this.impl$blockOwners;
     }
 
     @Override
-    public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() {
-        return this.impl$trackedShortBlockPositions;
-    }
-
-    @Override
-    public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
-        this.impl$trackedIntBlockPositions = trackedPositions;
-    }
-
-    @Override
-    public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
-        this.impl$trackedShortBlockPositions = trackedPositions;
+    public void bridge$setBlockOwners(final BlockOwnerTable blockOwners) {
+        this.impl$blockOwners = blockOwners;
     }
 
     @Override
@@ -190,106 +175,87 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
             }
         }
 
+        final int index = this.impl$getIndexForUniqueId(user.uniqueId());
+        if (index == BlockOwnerTable.NONE) {
+            return;
+        }
         if (trackerType == PlayerTracker.Type.CREATOR) {
-            this.impl$setTrackedUUID(pos, user.uniqueId(), trackerType, (pt, idx) -> {
-                pt.creatorindex = idx;
-                pt.notifierIndex = idx;
-            });
+            // An already tracked block also gets its notifier replaced by the new creator
+            this.impl$blockOwners.set(pos, index, this.impl$blockOwners.contains(pos) ? index : BlockOwnerTable.NONE);
         } else {
-            this.impl$setTrackedUUID(pos, user.uniqueId(), trackerType, (pt, idx) -> pt.notifierIndex = idx);
+            this.impl$blockOwners.setNotifier(pos, index);
         }
     }
 
     @Override
     public Optional<User> bridge$getBlockCreator(final BlockPos pos) {
-        final Optional<UUID> uuid = this.bridge$getBlockCreatorUUID(pos);
-        return uuid.flatMap(this::impl$getValidatedUser);
+        return this.impl$getValidatedUser(pos, this.impl$blockOwners.getCreator(pos));
     }
 
-    public Optional<UUID> bridge$trackedUUID(final BlockPos pos, final Function<PlayerTracker, Integer> func) {
+    @Override
+    public Optional<UUID> bridge$getBlockCreatorUUID(final BlockPos pos) {
         if (((WorldBridge) this.level).bridge$isFake()) {
             return Optional.empty();
         }
-
-        final int key = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.impl$trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = func.apply(intTracker);
-            return this.impl$getValidatedUUID(key, ownerIndex);
-        }
-        final short shortKey = Constants.Sponge.blockPosToShort(pos);
-        final PlayerTracker shortTracker = this.impl$trackedShortBlockPositions.get(shortKey);
-        if (shortTracker != null) {
-            final int ownerIndex = func.apply(shortTracker);
-            return this.impl$getValidatedUUID(shortKey, ownerIndex);
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<UUID> bridge$getBlockCreatorUUID(final BlockPos pos) {
-       return this.bridge$trackedUUID(pos, pt -> pt.creatorindex);
+        return this.impl$getValidatedUUID(pos, this.impl$blockOwners.getCreator(pos));
     }
 
     @Override
     public Optional<User> bridge$getBlockNotifier(final BlockPos pos) {
-        final Optional<UUID> uuid = this.bridge$getBlockNotifierUUID(pos);
-        return uuid.flatMap(this::impl$getValidatedUser);
+        return this.impl$getValidatedUser(pos, this.impl$blockOwners.getNotifier(pos));
     }
 
     @Override
     public Optional<UUID> bridge$getBlockNotifierUUID(final BlockPos pos) {
-        return this.bridge$trackedUUID(pos, pt -> pt.notifierIndex);
-    }
-
-    private <T> void impl$computePlayerTracker(final Map<T, PlayerTracker> map, final T blockPos, final int index, final PlayerTracker.Type type, final BiConsumer<PlayerTracker, Integer> consumer) {
-        final PlayerTracker tracker = map.get(blockPos);
-        if (tracker != null) {
-            consumer.accept(tracker, index);
-        } else {
-            map.put(blockPos, new PlayerTracker(index, type));
+        if (((WorldBridge) this.level).bridge$isFake()) {
+            return Optional.empty();
         }
+        return this.impl$getValidatedUUID(pos, this.impl$blockOwners.getNotifier(pos));
     }
 
-    private void impl$setTrackedUUID(final BlockPos pos, final UUID uuid, final PlayerTracker.Type type, final BiConsumer<PlayerTracker, Integer> consumer) {
-        if (((WorldBridge) this.level).bridge$isFake()) {
-            return;
+    private int impl$getIndexForUniqueId(final @Nullable UUID uuid) {
+        if (uuid == null) {
+            return BlockOwnerTable.NONE;
         }
-        final PrimaryLevelDataBridge worldInfo = (PrimaryLevelDataBridge) this.level.getLevelData();
-        final int index = uuid == null ? -1 : worldInfo.bridge$getIndexForUniqueId(uuid);
-        if (pos.getY() <= 255) {
-            final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            this.impl$computePlayerTracker(this.impl$trackedShortBlockPositions, blockPos, index, type, consumer);
-            return;
-        }
-        final int blockPos = Constants.Sponge.blockPosToInt(pos);
-        this.impl$computePlayerTracker(this.impl$trackedIntBlockPositions, blockPos, index, type, consumer);
+        return ((PrimaryLevelDataBridge) this.level.getLevelData()).bridge$getIndexForUniqueId(uuid);
     }
 
     @Override
     public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) {
-       this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.NOTIFIER, (pt, idx) -> pt.notifierIndex = idx);
+        if (((WorldBridge) this.level).bridge$isFake()) {
+            return;
+        }
+        this.impl$blockOwners.setNotifier(pos, this.impl$getIndexForUniqueId(uuid));
     }
 
     @Override
     public void bridge$setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) {
-        this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.CREATOR, (pt, idx) -> pt.creatorindex = idx);
+        if (((WorldBridge) this.level).bridge$isFake()) {
+            return;
+        }
+        this.impl$blockOwners.setCreator(pos, this.impl$getIndexForUniqueId(uuid));
     }
 
-    private Optional<User> impl$getValidatedUser(final UUID uuid) {
-        return Sponge.server().userManager().find(uuid);
+    private Optional<User> impl$getValidatedUser(final BlockPos pos, final int ownerIndex) {
+        if (((WorldBridge) this.level).bridge$isFake()) {
+            return Optional.empty();
+        }
+        if (!this.impl$getValidatedUUID(pos, ownerIndex).isPresent()) {
+            return Optional.empty();
+        }
+        return ((PrimaryLevelDataBridge) this.level.getLevelData()).bridge$getUserForIndex(ownerIndex);
     }
 
-    private Optional<UUID> impl$getValidatedUUID(final int key, final int ownerIndex) {
+    private Optional<UUID> impl$getValidatedUUID(final BlockPos pos, final int ownerIndex) {
+        if (ownerIndex == BlockOwnerTable.NONE) {
+            return Optional.empty();
+        }
         final PrimaryLevelDataBridge worldInfo = (PrimaryLevelDataBridge) this.level.getLevelData();
         final UUID uuid = worldInfo.bridge$getUniqueIdForIndex(ownerIndex).orElse(null);
         if (uuid != null) {
             // Verify id is valid and not invalid
             if (SpongeConfigs.getCommon().get().world.invalidLookupUuids.contains(uuid)) {
-                if (key <= Short.MAX_VALUE) {
-                    this.impl$trackedShortBlockPositions.remove((short) key);
-                }
-                this.impl$trackedIntBlockPositions.remove(key);
+                this.impl$blockOwners.remove(pos);
                 return Optional.empty();
             }
 
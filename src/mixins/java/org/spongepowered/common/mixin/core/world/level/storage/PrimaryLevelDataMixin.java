@@ -32,6 +32,8 @@
 import com.mojang.serialization.Dynamic;
 import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.Lifecycle;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.kyori.adventure.text.Component;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.MappedRegistry;
@@ -58,6 +60,7 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.api.world.SerializationBehavior;
 import org.spongepowered.asm.mixin.Mixin;
@@ -76,6 +79,7 @@
 import org.spongepowered.common.config.inheritable.WorldConfig;
 import org.spongepowered.common.data.fixer.LegacyUUIDCodec;
 import org.spongepowered.common.server.BootstrapProperties;
+import org.spongepowered.common.user.SpongeUserManager;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.MapUtil;
 import org.spongepowered.common.util.VecHelper;
@@ -116,6 +120,9 @@ public abstract class PrimaryLevelDataMixin implements WorldData, PrimaryLevelDa
     private final BiMap<Integer, UUID> impl$playerUniqueIdMap = HashBiMap.create();
     private final List<UUID> impl$pendingUniqueIds = new ArrayList<>();
     private int impl$trackedUniqueIdCount = 0;
+    // Users resolved for the indices above, valid as long as the user manager generation does not change
+    private final Int2ObjectMap<Optional<User>> impl$usersByIndex = new Int2ObjectOpenHashMap<>();
+    private int impl$usersGeneration;
 
     private boolean impl$customDifficulty = false, impl$customGameType = false, impl$customSpawnPosition = false, impl$loadOnStartup,
         impl$performsSpawnLogic;
@@ -330,6 +337,26 @@ public abstract class PrimaryLevelDataMixin implements WorldData, PrimaryLevelDa
         return Optional.ofNullable(this.impl$playerUniqueIdMap.get(index));
     }
 
+    @Override
+    public Optional<User> bridge$getUserForIndex(final int index) {
+        final SpongeUserManager userManager = (SpongeUserManager) Sponge.server().userManager();
+        final int generation = userManager.generation();
+        if (generation != this.impl$usersGeneration) {
+            this.impl$usersByIndex.clear();
+            this.impl$usersGeneration = generation;
+        }
+        final @Nullable Optional<User> cached = this.impl$usersByIndex.get(index);
+        if (cached != null) {
+            return cached;
+        }
+        // Unresolved users are not cached, the profile may only show up later on
+        final Optional<User> user = this.bridge$getUniqueIdForIndex(index).flatMap(userManager::find);
+        if (user.isPresent()) {
+            this.impl$usersByIndex.put(index, user);
+        }
+        return user;
+    }
+
     @Override
     public ServerLevelData overworldData() {
         if (Level.OVERWORLD.location().equals(this.impl$key)) {
@@ -403,6 +430,7 @@ public ServerLevelData overworldData() {
                 this.impl$playerUniqueIdMap.put(this.impl$trackedUniqueIdCount++, uuid);
             }
         });
+        this.impl$usersByIndex.clear();
     }
 
     @Override
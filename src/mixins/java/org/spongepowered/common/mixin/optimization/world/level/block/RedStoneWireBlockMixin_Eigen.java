@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.level.block;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.RedStoneWireBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.applaunch.config.common.EigenRedstoneCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.block.RedstoneWireTurbo;
+import org.spongepowered.common.bridge.world.level.block.RedStoneWireBlockBridge;
+
+@Mixin(RedStoneWireBlock.class)
+public abstract class RedStoneWireBlockMixin_Eigen implements RedStoneWireBlockBridge {
+
+    // @formatter:off
+    @Shadow private boolean shouldSignal;
+    // @formatter:on
+
+    private @Nullable RedstoneWireTurbo eigen$turbo;
+
+    @Inject(method = "<init>", at = @At("RETURN"))
+    private void eigen$createTurbo(final CallbackInfo ci) {
+        final EigenRedstoneCategory category = SpongeConfigs.getCommon().get().optimizations.eigenRedstone;
+        if (!category.vanillaSearch) {
+            this.eigen$turbo = new RedstoneWireTurbo((RedStoneWireBlock) (Object) this, category.vanillaDecrement);
+        }
+    }
+
+    @Inject(method = "updatePowerStrength", at = @At("HEAD"), cancellable = true)
+    private void eigen$updateSurroundingRedstone(final Level level, final BlockPos pos, final BlockState state, final CallbackInfo ci) {
+        if (this.eigen$turbo != null) {
+            this.eigen$turbo.updateSurroundingRedstone(level, pos, state);
+            ci.cancel();
+        }
+    }
+
+    @Override
+    public int bridge$getBlockSignal(final Level level, final BlockPos pos) {
+        this.shouldSignal = false;
+        final int signal = level.getBestNeighborSignal(pos);
+        this.shouldSignal = true;
+        return signal;
+    }
+}
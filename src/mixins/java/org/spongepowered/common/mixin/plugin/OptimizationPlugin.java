@@ -55,8 +55,8 @@ public boolean shouldApplyMixin(final String targetClassName, final String mixin
     private static final Map<String, Function<OptimizationCategory, Boolean>> mixinEnabledMappings = ImmutableMap.<String, Function<OptimizationCategory, Boolean>> builder()
             .put("org.spongepowered.common.mixin.optimization.SpongeImplHooksMixin_Item_Pre_Merge",
                     optimizationCategory -> optimizationCategory.dropsPreMerge)
-            .put("org.spongepowered.common.mixin.optimization.mcp.block.BlockRedstoneWireMixin_Eigen", optimizationCategory -> optimizationCategory.eigenRedstone.enabled)
-            .put("org.spongepowered.common.accessor.block.BlockRedstoneWireAccessor_Eigen", optimizationCategory -> optimizationCategory.eigenRedstone.enabled)
+            .put("org.spongepowered.common.mixin.optimization.world.level.block.RedStoneWireBlockMixin_Eigen",
+                    optimizationCategory -> optimizationCategory.eigenRedstone.enabled)
             .put("org.spongepowered.common.mixin.optimization.mcp.entity.passive.TameableEntity_Optimization_Owner",
                     optimizationCategory -> optimizationCategory.cacheTameableOwners)
             .put("org.spongepowered.common.mixin.optimization.mcp.entity.item.ItemFrameEntityMixin_Optimization_Map",
@@ -70,6 +70,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
 import org.spongepowered.common.bridge.TimingBridge;
@@ -124,6 +125,7 @@
 import org.spongepowered.common.util.PrettyPrinter;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
+import org.spongepowered.common.world.server.SpongeBulkBlockChange;
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 
@@ -132,6 +134,7 @@
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -143,6 +146,13 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
     @Shadow @Final private List<ServerPlayer> players;
     // @formatting:on
 
+    // Read once per tick rather than for every ticking entity
+    private boolean tracker$entityTickFastPath;
+
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void tracker$readEntityTickConfig(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        this.tracker$entityTickFastPath = SpongeConfigs.getCommon().get().phaseTracker.entityTickFastPath;
+    }
 
     @Inject(method = "add", at = @At("TAIL"))
     private void tracker$setEntityTrackedInWorld(final net.minecraft.world.entity.Entity entityIn, final CallbackInfo ci) {
@@ -180,7 +190,7 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
             this.shadow$guardEntityTick(entityUpdateConsumer, entity);
             return;
         }
-        TrackingUtil.tickEntity(entityUpdateConsumer, entity);
+        TrackingUtil.tickEntity(entityUpdateConsumer, entity, this.tracker$entityTickFastPath);
         ((ServerLevelBridge) this).bridge$getTimingsHandler().entityTick.stopTiming();
     }
 
@@ -514,6 +524,12 @@ public boolean setBlock(final BlockPos pos, final net.minecraft.world.level.bloc
             throw new UnsupportedOperationException("Cannot perform a tracked Block Change on a ServerWorld while not on the main thread!");
         }
         final SpongeBlockChangeFlag spongeFlag = BlockChangeFlagManager.fromNativeInt(flags);
+        // Changes without physics while a volume is applied are collected and written at once
+        final @Nullable SpongeBulkBlockChange bulkChange = ((ServerLevelBridge) this).bridge$getBulkBlockChange();
+        if (bulkChange != null && SpongeBulkBlockChange.accepts(spongeFlag) && ((ServerLevel) (Object) this).hasChunkAt(pos)) {
+            bulkChange.set(pos.getX(), pos.getY(), pos.getZ(), (org.spongepowered.api.block.BlockState) newState);
+            return true;
+        }
 
         final LevelChunk chunk = this.shadow$getChunkAt(pos);
         if (chunk.isEmpty()) {
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.tracker.world;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.NonNullList;
+import net.minecraft.world.Container;
+import net.minecraft.world.Containers;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.world.level.block.entity.TrackableBlockEntityBridge;
+
+@Mixin(Containers.class)
+public abstract class ContainersMixin_Tracker {
+
+    @Inject(method = "dropContents(Lnet/minecraft/world/level/Level;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/Container;)V",
+        at = @At("HEAD"))
+    private static void tracker$captureDeferredSnapshotsBeforeDrops(final Level level, final BlockPos pos, final Container container,
+        final CallbackInfo ci
+    ) {
+        // Dropping the contents empties the stacks in place, any snapshot still pending must see them first
+        if (container instanceof TrackableBlockEntityBridge) {
+            ((TrackableBlockEntityBridge) container).bridge$captureDeferredSnapshots();
+        }
+    }
+
+    @Inject(method = "dropContents(Lnet/minecraft/world/level/Level;Lnet/minecraft/core/BlockPos;Lnet/minecraft/core/NonNullList;)V",
+        at = @At("HEAD"))
+    private static void tracker$captureDeferredSnapshotsBeforeListDrops(final Level level, final BlockPos pos, final NonNullList<ItemStack> stacks,
+        final CallbackInfo ci
+    ) {
+        // Used by campfires, which pass their item list instead of themselves
+        final @Nullable BlockEntity blockEntity = level.getBlockEntity(pos);
+        if (blockEntity != null) {
+            ((TrackableBlockEntityBridge) blockEntity).bridge$captureDeferredSnapshots();
+        }
+    }
+
+}
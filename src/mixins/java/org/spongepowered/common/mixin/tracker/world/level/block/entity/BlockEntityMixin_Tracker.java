@@ -25,12 +25,20 @@
 package org.spongepowered.common.mixin.tracker.world.level.block.entity;
 
 import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.TrackableBridge;
 import org.spongepowered.common.bridge.world.level.block.entity.TrackableBlockEntityBridge;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Mixin(net.minecraft.world.level.block.entity.BlockEntity.class)
 public class BlockEntityMixin_Tracker implements TrackableBridge, TrackableBlockEntityBridge {
 
@@ -44,6 +52,8 @@ public class BlockEntityMixin_Tracker implements TrackableBridge, TrackableBlock
     private boolean tracker$allowsBlockEventCreation = true;
     private boolean tracker$allowsEntityEventCreation = true;
     private boolean tracker$isCaptured = false;
+    // Snapshots of this block entity that have not serialized it yet
+    private @Nullable List<SpongeBlockSnapshot> tracker$deferredSnapshots;
 
     @Override
     public boolean bridge$isCaptured() {
@@ -55,6 +65,40 @@ public class BlockEntityMixin_Tracker implements TrackableBridge, TrackableBlock
         this.tracker$isCaptured = captured;
     }
 
+    @Override
+    public void bridge$deferSnapshotCapture(final SpongeBlockSnapshot snapshot) {
+        if (this.tracker$deferredSnapshots == null) {
+            this.tracker$deferredSnapshots = new ArrayList<>(2);
+        }
+        this.tracker$deferredSnapshots.add(snapshot);
+    }
+
+    @Override
+    public void bridge$releaseDeferredSnapshot(final SpongeBlockSnapshot snapshot) {
+        if (this.tracker$deferredSnapshots != null) {
+            // Identity only, snapshot equality would serialize the pending data
+            this.tracker$deferredSnapshots.removeIf(pending -> pending == snapshot);
+        }
+    }
+
+    @Override
+    public void bridge$captureDeferredSnapshots() {
+        final @Nullable List<SpongeBlockSnapshot> snapshots = this.tracker$deferredSnapshots;
+        if (snapshots == null || snapshots.isEmpty()) {
+            return;
+        }
+        this.tracker$deferredSnapshots = null;
+        for (final SpongeBlockSnapshot snapshot : snapshots) {
+            snapshot.captureDeferredData();
+        }
+    }
+
+    // Removal outside of the chunk pipeline, such as Level#removeBlockEntity, also ends the wait
+    @Inject(method = {"setChanged", "load", "setRemoved"}, at = @At("HEAD"))
+    private void tracker$captureDeferredSnapshotsBeforeChange(final CallbackInfo ci) {
+        this.bridge$captureDeferredSnapshots();
+    }
+
     @Override
     public boolean bridge$isWorldTracked() {
         return false;
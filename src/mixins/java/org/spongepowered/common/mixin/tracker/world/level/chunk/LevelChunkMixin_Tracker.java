@@ -38,6 +38,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.bridge.world.level.block.entity.TrackableBlockEntityBridge;
 import org.spongepowered.common.bridge.world.level.block.state.BlockStateBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.level.chunk.ActiveChunkReferantBridge;
@@ -141,17 +142,26 @@ public abstract class LevelChunkMixin_Tracker implements TrackedLevelChunkBridge
         // Sponge Start - Build out the BlockTransaction
         final PhaseContext<@NonNull ?> context = PhaseTracker.getInstance().getPhaseContext();
         final @Nullable BlockEntity existing = this.shadow$getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+        // Pulled up from below
+        final Block newBlock = newState.getBlock();
+        final Block currentBlock = currentState.getBlock();
+
+        // Only a block entity which stays in place may be serialized later,
+        // everything it goes through until then passes the capture hooks.
+        // One that is removed or replaced is mutated by the removal itself
+        // (dropped contents, cleared records, books...), so it has to be
+        // serialized now, as do earlier snapshots still waiting on it.
+        final boolean deferBlockEntity = existing != null && newBlock == currentBlock;
+        if (existing != null && !deferBlockEntity) {
+            ((TrackableBlockEntityBridge) existing).bridge$captureDeferredSnapshots();
+        }
         // Build a transaction maybe?
         final WeakReference<ServerLevel> ref = new WeakReference<>((ServerLevel) this.level);
         final SpongeBlockSnapshot snapshot = TrackingUtil.createPooledSnapshot(currentState, pos, flag, limit, existing,
             () -> Objects.requireNonNull(ref.get(), "ServerWorld dereferenced"),
-            Optional::empty, Optional::empty
+            Optional::empty, Optional::empty, deferBlockEntity
         );
 
-        // Pulled up from below
-        final Block newBlock = newState.getBlock();
-        final Block currentBlock = currentState.getBlock();
-
         final ChangeBlock transaction = context.createTransaction(snapshot, newState, flag);
 
         snapshot.blockChange = context.associateBlockChangeWithSnapshot(
@@ -25,8 +25,6 @@
 package org.spongepowered.common.mixin.tracker.world.level.chunk.storage;
 
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.ai.village.poi.PoiManager;
 import net.minecraft.world.level.ChunkPos;
@@ -40,12 +38,8 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
-import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.util.Constants;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.BiConsumer;
+import org.spongepowered.common.world.storage.BlockOwnerTable;
 
 @Mixin(ChunkSerializer.class)
 public abstract class ChunkSerializerMixin_Tracker {
@@ -55,29 +49,12 @@ public abstract class ChunkSerializerMixin_Tracker {
         if (!(param1 instanceof LevelChunk)) {
             return;
         }
-        final LevelChunkBridge chunk = (LevelChunkBridge) param1;
-        if (!chunk.bridge$getTrackedIntPlayerPositions().isEmpty()) {
+        final BlockOwnerTable blockOwners = ((LevelChunkBridge) param1).bridge$getBlockOwners();
+        if (!blockOwners.isEmpty()) {
             final CompoundTag level = (CompoundTag) cir.getReturnValue().get("Level");
             final CompoundTag trackedNbt = new CompoundTag();
-            final ListTag positions = new ListTag();
-            trackedNbt.put(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, positions);
+            blockOwners.write(trackedNbt);
             level.put(Constants.Sponge.Data.V2.SPONGE_DATA, trackedNbt);
-
-            ChunkSerializerMixin_Tracker.impl$writeMap(positions, chunk.bridge$getTrackedShortPlayerPositions(), (nbt, pos) -> nbt.putShort("pos", pos));
-            ChunkSerializerMixin_Tracker.impl$writeMap(positions, chunk.bridge$getTrackedIntPlayerPositions(), (nbt, pos) -> nbt.putInt("ipos", pos));
-        }
-    }
-
-    private static <T> void impl$writeMap(ListTag positions, Map<T, PlayerTracker> map, BiConsumer<CompoundTag, T> consumer) {
-        for (final Map.Entry<T, PlayerTracker> mapEntry : map.entrySet()) {
-            final T pos = mapEntry.getKey();
-            final int ownerUniqueIdIndex = mapEntry.getValue().creatorindex;
-            final int notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-            final CompoundTag valueNbt = new CompoundTag();
-            valueNbt.putInt("owner", ownerUniqueIdIndex);
-            valueNbt.putInt("notifier", notifierUniqueIdIndex);
-            consumer.accept(valueNbt, pos);
-            positions.add(valueNbt);
         }
     }
 
@@ -92,30 +69,7 @@ public abstract class ChunkSerializerMixin_Tracker {
         if (spongeData.isEmpty()) {
             return;
         }
-        final Map<Integer, PlayerTracker> trackedIntPlayerPositions = new HashMap<>();
-        final Map<Short, PlayerTracker> trackedShortPlayerPositions = new HashMap<>();
-
-        final ListTag list = spongeData.getList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, 10);
-        final LevelChunkBridge chunk = (LevelChunkBridge) chunkAccess;
-        for (Tag tag : list) {
-            final PlayerTracker tracker = new PlayerTracker();
-            final CompoundTag data = (CompoundTag) tag;
-            final boolean isShortPos = data.contains("pos");
-            if (data.contains("owner")) {
-                tracker.creatorindex = data.getInt("owner");
-            }
-            if (data.contains("notifier")) {
-                tracker.notifierIndex = data.getInt("notifier");
-            }
-            if (tracker.notifierIndex != -1 || tracker.creatorindex != -1) {
-                if (isShortPos) {
-                    trackedShortPlayerPositions.put(data.getShort("pos"), tracker);
-                } else {
-                    trackedIntPlayerPositions.put(data.getInt("ipos"), tracker);
-                }
-            }
-        }
-        chunk.bridge$setTrackedIntPlayerPositions(trackedIntPlayerPositions);
-        chunk.bridge$setTrackedShortPlayerPositions(trackedShortPlayerPositions);
+        // Chunks saved with the per entry block position table are migrated on their next save
+        ((LevelChunkBridge) chunkAccess).bridge$setBlockOwners(BlockOwnerTable.read(spongeData));
     }
 }
@@ -0,0 +1,469 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class RedstoneWireTurboTest {
+
+    private static BlockPos pos(final int x) {
+        return new BlockPos(x, 64, 0);
+    }
+
+    private static void assertLinePowers(final StubWires wires, final int... expected) {
+        final int[] actual = new int[expected.length];
+        for (int x = 0; x < expected.length; x++) {
+            actual[x] = wires.wirePower(RedstoneWireTurboTest.pos(x));
+        }
+        assertArrayEquals(expected, actual, () -> "Line powers were " + Arrays.toString(actual));
+    }
+
+    private static void assertWrittenOnce(final StubWires wires, final int... xs) {
+        final List<BlockPos> expected = new ArrayList<>();
+        for (final int x : xs) {
+            expected.add(RedstoneWireTurboTest.pos(x));
+        }
+        assertEquals(new HashSet<>(expected), new HashSet<>(wires.writes), "Unexpected wires were written");
+        assertEquals(expected.size(), wires.writes.size(), "A wire was written more than once");
+    }
+
+    @Test
+    void poweringLineCountsDown() {
+        for (final boolean vanillaDecrement : new boolean[] {false, true}) {
+            final StubWires wires = new StubWires().line(0, 0, 0, 0, 0);
+            wires.sources.put(RedstoneWireTurboTest.pos(0), 15);
+
+            RedstoneWireTurbo.update(wires, vanillaDecrement, RedstoneWireTurboTest.pos(0), 0);
+
+            RedstoneWireTurboTest.assertLinePowers(wires, 15, 14, 13, 12, 11);
+            RedstoneWireTurboTest.assertWrittenOnce(wires, 0, 1, 2, 3, 4);
+        }
+    }
+
+    @Test
+    void unpoweringLineResetsEveryWireOnce() {
+        for (final boolean vanillaDecrement : new boolean[] {false, true}) {
+            final StubWires wires = new StubWires().line(15, 14, 13, 12, 11);
+
+            RedstoneWireTurbo.update(wires, vanillaDecrement, RedstoneWireTurboTest.pos(0), 15);
+
+            RedstoneWireTurboTest.assertLinePowers(wires, 0, 0, 0, 0, 0);
+            RedstoneWireTurboTest.assertWrittenOnce(wires, 0, 1, 2, 3, 4);
+        }
+    }
+
+    @Test
+    void invalidationStopsAtWiresPoweredFromElsewhere() {
+        for (final boolean vanillaDecrement : new boolean[] {false, true}) {
+            final StubWires wires = new StubWires().line(15, 14, 13, 12, 13, 14, 15);
+            // Only the source at the far end is left
+            wires.sources.put(RedstoneWireTurboTest.pos(6), 15);
+
+            RedstoneWireTurbo.update(wires, vanillaDecrement, RedstoneWireTurboTest.pos(0), 15);
+
+            RedstoneWireTurboTest.assertLinePowers(wires, 9, 10, 11, 12, 13, 14, 15);
+            RedstoneWireTurboTest.assertWrittenOnce(wires, 0, 1, 2);
+        }
+    }
+
+    @Test
+    void removedWireInvalidatesWhatItPowered() {
+        for (final boolean vanillaDecrement : new boolean[] {false, true}) {
+            final StubWires wires = new StubWires().line(15, 14, 13, 12, 11);
+            wires.powers.remove(RedstoneWireTurboTest.pos(0));
+
+            RedstoneWireTurbo.update(wires, vanillaDecrement, RedstoneWireTurboTest.pos(0), 15);
+
+            RedstoneWireTurboTest.assertLinePowers(wires, StubWires.NO_WIRE, 0, 0, 0, 0);
+            RedstoneWireTurboTest.assertWrittenOnce(wires, 1, 2, 3, 4);
+        }
+    }
+
+    @Test
+    void powerFollowsWireUpAndDownBlocks() {
+        final BlockPos origin = RedstoneWireTurboTest.pos(0);
+        final BlockPos down = origin.east().below();
+        final BlockPos up = origin.west().above();
+        final StubWires wires = new StubWires();
+        wires.powers.put(origin, 0);
+        // East of the origin is air, so the wire below it connects
+        wires.powers.put(down, 0);
+        // West of the origin is a conductor, so the wire on top of it connects
+        wires.conductors.add(origin.west());
+        wires.powers.put(up, 0);
+        wires.sources.put(origin, 15);
+
+        RedstoneWireTurbo.update(wires, false, origin, 0);
+
+        assertEquals(15, wires.wirePower(origin));
+        assertEquals(14, wires.wirePower(down));
+        assertEquals(14, wires.wirePower(up));
+    }
+
+    @Test
+    void notifiesNeighborsOnceInVanillaOrder() {
+        final BlockPos origin = RedstoneWireTurboTest.pos(0);
+        final StubWires wires = new StubWires();
+        wires.powers.put(origin, 0);
+        wires.sources.put(origin, 15);
+
+        RedstoneWireTurbo.update(wires, false, origin, 0);
+
+        final List<BlockPos> targets = new ArrayList<>();
+        for (final BlockPos[] notification : wires.notifications) {
+            targets.add(notification[0]);
+        }
+        // Everything within two blocks of the wire, but not the wire itself
+        assertEquals(24, targets.size());
+        assertEquals(24, new HashSet<>(targets).size());
+        assertFalse(targets.contains(origin));
+        // The wire's own neighbors first, west, east, down, up, north, south
+        assertEquals(Arrays.asList(origin.west(), origin.east(), origin.below(), origin.above(), origin.north(), origin.south()),
+            targets.subList(0, 6));
+        for (int i = 0; i < 6; i++) {
+            assertEquals(origin, wires.notifications.get(i)[1]);
+        }
+        // Then the neighbors of the block below, skipping what was already notified
+        final BlockPos below = origin.below();
+        assertEquals(Arrays.asList(below.west(), below.east(), below.below(), below.north(), below.south()), targets.subList(6, 11));
+        for (int i = 6; i < 11; i++) {
+            assertEquals(below, wires.notifications.get(i)[1]);
+        }
+    }
+
+    @Test
+    void doesNotNotifyComputedWires() {
+        final StubWires wires = new StubWires().line(0, 0, 0, 0, 0);
+        wires.sources.put(RedstoneWireTurboTest.pos(0), 15);
+
+        RedstoneWireTurbo.update(wires, false, RedstoneWireTurboTest.pos(0), 0);
+
+        for (final BlockPos[] notification : wires.notifications) {
+            assertEquals(StubWires.NO_WIRE, wires.wirePower(notification[0]), () -> "Notified wire at " + notification[0]);
+        }
+    }
+
+    @Test
+    void lineMatchesVanilla() {
+        for (final boolean vanillaDecrement : new boolean[] {false, true}) {
+            final Comparison comparison = new Comparison(vanillaDecrement);
+            for (int x = 0; x < 20; x++) {
+                comparison.wire(RedstoneWireTurboTest.pos(x));
+            }
+            comparison.source(RedstoneWireTurboTest.pos(0), 15)
+                .source(RedstoneWireTurboTest.pos(0), 0)
+                .source(RedstoneWireTurboTest.pos(19), 15)
+                .source(RedstoneWireTurboTest.pos(0), 15)
+                .source(RedstoneWireTurboTest.pos(19), 0);
+        }
+    }
+
+    @Test
+    void branchesMatchVanilla() {
+        for (final boolean vanillaDecrement : new boolean[] {false, true}) {
+            final Comparison comparison = new Comparison(vanillaDecrement);
+            for (int x = 0; x < 10; x++) {
+                comparison.wire(RedstoneWireTurboTest.pos(x));
+            }
+            // Branches off to both sides, one of them forking again
+            for (int z = 1; z < 6; z++) {
+                comparison.wire(new BlockPos(4, 64, z)).wire(new BlockPos(4, 64, -z));
+            }
+            for (int x = 5; x < 8; x++) {
+                comparison.wire(new BlockPos(x, 64, 3));
+            }
+            comparison.source(RedstoneWireTurboTest.pos(0), 15)
+                .source(new BlockPos(4, 64, 5), 12)
+                .source(RedstoneWireTurboTest.pos(0), 0)
+                .source(new BlockPos(4, 64, 5), 0);
+        }
+    }
+
+    @Test
+    void loopsMatchVanilla() {
+        for (final boolean vanillaDecrement : new boolean[] {false, true}) {
+            final Comparison comparison = new Comparison(vanillaDecrement);
+            // A ring, which can't hold on to its power once the source is gone
+            for (int i = 0; i < 6; i++) {
+                comparison.wire(new BlockPos(i, 64, 0))
+                    .wire(new BlockPos(i, 64, 5))
+                    .wire(new BlockPos(0, 64, i))
+                    .wire(new BlockPos(5, 64, i));
+            }
+            comparison.source(RedstoneWireTurboTest.pos(0), 15)
+                .source(new BlockPos(5, 64, 5), 15)
+                .source(RedstoneWireTurboTest.pos(0), 0)
+                .source(new BlockPos(5, 64, 5), 0);
+        }
+    }
+
+    @Test
+    void cutOffsMatchVanilla() {
+        for (final boolean vanillaDecrement : new boolean[] {false, true}) {
+            final Comparison comparison = new Comparison(vanillaDecrement);
+            for (int x = 0; x < 16; x++) {
+                comparison.wire(RedstoneWireTurboTest.pos(x));
+            }
+            comparison.source(RedstoneWireTurboTest.pos(0), 15)
+                .source(RedstoneWireTurboTest.pos(15), 15)
+                // Cut the line in the middle, then close to one of the sources
+                .removeWire(RedstoneWireTurboTest.pos(7))
+                .removeWire(RedstoneWireTurboTest.pos(2))
+                .source(RedstoneWireTurboTest.pos(15), 0)
+                .wire(RedstoneWireTurboTest.pos(7))
+                .source(RedstoneWireTurboTest.pos(0), 0);
+        }
+    }
+
+    @Test
+    void slopesMatchVanilla() {
+        for (final boolean vanillaDecrement : new boolean[] {false, true}) {
+            final Comparison comparison = new Comparison(vanillaDecrement);
+            // Up a staircase of conductors and down the other side
+            for (int x = 0; x < 12; x++) {
+                final int height = Math.min(x, 11 - x);
+                final BlockPos pos = new BlockPos(x, 64 + height, 0);
+                comparison.wire(pos);
+                if (height > 0) {
+                    comparison.conductor(pos.below());
+                }
+            }
+            comparison.source(RedstoneWireTurboTest.pos(0), 15)
+                .source(new BlockPos(11, 64, 0), 15)
+                .source(RedstoneWireTurboTest.pos(0), 0)
+                .source(new BlockPos(11, 64, 0), 0);
+        }
+    }
+
+    /**
+     * Runs each change through vanilla's wire updates and through the turbo,
+     * each in its own world, and checks that both end up with the same power
+     * levels and notify the same blocks that aren't wire.
+     *
+     * <p>Placing a wire or changing a source updates the wire at that
+     * position, as the block notifying it does in game. Removing a wire runs
+     * the update on the position it was at.</p>
+     */
+    private static final class Comparison {
+
+        private final VanillaWires vanilla = new VanillaWires();
+        private final TurboWires turbo;
+
+        Comparison(final boolean vanillaDecrement) {
+            this.turbo = new TurboWires(vanillaDecrement);
+        }
+
+        Comparison wire(final BlockPos pos) {
+            this.vanilla.powers.put(pos, 0);
+            this.turbo.powers.put(pos, 0);
+            this.update(pos, 0);
+            return this;
+        }
+
+        Comparison conductor(final BlockPos pos) {
+            this.vanilla.conductors.add(pos);
+            this.turbo.conductors.add(pos);
+            return this;
+        }
+
+        Comparison source(final BlockPos pos, final int power) {
+            this.vanilla.sources.put(pos, power);
+            this.turbo.sources.put(pos, power);
+            this.update(pos, this.vanilla.wirePower(pos));
+            return this;
+        }
+
+        Comparison removeWire(final BlockPos pos) {
+            final int oldPower = this.vanilla.wirePower(pos);
+            this.vanilla.powers.remove(pos);
+            this.turbo.powers.remove(pos);
+            this.update(pos, oldPower);
+            return this;
+        }
+
+        private void update(final BlockPos pos, final int oldPower) {
+            this.vanilla.notifications.clear();
+            this.turbo.notifications.clear();
+            this.vanilla.updatePowerStrength(pos, oldPower);
+            this.turbo.updatePowerStrength(pos, oldPower);
+            assertEquals(this.vanilla.powers, this.turbo.powers, () -> "Power levels differ after updating " + pos);
+            assertEquals(this.vanilla.notifiedBlocks(), this.turbo.notifiedBlocks(), () -> "Notified blocks differ after updating " + pos);
+        }
+    }
+
+    /**
+     * A world in which notifying a wire updates it, as
+     * {@code Level#neighborChanged} does.
+     */
+    private abstract static class NotifyingWires extends StubWires {
+
+        @Override
+        public void neighborChanged(final BlockPos target, final BlockPos source) {
+            super.neighborChanged(target, source);
+            final int power = this.wirePower(target);
+            if (power != RedstoneWireTurbo.Wires.NO_WIRE) {
+                this.updatePowerStrength(target, power);
+            }
+        }
+
+        abstract void updatePowerStrength(BlockPos pos, int power);
+
+        Set<BlockPos> notifiedBlocks() {
+            final Set<BlockPos> blocks = new HashSet<>();
+            for (final BlockPos[] notification : this.notifications) {
+                if (this.wirePower(notification[0]) == RedstoneWireTurbo.Wires.NO_WIRE) {
+                    blocks.add(notification[0]);
+                }
+            }
+            return blocks;
+        }
+    }
+
+    private static final class TurboWires extends NotifyingWires {
+
+        private final boolean vanillaDecrement;
+
+        TurboWires(final boolean vanillaDecrement) {
+            this.vanillaDecrement = vanillaDecrement;
+        }
+
+        @Override
+        void updatePowerStrength(final BlockPos pos, final int power) {
+            RedstoneWireTurbo.update(this, this.vanillaDecrement, pos, power);
+        }
+    }
+
+    /**
+     * {@code RedStoneWireBlock#updatePowerStrength} as vanilla has it, with
+     * {@code calculateTargetStrength} and {@code Level#updateNeighborsAt}.
+     */
+    private static final class VanillaWires extends NotifyingWires {
+
+        private static final Direction[] UPDATE_ORDER = {
+            Direction.WEST, Direction.EAST, Direction.DOWN, Direction.UP, Direction.NORTH, Direction.SOUTH
+        };
+
+        @Override
+        void updatePowerStrength(final BlockPos pos, final int power) {
+            final int target = this.calculateTargetStrength(pos);
+            if (power == target) {
+                return;
+            }
+            if (this.wirePower(pos) == power) {
+                this.setPower(pos, power, target);
+            }
+            final Set<BlockPos> toUpdate = new HashSet<>();
+            toUpdate.add(pos);
+            for (final Direction direction : Direction.values()) {
+                toUpdate.add(pos.relative(direction));
+            }
+            for (final BlockPos source : toUpdate) {
+                for (final Direction direction : VanillaWires.UPDATE_ORDER) {
+                    this.neighborChanged(source.relative(direction), source);
+                }
+            }
+        }
+
+        private int calculateTargetStrength(final BlockPos pos) {
+            final int blockSignal = this.blockSignal(pos);
+            int wireSignal = 0;
+            if (blockSignal < 15) {
+                for (final Direction direction : Direction.Plane.HORIZONTAL) {
+                    final BlockPos side = pos.relative(direction);
+                    wireSignal = Math.max(wireSignal, this.wireSignal(side));
+                    final BlockPos above = pos.above();
+                    if (this.isConductor(side) && !this.isConductor(above)) {
+                        wireSignal = Math.max(wireSignal, this.wireSignal(side.above()));
+                    } else if (!this.isConductor(side)) {
+                        wireSignal = Math.max(wireSignal, this.wireSignal(side.below()));
+                    }
+                }
+            }
+            return Math.max(blockSignal, wireSignal - 1);
+        }
+
+        private int wireSignal(final BlockPos pos) {
+            return Math.max(0, this.wirePower(pos));
+        }
+    }
+
+    private static class StubWires implements RedstoneWireTurbo.Wires {
+
+        final Map<BlockPos, Integer> powers = new HashMap<>();
+        final Set<BlockPos> conductors = new HashSet<>();
+        final Map<BlockPos, Integer> sources = new HashMap<>();
+        final List<BlockPos> writes = new ArrayList<>();
+        final List<BlockPos[]> notifications = new ArrayList<>();
+
+        StubWires line(final int... powers) {
+            for (int x = 0; x < powers.length; x++) {
+                this.powers.put(RedstoneWireTurboTest.pos(x), powers[x]);
+            }
+            return this;
+        }
+
+        @Override
+        public int wirePower(final BlockPos pos) {
+            return this.powers.getOrDefault(pos, RedstoneWireTurbo.Wires.NO_WIRE);
+        }
+
+        @Override
+        public boolean isConductor(final BlockPos pos) {
+            return this.conductors.contains(pos);
+        }
+
+        @Override
+        public int blockSignal(final BlockPos pos) {
+            return this.sources.getOrDefault(pos, 0);
+        }
+
+        @Override
+        public void setPower(final BlockPos pos, final int oldPower, final int power) {
+            if (this.wirePower(pos) == oldPower) {
+                this.powers.put(pos, power);
+                this.writes.add(pos);
+            }
+        }
+
+        @Override
+        public void neighborChanged(final BlockPos target, final BlockPos source) {
+            this.notifications.add(new BlockPos[] {target, source});
+        }
+    }
+}
@@ -25,6 +25,7 @@
 package org.spongepowered.common.data.persistence;
 
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -223,4 +224,78 @@ void testNonRootNodeToData() {
         assertEquals(root.node("test").raw(), root.node("test2").raw());
     }
 
+    private static final byte[] BYTES = {Byte.MIN_VALUE, -1, 0, 1, Byte.MAX_VALUE};
+    private static final int[] INTS = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+    private static final long[] LONGS = {Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE};
+
+    private static DataContainer createArrayContainer() {
+        return DataContainer.createNew()
+                .set(DataQuery.of("bytes"), ConfigurateDataViewTest.BYTES)
+                .set(DataQuery.of("ints"), ConfigurateDataViewTest.INTS)
+                .set(DataQuery.of("nested", "longs"), ConfigurateDataViewTest.LONGS)
+                .set(DataQuery.of("empty"), new int[0])
+                .set(DataQuery.of("list"), Arrays.asList(ConfigurateDataViewTest.INTS, "element"));
+    }
+
+    private static void assertArraysRead(final DataView view) {
+        assertArrayEquals(ConfigurateDataViewTest.BYTES, (byte[]) view.get(DataQuery.of("bytes")).get());
+        assertArrayEquals(ConfigurateDataViewTest.INTS, (int[]) view.get(DataQuery.of("ints")).get());
+        assertArrayEquals(ConfigurateDataViewTest.LONGS, (long[]) view.get(DataQuery.of("nested", "longs")).get());
+        assertArrayEquals(new int[0], (int[]) view.get(DataQuery.of("empty")).get());
+        final List<?> list = view.getList(DataQuery.of("list")).get();
+        assertEquals(2, list.size());
+        assertArrayEquals(ConfigurateDataViewTest.INTS, (int[]) list.get(0));
+        assertEquals("element", list.get(1));
+    }
+
+    @Test
+    void testPrimitiveArraysHocon() throws IOException {
+        final String serialized = ConfigurateDataViewTest.HOCON.write(ConfigurateDataViewTest.createArrayContainer());
+        final DataContainer read = ConfigurateDataViewTest.HOCON.read(serialized);
+
+        ConfigurateDataViewTest.assertArraysRead(read);
+    }
+
+    @Test
+    void testPrimitiveArraysNode() {
+        final ConfigurationNode node = ConfigurateTranslator.instance().translate(ConfigurateDataViewTest.createArrayContainer());
+
+        assertEquals(JsonDataFormat.BYTE, node.node("bytes", JsonDataFormat.ARRAYTYPE).getString());
+        assertEquals(JsonDataFormat.INT, node.node("ints", JsonDataFormat.ARRAYTYPE).getString());
+        assertEquals(JsonDataFormat.LONG, node.node("nested", "longs", JsonDataFormat.ARRAYTYPE).getString());
+        assertEquals(Arrays.asList(-128, -1, 0, 1, 127), node.node("bytes", JsonDataFormat.VALUE).raw());
+        assertEquals(JsonDataFormat.INT, node.node("list").childrenList().get(0).node(JsonDataFormat.ARRAYTYPE).getString());
+
+        ConfigurateDataViewTest.assertArraysRead(ConfigurateTranslator.instance().translate(node));
+    }
+
+    @Test
+    void testArrayTypeNodeToData() {
+        // Written by hand the way JsonDataFormat writes arrays, as a mapping and as a list element
+        final ConfigurationNode node = BasicConfigurationNode.root();
+        node.node("ints", JsonDataFormat.ARRAYTYPE).raw(JsonDataFormat.INT);
+        node.node("ints", JsonDataFormat.VALUE).raw(Arrays.asList(1, 2, 3));
+        node.node("bytes", JsonDataFormat.ARRAYTYPE).raw(JsonDataFormat.BYTE);
+        node.node("bytes", JsonDataFormat.VALUE).raw(Arrays.asList(1, -1));
+        final ConfigurationNode element = node.node("list").appendListNode();
+        element.node(JsonDataFormat.ARRAYTYPE).raw(JsonDataFormat.LONG);
+        element.node(JsonDataFormat.VALUE).raw(Arrays.asList(1L, Long.MAX_VALUE));
+        node.node("list").appendListNode().raw("after");
+        node.node("plain", "child").raw("value");
+
+        final DataContainer container = ConfigurateTranslator.instance().translate(node);
+
+        assertArrayEquals(new int[] {1, 2, 3}, (int[]) container.get(DataQuery.of("ints")).get());
+        assertArrayEquals(new byte[] {1, -1}, (byte[]) container.get(DataQuery.of("bytes")).get());
+        final List<?> list = container.getList(DataQuery.of("list")).get();
+        assertArrayEquals(new long[] {1L, Long.MAX_VALUE}, (long[]) list.get(0));
+        assertEquals("after", list.get(1));
+        assertEquals("value", container.getString(DataQuery.of("plain", "child")).get());
+        assertTrue(container.getView(DataQuery.of("plain")).isPresent());
+
+        // The node being translated is always kept as a view, even if it looks like an array
+        final DataView root = ConfigurateTranslator.instance().translate(node.node("ints"));
+        assertEquals(JsonDataFormat.INT, root.getString(DataQuery.of(JsonDataFormat.ARRAYTYPE)).get());
+    }
+
 }
@@ -0,0 +1,231 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.data.MemoryDataContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class DataStreamsTest {
+
+    private static final NBTDataFormat NBT = new NBTDataFormat();
+
+    // Compounds iterate their keys in hash order while views keep insertion order,
+    // so the byte comparisons only use views with a single key per level
+    private static DataContainer single(final String key, final Object value) {
+        return new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED).set(DataQuery.of(key), value);
+    }
+
+    private static byte[] streamed(final DataView view) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DataStreamsTest.NBT.writeTo(output, view);
+        return output.toByteArray();
+    }
+
+    private static byte[] translated(final DataView view) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (DataOutputStream data = new DataOutputStream(output)) {
+            NbtIo.write(NBTTranslator.INSTANCE.translate(view), data);
+        }
+        return output.toByteArray();
+    }
+
+    private static void assertSameBytes(final DataView view) throws IOException {
+        assertArrayEquals(DataStreamsTest.translated(view), DataStreamsTest.streamed(view));
+    }
+
+    private static DataContainer read(final byte[] bytes) throws IOException {
+        return DataStreamsTest.NBT.readFrom(new ByteArrayInputStream(bytes));
+    }
+
+    private static DataContainer readTranslated(final byte[] bytes) throws IOException {
+        final CompoundTag tag = NbtIo.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        return NBTTranslator.INSTANCE.translate(tag);
+    }
+
+    @Test
+    void testScalarsMatchNbtIo() throws IOException {
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("byte", (byte) -3));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("short", (short) 300));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("int", Integer.MIN_VALUE));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("long", Long.MAX_VALUE));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("float", 1.5F));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("double", -0.25D));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("string", "h\u00e9llo \u2603"));
+    }
+
+    @Test
+    void testBooleanKeysMatchNbtIo() throws IOException {
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("flag", true));
+        DataStreamsTest.assertSameBytes(new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("view", "flag"), false));
+        // Booleans in lists are plain bytes, the flag only exists on keys
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("flags", Arrays.asList(true, false)));
+    }
+
+    @Test
+    void testEmptyListsMatchNbtIo() throws IOException {
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("list", Collections.emptyList()));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("lists", Arrays.asList(Collections.emptyList(), Collections.emptyList())));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("view", DataStreamsTest.single("list", Collections.emptyList())));
+    }
+
+    @Test
+    void testNestedListsMatchNbtIo() throws IOException {
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("lists", Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3))));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("lists", Arrays.asList(Arrays.asList("a"), Collections.emptyList())));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("lists",
+                Arrays.asList(Arrays.asList(Arrays.asList(1L)), Collections.emptyList())));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("views",
+                Arrays.asList(DataStreamsTest.single("a", 1), DataStreamsTest.single("b", Arrays.asList(2, 3)))));
+    }
+
+    @Test
+    void testArraysMatchNbtIo() throws IOException {
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("bytes", new byte[] {1, -1, 0}));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("ints", new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE}));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("longs", new long[] {Long.MIN_VALUE, 0L, Long.MAX_VALUE}));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("empty", new int[0]));
+    }
+
+    @Test
+    void testArraysInsideListsMatchNbtIo() throws IOException {
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("bytes", Arrays.asList(new byte[] {1, 2}, new byte[0])));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("ints", Arrays.asList(new int[] {1, 2}, new int[] {3})));
+        DataStreamsTest.assertSameBytes(DataStreamsTest.single("longs", Arrays.asList(new long[] {1L}, new long[] {2L, 3L})));
+    }
+
+    @Test
+    void testMixedListThrows() {
+        final DataContainer view = DataStreamsTest.single("mixed", Arrays.asList(1, "a"));
+
+        assertThrows(IllegalArgumentException.class, () -> DataStreamsTest.streamed(view));
+    }
+
+    @Test
+    void testRootIsUnnamed() throws IOException {
+        final byte[] bytes = DataStreamsTest.streamed(DataStreamsTest.single("a", 1));
+
+        // Compound tag type followed by an empty name, like NbtIo writes it
+        assertEquals(10, bytes[0]);
+        assertEquals(0, bytes[1]);
+        assertEquals(0, bytes[2]);
+        assertArrayEquals(DataStreamsTest.translated(new MemoryDataContainer()), DataStreamsTest.streamed(new MemoryDataContainer()));
+    }
+
+    @Test
+    void testNullValues() throws IOException {
+        final StringWriter json = new StringWriter();
+        try (DataStreamWriter writer = new JsonDataFormat().createWriter(json)) {
+            writer.beginView();
+            writer.key("null");
+            writer.value(null);
+            writer.key("list");
+            writer.beginList();
+            writer.value(null);
+            writer.endList();
+            writer.endView();
+        }
+        assertEquals("{\"null\":null,\"list\":[null]}", json.toString());
+
+        final DataStreamWriter nbt = DataStreamsTest.NBT.createWriter(new ByteArrayOutputStream());
+        nbt.beginView();
+        nbt.key("null");
+        assertThrows(IllegalArgumentException.class, () -> nbt.value(null));
+    }
+
+    @Test
+    void testReadMatchesTranslation() throws IOException {
+        final DataContainer view = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("flag"), true)
+                .set(DataQuery.of("nested", "flag"), false)
+                .set(DataQuery.of("nested", "double"), 2.5D)
+                .set(DataQuery.of("empty"), Collections.emptyList())
+                .set(DataQuery.of("lists"), Arrays.asList(Arrays.asList(1, 2), Collections.emptyList()))
+                .set(DataQuery.of("views"), Arrays.asList(DataStreamsTest.single("a", 1), DataStreamsTest.single("b", "c")))
+                .set(DataQuery.of("string"), "value");
+        final byte[] bytes = DataStreamsTest.translated(view);
+
+        final DataContainer read = DataStreamsTest.read(bytes);
+
+        assertEquals(DataStreamsTest.readTranslated(bytes), read);
+        assertEquals(view, read);
+        assertEquals(view, DataStreamsTest.read(DataStreamsTest.streamed(view)));
+    }
+
+    @Test
+    void testReadArrays() throws IOException {
+        final int[] large = new int[DataStreams.CHUNK_SIZE * 2 + 5];
+        Arrays.setAll(large, i -> i * 31);
+        final DataContainer view = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("bytes"), new byte[] {1, -1})
+                .set(DataQuery.of("large"), large)
+                .set(DataQuery.of("longs"), Arrays.asList(new long[] {1L}, new long[0]));
+
+        final DataContainer read = DataStreamsTest.read(DataStreamsTest.translated(view));
+
+        assertArrayEquals(new byte[] {1, -1}, (byte[]) read.get(DataQuery.of("bytes")).get());
+        assertArrayEquals(large, (int[]) read.get(DataQuery.of("large")).get());
+        final List<?> longs = read.getList(DataQuery.of("longs")).get();
+        assertEquals(2, longs.size());
+        assertArrayEquals(new long[] {1L}, (long[]) longs.get(0));
+        assertArrayEquals(new long[0], (long[]) longs.get(1));
+    }
+
+    @Test
+    void testReadIgnoresRootName() throws IOException {
+        final byte[] unnamed = DataStreamsTest.translated(DataStreamsTest.single("a", 1));
+        final byte[] name = "level".getBytes(StandardCharsets.UTF_8);
+        // Replace the empty name after the root tag type with one of our own
+        final byte[] named = new byte[unnamed.length + name.length];
+        named[0] = unnamed[0];
+        named[1] = 0;
+        named[2] = (byte) name.length;
+        System.arraycopy(name, 0, named, 3, name.length);
+        System.arraycopy(unnamed, 3, named, 3 + name.length, unnamed.length - 3);
+
+        assertEquals(DataStreamsTest.read(unnamed), DataStreamsTest.read(named));
+        assertEquals(DataStreamsTest.readTranslated(named), DataStreamsTest.read(named));
+    }
+}
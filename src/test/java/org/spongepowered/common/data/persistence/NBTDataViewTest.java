@@ -0,0 +1,295 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.nbt.ByteTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+
+import java.util.Map;
+import java.util.Optional;
+
+class NBTDataViewTest {
+
+    private static final DataQuery NAME = DataQuery.of("name");
+    private static final DataQuery FLAG = DataQuery.of("flag");
+    private static final DataQuery NESTED = DataQuery.of("nested");
+    private static final DataQuery NESTED_COUNT = DataQuery.of("nested", "count");
+    private static final DataQuery NESTED_FLAG = DataQuery.of("nested", "flag");
+    private static final DataQuery DEEP_VALUE = DataQuery.of("nested", "deep", "value");
+    private static final DataQuery STRINGS = DataQuery.of("strings");
+    private static final DataQuery COMPOUNDS = DataQuery.of("compounds");
+    private static final DataQuery INTS = DataQuery.of("ints");
+
+    private static CompoundTag createTag() {
+        final CompoundTag deep = new CompoundTag();
+        deep.putLong("value", Long.MAX_VALUE);
+
+        final CompoundTag nested = new CompoundTag();
+        nested.putInt("count", 42);
+        nested.putBoolean("flag" + NBTTranslator.BOOLEAN_IDENTIFIER, false);
+        nested.put("deep", deep);
+
+        final ListTag strings = new ListTag();
+        strings.add(StringTag.valueOf("a"));
+        strings.add(StringTag.valueOf("b"));
+
+        final CompoundTag element = new CompoundTag();
+        element.putString("id", "element");
+        element.put("size", IntTag.valueOf(3));
+        final ListTag compounds = new ListTag();
+        compounds.add(element);
+
+        final CompoundTag tag = new CompoundTag();
+        tag.putString("name", "root");
+        tag.put("flag" + NBTTranslator.BOOLEAN_IDENTIFIER, ByteTag.valueOf(true));
+        tag.putDouble("double", 10.0D);
+        tag.putIntArray("ints", new int[] {1, 2, 3});
+        tag.put("nested", nested);
+        tag.put("strings", strings);
+        tag.put("compounds", compounds);
+        return tag;
+    }
+
+    @Test
+    void testGetMatchesTranslation() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        final DataContainer wrapped = NBTTranslator.INSTANCE.wrap(tag);
+        final DataContainer translated = NBTTranslator.INSTANCE.translate(tag);
+
+        for (final DataQuery query : translated.keys(true)) {
+            final Optional<Object> expected = translated.get(query);
+            final Optional<Object> actual = wrapped.get(query);
+            if (expected.get() instanceof int[]) {
+                assertArrayEquals((int[]) expected.get(), (int[]) actual.get(), query.toString());
+            } else {
+                assertEquals(expected, actual, query.toString());
+            }
+        }
+        assertEquals(translated.get(DataQuery.of("missing")), wrapped.get(DataQuery.of("missing")));
+        assertEquals(translated.get(DataQuery.of("name", "child")), wrapped.get(DataQuery.of("name", "child")));
+        assertEquals(translated.getMap(NBTDataViewTest.NESTED), wrapped.getMap(NBTDataViewTest.NESTED));
+        assertEquals(translated.getBooleanList(NBTDataViewTest.STRINGS), wrapped.getBooleanList(NBTDataViewTest.STRINGS));
+        assertEquals(translated.getShortList(NBTDataViewTest.STRINGS), wrapped.getShortList(NBTDataViewTest.STRINGS));
+        assertEquals(translated.getMapList(NBTDataViewTest.COMPOUNDS), wrapped.getMapList(NBTDataViewTest.COMPOUNDS));
+        assertEquals(translated.getStringList(NBTDataViewTest.STRINGS), wrapped.getStringList(NBTDataViewTest.STRINGS));
+        assertEquals(translated.getViewList(NBTDataViewTest.COMPOUNDS), wrapped.getViewList(NBTDataViewTest.COMPOUNDS));
+        assertEquals(translated.getIntegerList(NBTDataViewTest.INTS), wrapped.getIntegerList(NBTDataViewTest.INTS));
+        assertTrue(((NBTDataView) wrapped).isUntranslated());
+    }
+
+    @Test
+    void testContainsMatchesTranslation() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        final DataContainer wrapped = NBTTranslator.INSTANCE.wrap(tag);
+        final DataContainer translated = NBTTranslator.INSTANCE.translate(tag);
+
+        for (final DataQuery query : translated.keys(true)) {
+            assertTrue(wrapped.contains(query), query.toString());
+        }
+        assertEquals(translated.contains(DataQuery.of("missing")), wrapped.contains(DataQuery.of("missing")));
+        assertEquals(translated.contains(DataQuery.of("name", "child")), wrapped.contains(DataQuery.of("name", "child")));
+        assertEquals(translated.contains(NBTDataViewTest.NAME, NBTDataViewTest.DEEP_VALUE),
+                wrapped.contains(NBTDataViewTest.NAME, NBTDataViewTest.DEEP_VALUE));
+        assertTrue(((NBTDataView) wrapped).isUntranslated());
+    }
+
+    @Test
+    void testKeysAndValuesMatchTranslation() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        tag.remove("ints"); // arrays are compared by identity in the value maps
+        final DataContainer wrapped = NBTTranslator.INSTANCE.wrap(tag);
+        final DataContainer translated = NBTTranslator.INSTANCE.translate(tag);
+
+        assertEquals(translated.keys(false), wrapped.keys(false));
+        assertEquals(translated.keys(true), wrapped.keys(true));
+        assertEquals(translated.values(false).keySet(), wrapped.values(false).keySet());
+        final Map<DataQuery, Object> expected = translated.values(true);
+        final Map<DataQuery, Object> actual = wrapped.values(true);
+        assertEquals(expected.keySet(), actual.keySet());
+        for (final Map.Entry<DataQuery, Object> entry : expected.entrySet()) {
+            // Lists of compounds hold NBTDataContainers, compare them from the wrapped side
+            assertEquals(actual.get(entry.getKey()), entry.getValue(), entry.getKey().toString());
+        }
+        assertTrue(((NBTDataView) wrapped).isUntranslated());
+    }
+
+    @Test
+    void testBooleanKeys() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        final DataContainer wrapped = NBTTranslator.INSTANCE.wrap(tag);
+
+        assertEquals(Optional.of(true), wrapped.getBoolean(NBTDataViewTest.FLAG));
+        assertEquals(Optional.of(false), wrapped.getBoolean(NBTDataViewTest.NESTED_FLAG));
+        assertTrue(wrapped.contains(NBTDataViewTest.FLAG));
+        assertFalse(wrapped.contains(DataQuery.of("flag" + NBTTranslator.BOOLEAN_IDENTIFIER)));
+        assertTrue(wrapped.keys(false).contains(NBTDataViewTest.FLAG));
+        assertFalse(wrapped.keys(false).contains(DataQuery.of("flag" + NBTTranslator.BOOLEAN_IDENTIFIER)));
+
+        // The suffix is restored when translating the data back to a compound
+        assertEquals(tag, NBTTranslator.INSTANCE.translate(((NBTDataView) wrapped).translated()));
+    }
+
+    @Test
+    void testNestedViews() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        final DataContainer wrapped = NBTTranslator.INSTANCE.wrap(tag);
+        final DataContainer translated = NBTTranslator.INSTANCE.translate(tag);
+
+        final DataView nested = wrapped.getView(NBTDataViewTest.NESTED).get();
+        assertEquals(NBTDataViewTest.NESTED, nested.currentPath());
+        assertEquals("nested", nested.name());
+        assertEquals(wrapped, nested.parent().get());
+        assertEquals(wrapped, nested.container());
+        assertEquals(Optional.of(42), nested.getInt(DataQuery.of("count")));
+        assertEquals(wrapped.getInt(NBTDataViewTest.NESTED_COUNT), nested.getInt(DataQuery.of("count")));
+        assertEquals(translated.getView(NBTDataViewTest.NESTED).get(), nested);
+        assertEquals(nested, translated.getView(NBTDataViewTest.NESTED).get());
+        assertEquals(Optional.of(Long.MAX_VALUE), nested.getView(DataQuery.of("deep")).get().getLong(DataQuery.of("value")));
+        assertTrue(((NBTDataView) wrapped).isUntranslated());
+    }
+
+    @Test
+    void testWriteTranslatesWithoutTouchingTag() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        tag.remove("ints"); // copied arrays are not equal to each other
+        final CompoundTag original = tag.copy();
+        final DataContainer wrapped = NBTTranslator.INSTANCE.wrap(tag);
+        final DataView nested = wrapped.getView(NBTDataViewTest.NESTED).get();
+
+        nested.set(DataQuery.of("count"), 7);
+        assertFalse(((NBTDataView) wrapped).isUntranslated());
+        assertEquals(original, tag);
+
+        // Views handed out before the write now read the translated data
+        assertEquals(Optional.of(7), nested.getInt(DataQuery.of("count")));
+        assertEquals(Optional.of(7), wrapped.getInt(NBTDataViewTest.NESTED_COUNT));
+        assertEquals(Optional.of("root"), wrapped.getString(NBTDataViewTest.NAME));
+        assertEquals(Optional.of(true), wrapped.getBoolean(NBTDataViewTest.FLAG));
+
+        final DataContainer expected = NBTTranslator.INSTANCE.translate(tag);
+        expected.set(NBTDataViewTest.NESTED_COUNT, 7);
+        assertEquals(expected, wrapped);
+
+        final CompoundTag written = NBTTranslator.INSTANCE.translate(wrapped);
+        assertEquals(IntTag.valueOf(7), written.getCompound("nested").get("count"));
+        assertEquals(original, tag);
+    }
+
+    @Test
+    void testRemoveMissingKeyDoesNotTranslate() {
+        final DataContainer wrapped = NBTTranslator.INSTANCE.wrap(NBTDataViewTest.createTag());
+
+        wrapped.remove(DataQuery.of("missing"));
+        assertTrue(((NBTDataView) wrapped).isUntranslated());
+
+        wrapped.remove(NBTDataViewTest.FLAG);
+        assertFalse(((NBTDataView) wrapped).isUntranslated());
+        assertFalse(wrapped.contains(NBTDataViewTest.FLAG));
+    }
+
+    @Test
+    void testArraysAreCopiedOnRead() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        final ListTag arrays = new ListTag();
+        arrays.add(new IntArrayTag(new int[] {4, 5}));
+        tag.put("arrays", arrays);
+        final CompoundTag original = tag.copy();
+        final DataContainer wrapped = NBTTranslator.INSTANCE.wrap(tag);
+
+        ((int[]) wrapped.get(NBTDataViewTest.INTS).get())[0] = 42;
+        ((int[]) wrapped.getList(DataQuery.of("arrays")).get().get(0))[0] = 42;
+        assertEquals(original, tag);
+        assertArrayEquals(new int[] {1, 2, 3}, (int[]) wrapped.get(NBTDataViewTest.INTS).get());
+
+        // Neither does the translated data share arrays with the tag
+        wrapped.set(NBTDataViewTest.NAME, "changed");
+        ((int[]) wrapped.get(NBTDataViewTest.INTS).get())[0] = 42;
+        ((int[]) wrapped.getList(DataQuery.of("arrays")).get().get(0))[0] = 42;
+        assertEquals(original, tag);
+    }
+
+    @Test
+    void testReadsDoNotTranslate() {
+        final DataContainer wrapped = NBTTranslator.INSTANCE.wrap(NBTDataViewTest.createTag());
+
+        wrapped.hashCode();
+        wrapped.getMap(NBTDataViewTest.NESTED);
+        wrapped.getBooleanList(NBTDataViewTest.STRINGS);
+        wrapped.getShortList(NBTDataViewTest.STRINGS);
+        wrapped.getDoubleList(NBTDataViewTest.STRINGS);
+        wrapped.getMapList(NBTDataViewTest.COMPOUNDS);
+        wrapped.getViewList(NBTDataViewTest.COMPOUNDS);
+        wrapped.values(true);
+        wrapped.copy();
+        assertTrue(((NBTDataView) wrapped).isUntranslated());
+    }
+
+    @Test
+    void testEqualsAndHashCodeAreSymmetric() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        tag.remove("ints"); // copied arrays are not equal to each other
+        final DataContainer wrapped = NBTTranslator.INSTANCE.wrap(tag);
+        final DataContainer other = NBTTranslator.INSTANCE.wrap(tag.copy());
+        final DataContainer translated = NBTTranslator.INSTANCE.translate(tag);
+
+        assertEquals(wrapped, other);
+        assertEquals(other, wrapped);
+        assertEquals(wrapped, translated);
+        assertEquals(translated, wrapped);
+        assertEquals(translated.hashCode(), wrapped.hashCode());
+        assertEquals(wrapped.hashCode(), other.hashCode());
+
+        final DataView nested = wrapped.getView(NBTDataViewTest.NESTED).get();
+        final DataView translatedNested = translated.getView(NBTDataViewTest.NESTED).get();
+        assertEquals(nested, translatedNested);
+        assertEquals(translatedNested, nested);
+        assertEquals(translatedNested.hashCode(), nested.hashCode());
+
+        // One side translated, the other still reading from its tag
+        other.set(NBTDataViewTest.NAME, "root");
+        assertEquals(wrapped, other);
+        assertEquals(other, wrapped);
+
+        other.set(NBTDataViewTest.NAME, "changed");
+        assertNotEquals(wrapped, other);
+        assertNotEquals(other, wrapped);
+        assertNotEquals(other, translated);
+        assertNotEquals(translated, other);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.data.MemoryDataContainer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+class PrimitiveArrayDataTest {
+
+    private static final byte[] BYTES = {Byte.MIN_VALUE, -1, 0, 1, Byte.MAX_VALUE};
+    private static final int[] INTS = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+    private static final long[] LONGS = {Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE};
+
+    private static DataContainer createArrayContainer() {
+        return new MemoryDataContainer()
+                .set(DataQuery.of("bytes"), PrimitiveArrayDataTest.BYTES)
+                .set(DataQuery.of("ints"), PrimitiveArrayDataTest.INTS)
+                .set(DataQuery.of("nested", "longs"), PrimitiveArrayDataTest.LONGS)
+                .set(DataQuery.of("empty"), new int[0])
+                .set(DataQuery.of("list"), Arrays.asList(PrimitiveArrayDataTest.INTS, "element"));
+    }
+
+    private static void assertArraysRead(final DataView view) {
+        assertArrayEquals(PrimitiveArrayDataTest.BYTES, (byte[]) view.get(DataQuery.of("bytes")).get());
+        assertArrayEquals(PrimitiveArrayDataTest.INTS, (int[]) view.get(DataQuery.of("ints")).get());
+        assertArrayEquals(PrimitiveArrayDataTest.LONGS, (long[]) view.get(DataQuery.of("nested", "longs")).get());
+        assertArrayEquals(new int[0], (int[]) view.get(DataQuery.of("empty")).get());
+        final List<?> list = view.getList(DataQuery.of("list")).get();
+        assertEquals(2, list.size());
+        assertArrayEquals(PrimitiveArrayDataTest.INTS, (int[]) list.get(0));
+        assertEquals("element", list.get(1));
+    }
+
+    @Test
+    void testPrimitiveArraysJson() throws IOException {
+        final JsonDataFormat json = new JsonDataFormat();
+
+        final String serialized = json.write(PrimitiveArrayDataTest.createArrayContainer());
+        final DataContainer read = json.read(serialized);
+
+        PrimitiveArrayDataTest.assertArraysRead(read);
+        assertEquals(serialized, json.write(read));
+    }
+
+    @Test
+    void testPrimitiveListGettersAreReadOnly() {
+        final DataContainer container = PrimitiveArrayDataTest.createArrayContainer();
+
+        final List<Byte> bytes = container.getByteList(DataQuery.of("bytes")).get();
+        assertEquals(Byte.MIN_VALUE, bytes.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> bytes.set(0, (byte) 5));
+        assertThrows(UnsupportedOperationException.class, () -> bytes.add((byte) 6));
+        final List<Integer> ints = container.getIntegerList(DataQuery.of("ints")).get();
+        assertEquals(Integer.MAX_VALUE, ints.get(4));
+        assertThrows(UnsupportedOperationException.class, () -> ints.set(0, 5));
+        final List<Long> longs = container.getLongList(DataQuery.of("nested", "longs")).get();
+        assertEquals(PrimitiveArrayDataTest.LONGS.length, longs.size());
+        assertThrows(UnsupportedOperationException.class, () -> longs.set(0, 5L));
+
+        PrimitiveArrayDataTest.assertArraysRead(container);
+    }
+
+    @Test
+    void testPrimitiveListGettersViewTheStoredArray() {
+        final int[] ints = {1, 2, 3};
+        final DataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("nested", "ints"), ints);
+
+        final List<Integer> view = container.getIntegerList(DataQuery.of("nested", "ints")).get();
+        ints[0] = 42;
+
+        assertEquals(42, view.get(0));
+    }
+
+    @Test
+    void testBoxedListsAreStillCoerced() {
+        final DataContainer container = new MemoryDataContainer()
+                .set(DataQuery.of("ints"), Arrays.asList(1, 2, 3));
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), container.getLongList(DataQuery.of("ints")).get());
+        assertEquals(Arrays.asList((byte) 1, (byte) 2, (byte) 3), container.getByteList(DataQuery.of("ints")).get());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.event.ShouldFire;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+class TransactionalCaptureSupplierTest {
+
+    @Test
+    void coalescesWithoutChangeBlockListeners() {
+        assertTrue(TransactionalCaptureSupplier.canCoalesceBlockChanges());
+    }
+
+    @Test
+    void doesNotCoalesceWithAnyChangeBlockListener() throws ReflectiveOperationException {
+        int flags = 0;
+        for (final Field field : ShouldFire.class.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || !field.getName().startsWith("CHANGE_BLOCK_EVENT")) {
+                continue;
+            }
+            flags++;
+            field.setBoolean(null, true);
+            try {
+                assertFalse(TransactionalCaptureSupplier.canCoalesceBlockChanges(), field.getName() + " is set");
+            } finally {
+                field.setBoolean(null, false);
+            }
+        }
+        assertEquals(4, flags);
+        assertTrue(TransactionalCaptureSupplier.canCoalesceBlockChanges());
+    }
+
+    @Test
+    void arenaHandsOutReleasedTransactions() {
+        final List<Object> released = new ArrayList<>();
+        final TransactionArena<Object> arena = new TransactionArena<>(2, released::add);
+        assertNull(arena.reuse());
+        final Object first = arena.retain(new Object());
+        final Object second = arena.retain(new Object());
+        arena.rewind();
+        assertEquals(2, released.size());
+        assertSame(first, arena.reuse());
+        assertSame(second, arena.reuse());
+        assertNull(arena.reuse());
+    }
+
+    @Test
+    void arenaDoesNotRetainPastItsBound() {
+        final List<Object> released = new ArrayList<>();
+        final TransactionArena<Object> arena = new TransactionArena<>(1, released::add);
+        final Object retained = arena.retain(new Object());
+        assertNotNull(arena.retain(new Object()));
+        arena.rewind();
+        assertEquals(1, released.size());
+        assertSame(retained, arena.reuse());
+        assertNull(arena.reuse());
+    }
+}
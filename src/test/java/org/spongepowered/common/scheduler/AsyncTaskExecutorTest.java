@@ -0,0 +1,196 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.metadata.PluginMetadata;
+import org.spongepowered.plugin.metadata.util.PluginMetadataHelper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AsyncTaskExecutorTest {
+
+    private static final PluginContainer PLUGIN = AsyncTaskExecutorTest.plugin("test");
+
+    private static PluginContainer plugin(final String id) {
+        final PluginMetadata metadata;
+        final String json = "{\"plugins\": [{\"loader\": \"java_plain\", \"id\": \"" + id + "\", \"name\": \"" + id + "\", "
+            + "\"version\": \"1.0.0\", \"main-class\": \"" + AsyncTaskExecutorTest.class.getName() + "\", \"dependencies\": []}]}";
+        try {
+            metadata = PluginMetadataHelper.builder().build()
+                .read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))
+                .iterator().next();
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return (PluginContainer) Proxy.newProxyInstance(AsyncTaskExecutorTest.class.getClassLoader(), new Class<?>[] {PluginContainer.class},
+            (proxy, method, args) -> method.getName().equals("metadata") ? metadata : null);
+    }
+
+    private static SchedulerCategory.AsyncSubCategory config(final SchedulerCategory.RejectionPolicy policy, final int pluginConcurrency) {
+        final SchedulerCategory.AsyncSubCategory config = new SchedulerCategory.AsyncSubCategory();
+        config.rejectionPolicy = policy;
+        config.pluginConcurrency = pluginConcurrency;
+        return config;
+    }
+
+    // A single thread without a queue, every task submitted while it is busy is rejected
+    private static ThreadPoolExecutor saturatedPool() {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+    }
+
+    private static void occupy(final ExecutorService pool, final CountDownLatch release) throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        pool.execute(() -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException ignored) {
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void pluginConcurrencyLimitsRunningTasks() throws Exception {
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        final AsyncTaskExecutor executor = new AsyncTaskExecutor(pool,
+            AsyncTaskExecutorTest.config(SchedulerCategory.RejectionPolicy.CALLER_RUNS, 2));
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(AsyncTaskExecutorTest.PLUGIN, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (final InterruptedException ignored) {
+                }
+                running.decrementAndGet();
+                done.countDown();
+            }, () -> {});
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(2, maxRunning.get());
+        assertEquals(8, executor.completedTasks());
+        assertEquals(0, executor.rejectedTasks());
+        assertTrue(executor.runTime() >= TimeUnit.MILLISECONDS.toNanos(8 * 20));
+        // Tasks waiting for a slot of their plugin do not wait for a thread
+        assertTrue(executor.waitTime() < executor.runTime());
+    }
+
+    @Test
+    void discardedTasksAreReported() throws Exception {
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        final AsyncTaskExecutor executor = new AsyncTaskExecutor(pool,
+            AsyncTaskExecutorTest.config(SchedulerCategory.RejectionPolicy.DISCARD, 0));
+        final CountDownLatch release = new CountDownLatch(1);
+        AsyncTaskExecutorTest.occupy(pool, release);
+
+        final AtomicInteger ran = new AtomicInteger();
+        final AtomicInteger discarded = new AtomicInteger();
+        // The first task fills the queue, the others are discarded
+        for (int i = 0; i < 3; i++) {
+            executor.execute(null, ran::incrementAndGet, discarded::incrementAndGet);
+        }
+        assertEquals(2, discarded.get());
+        assertEquals(2, executor.rejectedTasks());
+
+        release.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1, ran.get());
+        assertEquals(1, executor.completedTasks());
+    }
+
+    @Test
+    void discardedTasksReleaseTheirPluginSlot() throws Exception {
+        final ThreadPoolExecutor pool = AsyncTaskExecutorTest.saturatedPool();
+        final AsyncTaskExecutor executor = new AsyncTaskExecutor(pool,
+            AsyncTaskExecutorTest.config(SchedulerCategory.RejectionPolicy.DISCARD, 1));
+        final CountDownLatch release = new CountDownLatch(1);
+        AsyncTaskExecutorTest.occupy(pool, release);
+
+        final AtomicInteger discarded = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            executor.execute(AsyncTaskExecutorTest.PLUGIN, () -> {}, discarded::incrementAndGet);
+        }
+        assertEquals(3, discarded.get());
+
+        // With a leaked slot the next task would wait in the lane forever, neither running nor being discarded
+        final CountDownLatch handled = new CountDownLatch(1);
+        executor.execute(AsyncTaskExecutorTest.PLUGIN, handled::countDown, handled::countDown);
+        assertTrue(handled.await(10, TimeUnit.SECONDS));
+        release.countDown();
+        pool.shutdown();
+    }
+
+    @Test
+    void callerRunsDrainsTheLaneWithoutRecursing() throws Exception {
+        final ThreadPoolExecutor pool = AsyncTaskExecutorTest.saturatedPool();
+        final AsyncTaskExecutor executor = new AsyncTaskExecutor(pool,
+            AsyncTaskExecutorTest.config(SchedulerCategory.RejectionPolicy.CALLER_RUNS, 1));
+        final CountDownLatch release = new CountDownLatch(1);
+        AsyncTaskExecutorTest.occupy(pool, release);
+
+        final Thread caller = Thread.currentThread();
+        final int queued = 20_000;
+        final AtomicInteger ranOnCaller = new AtomicInteger();
+        executor.execute(AsyncTaskExecutorTest.PLUGIN, () -> {
+            // Queued behind this task, as it holds the only slot of the plugin
+            for (int i = 0; i < queued; i++) {
+                executor.execute(AsyncTaskExecutorTest.PLUGIN, () -> {
+                    assertSame(caller, Thread.currentThread());
+                    ranOnCaller.incrementAndGet();
+                }, () -> {});
+            }
+        }, () -> {});
+
+        assertEquals(queued, ranOnCaller.get());
+        assertEquals(queued + 1, executor.completedTasks());
+        assertEquals(queued + 1, executor.rejectedTasks());
+        release.countDown();
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.reflect.Proxy;
+
+class DeferredTaskQueueTest {
+
+    private static final PluginContainer PLUGIN = (PluginContainer) Proxy.newProxyInstance(DeferredTaskQueueTest.class.getClassLoader(),
+        new Class<?>[] {PluginContainer.class}, (proxy, method, args) -> null);
+
+    private static SpongeScheduledTask task(final String name, final TaskPriority priority) {
+        final SpongeTask task = (SpongeTask) new SpongeTaskBuilder()
+            .priority(priority)
+            .plugin(DeferredTaskQueueTest.PLUGIN)
+            .name(name)
+            .execute(() -> {})
+            .build();
+        return new SpongeScheduledTask(null, task, name);
+    }
+
+    @Test
+    void priorityIsSetOnBothBuilders() {
+        final SpongeTask task = (SpongeTask) new SpongeTaskBuilder().mustRun()
+            .plugin(DeferredTaskQueueTest.PLUGIN).name("a").execute(() -> {}).build();
+        assertEquals(TaskPriority.MUST_RUN, task.priority());
+        assertEquals(TaskPriority.MUST_RUN, ((SpongeTask) new SpongeTaskBuilder().from(task).build()).priority());
+
+        final SpongeTask legacy = (SpongeTask) new SpongeTask.Builder().priority(TaskPriority.LOW)
+            .plugin(DeferredTaskQueueTest.PLUGIN).name("b").execute(() -> {}).build();
+        assertEquals(TaskPriority.LOW, legacy.priority());
+        assertEquals(TaskPriority.LOW, ((SpongeTask) new SpongeTask.Builder().from(legacy).build()).priority());
+        assertEquals(TaskPriority.MUST_RUN, ((SpongeTask) new SpongeTask.Builder().mustRun()
+            .plugin(DeferredTaskQueueTest.PLUGIN).name("c").execute(() -> {}).build()).priority());
+        assertEquals(TaskPriority.NORMAL, ((SpongeTask) new SpongeTask.Builder().from(legacy).reset()
+            .plugin(DeferredTaskQueueTest.PLUGIN).name("d").execute(() -> {}).build()).priority());
+    }
+
+    @Test
+    void higherPrioritiesArePolledFirst() {
+        final DeferredTaskQueue queue = new DeferredTaskQueue();
+        final SpongeScheduledTask low = DeferredTaskQueueTest.task("low", TaskPriority.LOW);
+        final SpongeScheduledTask high = DeferredTaskQueueTest.task("high", TaskPriority.HIGH);
+        queue.add(low);
+        queue.add(high);
+
+        assertSame(high, queue.poll());
+        assertSame(low, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void averagesAreNotTruncated() {
+        final DeferredTaskQueue queue = new DeferredTaskQueue();
+        assertEquals(0.0D, queue.averageDeferrals());
+        assertEquals(0.0D, queue.averageDepth());
+
+        // First tick: two queued, one runs and one is deferred
+        queue.add(DeferredTaskQueueTest.task("a", TaskPriority.NORMAL));
+        queue.add(DeferredTaskQueueTest.task("b", TaskPriority.NORMAL));
+        queue.sampleDepth();
+        queue.poll();
+        queue.deferRemaining();
+        // Second tick: the deferred task and a new one both run
+        queue.add(DeferredTaskQueueTest.task("c", TaskPriority.NORMAL));
+        queue.sampleDepth();
+        queue.poll();
+        queue.poll();
+        queue.deferRemaining();
+
+        assertEquals(1L, queue.deferrals());
+        assertEquals(0.5D, queue.averageDeferrals());
+        assertEquals(2.0D, queue.averageDepth());
+    }
+}
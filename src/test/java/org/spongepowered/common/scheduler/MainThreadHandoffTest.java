@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.metadata.PluginMetadata;
+import org.spongepowered.plugin.metadata.util.PluginMetadataHelper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class MainThreadHandoffTest {
+
+    private static final PluginContainer PLUGIN = MainThreadHandoffTest.plugin("test");
+
+    private static PluginContainer plugin(final String id) {
+        final PluginMetadata metadata;
+        final String json = "{\"plugins\": [{\"loader\": \"java_plain\", \"id\": \"" + id + "\", \"name\": \"" + id + "\", "
+            + "\"version\": \"1.0.0\", \"main-class\": \"" + MainThreadHandoffTest.class.getName() + "\", \"dependencies\": []}]}";
+        try {
+            metadata = PluginMetadataHelper.builder().build()
+                .read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))
+                .iterator().next();
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return (PluginContainer) Proxy.newProxyInstance(MainThreadHandoffTest.class.getClassLoader(), new Class<?>[] {PluginContainer.class},
+            (proxy, method, args) -> method.getName().equals("metadata") ? metadata : null);
+    }
+
+    @Test
+    void batchesAreRunInOrder() {
+        final MainThreadHandoff handoff = new MainThreadHandoff();
+        final StringBuilder order = new StringBuilder();
+        final AtomicInteger batches = new AtomicInteger();
+        handoff.execute(MainThreadHandoffTest.PLUGIN, () -> order.append('a'));
+        handoff.execute(MainThreadHandoffTest.PLUGIN, () -> order.append('b'));
+        handoff.drain(Long.MAX_VALUE, (plugin, batch) -> {
+            batches.incrementAndGet();
+            batch.run();
+        });
+
+        assertEquals("ab", order.toString());
+        assertEquals(1, batches.get());
+    }
+
+    @Test
+    void futuresOfBatchesWhichFailedToStartAreCompleted() {
+        final MainThreadHandoff handoff = new MainThreadHandoff();
+        final HandoffFuture<String> first = new HandoffFuture<>(() -> "first", () -> null);
+        final HandoffFuture<String> second = new HandoffFuture<>(() -> "second", () -> null);
+        handoff.execute(MainThreadHandoffTest.PLUGIN, first);
+        handoff.execute(MainThreadHandoffTest.PLUGIN, second);
+
+        final IllegalStateException failure = new IllegalStateException("setup");
+        handoff.drain(System.nanoTime(), (plugin, batch) -> {
+            throw failure;
+        });
+        assertTrue(first.isDone());
+        final ExecutionException thrown = assertThrows(ExecutionException.class, first::get);
+        assertSame(failure, thrown.getCause());
+        assertFalse(second.isDone());
+
+        // The remaining runnables are still run by the next drain
+        handoff.drain(Long.MAX_VALUE, (plugin, batch) -> batch.run());
+        assertTrue(second.isDone());
+    }
+
+    @Test
+    void runnablesOfBatchesWhichFailedToStartAreRun() {
+        final MainThreadHandoff handoff = new MainThreadHandoff();
+        final AtomicInteger runs = new AtomicInteger();
+        handoff.execute(MainThreadHandoffTest.PLUGIN, runs::incrementAndGet);
+        handoff.drain(Long.MAX_VALUE, (plugin, batch) -> {
+        });
+
+        assertEquals(1, runs.get());
+    }
+}
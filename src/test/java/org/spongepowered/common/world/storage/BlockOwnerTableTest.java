@@ -0,0 +1,190 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.util.Constants;
+
+class BlockOwnerTableTest {
+
+    private static final int MAX_ENCODED_INDEX = (1 << 26) - 2;
+
+    private static BlockOwnerTable roundTrip(final BlockOwnerTable table) {
+        final CompoundTag spongeData = new CompoundTag();
+        table.write(spongeData);
+        return BlockOwnerTable.read(spongeData);
+    }
+
+    @Test
+    void packKeepsBothIndices() {
+        final long packed = BlockOwnerTable.pack(7, BlockOwnerTable.NONE);
+        assertEquals(7, BlockOwnerTable.creator(packed));
+        assertEquals(BlockOwnerTable.NONE, BlockOwnerTable.notifier(packed));
+
+        final long swapped = BlockOwnerTable.pack(BlockOwnerTable.NONE, Integer.MAX_VALUE);
+        assertEquals(BlockOwnerTable.NONE, BlockOwnerTable.creator(swapped));
+        assertEquals(Integer.MAX_VALUE, BlockOwnerTable.notifier(swapped));
+    }
+
+    @Test
+    void absentPositionsReadAsNone() {
+        final BlockOwnerTable table = new BlockOwnerTable();
+        final BlockPos pos = new BlockPos(3, 70, 9);
+        assertFalse(table.contains(pos));
+        assertEquals(BlockOwnerTable.NONE, table.getCreator(pos));
+        assertEquals(BlockOwnerTable.NONE, table.getNotifier(pos));
+
+        table.setCreator(pos, 4);
+        assertTrue(table.contains(pos));
+        assertEquals(BlockOwnerTable.NONE, table.getNotifier(pos));
+
+        table.setCreator(pos, BlockOwnerTable.NONE);
+        assertFalse(table.contains(pos));
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    void emptyTableWritesNothing() {
+        final CompoundTag spongeData = new CompoundTag();
+        new BlockOwnerTable().write(spongeData);
+        assertTrue(spongeData.isEmpty());
+    }
+
+    @Test
+    void sectionEntriesUsePackedLayout() {
+        final BlockOwnerTable table = new BlockOwnerTable();
+        table.set(new BlockPos(5, 35, 12), 0, BlockOwnerTable.NONE);
+
+        final CompoundTag spongeData = new CompoundTag();
+        table.write(spongeData);
+        assertFalse(spongeData.contains(Constants.Sponge.SPONGE_BLOCK_POS_TABLE));
+
+        final ListTag sections = spongeData.getList(Constants.Sponge.SPONGE_BLOCK_OWNER_TABLE, Constants.NBT.TAG_COMPOUND);
+        assertEquals(1, sections.size());
+        final CompoundTag section = sections.getCompound(0);
+        assertEquals(2, section.getInt("Y"));
+        // index = y:3 z:12 x:5, creator + 1 = 1, notifier + 1 = 0
+        final long index = (3 << 8) | (12 << 4) | 5;
+        assertArrayEquals(new long[] {(index << 52) | (1L << 26)}, section.getLongArray("Owners"));
+    }
+
+    @Test
+    void roundTripKeepsEntriesAcrossSections() {
+        final BlockOwnerTable table = new BlockOwnerTable();
+        final BlockPos low = new BlockPos(0, -5, 15);
+        final BlockPos creatorOnly = new BlockPos(15, 0, 0);
+        final BlockPos notifierOnly = new BlockPos(8, 255, 8);
+        final BlockPos both = new BlockPos(-1, 128, -16);
+        final BlockPos largest = new BlockPos(2, 17, 3);
+        table.set(low, 1, 2);
+        table.set(creatorOnly, 0, BlockOwnerTable.NONE);
+        table.set(notifierOnly, BlockOwnerTable.NONE, 0);
+        table.set(both, 12, 34);
+        table.set(largest, BlockOwnerTableTest.MAX_ENCODED_INDEX, BlockOwnerTableTest.MAX_ENCODED_INDEX);
+
+        final CompoundTag spongeData = new CompoundTag();
+        table.write(spongeData);
+        assertFalse(spongeData.contains(Constants.Sponge.SPONGE_BLOCK_POS_TABLE));
+
+        final BlockOwnerTable read = BlockOwnerTable.read(spongeData);
+        assertEquals(5, read.size());
+        assertEquals(BlockOwnerTable.pack(1, 2), read.get(low));
+        assertEquals(BlockOwnerTable.pack(0, BlockOwnerTable.NONE), read.get(creatorOnly));
+        assertEquals(BlockOwnerTable.pack(BlockOwnerTable.NONE, 0), read.get(notifierOnly));
+        assertEquals(BlockOwnerTable.pack(12, 34), read.get(both));
+        assertEquals(BlockOwnerTable.pack(BlockOwnerTableTest.MAX_ENCODED_INDEX, BlockOwnerTableTest.MAX_ENCODED_INDEX), read.get(largest));
+    }
+
+    @Test
+    void oversizedIndicesFallBackToLegacyTable() {
+        final BlockOwnerTable table = new BlockOwnerTable();
+        final BlockPos packed = new BlockPos(1, 64, 1);
+        final BlockPos oversized = new BlockPos(14, 200, 3);
+        table.set(packed, 3, 4);
+        table.set(oversized, BlockOwnerTableTest.MAX_ENCODED_INDEX + 1, BlockOwnerTable.NONE);
+
+        final CompoundTag spongeData = new CompoundTag();
+        table.write(spongeData);
+        final ListTag legacy = spongeData.getList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Constants.NBT.TAG_COMPOUND);
+        assertEquals(1, legacy.size());
+        final CompoundTag entry = legacy.getCompound(0);
+        assertEquals(BlockOwnerTableTest.MAX_ENCODED_INDEX + 1, entry.getInt("owner"));
+        assertEquals(BlockOwnerTable.NONE, entry.getInt("notifier"));
+        assertEquals(Constants.Sponge.blockPosToInt(oversized), entry.getInt("ipos"));
+
+        final BlockOwnerTable read = BlockOwnerTable.read(spongeData);
+        assertEquals(2, read.size());
+        assertEquals(BlockOwnerTable.pack(3, 4), read.get(packed));
+        assertEquals(BlockOwnerTable.pack(BlockOwnerTableTest.MAX_ENCODED_INDEX + 1, BlockOwnerTable.NONE), read.get(oversized));
+    }
+
+    @Test
+    void readsLegacyShortPositions() {
+        final ListTag legacy = new ListTag();
+        final CompoundTag entry = new CompoundTag();
+        entry.putInt("owner", 6);
+        entry.putShort("pos", (short) (15 | 200 << 4 | 15 << 12));
+        legacy.add(entry);
+        final CompoundTag spongeData = new CompoundTag();
+        spongeData.put(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, legacy);
+
+        final BlockOwnerTable read = BlockOwnerTable.read(spongeData);
+        assertEquals(1, read.size());
+        assertEquals(BlockOwnerTable.pack(6, BlockOwnerTable.NONE), read.get(new BlockPos(15, 200, 15)));
+
+        final BlockOwnerTable migrated = BlockOwnerTableTest.roundTrip(read);
+        assertEquals(BlockOwnerTable.pack(6, BlockOwnerTable.NONE), migrated.get(new BlockPos(15, 200, 15)));
+    }
+
+    @Test
+    void readsLegacyIntPositions() {
+        final ListTag legacy = new ListTag();
+        final BlockPos pos = new BlockPos(7, 100, 15);
+        final CompoundTag entry = new CompoundTag();
+        entry.putInt("notifier", 9);
+        entry.putInt("ipos", Constants.Sponge.blockPosToInt(pos));
+        legacy.add(entry);
+        final CompoundTag absent = new CompoundTag();
+        absent.putInt("owner", BlockOwnerTable.NONE);
+        absent.putInt("notifier", BlockOwnerTable.NONE);
+        absent.putInt("ipos", Constants.Sponge.blockPosToInt(new BlockPos(1, 2, 3)));
+        legacy.add(absent);
+        final CompoundTag spongeData = new CompoundTag();
+        spongeData.put(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, legacy);
+
+        final BlockOwnerTable read = BlockOwnerTable.read(spongeData);
+        assertEquals(1, read.size());
+        assertEquals(BlockOwnerTable.pack(BlockOwnerTable.NONE, 9), read.get(pos));
+        assertFalse(read.contains(new BlockPos(1, 2, 3)));
+    }
+}
@@ -32,26 +32,39 @@
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.block.entity.BlockEntity;
+import org.spongepowered.api.block.entity.carrier.CarrierBlockEntity;
 import org.spongepowered.api.block.transaction.BlockTransaction;
 import org.spongepowered.api.command.Command;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.parameter.CommandContext;
 import org.spongepowered.api.data.Keys;
 import org.spongepowered.api.data.type.MatterTypes;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.block.ChangeBlockEvent;
 import org.spongepowered.api.event.entity.DestructEntityEvent;
 import org.spongepowered.api.event.entity.HarvestEntityEvent;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
 import org.spongepowered.api.event.lifecycle.RegisterCommandEvent;
+import org.spongepowered.api.item.ItemTypes;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.query.QueryTypes;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
 import org.spongepowered.api.world.LocatableBlock;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3i;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.jvm.Plugin;
 import org.spongepowered.test.LoadableModule;
 
+import java.util.Optional;
+
 @Plugin("changeblocktest")
 public final class ChangeBlockTest implements LoadableModule {
 
@@ -64,6 +77,8 @@ public final class ChangeBlockTest implements LoadableModule {
     boolean printEntityHarvests = false;
     boolean printEntitySpawns = false;
     boolean printEntityDeaths = false;
+    // Set while the container restore check breaks its chest
+    @Nullable Vector3i restoredContainer;
 
     @Inject
     public ChangeBlockTest(final PluginContainer plugin) {
@@ -134,6 +149,53 @@ public void registerCommands(final RegisterCommandEvent<Command.Parameterized> e
             })
             .build(), "toggleBlockTransactions"
         );
+        event.register(this.plugin, Command.builder()
+            .executionRequirements(context -> context.subject() instanceof ServerPlayer)
+            .executor(context -> {
+                final ServerPlayer player = (ServerPlayer) context.subject();
+                this.checkContainerRestore(player.world(), player.blockPosition().add(0, 2, 0), player);
+                return CommandResult.success();
+            })
+            .build(), "checkContainerRestore"
+        );
+    }
+
+    /**
+     * Fills a chest, breaks it on the next tick with the transaction
+     * invalidated, and checks on the tick after that the chest came back
+     * with its contents. Each step runs in its own phase, so the break is a
+     * transaction of its own. Needs this module to be enabled.
+     */
+    private void checkContainerRestore(final ServerWorld world, final Vector3i pos, final ServerPlayer player) {
+        final ItemStack stack = ItemStack.of(ItemTypes.DIAMOND, 5);
+        world.setBlock(pos, BlockTypes.CHEST.get().defaultState());
+        final Optional<? extends BlockEntity> chest = world.blockEntity(pos);
+        if (!chest.isPresent() || !(chest.get() instanceof CarrierBlockEntity)) {
+            player.sendMessage(Identity.nil(), Component.text("Could not place a chest", NamedTextColor.RED));
+            return;
+        }
+        ((CarrierBlockEntity) chest.get()).inventory().offer(stack.copy());
+        Sponge.server().scheduler().submit(Task.builder().plugin(this.plugin).delay(Ticks.single()).execute(() -> {
+            // The event is thrown once the task is done, so this stays set until the check
+            this.restoredContainer = pos;
+            world.setBlock(pos, BlockTypes.AIR.get().defaultState());
+            Sponge.server().scheduler().submit(Task.builder().plugin(this.plugin).delay(Ticks.single()).execute(() -> {
+                this.restoredContainer = null;
+                final int restored = world.blockEntity(pos)
+                    .filter(CarrierBlockEntity.class::isInstance)
+                    .map(entity -> ((CarrierBlockEntity) entity).inventory().query(QueryTypes.ITEM_STACK_IGNORE_QUANTITY, stack).totalQuantity())
+                    .orElse(-1);
+                if (restored == stack.quantity()) {
+                    player.sendMessage(Identity.nil(), Component.text("The chest was restored with its contents", NamedTextColor.GREEN));
+                } else if (restored < 0) {
+                    player.sendMessage(Identity.nil(), Component.text("The chest was not restored", NamedTextColor.RED));
+                } else {
+                    player.sendMessage(Identity.nil(), Component.text("The chest was restored with " + restored + " instead of "
+                        + stack.quantity() + " diamonds", NamedTextColor.RED));
+                }
+                world.setBlock(pos, BlockTypes.AIR.get().defaultState());
+            }).build());
+        }).build());
     }
 
     public class HarvestEntityListener {
@@ -194,6 +256,12 @@ public void onEntitySpawn(final DestructEntityEvent.Death event) {
     public class ChangeBlockListener {
         @Listener
         public void onChangeBlock(final ChangeBlockEvent.All post) {
+            final @Nullable Vector3i restoredContainer = ChangeBlockTest.this.restoredContainer;
+            if (restoredContainer != null) {
+                post.transactions().stream()
+                    .filter(transaction -> transaction.original().position().equals(restoredContainer))
+                    .forEach(BlockTransaction::invalidate);
+            }
             final Logger pluginLogger = ChangeBlockTest.this.plugin.logger();
             pluginLogger.log(Level.INFO, ChangeBlockTest.marker, "/*************");
             pluginLogger.log(Level.INFO, ChangeBlockTest.marker, "/* ChangeBlockEvent");
@@ -29,8 +29,12 @@
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.block.transaction.BlockTransaction;
 import org.spongepowered.api.command.Command;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.parameter.CommandContext;
@@ -41,12 +45,19 @@
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.EventContextKeys;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
 import org.spongepowered.api.event.block.InteractBlockEvent;
 import org.spongepowered.api.event.cause.entity.SpawnTypes;
 import org.spongepowered.api.event.filter.cause.Root;
 import org.spongepowered.api.event.lifecycle.RegisterCommandEvent;
 import org.spongepowered.api.item.ItemTypes;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
 import org.spongepowered.api.world.BlockChangeFlags;
+import org.spongepowered.api.world.HeightType;
+import org.spongepowered.api.world.HeightTypes;
+import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.api.world.volume.archetype.ArchetypeVolume;
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 import org.spongepowered.api.world.volume.stream.VolumeApplicators;
@@ -57,7 +68,10 @@
 import org.spongepowered.plugin.jvm.Plugin;
 import org.spongepowered.test.LoadableModule;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -68,6 +82,7 @@ public final class VolumeStreamTest implements LoadableModule {
     @Inject private Logger logger;
 
     private final CopyPastaListener listener = new CopyPastaListener();
+    private final BlockChangeRecorder recorder = new BlockChangeRecorder();
     private static final Map<UUID, PlayerData> player_data = new HashMap<>();
 
     private static PlayerData get(final Player pl) {
@@ -81,6 +96,7 @@ private static PlayerData get(final Player pl) {
     @Override
     public void enable(final CommandContext ctx) {
         Sponge.eventManager().registerListeners(this.plugin, this.listener);
+        Sponge.eventManager().registerListeners(this.plugin, this.recorder);
     }
 
     @Listener
@@ -161,6 +177,134 @@ public void onGamePreInitialization(final RegisterCommandEvent<Command.Parameter
                 }).build(),
             "paste"
         );
+        event.register(this.plugin,
+            Command.builder()
+                .shortDescription(Component.text("Checks that applying blocks without physics matches setting them one by one"))
+                .permission(this.plugin.metadata().id() + ".command.checkbulkapply")
+                .executionRequirements(context -> context.subject() instanceof ServerPlayer)
+                .executor(context -> {
+                    final ServerPlayer player = (ServerPlayer) context.subject();
+                    this.checkBulkApply(player.world(), player.blockPosition().add(2, 0, 2), player);
+                    return CommandResult.success();
+                }).build(),
+            "checkBulkApply"
+        );
+    }
+
+    // Stone with a lowered column, leaves, glass, water and a point of interest on top
+    private static BlockState layout(final int x, final int y, final int z) {
+        if (y < 2) {
+            return BlockTypes.STONE.get().defaultState();
+        }
+        if (x == 0) {
+            return BlockTypes.AIR.get().defaultState();
+        }
+        if (x == 1) {
+            return y < 4 ? BlockTypes.OAK_LEAVES.get().defaultState() : BlockTypes.AIR.get().defaultState();
+        }
+        if (x == 2) {
+            return y == 2 ? BlockTypes.WATER.get().defaultState() : BlockTypes.GLASS.get().defaultState();
+        }
+        return y == 2 && z == 0 ? BlockTypes.COMPOSTER.get().defaultState() : BlockTypes.AIR.get().defaultState();
+    }
+
+    /**
+     * Builds the same layout over stone twice, once block by block and once
+     * by applying a volume, each on its own tick. Both have to throw a single
+     * event with the same transactions and end up with the same heights.
+     * Needs this module to be enabled.
+     */
+    private void checkBulkApply(final ServerWorld world, final Vector3i origin, final ServerPlayer player) {
+        final Vector3i size = new Vector3i(4, 6, 4);
+        final Vector3i tracked = origin;
+        final Vector3i bulk = origin.add(size.x() + 2, 0, 0);
+        for (final Vector3i area : new Vector3i[] {tracked, bulk}) {
+            for (int x = 0; x < size.x(); x++) {
+                for (int y = 0; y < size.y(); y++) {
+                    for (int z = 0; z < size.z(); z++) {
+                        world.setBlock(area.add(x, y, z), BlockTypes.STONE.get().defaultState(), BlockChangeFlags.NONE);
+                    }
+                }
+            }
+        }
+        Sponge.server().scheduler().submit(Task.builder().plugin(this.plugin).delay(Ticks.single()).execute(() -> {
+            this.recorder.start(tracked);
+            for (int x = 0; x < size.x(); x++) {
+                for (int y = 0; y < size.y(); y++) {
+                    for (int z = 0; z < size.z(); z++) {
+                        world.setBlock(tracked.add(x, y, z), VolumeStreamTest.layout(x, y, z), BlockChangeFlags.NONE);
+                    }
+                }
+            }
+            Sponge.server().scheduler().submit(Task.builder().plugin(this.plugin).delay(Ticks.single()).execute(() -> {
+                final List<List<String>> trackedEvents = this.recorder.stop();
+                final ArchetypeVolume volume = world.createArchetypeVolume(tracked, tracked.add(size).sub(Vector3i.ONE), tracked);
+                this.recorder.start(bulk);
+                volume.blockStateStream(volume.blockMin(), volume.blockMax(), StreamOptions.lazily())
+                    .apply(VolumeCollectors.of(world, VolumePositionTranslators.relativeTo(bulk), VolumeApplicators.applyBlocks(BlockChangeFlags.NONE)));
+                Sponge.server().scheduler().submit(Task.builder().plugin(this.plugin).delay(Ticks.single()).execute(() -> {
+                    final List<List<String>> bulkEvents = this.recorder.stop();
+                    final List<String> failures = new ArrayList<>();
+                    if (trackedEvents.size() != 1 || bulkEvents.size() != 1) {
+                        failures.add(trackedEvents.size() + " events were thrown block by block and " + bulkEvents.size() + " for the volume");
+                    } else if (!new HashSet<>(trackedEvents.get(0)).equals(new HashSet<>(bulkEvents.get(0)))) {
+                        failures.add("The transactions differ: " + trackedEvents.get(0) + " and " + bulkEvents.get(0));
+                    }
+                    for (final HeightType type : new HeightType[] {HeightTypes.WORLD_SURFACE.get(), HeightTypes.MOTION_BLOCKING.get(),
+                        HeightTypes.MOTION_BLOCKING_NO_LEAVES.get(), HeightTypes.OCEAN_FLOOR.get()}) {
+                        for (int x = 0; x < size.x(); x++) {
+                            for (int z = 0; z < size.z(); z++) {
+                                final int expected = world.height(type, tracked.x() + x, tracked.z() + z);
+                                final int actual = world.height(type, bulk.x() + x, bulk.z() + z);
+                                if (expected != actual) {
+                                    failures.add("The " + type + " height of column " + x + ", " + z + " is " + actual + " instead of " + expected);
+                                }
+                            }
+                        }
+                    }
+                    if (failures.isEmpty()) {
+                        player.sendMessage(Identity.nil(), Component.text("Applying the volume matched setting the blocks", NamedTextColor.GREEN));
+                    } else {
+                        failures.forEach(failure -> player.sendMessage(Identity.nil(), Component.text(failure, NamedTextColor.RED)));
+                    }
+                }).build());
+            }).build());
+        }).build());
+    }
+
+    /**
+     * Records the transactions of every block change event while started,
+     * with their positions relative to the given origin.
+     */
+    public static class BlockChangeRecorder {
+
+        private @Nullable Vector3i origin;
+        private final List<List<String>> events = new ArrayList<>();
+
+        void start(final Vector3i origin) {
+            this.origin = origin;
+            this.events.clear();
+        }
+
+        List<List<String>> stop() {
+            this.origin = null;
+            return new ArrayList<>(this.events);
+        }
+
+        @Listener
+        public void onChangeBlock(final ChangeBlockEvent.All event) {
+            final @Nullable Vector3i origin = this.origin;
+            if (origin == null) {
+                return;
+            }
+            final List<String> transactions = new ArrayList<>();
+            for (final BlockTransaction transaction : event.transactions()) {
+                transactions.add(transaction.original().position().sub(origin) + " " + transaction.original().state().type().key(RegistryTypes.BLOCK_TYPE)
+                    + " -> " + transaction.finalReplacement().state().type().key(RegistryTypes.BLOCK_TYPE)
+                    + " " + transaction.operation().key(RegistryTypes.OPERATION));
+            }
+            this.events.add(transactions);
+        }
     }
 
 
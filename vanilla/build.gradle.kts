@@ -99,6 +99,32 @@ val vanillaAppLaunch by sourceSets.register("applaunch") {
     spongeImpl.applyNamedDependencyOnOutput(commonProject, accessors.get(), this, project, this.runtimeOnlyConfigurationName)
     spongeImpl.applyNamedDependencyOnOutput(project, vanillaMain, this, project, this.runtimeOnlyConfigurationName)
 }
+// JMH benchmarks for the event bus, cause stack and scheduler, run with the jmh task
+val vanillaJmh by sourceSets.register("jmh") {
+    // implementation (compile) dependencies
+    spongeImpl.applyNamedDependencyOnOutput(commonProject, launch.get(), this, project, this.implementationConfigurationName)
+    spongeImpl.applyNamedDependencyOnOutput(commonProject, applaunch.get(), this, project, this.implementationConfigurationName)
+    spongeImpl.applyNamedDependencyOnOutput(commonProject, main.get(), this, project, this.implementationConfigurationName)
+    spongeImpl.applyNamedDependencyOnOutput(project, vanillaMain, this, project, this.implementationConfigurationName)
+    spongeImpl.applyNamedDependencyOnOutput(project, vanillaLaunch, this, project, this.implementationConfigurationName)
+
+    configurations.named(implementationConfigurationName) {
+        extendsFrom(vanillaAppLaunchConfig.get())
+    }
+}
+// Unit tests for the launch code which don't need a running game
+val vanillaTest by sourceSets.named("test") {
+    // implementation (compile) dependencies
+    spongeImpl.applyNamedDependencyOnOutput(commonProject, launch.get(), this, project, this.implementationConfigurationName)
+    spongeImpl.applyNamedDependencyOnOutput(commonProject, applaunch.get(), this, project, this.implementationConfigurationName)
+    spongeImpl.applyNamedDependencyOnOutput(commonProject, main.get(), this, project, this.implementationConfigurationName)
+    spongeImpl.applyNamedDependencyOnOutput(project, vanillaMain, this, project, this.implementationConfigurationName)
+    spongeImpl.applyNamedDependencyOnOutput(project, vanillaLaunch, this, project, this.implementationConfigurationName)
+
+    configurations.named(implementationConfigurationName) {
+        extendsFrom(vanillaAppLaunchConfig.get())
+    }
+}
 val vanillaMixinsImplementation by configurations.named(vanillaMixins.implementationConfigurationName) {
     extendsFrom(vanillaAppLaunchConfig.get())
 }
@@ -210,6 +236,7 @@ dependencies {
     val pluginSpiVersion: String by project
     val timingsVersion: String by project
     val tinyLogVersion: String by project
+    val jmhVersion: String by project
 
     api(project(":", configuration = "launch"))
     implementation(project(":", configuration = "accessors"))
@@ -299,6 +326,13 @@ dependencies {
         exclude(group = "org.apache.logging.log4j")
     }
 
+    add(vanillaJmh.implementationConfigurationName, "org.openjdk.jmh:jmh-core:$jmhVersion")
+    add(vanillaJmh.annotationProcessorConfigurationName, "org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+
+    val junitVersion: String by project
+    add(vanillaTest.implementationConfigurationName, "org.junit.jupiter:junit-jupiter-api:$junitVersion")
+    add(vanillaTest.runtimeOnlyConfigurationName, "org.junit.jupiter:junit-jupiter-engine:$junitVersion")
+
     testplugins?.also {
         vanillaAppLaunchRuntime(project(it.path)) {
             exclude(group = "org.spongepowered")
@@ -318,6 +352,10 @@ val vanillaManifest = the<JavaPluginConvention>().manifest {
 }
 
 tasks {
+    test {
+        useJUnitPlatform()
+    }
+
     jar {
         manifest.from(vanillaManifest)
     }
@@ -367,6 +405,23 @@ tasks {
         from(vanillaMixins.output)
     }
 
+    val jmh by registering(JavaExec::class) {
+        group = "sponge"
+        description = "Runs the JMH benchmarks with the gc profiler, pass -Pjmh.includes=<regex> to select benchmarks"
+        mainClass.set("org.openjdk.jmh.Main")
+        classpath(vanillaJmh.output, vanillaJmh.runtimeClasspath)
+        args(listOfNotNull(
+            project.findProperty("jmh.includes")?.toString(),
+            // Allocated bytes per operation, next to the time
+            "-prof", "gc",
+            "-rf", "json",
+            "-rff", project.layout.buildDirectory.file("reports/jmh/results.json").get().asFile.path
+        ))
+        doFirst {
+            project.layout.buildDirectory.dir("reports/jmh").get().asFile.mkdirs()
+        }
+    }
+
     val integrationTest by registering {
         group = LifecycleBasePlugin.VERIFICATION_GROUP
         dependsOn("integrationTestServer", "integrationTestClient")
@@ -0,0 +1,117 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.vanilla.jmh.BenchmarkEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the frame churn of the {@link PhaseTracker} cause stack, the
+ * same pattern every event listener call and most tracked phases go through.
+ *
+ * <p>The benchmark thread gets its own spinoff tracker, which runs the same
+ * code as the server tracker.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CauseStackBenchmark {
+
+    /**
+     * The number of frames already on the stack, as with nested phases.
+     */
+    @Param({"0", "4", "16"})
+    public int depth;
+
+    private final Object cause = new Object();
+    private CauseStackManager causeStackManager;
+    private CauseStackManager.StackFrame[] frames;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.install();
+        this.causeStackManager = PhaseTracker.getCauseStackManager();
+        this.frames = new CauseStackManager.StackFrame[this.depth];
+        for (int i = 0; i < this.depth; i++) {
+            this.frames[i] = this.causeStackManager.pushCauseFrame();
+            this.causeStackManager.pushCause(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (int i = this.frames.length - 1; i >= 0; i--) {
+            this.causeStackManager.popCauseFrame(this.frames[i]);
+        }
+    }
+
+    @Benchmark
+    public void pushPopFrame() {
+        final CauseStackManager.StackFrame frame = this.causeStackManager.pushCauseFrame();
+        this.causeStackManager.pushCause(this.cause);
+        this.causeStackManager.popCauseFrame(frame);
+    }
+
+    @Benchmark
+    public Cause pushCurrentCausePop() {
+        try (final CauseStackManager.StackFrame frame = this.causeStackManager.pushCauseFrame()) {
+            frame.pushCause(this.cause);
+            return frame.currentCause();
+        }
+    }
+
+    @Benchmark
+    public Cause currentCause() {
+        // The cause is cached until the stack changes
+        return this.causeStackManager.currentCause();
+    }
+
+    @Benchmark
+    public Cause pushPopCause() {
+        this.causeStackManager.pushCause(this.cause);
+        final Cause cause = this.causeStackManager.currentCause();
+        this.causeStackManager.popCause();
+        return cause;
+    }
+
+}
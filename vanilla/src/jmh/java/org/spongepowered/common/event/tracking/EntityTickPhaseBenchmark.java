@@ -0,0 +1,151 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.common.bridge.CreatorTrackedBridge;
+import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.tracking.phase.tick.EntityTickContext;
+import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
+import org.spongepowered.vanilla.jmh.BenchmarkEnvironment;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per entity overhead of {@link TrackingUtil#tickEntity}: the
+ * entity tick phase with the creator and notifier resolved up front, as it
+ * used to be, the phase with them resolved lazily, and the fast path that
+ * ticks without a phase of its own.
+ *
+ * <p>No entity can be created without a world, so the tick itself is left
+ * out. The benchmark thread gets its own spinoff tracker. Compare in game
+ * with the timings report, where each entity type keeps its own timing on
+ * both paths.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EntityTickPhaseBenchmark {
+
+    private final Object entity = new Object();
+    private final TrackedStub tracked = new TrackedStub();
+    private PhaseTracker tracker;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.install();
+        BenchmarkEnvironment.installDefaultConfig();
+        this.tracker = PhaseTracker.getInstance();
+    }
+
+    @Benchmark
+    public void phaseWithEagerOwners(final Blackhole blackhole) {
+        try (final EntityTickContext context = TickPhase.Tick.ENTITY.createPhaseContext(this.tracker).source(this.entity)) {
+            this.tracked.tracked$getNotifierReference().ifPresent(context::notifier);
+            this.tracked.tracked$getCreatorReference().ifPresent(context::creator);
+            context.buildAndSwitch();
+            blackhole.consume(this.entity);
+        }
+    }
+
+    @Benchmark
+    public void phaseWithLazyOwners(final Blackhole blackhole) {
+        try (final EntityTickContext context = TickPhase.Tick.ENTITY.createPhaseContext(this.tracker).source(this.entity)) {
+            context.ownersFrom(this.tracked);
+            context.buildAndSwitch();
+            blackhole.consume(this.entity);
+        }
+    }
+
+    @Benchmark
+    public void withoutPhase(final Blackhole blackhole) {
+        // The checks made by the fast path before it runs the tick
+        if (this.tracked.tracked$getCreatorUUID().isPresent() || this.tracked.tracked$getNotifierUUID().isPresent()) {
+            throw new IllegalStateException();
+        }
+        blackhole.consume(this.entity);
+    }
+
+    /**
+     * An untracked entity, as most are.
+     */
+    private static final class TrackedStub implements CreatorTrackedBridge {
+
+        @Override
+        public Optional<UUID> tracked$getCreatorUUID() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<UUID> tracked$getNotifierUUID() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<User> tracked$getTrackedUser(final PlayerTracker.Type type) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<User> tracked$getCreatorReference() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void tracked$setCreatorReference(final @Nullable User user) {
+        }
+
+        @Override
+        public Optional<User> tracked$getNotifierReference() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void tracked$setNotifier(final @Nullable User user) {
+        }
+
+        @Override
+        public void tracked$setTrackedUUID(final PlayerTracker.Type type, final @Nullable UUID uuid) {
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.block.NotifyNeighborBlockEvent;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.context.transaction.type.NoOpTransactionType;
+import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
+import org.spongepowered.common.util.PrettyPrinter;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Measures the time and memory per change captured by a
+ * {@link TransactionalCaptureSupplier}, with transactions handed out again by
+ * a {@link TransactionArena} as block changes and neighbor notifications are,
+ * and with a new transaction for every change.
+ *
+ * <p>No block change or notification can be created without a world, so a
+ * transaction of the same shape stands in for them. Each invocation captures
+ * a full arena worth of changes and clears the supplier, as a phase does.
+ * The allocated bytes per change are reported as gc.alloc.rate.norm by the gc
+ * profiler the jmh task runs with.</p>
+ */
+@SuppressWarnings("rawtypes")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TransactionCaptureBenchmark {
+
+    private static final int CHANGES = 256;
+    private static final TransactionType<NotifyNeighborBlockEvent> TYPE = new NoOpTransactionType<>(false, "benchmark");
+
+    private final TransactionalCaptureSupplier supplier = new TransactionalCaptureSupplier();
+    private final TransactionArena<CapturedChange> arena = new TransactionArena<>(
+        TransactionCaptureBenchmark.CHANGES, CapturedChange::release);
+
+    @Benchmark
+    @OperationsPerInvocation(TransactionCaptureBenchmark.CHANGES)
+    public int pooled() {
+        for (int i = 0; i < TransactionCaptureBenchmark.CHANGES; i++) {
+            @Nullable CapturedChange change = this.arena.reuse();
+            if (change == null) {
+                change = this.arena.retain(new CapturedChange());
+            }
+            change.reuse(i);
+            this.supplier.logTransaction(change);
+        }
+        return this.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TransactionCaptureBenchmark.CHANGES)
+    public int allocated() {
+        for (int i = 0; i < TransactionCaptureBenchmark.CHANGES; i++) {
+            final CapturedChange change = new CapturedChange();
+            change.reuse(i);
+            this.supplier.logTransaction(change);
+        }
+        return this.clear();
+    }
+
+    private int clear() {
+        final int logged = this.supplier.loggedTransactionCount();
+        this.supplier.clear();
+        this.arena.rewind();
+        return logged;
+    }
+
+    /**
+     * The state a block change holds on to, without a world.
+     */
+    private static final class CapturedChange extends GameTransaction<NotifyNeighborBlockEvent> {
+
+        private long position;
+        private @Nullable Object originalState;
+        private @Nullable Object newState;
+
+        @SuppressWarnings("ConstantConditions")
+        CapturedChange() {
+            // Never batched into an event, so there is no world to key it by
+            super(TransactionCaptureBenchmark.TYPE, null);
+        }
+
+        void reuse(final long position) {
+            this.recycle();
+            this.position = position;
+            this.originalState = this;
+            this.newState = this;
+        }
+
+        void release() {
+            this.recycle();
+            this.originalState = null;
+            this.newState = null;
+        }
+
+        @Override
+        public Optional<BiConsumer<PhaseContext<@NonNull ?>, CauseStackManager.StackFrame>> getFrameMutator(
+            final @Nullable GameTransaction<@NonNull ?> parent
+        ) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void addToPrinter(final PrettyPrinter printer) {
+            printer.add("CapturedChange").add(" %s : %s", "Position", this.position);
+        }
+
+        @Override
+        public Optional<NotifyNeighborBlockEvent> generateEvent(final PhaseContext<@NonNull ?> context,
+            final @Nullable GameTransaction<@NonNull ?> parent,
+            final ImmutableList<GameTransaction<NotifyNeighborBlockEvent>> transactions,
+            final Cause currentCause,
+            final ImmutableMultimap.Builder<TransactionType, ? extends Event> transactionPostEventBuilder
+        ) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void restore() {
+        }
+
+        @Override
+        public boolean markCancelledTransactions(final NotifyNeighborBlockEvent event,
+            final ImmutableList<? extends GameTransaction<NotifyNeighborBlockEvent>> transactions
+        ) {
+            return false;
+        }
+    }
+}
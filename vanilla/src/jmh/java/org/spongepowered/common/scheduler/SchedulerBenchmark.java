@@ -0,0 +1,105 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.vanilla.jmh.BenchmarkEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a scheduler tick with many idle delayed and
+ * repeating tasks, of which only a handful are due.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SchedulerBenchmark {
+
+    @Param({"0", "1000", "100000"})
+    public int idleTasks;
+
+    private SyncScheduler scheduler;
+    private Task dueTask;
+    private int runs;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.install();
+        this.scheduler = new SyncScheduler("B") {};
+        final PluginContainer plugin = BenchmarkEnvironment.plugin("benchmark");
+        for (int i = 0; i < this.idleTasks; i++) {
+            // Half of them are delayed for an hour, the other half repeat every hour
+            final SpongeTaskBuilder builder = new SpongeTaskBuilder();
+            builder.plugin(plugin).name("idle-" + i).execute(() -> this.runs++);
+            if (i % 2 == 0) {
+                builder.delay(Ticks.of(72000));
+            } else {
+                builder.interval(Ticks.of(72000)).delay(Ticks.of(i % 72000));
+            }
+            this.scheduler.submit(builder.build());
+        }
+        this.dueTask = new SpongeTaskBuilder().plugin(plugin).name("due").execute(() -> this.runs++).build();
+        // Run the tasks which are due right away and queue the others
+        this.scheduler.tick();
+    }
+
+    @Benchmark
+    public int idleTick() {
+        this.scheduler.tick();
+        return this.runs;
+    }
+
+    @Benchmark
+    public int tickWithDueTask() {
+        this.scheduler.submit(this.dueTask);
+        this.scheduler.tick();
+        return this.runs;
+    }
+
+    @Benchmark
+    public int submitCancelAndTick() {
+        this.scheduler.submit(this.dueTask).cancel();
+        this.scheduler.tick();
+        return this.runs;
+    }
+
+}
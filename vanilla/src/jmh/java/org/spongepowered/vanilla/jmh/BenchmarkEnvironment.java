@@ -0,0 +1,201 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.jmh;
+
+import co.aikar.timings.TimingsFactory;
+import co.aikar.timings.sponge.SpongeTimingsFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.Server;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.registry.FactoryProvider;
+import org.spongepowered.common.applaunch.AppLaunch;
+import org.spongepowered.common.applaunch.config.common.CommonConfig;
+import org.spongepowered.common.applaunch.config.core.ConfigHandle;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.applaunch.plugin.PluginPlatform;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.metadata.PluginMetadata;
+import org.spongepowered.plugin.metadata.util.PluginMetadataHelper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The bare minimum of an engine the benchmarks need to run without a server.
+ *
+ * <p>With {@link #install()} no server or client is available, so everything
+ * measured runs on the untracked path, the same as for events posted off the
+ * main thread. {@link #installTracked()} makes the benchmark thread the main
+ * thread of a stubbed server instead, so posting goes through cause frames
+ * and phase contexts of the phase tracker owned by that thread.</p>
+ */
+public final class BenchmarkEnvironment {
+
+    private static boolean installed;
+    private static boolean configInstalled;
+
+    public static synchronized void install() {
+        if (BenchmarkEnvironment.installed) {
+            return;
+        }
+        BenchmarkEnvironment.installGame(BenchmarkEnvironment.stub(Game.class, "game", (method, args) -> {
+            if (method.getName().equals("isServerAvailable") || method.getName().equals("isClientAvailable")) {
+                return false;
+            }
+            throw new UnsupportedOperationException(method.getName() + " is not available in benchmarks");
+        }));
+        BenchmarkEnvironment.installed = true;
+    }
+
+    /**
+     * Installs a server whose main thread is the calling thread, which has to
+     * be the benchmark thread. Timings are installed, but disabled.
+     */
+    public static synchronized void installTracked() {
+        BenchmarkEnvironment.installDefaultConfig();
+        final Thread mainThread = Thread.currentThread();
+        final Server server = BenchmarkEnvironment.stub(Server.class, "server", (method, args) -> {
+            if (method.getName().equals("onMainThread")) {
+                return Thread.currentThread() == mainThread;
+            }
+            throw new UnsupportedOperationException(method.getName() + " is not available in benchmarks");
+        });
+        final TimingsFactory timings = new SpongeTimingsFactory();
+        final FactoryProvider factoryProvider = BenchmarkEnvironment.stub(FactoryProvider.class, "factoryProvider", (method, args) -> {
+            if (method.getName().equals("provide") && args[0] == TimingsFactory.class) {
+                return timings;
+            }
+            throw new UnsupportedOperationException(method.getName() + " is not available in benchmarks");
+        });
+        BenchmarkEnvironment.installGame(BenchmarkEnvironment.stub(Game.class, "game", (method, args) -> {
+            switch (method.getName()) {
+                case "isServerAvailable":
+                    return true;
+                case "isClientAvailable":
+                    return false;
+                case "server":
+                    return server;
+                case "factoryProvider":
+                    return factoryProvider;
+                default:
+                    throw new UnsupportedOperationException(method.getName() + " is not available in benchmarks");
+            }
+        }));
+        BenchmarkEnvironment.installed = true;
+    }
+
+    private static void installGame(final Game game) {
+        try {
+            final Field field = Sponge.class.getDeclaredField("game");
+            field.setAccessible(true);
+            field.set(null, game);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to install the benchmark game", e);
+        }
+    }
+
+    /**
+     * Installs the default common configuration for code that reads it, such
+     * as the phase tracker. Nothing is read from or written to disk.
+     */
+    public static synchronized void installDefaultConfig() {
+        if (BenchmarkEnvironment.configInstalled) {
+            return;
+        }
+        if (AppLaunch.pluginPlatform() == null) {
+            // Some defaults depend on the platform
+            AppLaunch.setPluginPlatform(BenchmarkEnvironment.stub(PluginPlatform.class, "platform", (method, args) -> {
+                if (method.getName().equals("vanilla")) {
+                    return true;
+                }
+                throw new UnsupportedOperationException(method.getName() + " is not available in benchmarks");
+            }));
+        }
+        try {
+            // The detached constructor is the fallback used when the config file cannot be loaded
+            final Constructor<ConfigHandle> constructor = ConfigHandle.class.getDeclaredConstructor(Class.class);
+            constructor.setAccessible(true);
+            final Field field = SpongeConfigs.class.getDeclaredField("sponge");
+            field.setAccessible(true);
+            field.set(null, constructor.newInstance(CommonConfig.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to install the benchmark configuration", e);
+        }
+        BenchmarkEnvironment.configInstalled = true;
+    }
+
+    public static PluginContainer plugin(final String id) {
+        // Timings and error reporting on the tracked path identify plugins by their metadata
+        final PluginMetadata metadata = BenchmarkEnvironment.metadata(id);
+        return BenchmarkEnvironment.stub(PluginContainer.class, id, (method, args) -> {
+            if (method.getName().equals("metadata")) {
+                return metadata;
+            }
+            throw new UnsupportedOperationException(method.getName() + " is not available in benchmarks");
+        });
+    }
+
+    private static PluginMetadata metadata(final String id) {
+        final String json = "{\"plugins\": [{\"loader\": \"java_plain\", \"id\": \"" + id + "\", \"name\": \"" + id + "\", "
+            + "\"version\": \"1.0.0\", \"main-class\": \"" + BenchmarkEnvironment.class.getName() + "\", \"dependencies\": []}]}";
+        try {
+            return PluginMetadataHelper.builder().build()
+                .read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))
+                .iterator().next();
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to create the metadata of benchmark plugin " + id, e);
+        }
+    }
+
+    private static <T> T stub(final Class<T> type, final String name, final Answer answer) {
+        return type.cast(Proxy.newProxyInstance(BenchmarkEnvironment.class.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return name;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return answer.answer(method, args);
+            }
+        }));
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+
+        Object answer(Method method, Object @Nullable [] args);
+    }
+
+    private BenchmarkEnvironment() {
+    }
+}
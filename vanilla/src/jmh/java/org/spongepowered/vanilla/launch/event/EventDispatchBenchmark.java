@@ -0,0 +1,132 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.launch.event;
+
+import io.leangen.geantyref.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.vanilla.jmh.BenchmarkEnvironment;
+import org.spongepowered.vanilla.jmh.BenchmarkEvent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generated {@link EventDispatcher}s with the dispatch loop
+ * they replace, posting the same event to the same listeners through one
+ * event manager of each kind.
+ *
+ * <p>With {@link #pushesCause} every listener leaves a cause on the stack,
+ * so the dispatcher cannot reuse the cause frame and phase context of the
+ * previous listener and has to enter them again for every listener, like
+ * the loop does. This is the worst case for the dispatchers.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventDispatchBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int listeners;
+
+    @Param({"1", "4"})
+    public int plugins;
+
+    @Param({"true", "false"})
+    public boolean tracked;
+
+    @Param({"false", "true"})
+    public boolean pushesCause;
+
+    private VanillaEventManager dispatching;
+    private VanillaEventManager looping;
+    private BenchmarkEvent event;
+    private int calls;
+
+    @Setup
+    public void setup() {
+        if (this.tracked) {
+            BenchmarkEnvironment.installTracked();
+        } else {
+            BenchmarkEnvironment.install();
+        }
+        System.setProperty("sponge.event.generateDispatchers", "true");
+        this.dispatching = new VanillaEventManager();
+        System.setProperty("sponge.event.generateDispatchers", "false");
+        this.looping = new VanillaEventManager();
+
+        final PluginContainer[] containers = new PluginContainer[this.plugins];
+        for (int i = 0; i < containers.length; i++) {
+            containers[i] = BenchmarkEnvironment.plugin("benchmark" + i);
+        }
+        final Object cause = new Object();
+        final EventListener<BenchmarkEvent> listener;
+        if (this.pushesCause && this.tracked) {
+            listener = event -> {
+                PhaseTracker.getCauseStackManager().pushCause(cause);
+                this.calls++;
+            };
+        } else {
+            listener = event -> this.calls++;
+        }
+        for (int i = 0; i < this.listeners; i++) {
+            final PluginContainer plugin = containers[i * containers.length / this.listeners];
+            this.dispatching.registerListener(plugin, TypeToken.get(BenchmarkEvent.class), Order.DEFAULT, false, listener);
+            this.looping.registerListener(plugin, TypeToken.get(BenchmarkEvent.class), Order.DEFAULT, false, listener);
+        }
+        this.event = new BenchmarkEvent(Cause.of(EventContext.empty(), containers[0]), "benchmark");
+        // Bake the handlers outside of the measurement
+        this.dispatching.post(this.event);
+        this.looping.post(this.event);
+    }
+
+    @Benchmark
+    public boolean dispatcher() {
+        return this.dispatching.post(this.event);
+    }
+
+    @Benchmark
+    public boolean loop() {
+        return this.looping.post(this.event);
+    }
+
+}
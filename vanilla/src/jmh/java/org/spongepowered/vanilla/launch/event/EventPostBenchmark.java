@@ -0,0 +1,120 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.launch.event;
+
+import io.leangen.geantyref.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.vanilla.jmh.BenchmarkEnvironment;
+import org.spongepowered.vanilla.jmh.BenchmarkEvent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link VanillaEventManager#post} against the number of listeners,
+ * with the generated dispatchers and with the plain dispatch loop.
+ *
+ * <p>Untracked runs measure posting off the main thread. Tracked runs post
+ * on the main thread of a stubbed server, so every listener is called within
+ * its own cause frame and plugin phase context of the benchmark thread's
+ * phase tracker, as events posted by the server are. Only the tracked
+ * numbers are representative for events fired during a tick.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventPostBenchmark {
+
+    private static final Order[] ORDERS = {Order.EARLY, Order.DEFAULT, Order.LATE};
+
+    @Param({"0", "1", "10", "100"})
+    public int listeners;
+
+    @Param({"true", "false"})
+    public boolean dispatchers;
+
+    @Param({"1", "4"})
+    public int plugins;
+
+    @Param({"false", "true"})
+    public boolean tracked;
+
+    private VanillaEventManager eventManager;
+    private BenchmarkEvent event;
+    private int calls;
+
+    @Setup
+    public void setup() {
+        if (this.tracked) {
+            BenchmarkEnvironment.installTracked();
+        } else {
+            BenchmarkEnvironment.install();
+        }
+        System.setProperty("sponge.event.generateDispatchers", Boolean.toString(this.dispatchers));
+        this.eventManager = new VanillaEventManager();
+
+        final PluginContainer[] containers = new PluginContainer[this.plugins];
+        for (int i = 0; i < containers.length; i++) {
+            containers[i] = BenchmarkEnvironment.plugin("benchmark" + i);
+        }
+        // Listeners of the same plugin are kept together, the way plugins
+        // usually register them, with a few different orders mixed in.
+        for (int i = 0; i < this.listeners; i++) {
+            final PluginContainer plugin = containers[i * containers.length / this.listeners];
+            this.eventManager.registerListener(plugin, TypeToken.get(BenchmarkEvent.class),
+                EventPostBenchmark.ORDERS[i % EventPostBenchmark.ORDERS.length], false, event -> this.calls++);
+        }
+        this.event = new BenchmarkEvent(Cause.of(EventContext.empty(), containers[0]), "benchmark");
+        // Bake the handlers outside of the measurement
+        this.eventManager.post(this.event);
+    }
+
+    @Benchmark
+    public boolean post() {
+        return this.eventManager.post(this.event);
+    }
+
+    @Benchmark
+    public boolean postToPlugin() {
+        return this.eventManager.postToPlugin(this.event, (PluginContainer) this.event.cause().root());
+    }
+
+}
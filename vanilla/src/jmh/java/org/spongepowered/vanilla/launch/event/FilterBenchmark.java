@@ -0,0 +1,155 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.launch.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.event.filter.FilterFactory;
+import org.spongepowered.common.event.gen.DefineableClassLoader;
+import org.spongepowered.vanilla.jmh.BenchmarkEnvironment;
+import org.spongepowered.vanilla.jmh.BenchmarkEvent;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the handlers generated by {@link ClassEventListenerFactory} with
+ * the different filters of {@code FilterGenerator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FilterBenchmark {
+
+    /**
+     * The name of the listener method in {@link Listeners}.
+     */
+    @Param({"none", "cancelled", "getter", "first", "last", "root", "all"})
+    public String filter;
+
+    /**
+     * The number of objects in the cause of the event before the one the
+     * cause filters look for.
+     */
+    @Param({"1", "8"})
+    public int causeSize;
+
+    private Listeners listeners;
+    private AnnotatedEventListener listener;
+    private BenchmarkEvent event;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkEnvironment.install();
+        final DefineableClassLoader classLoader = new DefineableClassLoader(FilterBenchmark.class.getClassLoader());
+        final ClassEventListenerFactory factory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
+            new FilterFactory("org.spongepowered.common.event.filters", classLoader), classLoader);
+
+        this.listeners = new Listeners();
+        for (final Method method : Listeners.class.getMethods()) {
+            if (method.getName().equals(this.filter)) {
+                this.listener = factory.create(this.listeners, method);
+            }
+        }
+
+        final Object[] causes = new Object[this.causeSize + 1];
+        for (int i = 0; i < this.causeSize; i++) {
+            causes[i] = i;
+        }
+        causes[this.causeSize] = "benchmark";
+        this.event = new BenchmarkEvent(Cause.of(EventContext.empty(), Arrays.asList(causes)), "benchmark");
+    }
+
+    @Benchmark
+    public int handle() throws Exception {
+        this.listener.handle(this.event);
+        return this.listeners.calls;
+    }
+
+    public static final class Listeners {
+
+        public int calls;
+
+        @Listener
+        public void none(final BenchmarkEvent event) {
+            this.calls++;
+        }
+
+        @Listener
+        @IsCancelled(Tristate.FALSE)
+        public void cancelled(final BenchmarkEvent event) {
+            this.calls++;
+        }
+
+        @Listener
+        public void getter(final BenchmarkEvent event, @Getter("value") final String value) {
+            this.calls++;
+        }
+
+        @Listener
+        public void first(final BenchmarkEvent event, @First final String source) {
+            this.calls++;
+        }
+
+        @Listener
+        public void last(final BenchmarkEvent event, @Last final String source) {
+            this.calls++;
+        }
+
+        @Listener
+        public void root(final BenchmarkEvent event, @Root final Integer root) {
+            this.calls++;
+        }
+
+        @Listener
+        public void all(final BenchmarkEvent event, @All final Integer[] causes) {
+            this.calls++;
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.launch.event;
+
+import io.leangen.geantyref.TypeFactory;
+import io.leangen.geantyref.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.vanilla.jmh.BenchmarkEnvironment;
+import org.spongepowered.vanilla.jmh.BenchmarkEvent;
+import org.spongepowered.vanilla.jmh.BenchmarkGenericEvent;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of baked handlers through
+ * {@link VanillaEventManager#getHandlerCache}, for plain events and for
+ * generic events which need a new {@link EventType} per lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HandlerCacheBenchmark {
+
+    /**
+     * The number of baked event types in the cache besides the measured ones,
+     * at most 225.
+     */
+    @Param({"0", "150"})
+    public int bakedTypes;
+
+    private VanillaEventManager eventManager;
+    private BenchmarkEvent event;
+    private BenchmarkGenericEvent<String> genericEvent;
+    private BenchmarkGenericEvent<List<String>> nestedGenericEvent;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.install();
+        this.eventManager = new VanillaEventManager();
+        final PluginContainer plugin = BenchmarkEnvironment.plugin("benchmark");
+        final Cause cause = Cause.of(EventContext.empty(), plugin);
+
+        this.eventManager.registerListener(plugin, TypeToken.get(BenchmarkEvent.class), Order.DEFAULT, false, event -> {});
+        this.eventManager.registerListener(plugin, new TypeToken<BenchmarkGenericEvent<String>>() {}, Order.DEFAULT, false, event -> {});
+        this.eventManager.registerListener(plugin, new TypeToken<BenchmarkGenericEvent<List<String>>>() {}, Order.DEFAULT, false,
+            event -> {});
+        this.eventManager.registerListener(plugin, new TypeToken<BenchmarkGenericEvent<? extends CharSequence>>() {}, Order.DEFAULT, false,
+            event -> {});
+
+        this.event = new BenchmarkEvent(cause, "benchmark");
+        this.genericEvent = new BenchmarkGenericEvent<>(cause, TypeToken.get(String.class));
+        this.nestedGenericEvent = new BenchmarkGenericEvent<>(cause, new TypeToken<List<String>>() {});
+
+        // Fill the cache with other generic types, like the many registry
+        // and value change events of a running server
+        final Class<?>[] classes = {Boolean.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            Character.class, Object.class, Number.class, Class.class, Thread.class, Runnable.class, Void.class, Enum.class};
+        for (int i = 0; i < this.bakedTypes; i++) {
+            final Type paramType = TypeFactory.parameterizedClass(Map.class, classes[i % classes.length], classes[i / classes.length]);
+            this.eventManager.getHandlerCache(new BenchmarkGenericEvent<>(cause, TypeToken.get(paramType)));
+        }
+        this.eventManager.getHandlerCache(this.event);
+        this.eventManager.getHandlerCache(this.genericEvent);
+        this.eventManager.getHandlerCache(this.nestedGenericEvent);
+    }
+
+    @Benchmark
+    public RegisteredListener.Cache plainEvent() {
+        return this.eventManager.getHandlerCache(this.event);
+    }
+
+    @Benchmark
+    public RegisteredListener.Cache genericEvent() {
+        return this.eventManager.getHandlerCache(this.genericEvent);
+    }
+
+    @Benchmark
+    public RegisteredListener.Cache nestedGenericEvent() {
+        return this.eventManager.getHandlerCache(this.nestedGenericEvent);
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.launch.event;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Posts events off the main thread, see {@link VanillaEventManager#postAsync(Event)}.
+ *
+ * <p>The ordered listeners of an event are split into consecutive runs of
+ * async-safe and main thread listeners. Async-safe runs are called on a
+ * bounded worker pool, where every worker uses its own thread-confined
+ * cause stack, the other runs are handed to the main thread, or to the
+ * executor given by the poster.</p>
+ *
+ * <p>Async-safe runs are only ever called on the workers, never on the
+ * posting thread or on the thread completing the previous run, which may
+ * be the main thread. Once more runs are waiting than the configured queue
+ * size, they keep queueing up and the saturation is reported instead.</p>
+ */
+final class AsyncEventLane {
+
+    private static final int THREADS = Integer.getInteger("sponge.event.asyncThreads",
+        Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+    private static final int QUEUE_SIZE = Integer.getInteger("sponge.event.asyncQueueSize", 4096);
+
+    // Log the first saturated hand over and then only every so often, saturation tends to last
+    private static final int SATURATION_LOG_INTERVAL = 1000;
+
+    private final ThreadPoolExecutor workers;
+    private final int queueSize;
+    private final BiConsumer<Event, List<RegisteredListener<?>>> workerPost;
+    private final BiConsumer<Event, List<RegisteredListener<?>>> mainThreadPost;
+    private final Supplier<Executor> mainThread;
+    private final AtomicLong saturated = new AtomicLong();
+
+    AsyncEventLane(final BiConsumer<Event, List<RegisteredListener<?>>> mainThreadPost) {
+        this(AsyncEventLane::dispatch, mainThreadPost, AsyncEventLane::mainThread, AsyncEventLane.THREADS, AsyncEventLane.QUEUE_SIZE);
+    }
+
+    AsyncEventLane(final BiConsumer<Event, List<RegisteredListener<?>>> workerPost,
+        final BiConsumer<Event, List<RegisteredListener<?>>> mainThreadPost, final Supplier<Executor> mainThread,
+        final int threads, final int queueSize) {
+        this.workerPost = workerPost;
+        this.mainThreadPost = mainThreadPost;
+        this.mainThread = mainThread;
+        this.queueSize = queueSize;
+        // The queue itself is not bounded, running a stage anywhere but on the workers is not an option
+        this.workers = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("Sponge-AsyncEvent-%d").setDaemon(true).build());
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+    private void handOver(final Runnable stage) {
+        if (this.workers.getQueue().size() >= this.queueSize) {
+            final long saturated = this.saturated.incrementAndGet();
+            if (saturated % AsyncEventLane.SATURATION_LOG_INTERVAL == 1) {
+                SpongeCommon.logger().warn("The async event lane is saturated, {} listener runs had to queue up beyond its queue size so far. "
+                    + "Consider raising sponge.event.asyncThreads.", saturated);
+            }
+        }
+        this.workers.execute(stage);
+    }
+
+    long saturatedCount() {
+        return this.saturated.get();
+    }
+
+    CompletableFuture<Boolean> post(final Event event, final List<RegisteredListener<?>> listeners) {
+        return this.post(event, listeners, this.mainThread.get());
+    }
+
+    CompletableFuture<Boolean> post(final Event event, final List<RegisteredListener<?>> listeners, final Executor unsafeExecutor) {
+        CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+        int start = 0;
+        while (start < listeners.size()) {
+            final boolean asyncSafe = listeners.get(start).isAsyncSafe();
+            int end = start + 1;
+            while (end < listeners.size() && listeners.get(end).isAsyncSafe() == asyncSafe) {
+                end++;
+            }
+            final List<RegisteredListener<?>> run = listeners.subList(start, end);
+            if (asyncSafe) {
+                future = future.thenRunAsync(() -> this.workerPost.accept(event, run), this::handOver);
+            } else {
+                future = future.thenRunAsync(() -> this.mainThreadPost.accept(event, run), unsafeExecutor);
+            }
+            start = end;
+        }
+        return future.whenComplete((v, failure) -> {
+            // Also reset when a stage failed, the remaining stages are skipped then
+            if (event instanceof AbstractEvent) {
+                ((AbstractEvent) event).currentOrder = null;
+            }
+            if (failure != null) {
+                SpongeCommon.logger().error("Could not post {} asynchronously", event.getClass().getSimpleName(), failure);
+            }
+        }).thenApply(v -> event instanceof Cancellable && ((Cancellable) event).isCancelled());
+    }
+
+    private static Executor mainThread() {
+        // Without a server there is no main thread to hand over to yet
+        return Sponge.isServerAvailable() ? SpongeCommon.server() : Runnable::run;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void dispatch(final Event event, final List<RegisteredListener<?>> listeners) {
+        // The cause stack of a worker thread is confined to it, the active plugin
+        // is not touched since it is only meaningful on the main thread.
+        final CauseStackManager causeStackManager = PhaseTracker.getCauseStackManager();
+        for (final RegisteredListener handler : listeners) {
+            try (final CauseStackManager.StackFrame frame = causeStackManager.pushCauseFrame()) {
+                frame.pushCause(handler.getPlugin());
+                if (event instanceof AbstractEvent) {
+                    ((AbstractEvent) event).currentOrder = handler.getOrder();
+                }
+                handler.handle(event);
+            } catch (final Throwable e) {
+                SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().metadata().id(), e);
+            }
+        }
+    }
+
+}
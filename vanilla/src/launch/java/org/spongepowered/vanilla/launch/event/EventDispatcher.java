@@ -0,0 +1,193 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.launch.event;
+
+import co.aikar.timings.Timing;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+
+import java.util.List;
+
+/**
+ * Dispatches an event to a fixed, ordered set of {@link RegisteredListener}s.
+ *
+ * <p>Implementations are generated by {@link EventDispatcherFactory} for each
+ * baked {@link EventType}. The generated {@link #dispatch(Event, boolean, boolean)}
+ * unrolls every listener call so each call site stays monomorphic. A cause
+ * frame and plugin phase context are entered for the first listener of every
+ * consecutive run of listeners belonging to the same plugin. The following
+ * listeners of the run only reuse them if the previous listener left both
+ * exactly as they were entered, otherwise they are closed and entered again,
+ * so causes and phase state never leak between listeners.</p>
+ *
+ * <p>Like the dispatch loop, a failure of any listener, or of the setup
+ * around it, is logged and the event is still passed to the remaining
+ * listeners.</p>
+ *
+ * <p>The helper methods are protected as generated subclasses are defined in
+ * their own class loader and therefore in a different runtime package.</p>
+ */
+public abstract class EventDispatcher {
+
+    static final EventDispatcher EMPTY = new EventDispatcher(new RegisteredListener<?>[0]) {
+        @Override
+        public void dispatch(final Event event, final boolean tracked, final boolean timed) {
+        }
+    };
+
+    protected final RegisteredListener<?>[] listeners;
+
+    protected EventDispatcher(final RegisteredListener<?>[] listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Passes the event to all listeners of this dispatcher.
+     *
+     * @param event The event
+     * @param tracked Whether cause frames and phase contexts should be entered
+     * @param timed Whether per-listener timings should be recorded
+     */
+    public abstract void dispatch(Event event, boolean tracked, boolean timed);
+
+    protected static EventListener<?> listener(final RegisteredListener<?>[] listeners, final int index) {
+        return listeners[index].getListener();
+    }
+
+    protected final CauseStackManager.@Nullable StackFrame pushFrame(final boolean tracked, final int index) {
+        if (!tracked) {
+            return null;
+        }
+        final PhaseTracker tracker = PhaseTracker.getInstance();
+        final CauseStackManager.StackFrame frame = tracker.pushCauseFrame();
+        frame.pushCause(this.listeners[index].getPlugin());
+        tracker.markFrame(frame);
+        return frame;
+    }
+
+    protected final @Nullable PhaseContext<?> enterContext(final boolean tracked, final int index) {
+        if (!tracked || !PhaseTracker.getInstance().getPhaseContext().allowsEventListener()) {
+            return null;
+        }
+        final PhaseContext<?> context = PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext(PhaseTracker.getInstance())
+            .source(this.listeners[index].getPlugin());
+        context.buildAndSwitch();
+        return context;
+    }
+
+    protected final boolean canReuse(final boolean tracked, final CauseStackManager.@Nullable StackFrame frame,
+        final @Nullable PhaseContext<?> context) {
+        if (!tracked) {
+            return true;
+        }
+        final PhaseTracker tracker = PhaseTracker.getInstance();
+        if (frame == null || !tracker.isFrameUnchanged(frame)) {
+            return false;
+        }
+        final PhaseContext<?> current = tracker.getPhaseContext();
+        if (context == null) {
+            // No context was entered as the outer phase did not allow it, which has to be still the case
+            return !current.allowsEventListener();
+        }
+        // Captures have to be processed when the context is closed, before the next listener runs
+        return current == context && !context.hasCaptures();
+    }
+
+    protected final void exitListener(final CauseStackManager.@Nullable StackFrame frame, final @Nullable PhaseContext<?> context) {
+        SpongeCommon.setActivePlugin(null);
+        try {
+            if (context != null) {
+                context.close();
+            }
+        } finally {
+            if (frame != null) {
+                frame.close();
+            }
+        }
+    }
+
+    protected final void applyOrder(final Event event, final int index) {
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = this.listeners[index].getOrder();
+        }
+    }
+
+    protected final void beforeListener(final boolean timed, final int index) {
+        final RegisteredListener<?> listener = this.listeners[index];
+        if (timed) {
+            listener.getTimingsHandler().startTimingIfSync();
+        }
+        SpongeCommon.setActivePlugin(listener.getPlugin());
+    }
+
+    protected final void afterListener(final boolean timed, final int index) {
+        SpongeCommon.setActivePlugin(null);
+        if (timed) {
+            final Timing timing = this.listeners[index].getTimingsHandler();
+            timing.stopTimingIfSync();
+        }
+    }
+
+    protected final void handleFailure(final Event event, final int index, final Throwable e) {
+        SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(),
+            this.listeners[index].getPlugin().metadata().id(), e);
+    }
+
+    protected final void recover(final Event event, final int index, final Throwable e, final CauseStackManager.@Nullable StackFrame frame,
+        final @Nullable PhaseContext<?> context) {
+        this.handleFailure(event, index, e);
+        try {
+            this.exitListener(frame, context);
+        } catch (final Throwable t) {
+            this.handleFailure(event, index, t);
+        }
+    }
+
+    protected final void abort(final Event event, final CauseStackManager.@Nullable StackFrame frame, final @Nullable PhaseContext<?> context) {
+        try {
+            this.exitListener(frame, context);
+        } finally {
+            this.finish(event);
+        }
+    }
+
+    protected final void finish(final Event event) {
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = null;
+        }
+    }
+
+    static RegisteredListener<?>[] toArray(final List<RegisteredListener<?>> listeners) {
+        return listeners.toArray(new RegisteredListener<?>[0]);
+    }
+
+}
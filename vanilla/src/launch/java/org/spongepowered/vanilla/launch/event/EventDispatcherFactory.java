@@ -0,0 +1,326 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.launch.event;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.ATHROW;
+import static org.objectweb.asm.Opcodes.BIPUSH;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.SIPUSH;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.gen.DefineableClassLoader;
+import org.spongepowered.common.event.tracking.PhaseContext;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates an {@link EventDispatcher} for every baked {@link EventType}.
+ *
+ * <p>Each dispatcher class is defined in its own class loader, so it can be
+ * unloaded again once the listener cache of its event type is rebaked.</p>
+ */
+public final class EventDispatcherFactory {
+
+    /**
+     * Above this amount of listeners the unrolled dispatch method risks
+     * exceeding the maximum method size, the plain loop is used instead.
+     */
+    static final int MAX_UNROLLED_LISTENERS = 256;
+
+    private static final String BASE_DISPATCHER = Type.getInternalName(EventDispatcher.class);
+    private static final String EVENT = Type.getInternalName(Event.class);
+    private static final String LISTENER = Type.getInternalName(EventListener.class);
+    private static final String LISTENER_DESCRIPTOR = Type.getDescriptor(EventListener.class);
+    private static final String LISTENERS_DESCRIPTOR = Type.getDescriptor(RegisteredListener[].class);
+    private static final String FRAME_DESCRIPTOR = Type.getDescriptor(CauseStackManager.StackFrame.class);
+    private static final String CONTEXT_DESCRIPTOR = Type.getDescriptor(PhaseContext.class);
+
+    private final AtomicInteger id = new AtomicInteger();
+    private final String targetPackage;
+    private final ClassLoader parent;
+
+    public EventDispatcherFactory(final String targetPackage, final ClassLoader parent) {
+        this.targetPackage = targetPackage + '.';
+        this.parent = parent;
+    }
+
+    /**
+     * Creates a dispatcher for the given, already sorted, listeners.
+     *
+     * @param eventType The event type the listeners were baked for
+     * @param listeners The sorted listeners
+     * @return The dispatcher, or null if the listeners should be called through
+     *     the plain dispatch loop instead
+     */
+    public @Nullable EventDispatcher create(final EventType<?> eventType, final List<RegisteredListener<?>> listeners) {
+        if (listeners.isEmpty()) {
+            return EventDispatcher.EMPTY;
+        }
+        if (listeners.size() > EventDispatcherFactory.MAX_UNROLLED_LISTENERS) {
+            return null;
+        }
+        final String name = this.targetPackage + eventType.getType().getSimpleName() + "Dispatcher_" + this.id.incrementAndGet();
+        try {
+            final byte[] bytes = EventDispatcherFactory.generateClass(name, listeners);
+            final Class<? extends EventDispatcher> clazz = new DefineableClassLoader(this.parent).defineClass(name, bytes);
+            return clazz.getConstructor(RegisteredListener[].class).newInstance((Object) EventDispatcher.toArray(listeners));
+        } catch (final Exception | LinkageError e) {
+            SpongeCommon.logger().error("Failed to generate event dispatcher for {}, falling back to the dispatch loop", eventType, e);
+            return null;
+        }
+    }
+
+    private static void visitPushInt(final MethodVisitor mv, final int value) {
+        if (value <= 5) {
+            mv.visitInsn(ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(BIPUSH, value);
+        } else {
+            mv.visitIntInsn(SIPUSH, value);
+        }
+    }
+
+    private static void visitEnter(final MethodVisitor mv, final String name, final int index) {
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ILOAD, 2);
+        EventDispatcherFactory.visitPushInt(mv, index);
+        mv.visitMethodInsn(INVOKEVIRTUAL, name, "pushFrame", "(ZI)" + EventDispatcherFactory.FRAME_DESCRIPTOR, false);
+        mv.visitVarInsn(ASTORE, 4);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ILOAD, 2);
+        EventDispatcherFactory.visitPushInt(mv, index);
+        mv.visitMethodInsn(INVOKEVIRTUAL, name, "enterContext", "(ZI)" + EventDispatcherFactory.CONTEXT_DESCRIPTOR, false);
+        mv.visitVarInsn(ASTORE, 5);
+    }
+
+    private static void visitExit(final MethodVisitor mv, final String name) {
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 4);
+        mv.visitVarInsn(ALOAD, 5);
+        EventDispatcherFactory.visitClearFrame(mv);
+        mv.visitMethodInsn(INVOKEVIRTUAL, name, "exitListener",
+            '(' + EventDispatcherFactory.FRAME_DESCRIPTOR + EventDispatcherFactory.CONTEXT_DESCRIPTOR + ")V", false);
+    }
+
+    // Clears the frame and context locals once they are on the stack, so they are never closed twice
+    private static void visitClearFrame(final MethodVisitor mv) {
+        mv.visitInsn(ACONST_NULL);
+        mv.visitVarInsn(ASTORE, 4);
+        mv.visitInsn(ACONST_NULL);
+        mv.visitVarInsn(ASTORE, 5);
+    }
+
+    private static byte[] generateClass(String name, final List<RegisteredListener<?>> listeners) {
+        name = name.replace('.', '/');
+
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V1_8, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, EventDispatcherFactory.BASE_DISPATCHER, null);
+        for (int i = 0; i < listeners.size(); i++) {
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, "listener" + i, EventDispatcherFactory.LISTENER_DESCRIPTOR, null, null).visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", '(' + EventDispatcherFactory.LISTENERS_DESCRIPTOR + ")V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESPECIAL, EventDispatcherFactory.BASE_DISPATCHER, "<init>",
+                '(' + EventDispatcherFactory.LISTENERS_DESCRIPTOR + ")V", false);
+            for (int i = 0; i < listeners.size(); i++) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                EventDispatcherFactory.visitPushInt(mv, i);
+                mv.visitMethodInsn(INVOKESTATIC, EventDispatcherFactory.BASE_DISPATCHER, "listener",
+                    '(' + EventDispatcherFactory.LISTENERS_DESCRIPTOR + "I)" + EventDispatcherFactory.LISTENER_DESCRIPTOR, false);
+                mv.visitFieldInsn(PUTFIELD, name, "listener" + i, EventDispatcherFactory.LISTENER_DESCRIPTOR);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            // Locals: 0 this, 1 event, 2 tracked, 3 timed, 4 frame, 5 context, 6 throwable
+            mv = cw.visitMethod(ACC_PUBLIC, "dispatch", "(L" + EventDispatcherFactory.EVENT + ";ZZ)V", null, null);
+            mv.visitCode();
+
+            // Nested try blocks have to come first in the exception table, so all of them are visited up front:
+            // the listener call itself, the listener with its setup and the whole dispatch to always finish
+            final int size = listeners.size();
+            final Label[] callStart = new Label[size];
+            final Label[] callEnd = new Label[size];
+            final Label[] callHandler = new Label[size];
+            final Label[] start = new Label[size];
+            final Label[] end = new Label[size];
+            final Label[] handler = new Label[size];
+            for (int i = 0; i < size; i++) {
+                callStart[i] = new Label();
+                callEnd[i] = new Label();
+                callHandler[i] = new Label();
+                start[i] = new Label();
+                end[i] = new Label();
+                handler[i] = new Label();
+                mv.visitTryCatchBlock(callStart[i], callEnd[i], callHandler[i], "java/lang/Throwable");
+                mv.visitTryCatchBlock(start[i], end[i], handler[i], "java/lang/Throwable");
+            }
+            final Label dispatchStart = new Label();
+            final Label dispatchEnd = new Label();
+            final Label dispatchHandler = new Label();
+            mv.visitTryCatchBlock(dispatchStart, dispatchEnd, dispatchHandler, null);
+
+            mv.visitInsn(ACONST_NULL);
+            mv.visitVarInsn(ASTORE, 4);
+            mv.visitInsn(ACONST_NULL);
+            mv.visitVarInsn(ASTORE, 5);
+            mv.visitLabel(dispatchStart);
+            for (int i = 0; i < size; i++) {
+                final RegisteredListener<?> listener = listeners.get(i);
+                final boolean startsRun = i == 0 || listeners.get(i - 1).getPlugin() != listener.getPlugin();
+                final boolean endsRun = i == size - 1 || listeners.get(i + 1).getPlugin() != listener.getPlugin();
+                final boolean changesOrder = i == 0 || listeners.get(i - 1).getOrder() != listener.getOrder();
+
+                mv.visitLabel(start[i]);
+                if (startsRun) {
+                    EventDispatcherFactory.visitEnter(mv, name, i);
+                } else {
+                    // The frame and context of the previous listener are only reused if it left them untouched
+                    final Label reuse = new Label();
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitVarInsn(ILOAD, 2);
+                    mv.visitVarInsn(ALOAD, 4);
+                    mv.visitVarInsn(ALOAD, 5);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, name, "canReuse",
+                        "(Z" + EventDispatcherFactory.FRAME_DESCRIPTOR + EventDispatcherFactory.CONTEXT_DESCRIPTOR + ")Z", false);
+                    mv.visitJumpInsn(IFNE, reuse);
+                    EventDispatcherFactory.visitExit(mv, name);
+                    EventDispatcherFactory.visitEnter(mv, name, i);
+                    mv.visitLabel(reuse);
+                }
+                if (changesOrder) {
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitVarInsn(ALOAD, 1);
+                    EventDispatcherFactory.visitPushInt(mv, i);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, name, "applyOrder", "(L" + EventDispatcherFactory.EVENT + ";I)V", false);
+                }
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ILOAD, 3);
+                EventDispatcherFactory.visitPushInt(mv, i);
+                mv.visitMethodInsn(INVOKEVIRTUAL, name, "beforeListener", "(ZI)V", false);
+
+                final Label called = new Label();
+                mv.visitLabel(callStart[i]);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, name, "listener" + i, EventDispatcherFactory.LISTENER_DESCRIPTOR);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitMethodInsn(INVOKEINTERFACE, EventDispatcherFactory.LISTENER, "handle", "(L" + EventDispatcherFactory.EVENT + ";)V", true);
+                mv.visitLabel(callEnd[i]);
+                mv.visitJumpInsn(GOTO, called);
+                mv.visitLabel(callHandler[i]);
+                mv.visitVarInsn(ASTORE, 6);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                EventDispatcherFactory.visitPushInt(mv, i);
+                mv.visitVarInsn(ALOAD, 6);
+                mv.visitMethodInsn(INVOKEVIRTUAL, name, "handleFailure", "(L" + EventDispatcherFactory.EVENT + ";ILjava/lang/Throwable;)V", false);
+                mv.visitLabel(called);
+
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ILOAD, 3);
+                EventDispatcherFactory.visitPushInt(mv, i);
+                mv.visitMethodInsn(INVOKEVIRTUAL, name, "afterListener", "(ZI)V", false);
+                if (endsRun) {
+                    EventDispatcherFactory.visitExit(mv, name);
+                }
+                mv.visitLabel(end[i]);
+
+                // Anything failing around the listener call is logged like a failing listener, its frame
+                // and context are closed so the next listener enters them again
+                final Label next = new Label();
+                mv.visitJumpInsn(GOTO, next);
+                mv.visitLabel(handler[i]);
+                mv.visitVarInsn(ASTORE, 6);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                EventDispatcherFactory.visitPushInt(mv, i);
+                mv.visitVarInsn(ALOAD, 6);
+                mv.visitVarInsn(ALOAD, 4);
+                mv.visitVarInsn(ALOAD, 5);
+                EventDispatcherFactory.visitClearFrame(mv);
+                mv.visitMethodInsn(INVOKEVIRTUAL, name, "recover", "(L" + EventDispatcherFactory.EVENT + ";ILjava/lang/Throwable;"
+                    + EventDispatcherFactory.FRAME_DESCRIPTOR + EventDispatcherFactory.CONTEXT_DESCRIPTOR + ")V", false);
+                mv.visitLabel(next);
+            }
+            mv.visitLabel(dispatchEnd);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKEVIRTUAL, name, "finish", "(L" + EventDispatcherFactory.EVENT + ";)V", false);
+            mv.visitInsn(RETURN);
+
+            mv.visitLabel(dispatchHandler);
+            mv.visitVarInsn(ASTORE, 6);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitVarInsn(ALOAD, 4);
+            mv.visitVarInsn(ALOAD, 5);
+            mv.visitMethodInsn(INVOKEVIRTUAL, name, "abort",
+                "(L" + EventDispatcherFactory.EVENT + ";" + EventDispatcherFactory.FRAME_DESCRIPTOR + EventDispatcherFactory.CONTEXT_DESCRIPTOR + ")V", false);
+            mv.visitVarInsn(ALOAD, 6);
+            mv.visitInsn(ATHROW);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+}
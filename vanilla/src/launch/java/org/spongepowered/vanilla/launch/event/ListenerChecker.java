@@ -27,15 +27,21 @@
 import com.google.common.base.CaseFormat;
 import io.leangen.geantyref.GenericTypeReflector;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.filter.SubtypeFilter;
 import org.spongepowered.configurate.util.Types;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -48,6 +54,7 @@ public final class ListenerChecker {
     private final Class<?> clazz;
     private Map<String, FieldData> fields = new HashMap<>();
     private Map<Class<?>, FieldData> fieldClassMap = new IdentityHashMap<>();
+    private @Nullable Set<Class<?>> factoryEvents;
 
     private static String getName(Class<?> clazz) {
         // Properly account for inner classes. Class#getName uses a $
@@ -59,20 +66,35 @@ private static String getName(Class<?> clazz) {
 
     public ListenerChecker(Class<?> clazz) {
         this.clazz = clazz;
+        @Nullable Map<String, Class<?>> eventsByName = null;
         for (Field field: this.clazz.getDeclaredFields()) {
             if (Modifier.isStatic(field.getModifiers()) && Modifier.isPublic(field.getModifiers())) {
+                // Generated flags carry their event, so names are only ever resolved by the generator
+                final ShouldFire.@Nullable Flag flag = field.getAnnotation(ShouldFire.Flag.class);
+                final @Nullable Class<?> eventClass;
+                if (flag != null) {
+                    eventClass = flag.value();
+                } else {
+                    if (eventsByName == null) {
+                        eventsByName = ListenerChecker.collectEventsByName();
+                    }
+                    eventClass = eventsByName.get(field.getName());
+                }
+                if (eventClass == null) {
+                    // Never leave a flag turned off for an event we can't track the listeners of
+                    SpongeCommon.logger().warn("ShouldFire field {} does not correspond to exactly one SpongeAPI event, it will always be true. "
+                        + "Check that the field is written in UPPER_CASE_UNDERSCORE format.", field);
+                    ListenerChecker.forceTrue(field);
+                    continue;
+                }
                 FieldData data = new FieldData(field);
-                this.fieldClassMap.put(this.getClassForField(field), data);
+                this.fieldClassMap.put(eventClass, data);
                 this.fields.put(field.getName(), data);
                 if (ListenerChecker.ALL_TRUE) {
                     if (ListenerChecker.DEBUG) {
                         System.err.println(String.format("Forcing field %s to true!", field.getName()));
                     }
-                    try {
-                        field.set(null, true);
-                    } catch (IllegalAccessException e) {
-                        e.printStackTrace();
-                    }
+                    ListenerChecker.forceTrue(field);
                 }
             } else {
                 throw new IllegalStateException(String.format("ShouldFire field %s must be public and static!", field));
@@ -80,39 +102,109 @@ public ListenerChecker(Class<?> clazz) {
         }
     }
 
-    public <T> void registerListenerFor(Class<T> eventClass) {
-        this.updateFields(eventClass, true);
+    private static void forceTrue(final Field field) {
+        try {
+            field.set(null, true);
+        } catch (IllegalAccessException e) {
+            e.printStackTrace();
+        }
     }
 
-    public <T> void unregisterListenerFor(Class<T> eventClass) {
-        this.updateFields(eventClass, false);
+    /**
+     * Maps the flag names of all events which can be created through
+     * {@link SpongeEventFactory}, and all their super-events, to the event class.
+     * This is only used for flags which weren't generated, and follows the same
+     * rule as the generator: names shared by different events can't be mapped
+     * to a single event and are left out.
+     *
+     * @return The events by flag name
+     */
+    private static Map<String, Class<?>> collectEventsByName() {
+        // Not all fields will directly correspond to an event in SpongeEventFactory.
+        // For example, SpongeEventFactory has no method to create a ChangeBlockEvent,
+        // (only methods for its subtypes), but ShouldFire.CHANGE_BLOCK_EVENT exists, and is valid
+        // Therefore, we check all superinterfaces of each listed event.
+        final Map<String, Class<?>> eventsByName = new HashMap<>();
+        final Set<String> ambiguous = new HashSet<>();
+        final Set<Class<?>> seen = new ReferenceOpenHashSet<>();
+        for (final Method eventMethod : SpongeEventFactory.class.getMethods()) {
+            Types.allSuperTypesAndInterfaces(eventMethod.getGenericReturnType())
+                .map(GenericTypeReflector::erase)
+                .filter(seen::add)
+                .forEach(eventType -> {
+                    final String name = ListenerChecker.getName(eventType);
+                    final @Nullable Class<?> existing = eventsByName.putIfAbsent(name, eventType);
+                    if (existing != null && existing != eventType) {
+                        ambiguous.add(name);
+                    }
+                });
+        }
+        eventsByName.keySet().removeAll(ambiguous);
+        return eventsByName;
+    }
+
+    /**
+     * Gets the event types which can be created through
+     * {@link SpongeEventFactory}, these are the concrete events the
+     * implementation fires.
+     *
+     * @return The event types
+     */
+    private static Set<Class<?>> collectFactoryEvents() {
+        final Set<Class<?>> events = new ReferenceOpenHashSet<>();
+        for (final Method eventMethod : SpongeEventFactory.class.getMethods()) {
+            events.add(GenericTypeReflector.erase(eventMethod.getGenericReturnType()));
+        }
+        return events;
     }
 
-    private Class<?> getClassForField(final Field field) {
-        final String name = field.getName();
-
-        final Method[] methods = SpongeEventFactory.class.getMethods();
-        for (final Method eventMethod : methods) {
-            // Not all fields will directly correspond to an event in SpongeEventFactory.
-            // For example, SpongeEventFactory has no method to create a ChangeBlockEvent,
-            // (only methods for its subtypes), but ShouldFire.CHANGE_BLOCK_EVENT exists, and is valid
-            // Therefore, we check all superinterfaces of each listed event.
-            final Class<?> possibleType = Types.allSuperTypesAndInterfaces(eventMethod.getGenericReturnType())
-                    .map(GenericTypeReflector::erase)
-                    .filter(eventType -> {
-                        final String eventMethodName = ListenerChecker.getName(eventType);
-                        return name.equals(eventMethodName);
-                    })
-                    .findFirst().orElse(null);
-
-            if (possibleType != null) {
-                return possibleType;
+    /**
+     * Gets the concrete events which can be fired for the flag of the given
+     * type: the type itself and all the events created through
+     * {@link SpongeEventFactory} implementing it.
+     *
+     * @param data The flag
+     * @param eventType The event type of the flag
+     * @return The concrete events
+     */
+    private List<Class<?>> concreteEvents(final FieldData data, final Class<?> eventType) {
+        if (data.concreteEvents == null) {
+            if (this.factoryEvents == null) {
+                this.factoryEvents = ListenerChecker.collectFactoryEvents();
             }
+            final List<Class<?>> events = new ArrayList<>();
+            events.add(eventType);
+            for (final Class<?> event : this.factoryEvents) {
+                if (event != eventType && eventType.isAssignableFrom(event)) {
+                    events.add(event);
+                }
+            }
+            data.concreteEvents = events;
         }
-        throw new IllegalStateException(String.format("ShouldFire field %s does not correspond to any SpongeAPI event! Check that the field is written in UPPER_CASE_UNDERSCORE format.", field));
+        return data.concreteEvents;
+    }
+
+    public <T> void registerListenerFor(Class<T> eventClass) {
+        this.updateFields(eventClass, null, true);
+    }
+
+    public <T> void registerListenerFor(Class<T> eventClass, @Nullable SubtypeFilter subtypeFilter) {
+        this.updateFields(eventClass, subtypeFilter, true);
+    }
+
+    public <T> void unregisterListenerFor(Class<T> eventClass) {
+        this.updateFields(eventClass, null, false);
+    }
+
+    public <T> void unregisterListenerFor(Class<T> eventClass, @Nullable SubtypeFilter subtypeFilter) {
+        this.updateFields(eventClass, subtypeFilter, false);
     }
 
     public <T> void updateFields(Class<? super T> eventClass, boolean registering) {
+        this.updateFields(eventClass, null, registering);
+    }
+
+    public <T> void updateFields(Class<? super T> eventClass, @Nullable SubtypeFilter subtypeFilter, boolean registering) {
         if (ListenerChecker.ALL_TRUE) {
             return;
         }
@@ -168,6 +260,18 @@ public <T> void updateFields(Class<? super T> eventClass, boolean registering) {
                 continue;
             }
 
+            // A listener with an @Include or @Exclude filter never receives the
+            // subtypes it filters out, so we don't fan out to those either. The
+            // flags of the listened type and its supertypes are always touched.
+            // An event can implement types from other hierarchies, for example
+            // DropItemEvent.Dispense is also a SpawnEntityEvent, so the filter
+            // is tested against every concrete event of a flag with all of its
+            // supertypes, not just against the type of the flag.
+            if (subtypeFilter != null && entry.getKey() != eventClass && eventClass.isAssignableFrom(entry.getKey())
+                && !subtypeFilter.mayMatch(this.concreteEvents(entry.getValue(), entry.getKey()))) {
+                continue;
+            }
+
             entry.getValue().update(registering);
         }
     }
@@ -175,6 +279,7 @@ public <T> void updateFields(Class<? super T> eventClass, boolean registering) {
     private static class FieldData {
         Field field;
         int listenerCount = 0;
+        @Nullable List<Class<?>> concreteEvents;
 
         FieldData(Field field) {
             this.field = field;
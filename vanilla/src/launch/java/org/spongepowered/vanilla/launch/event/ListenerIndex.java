@@ -0,0 +1,154 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.launch.event;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.configurate.util.Types;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A copy-on-write index of all registered listeners by their raw event type.
+ *
+ * <p>Reads never lock, every modification publishes a new snapshot of the
+ * index. Modifications have to be externally synchronized.</p>
+ */
+final class ListenerIndex {
+
+    private volatile Map<Class<?>, List<RegisteredListener<?>>> listenersByType = Collections.emptyMap();
+    private final Map<Class<?>, Set<Class<?>>> superTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Gets all the listeners which are registered for exactly the given type.
+     *
+     * @param type The raw event type
+     * @return The listeners
+     */
+    List<RegisteredListener<?>> get(final Class<?> type) {
+        return this.listenersByType.getOrDefault(type, Collections.emptyList());
+    }
+
+    /**
+     * Gets the event type itself and all of its super types which are events,
+     * the result is computed once for every event class.
+     *
+     * @param eventType The event type
+     * @return The event super types
+     */
+    Set<Class<?>> superTypes(final Class<?> eventType) {
+        return this.superTypes.computeIfAbsent(eventType, type -> Collections.unmodifiableSet(Types.allSuperTypesAndInterfaces(type)
+            .map(GenericTypeReflector::erase)
+            .filter(Event.class::isAssignableFrom)
+            .collect(Collectors.toCollection(LinkedHashSet::new))));
+    }
+
+    /**
+     * Adds the given listeners to the index.
+     *
+     * @param listeners The listeners to add
+     * @return The listeners which weren't registered before
+     */
+    List<RegisteredListener<?>> addAll(final Collection<? extends RegisteredListener<?>> listeners) {
+        final Map<Class<?>, List<RegisteredListener<?>>> current = this.listenersByType;
+        final Map<Class<?>, List<RegisteredListener<?>>> modified = new HashMap<>();
+        // Listeners don't override equals, an identity set avoids a linear search per added listener
+        final Set<RegisteredListener<?>> present = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<RegisteredListener<?>> added = new ArrayList<>();
+        for (final RegisteredListener<?> listener : listeners) {
+            final Class<?> type = listener.getEventType().getType();
+            final List<RegisteredListener<?>> list = modified.computeIfAbsent(type, key -> {
+                final List<RegisteredListener<?>> existing = current.getOrDefault(key, Collections.emptyList());
+                present.addAll(existing);
+                return new ArrayList<>(existing);
+            });
+            if (present.add(listener)) {
+                list.add(listener);
+                added.add(listener);
+            }
+        }
+        if (!added.isEmpty()) {
+            this.publish(current, modified);
+        }
+        return added;
+    }
+
+    /**
+     * Removes all the listeners matching the given predicate from the index.
+     *
+     * @param predicate The predicate
+     * @return The removed listeners
+     */
+    List<RegisteredListener<?>> removeIf(final Predicate<RegisteredListener<?>> predicate) {
+        final Map<Class<?>, List<RegisteredListener<?>>> current = this.listenersByType;
+        final Map<Class<?>, List<RegisteredListener<?>>> modified = new HashMap<>();
+        final List<RegisteredListener<?>> removed = new ArrayList<>();
+        for (final Map.Entry<Class<?>, List<RegisteredListener<?>>> entry : current.entrySet()) {
+            final List<RegisteredListener<?>> listeners = entry.getValue();
+            final int removedBefore = removed.size();
+            final List<RegisteredListener<?>> list = new ArrayList<>(listeners.size());
+            // Filter in a single pass instead of removing every match from a copy
+            for (final RegisteredListener<?> listener : listeners) {
+                if (predicate.test(listener)) {
+                    removed.add(listener);
+                } else {
+                    list.add(listener);
+                }
+            }
+            if (removed.size() != removedBefore) {
+                modified.put(entry.getKey(), list);
+            }
+        }
+        if (!removed.isEmpty()) {
+            this.publish(current, modified);
+        }
+        return removed;
+    }
+
+    private void publish(final Map<Class<?>, List<RegisteredListener<?>>> current,
+        final Map<Class<?>, List<RegisteredListener<?>>> modified) {
+        final Map<Class<?>, List<RegisteredListener<?>>> next = new HashMap<>(current);
+        for (final Map.Entry<Class<?>, List<RegisteredListener<?>>> entry : modified.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                next.remove(entry.getKey());
+            } else {
+                next.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+            }
+        }
+        this.listenersByType = next;
+    }
+
+}
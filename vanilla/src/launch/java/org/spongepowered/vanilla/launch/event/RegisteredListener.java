@@ -28,11 +28,14 @@
 
 import co.aikar.timings.Timing;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Order;
 import co.aikar.timings.sponge.SpongeTimings;
+import org.spongepowered.common.event.AsyncSafe;
 import org.spongepowered.common.event.SpongeEventListener;
+import org.spongepowered.common.event.filter.SubtypeFilter;
 import org.spongepowered.plugin.PluginContainer;
 
 import java.util.ArrayList;
@@ -50,14 +53,19 @@
     private final EventListener<? super T> listener;
 
     private final boolean beforeModifications;
+    private final @Nullable SubtypeFilter subtypeFilter;
+    private final boolean asyncSafe;
     private Timing listenerTimer;
 
-    RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
+    RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications,
+            @Nullable SubtypeFilter subtypeFilter, boolean asyncSafe) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventType = checkNotNull(eventType, "eventType");
         this.order = checkNotNull(order, "order");
         this.listener = checkNotNull(listener, "listener");
         this.beforeModifications = beforeModifications;
+        this.subtypeFilter = subtypeFilter;
+        this.asyncSafe = asyncSafe;
     }
 
     public PluginContainer getPlugin() {
@@ -76,6 +84,31 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    public @Nullable SubtypeFilter getSubtypeFilter() {
+        return this.subtypeFilter;
+    }
+
+    /**
+     * Gets whether this listener may be called off the main thread by
+     * {@link VanillaEventManager#postAsync(Event)}.
+     *
+     * @return Whether the listener is {@link AsyncSafe}
+     */
+    public boolean isAsyncSafe() {
+        return this.asyncSafe;
+    }
+
+    /**
+     * Gets whether events of the given concrete class pass the
+     * {@link SubtypeFilter} of this listener.
+     *
+     * @param eventClass The concrete event class
+     * @return Whether the listener receives events of the class
+     */
+    public boolean accepts(Class<?> eventClass) {
+        return this.subtypeFilter == null || this.subtypeFilter.test(eventClass);
+    }
+
     public Timing getTimingsHandler() {
         if (this.listenerTimer == null) {
             this.listenerTimer = SpongeTimings.getPluginTimings(this.plugin, this.getHandle().getClass().getSimpleName());
@@ -83,6 +116,10 @@ public Timing getTimingsHandler() {
         return this.listenerTimer;
     }
 
+    EventListener<? super T> getListener() {
+        return this.listener;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -106,9 +143,11 @@ public static final class Cache {
 
         private final List<RegisteredListener<?>> listeners;
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        private final @Nullable EventDispatcher dispatcher;
 
-        Cache(List<RegisteredListener<?>> listeners) {
+        Cache(List<RegisteredListener<?>> listeners, @Nullable EventDispatcher dispatcher) {
             this.listeners = listeners;
+            this.dispatcher = dispatcher;
 
             this.listenersByOrder = new EnumMap<>(Order.class);
             for (RegisteredListener<?> handler : listeners) {
@@ -121,6 +160,16 @@ public List<RegisteredListener<?>> getListeners() {
             return this.listeners;
         }
 
+        /**
+         * Gets the generated dispatcher for the listeners of this cache.
+         *
+         * @return The dispatcher, or null if the listeners have to be called
+         *     through the plain dispatch loop
+         */
+        public @Nullable EventDispatcher getDispatcher() {
+            return this.dispatcher;
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             final List<RegisteredListener<?>> list = this.listenersByOrder.get(checkNotNull(order, "order"));
             if (list == null) {
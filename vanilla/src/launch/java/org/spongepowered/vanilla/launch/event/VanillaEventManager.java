@@ -25,11 +25,8 @@
 package org.spongepowered.vanilla.launch.event;
 
 import co.aikar.timings.Timing;
+import co.aikar.timings.Timings;
 import co.aikar.timings.sponge.TimingsManager;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import com.google.inject.Singleton;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
@@ -47,84 +44,76 @@
 import org.spongepowered.api.event.item.inventory.container.InteractContainerEvent;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.bridge.world.inventory.container.ContainerBridge;
+import org.spongepowered.common.event.AsyncSafe;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.event.filter.FilterFactory;
+import org.spongepowered.common.event.filter.SubtypeFilter;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseStateProfiler;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.EventListenerPhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.common.util.EngineUtil;
 import org.spongepowered.common.util.TypeTokenUtil;
-import org.spongepowered.configurate.util.Types;
 import org.spongepowered.plugin.PluginContainer;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Singleton
 public final class VanillaEventManager implements SpongeEventManager {
 
+    // Allows comparing the generated dispatchers against the plain dispatch loop
+    private static final String GENERATE_DISPATCHERS_PROPERTY = "sponge.event.generateDispatchers";
+
     public final ListenerChecker checker;
     private final Object lock;
-    private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent;
+    private final ListenerIndex index;
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Posting reads the cache without locking. Registering or unregistering
+     * listeners eagerly rebakes only the event types which have one of the
+     * changed listener types as a super type, tracked by {@link #dependentTypes}.</p>
+     */
+    protected final Map<EventType<?>, RegisteredListener.Cache> handlersCache = new ConcurrentHashMap<>(150, 0.75f, 1);
+    /**
+     * All baked event types, by each of their event super types. Guarded by
+     * {@link #lock}.
      */
-    protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
-        Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    private final Map<Class<?>, Set<EventType<?>>> dependentTypes;
     private final Map<ClassLoader, AnnotatedEventListener.Factory> classLoaders;
     private final Set<Object> registeredListeners;
+    private final @Nullable EventDispatcherFactory dispatcherFactory;
+    private final AsyncEventLane asyncLane;
 
     public VanillaEventManager() {
         this.lock = new Object();
-        this.handlersByEvent = HashMultimap.create();
+        this.index = new ListenerIndex();
+        this.dependentTypes = new HashMap<>();
         this.classLoaders = new IdentityHashMap<>();
         this.registeredListeners = new ReferenceOpenHashSet<>();
         this.checker = new ListenerChecker(ShouldFire.class);
-
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            final Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            final Object innerCacheValue = innerCache.get(this.handlersCache);
-            final Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            final Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            final ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData =
-                new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            SpongeCommon.logger().warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            SpongeCommon.logger().warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
-        }
+        this.dispatcherFactory = Boolean.parseBoolean(System.getProperty(VanillaEventManager.GENERATE_DISPATCHERS_PROPERTY, "true"))
+            ? new EventDispatcherFactory("org.spongepowered.common.event.dispatcher", VanillaEventManager.class.getClassLoader())
+            : null;
+        this.asyncLane = new AsyncEventLane(this::post);
     }
 
     private static @Nullable String getHandlerErrorOrNull(Method method) {
@@ -156,49 +145,84 @@ public VanillaEventManager() {
     }
 
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventClass,
-        final Listener listener, final EventListener<? super T> handler) {
-        return VanillaEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), handler);
+        final Listener listener, final @Nullable SubtypeFilter subtypeFilter, final boolean asyncSafe, final EventListener<? super T> handler) {
+        return VanillaEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), subtypeFilter,
+            asyncSafe, handler);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
-        final Order order, final boolean beforeModifications, final EventListener<? super T> handler) {
+        final Order order, final boolean beforeModifications, final @Nullable SubtypeFilter subtypeFilter, final boolean asyncSafe,
+        final EventListener<? super T> handler) {
         Type genericType = null;
         final Class<?> erased = GenericTypeReflector.erase(eventType);
         if (GenericEvent.class.isAssignableFrom(erased)) {
             genericType = TypeTokenUtil.typeArgumentFromSupertype(eventType, GenericEvent.class, 0);
         }
-        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications);
+        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications, subtypeFilter, asyncSafe);
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType) {
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
-        final Stream<? extends Class<?>> types = Types.allSuperTypesAndInterfaces(eventType.getType())
-            .map(GenericTypeReflector::erase)
-            .filter(Event.class::isAssignableFrom);
 
-        // TODO: Move @Includes and @Excludes from filters to the baking process, this simplifies the generated
-        //       filter code and makes the filter baking target more specific handlers.
-        synchronized (this.lock) {
-            for (final Iterator<? extends Class<?>> it = types.iterator(); it.hasNext(); ) {
-                final Class<?> type = it.next();
-                final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
-                if (GenericEvent.class.isAssignableFrom(type)) {
-                    final Type genericType = Objects.requireNonNull(eventType.getGenericType());
-                    for (final RegisteredListener<?> listener : listeners) {
-                        final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
-                        if (TypeTokenUtil.isAssignable(genericType, genericType1)) {
-                            handlers.add(listener);
-                        }
+        // @Include and @Exclude only depend on the event class, listeners which
+        // would always filter out the event are never baked into its handlers.
+        final Class<T> eventClass = eventType.getType();
+        for (final Class<?> type : this.index.superTypes(eventClass)) {
+            final List<RegisteredListener<?>> listeners = this.index.get(type);
+            if (GenericEvent.class.isAssignableFrom(type)) {
+                final Type genericType = Objects.requireNonNull(eventType.getGenericType());
+                for (final RegisteredListener<?> listener : listeners) {
+                    final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
+                    if (TypeTokenUtil.isAssignable(genericType, genericType1) && listener.accepts(eventClass)) {
+                        handlers.add(listener);
+                    }
+                }
+            } else {
+                for (final RegisteredListener<?> listener : listeners) {
+                    if (listener.accepts(eventClass)) {
+                        handlers.add(listener);
                     }
-                } else {
-                    handlers.addAll(listeners);
                 }
             }
         }
 
         Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+        return new RegisteredListener.Cache(handlers, this.dispatcherFactory == null ? null : this.dispatcherFactory.create(eventType, handlers));
+    }
+
+    private RegisteredListener.Cache bakeAndCacheHandlers(final EventType<?> eventType) {
+        synchronized (this.lock) {
+            RegisteredListener.Cache cache = this.handlersCache.get(eventType);
+            if (cache == null) {
+                cache = this.bakeHandlers(eventType);
+                for (final Class<?> type : this.index.superTypes(eventType.getType())) {
+                    this.dependentTypes.computeIfAbsent(type, key -> new HashSet<>()).add(eventType);
+                }
+                this.handlersCache.put(eventType, cache);
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Rebakes all the cached event types which can be affected by
+     * listeners of the given types. Must be called while holding
+     * the {@link #lock}.
+     *
+     * @param changed The changed listeners
+     */
+    private void rebakeHandlers(final List<RegisteredListener<?>> changed) {
+        final Set<EventType<?>> affected = new HashSet<>();
+        for (final RegisteredListener<?> listener : changed) {
+            final Set<EventType<?>> dependents = this.dependentTypes.get(listener.getEventType().getType());
+            if (dependents != null) {
+                affected.addAll(dependents);
+            }
+        }
+        for (final EventType<?> eventType : affected) {
+            this.handlersCache.put(eventType, this.bakeHandlers(eventType));
+        }
     }
 
     private void register(final RegisteredListener<? extends Event> handler) {
@@ -206,20 +230,12 @@ private void register(final RegisteredListener<? extends Event> handler) {
     }
 
     private void register(final List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
-
         synchronized (this.lock) {
-            for (RegisteredListener<?> handler : handlers) {
-                final Class<?> raw = handler.getEventType().getType();
-                if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
-                    this.checker.registerListenerFor(raw);
-                }
+            final List<RegisteredListener<?>> added = this.index.addAll(handlers);
+            for (final RegisteredListener<?> handler : added) {
+                this.checker.registerListenerFor(handler.getEventType().getType(), handler.getSubtypeFilter());
             }
-        }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            this.rebakeHandlers(added);
         }
     }
 
@@ -255,14 +271,17 @@ private void registerListener(final PluginContainer plugin, final Object listene
                 if (error == null) {
                     final Type eventType = method.getGenericParameterTypes()[0];
                     final AnnotatedEventListener handler;
+                    final @Nullable SubtypeFilter subtypeFilter;
                     try {
+                        subtypeFilter = SubtypeFilter.of(method);
                         handler = handlerFactory.create(listenerObject, method);
                     } catch (final Exception e) {
                         SpongeCommon.logger().error("Failed to create handler for {} on {}", method, handle, e);
                         continue;
                     }
 
-                    handlers.add(VanillaEventManager.createRegistration(plugin, eventType, listener, handler));
+                    final boolean asyncSafe = method.isAnnotationPresent(AsyncSafe.class) || handle.isAnnotationPresent(AsyncSafe.class);
+                    handlers.add(VanillaEventManager.createRegistration(plugin, eventType, listener, subtypeFilter, asyncSafe, handler));
                 } else {
                     methodErrors.put(method, error);
                 }
@@ -328,27 +347,18 @@ public <T extends Event> void registerListener(final PluginContainer plugin, fin
     @Override
     public <T extends Event> void registerListener(final PluginContainer plugin, final TypeToken<T> eventType, final Order order,
         final boolean beforeModifications, final EventListener<? super T> listener) {
-        this.register(VanillaEventManager.createRegistration(plugin, eventType.getType(), order, beforeModifications, listener));
+        this.register(VanillaEventManager.createRegistration(plugin, eventType.getType(), order, beforeModifications, null,
+            listener.getClass().isAnnotationPresent(AsyncSafe.class), listener));
     }
 
     private void unregister(final Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
-
         synchronized (this.lock) {
-            final Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
-            while (itr.hasNext()) {
-                final RegisteredListener<?> handler = itr.next();
-                if (unregister.test(handler)) {
-                    itr.remove();
-                    changed = true;
-                    this.checker.unregisterListenerFor(handler.getEventType().getType());
-                    this.registeredListeners.remove(handler.getHandle());
-                }
+            final List<RegisteredListener<?>> removed = this.index.removeIf(unregister);
+            for (final RegisteredListener<?> handler : removed) {
+                this.checker.unregisterListenerFor(handler.getEventType().getType(), handler.getSubtypeFilter());
+                this.registeredListeners.remove(handler.getHandle());
             }
-        }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            this.rebakeHandlers(removed);
         }
     }
 
@@ -373,7 +383,11 @@ protected RegisteredListener.Cache getHandlerCache(final Event event) {
         } else {
             eventType = new EventType(eventClass, null);
         }
-        return this.handlersCache.get(eventType);
+        final RegisteredListener.Cache cache = this.handlersCache.get(eventType);
+        if (cache != null) {
+            return cache;
+        }
+        return this.bakeAndCacheHandlers(eventType);
     }
 
     @SuppressWarnings("unchecked")
@@ -428,6 +442,21 @@ private boolean post(final Event event, final List<RegisteredListener<?>> handle
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
+    private boolean post(final Event event, final RegisteredListener.Cache cache) {
+        final EventDispatcher dispatcher = cache.getDispatcher();
+        if (dispatcher == null) {
+            return this.post(event, cache.getListeners());
+        }
+        // If this event is being posted asynchronously then we don't want
+        // to do any timing or cause stack changes
+        final boolean tracked = EngineUtil.determineEngine() != null;
+        if (tracked) {
+            TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
+        }
+        dispatcher.dispatch(event, tracked, tracked && Timings.isTimingsEnabled());
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
     private @Nullable EventListenerPhaseContext createPluginContext(final RegisteredListener<?> handler) {
         if (PhaseTracker.getInstance().getPhaseContext().allowsEventListener()) {
             return PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext(PhaseTracker.getInstance())
@@ -438,6 +467,7 @@ private boolean post(final Event event, final List<RegisteredListener<?>> handle
 
     @Override
     public boolean post(final Event event) {
+        PhaseStateProfiler.recordEvent();
         try {
             if (event instanceof InteractContainerEvent) { // Track usage of Containers
                 ((ContainerBridge) ((InteractContainerEvent) event).container()).bridge$setInUse(true);
@@ -445,7 +475,7 @@ public boolean post(final Event event) {
             // Allow the client thread by default so devs can actually
             // call their own events inside the init events. Only allowing
             // this as long that there is no server available
-            return this.post(event, this.getHandlerCache(event).getListeners());
+            return this.post(event, this.getHandlerCache(event));
         } finally {
             if (event instanceof InteractContainerEvent) { // Finished using Container
                 ((ContainerBridge) ((InteractContainerEvent) event).container()).bridge$setInUse(false);
@@ -453,6 +483,16 @@ public boolean post(final Event event) {
         }
     }
 
+    @Override
+    public CompletableFuture<Boolean> postAsync(final Event event) {
+        return this.asyncLane.post(event, this.getHandlerCache(event).getListeners());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> postAsync(final Event event, final Executor executor) {
+        return this.asyncLane.post(event, this.getHandlerCache(event).getListeners(), executor);
+    }
+
     @Override
     public boolean postToPlugin(final Event event, final PluginContainer plugin) {
         final List<RegisteredListener<?>> listeners = this.getHandlerCache(event).getListeners();
@@ -0,0 +1,156 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.launch.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AsyncEventLaneTest {
+
+    private static final PluginContainer PLUGIN = (PluginContainer) Proxy.newProxyInstance(AsyncEventLaneTest.class.getClassLoader(),
+        new Class<?>[] {PluginContainer.class}, (proxy, method, args) -> null);
+
+    private static RegisteredListener<Event> listener(final Order order, final boolean asyncSafe, final EventListener<Event> handler) {
+        return new RegisteredListener<>(AsyncEventLaneTest.PLUGIN, new EventType<>(Event.class), order, handler, false, null, asyncSafe);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void call(final Event event, final List<RegisteredListener<?>> listeners) {
+        for (final RegisteredListener listener : listeners) {
+            ((AbstractEvent) event).currentOrder = listener.getOrder();
+            try {
+                listener.handle(event);
+            } catch (final Exception e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    @Test
+    void saturatedLaneKeepsStagesOnTheWorkers() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> asyncThreads = new CopyOnWriteArrayList<>();
+        final AtomicInteger mainCalls = new AtomicInteger();
+        final List<RegisteredListener<?>> listeners = Arrays.asList(
+            AsyncEventLaneTest.listener(Order.EARLY, true, event -> {
+                // Keep the only worker busy so the queue fills up
+                release.await(10, TimeUnit.SECONDS);
+                asyncThreads.add(Thread.currentThread().getName());
+            }),
+            AsyncEventLaneTest.listener(Order.DEFAULT, false, event -> mainCalls.incrementAndGet()),
+            AsyncEventLaneTest.listener(Order.LATE, true, event -> asyncThreads.add(Thread.currentThread().getName())));
+        // One worker with a single queue slot, the main thread runs stages directly
+        final AsyncEventLane lane = new AsyncEventLane(AsyncEventLaneTest::call, AsyncEventLaneTest::call, () -> Runnable::run, 1, 1);
+
+        final List<TestEvent> events = new ArrayList<>();
+        final List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        final Thread poster = new Thread(() -> {
+            for (int i = 0; i < 8; i++) {
+                final TestEvent event = new TestEvent();
+                events.add(event);
+                futures.add(lane.post(event, listeners));
+            }
+        }, "poster");
+        poster.start();
+        // Posting never waits for, nor runs, a stage while the worker is blocked
+        poster.join(10_000);
+        assertFalse(poster.isAlive());
+        release.countDown();
+
+        for (final CompletableFuture<Boolean> future : futures) {
+            assertFalse(future.get(10, TimeUnit.SECONDS));
+        }
+        assertTrue(lane.saturatedCount() > 0, "The lane was expected to be saturated");
+        assertEquals(16, asyncThreads.size());
+        for (final String thread : asyncThreads) {
+            assertTrue(thread.startsWith("Sponge-AsyncEvent-"), "An async-safe listener was called on " + thread);
+        }
+        assertEquals(8, mainCalls.get(), "Main thread listeners must be called on a saturated lane");
+        for (final TestEvent event : events) {
+            assertNull(event.currentOrder);
+        }
+    }
+
+    @Test
+    void unsafeListenersAreCalledThroughTheGivenExecutor() throws Exception {
+        final List<String> unsafeThreads = new CopyOnWriteArrayList<>();
+        final List<RegisteredListener<?>> listeners = Arrays.asList(
+            AsyncEventLaneTest.listener(Order.EARLY, true, event -> {}),
+            AsyncEventLaneTest.listener(Order.DEFAULT, false, event -> unsafeThreads.add(Thread.currentThread().getName())));
+        final AsyncEventLane lane = new AsyncEventLane(AsyncEventLaneTest::call, AsyncEventLaneTest::call, () -> {
+            throw new AssertionError("The main thread must not be used");
+        }, 1, 1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "poster-executor"));
+
+        assertFalse(lane.post(new TestEvent(), listeners, executor).get(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(Arrays.asList("poster-executor"), unsafeThreads);
+    }
+
+    @Test
+    void failedStageResetsOrder() throws Exception {
+        final List<RegisteredListener<?>> listeners = Arrays.asList(
+            AsyncEventLaneTest.listener(Order.EARLY, true, event -> {
+                throw new IllegalStateException("Expected failure");
+            }));
+        final AsyncEventLane lane = new AsyncEventLane(AsyncEventLaneTest::call, AsyncEventLaneTest::call, () -> Runnable::run, 1, 1);
+        final TestEvent event = new TestEvent();
+        final CompletableFuture<Boolean> future = lane.post(event, listeners);
+
+        assertTrue(future.handle((result, failure) -> failure != null).get(10, TimeUnit.SECONDS));
+        assertNull(event.currentOrder);
+    }
+
+    private static final class TestEvent extends AbstractEvent {
+
+        @Override
+        public Cause cause() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
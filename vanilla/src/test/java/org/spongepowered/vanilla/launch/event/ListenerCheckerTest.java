@@ -0,0 +1,156 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.launch.event;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.api.event.item.inventory.DropItemEvent;
+import org.spongepowered.common.event.filter.SubtypeFilter;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+class ListenerCheckerTest {
+
+    private ListenerChecker checker;
+
+    @BeforeEach
+    void resetFlags() throws IllegalAccessException {
+        for (final Field field : Flags.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                field.set(null, false);
+            }
+        }
+        this.checker = new ListenerChecker(Flags.class);
+    }
+
+    private static SubtypeFilter filter(final String method, final Class<?> eventType) throws NoSuchMethodException {
+        return SubtypeFilter.of(ListenerCheckerTest.class.getDeclaredMethod(method, eventType));
+    }
+
+    @Include(DropItemEvent.Dispense.class)
+    private void includeDispense(final SpawnEntityEvent event) {
+    }
+
+    @Include(SpawnEntityEvent.class)
+    private void includeSpawn(final DropItemEvent event) {
+    }
+
+    @Include(SpawnEntityEvent.class)
+    private void includeSpawnOnAnyEvent(final Event event) {
+    }
+
+    @Exclude(DropItemEvent.Dispense.class)
+    private void excludeDispense(final SpawnEntityEvent event) {
+    }
+
+    @Test
+    void includedSubtypeKeepsListenedTypeFlag() throws NoSuchMethodException {
+        final SubtypeFilter filter = ListenerCheckerTest.filter("includeDispense", SpawnEntityEvent.class);
+        this.checker.registerListenerFor(SpawnEntityEvent.class, filter);
+
+        assertTrue(Flags.SPAWN_ENTITY_EVENT, "The flag of the listened type has to be set");
+        assertTrue(Flags.DROP_ITEM_EVENT_DISPENSE, "The included subtype has to be set");
+        assertFalse(Flags.SPAWN_ENTITY_EVENT_CUSTOM, "A subtype the filter rules out must not be set");
+        assertFalse(Flags.DROP_ITEM_EVENT, "Unrelated types must not be set");
+
+        this.checker.unregisterListenerFor(SpawnEntityEvent.class, filter);
+        assertFalse(Flags.SPAWN_ENTITY_EVENT);
+        assertFalse(Flags.DROP_ITEM_EVENT_DISPENSE);
+    }
+
+    @Test
+    void includeFromOtherHierarchyKeepsListenedTypeFlag() throws NoSuchMethodException {
+        // DropItemEvent.Dispense is a SpawnEntityEvent as well, so the listener can receive events
+        final SubtypeFilter filter = ListenerCheckerTest.filter("includeSpawn", DropItemEvent.class);
+        this.checker.registerListenerFor(DropItemEvent.class, filter);
+
+        assertTrue(Flags.DROP_ITEM_EVENT, "The flag of the listened type has to be set");
+        assertTrue(Flags.DROP_ITEM_EVENT_DISPENSE);
+        assertTrue(Flags.DROP_ITEM_EVENT_DESTRUCT);
+        assertFalse(Flags.SPAWN_ENTITY_EVENT, "Included types are not supertypes of the listened type");
+
+        this.checker.unregisterListenerFor(DropItemEvent.class, filter);
+        assertFalse(Flags.DROP_ITEM_EVENT);
+        assertFalse(Flags.DROP_ITEM_EVENT_DISPENSE);
+        assertFalse(Flags.DROP_ITEM_EVENT_DESTRUCT);
+    }
+
+    @Test
+    void includeFromOtherHierarchySetsSubtypeFlags() throws NoSuchMethodException {
+        // DropItemEvent is not a SpawnEntityEvent, but the dispense and destruct events are both
+        final SubtypeFilter filter = ListenerCheckerTest.filter("includeSpawnOnAnyEvent", Event.class);
+        this.checker.registerListenerFor(Event.class, filter);
+
+        assertTrue(Flags.SPAWN_ENTITY_EVENT);
+        assertTrue(Flags.SPAWN_ENTITY_EVENT_CUSTOM);
+        assertTrue(Flags.DROP_ITEM_EVENT, "A type implemented by included events has to be set");
+        assertTrue(Flags.DROP_ITEM_EVENT_DISPENSE);
+        assertTrue(Flags.DROP_ITEM_EVENT_DESTRUCT);
+        assertFalse(Flags.CHANGE_BLOCK_EVENT_ALL, "A type no included event implements must not be set");
+
+        this.checker.unregisterListenerFor(Event.class, filter);
+        assertFalse(Flags.SPAWN_ENTITY_EVENT);
+        assertFalse(Flags.DROP_ITEM_EVENT);
+        assertFalse(Flags.DROP_ITEM_EVENT_DISPENSE);
+    }
+
+    @Test
+    void excludedSubtypeIsPruned() throws NoSuchMethodException {
+        final SubtypeFilter filter = ListenerCheckerTest.filter("excludeDispense", SpawnEntityEvent.class);
+        this.checker.registerListenerFor(SpawnEntityEvent.class, filter);
+
+        assertTrue(Flags.SPAWN_ENTITY_EVENT);
+        assertTrue(Flags.SPAWN_ENTITY_EVENT_CUSTOM);
+        assertTrue(Flags.DROP_ITEM_EVENT_DESTRUCT);
+        assertFalse(Flags.DROP_ITEM_EVENT_DISPENSE, "The excluded subtype must not be set");
+    }
+
+    @Test
+    void filterTestsConcreteClasses() throws NoSuchMethodException {
+        final SubtypeFilter filter = ListenerCheckerTest.filter("includeDispense", SpawnEntityEvent.class);
+        assertTrue(filter.test(DropItemEvent.Dispense.class));
+        assertFalse(filter.test(SpawnEntityEvent.Custom.class));
+    }
+
+    public static final class Flags {
+
+        public static boolean CHANGE_BLOCK_EVENT_ALL = false;
+        public static boolean DROP_ITEM_EVENT = false;
+        public static boolean DROP_ITEM_EVENT_DESTRUCT = false;
+        public static boolean DROP_ITEM_EVENT_DISPENSE = false;
+        public static boolean SPAWN_ENTITY_EVENT = false;
+        public static boolean SPAWN_ENTITY_EVENT_CUSTOM = false;
+
+    }
+
+}